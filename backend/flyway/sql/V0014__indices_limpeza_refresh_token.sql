@@ -0,0 +1,9 @@
+-- =====================================================
+-- V0014 - Indices para limpeza de REFRESH_TOKEN
+-- Data: 2026-10-18
+-- Descricao: Permite que o job de limpeza encontre tokens
+--            expirados e revogados antigos sem varrer a tabela
+-- =====================================================
+
+CREATE INDEX IF NOT EXISTS IDX_RT_DATA_EXPIRACAO ON REFRESH_TOKEN(RT_DATA_EXPIRACAO);
+CREATE INDEX IF NOT EXISTS IDX_RT_REVOGADO_DATA ON REFRESH_TOKEN(RT_REVOGADO, RT_DATA_REVOGACAO);
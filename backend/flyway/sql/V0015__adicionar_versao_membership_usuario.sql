@@ -0,0 +1,9 @@
+-- =====================================================
+-- V0015 - Versao das memberships do usuario
+-- Data: 2026-10-18
+-- Descricao: Incrementada a cada alteracao de papel ou status;
+--            access tokens carregam a versao em que foram emitidos
+--            e deixam de ser usados para resolver o tenant quando ela muda
+-- =====================================================
+
+ALTER TABLE USUARIO ADD COLUMN USR_VERSAO_MEMBERSHIP INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,50 @@
+-- =====================================================
+-- V0016 - Blocos de IDs (@PooledId)
+-- Data: 2026-10-18
+-- Descricao: Maior ID ja reservado por tabela. As entidades com @PooledId
+--            geram o ID em memoria, em blocos reservados aqui, e deixam de
+--            depender do AUTOINCREMENT (o que permite INSERTs em lote).
+--            Cada tabela comeca no maior ID existente (ou ja usado pelo
+--            AUTOINCREMENT), entao os IDs atuais continuam validos.
+-- =====================================================
+
+CREATE TABLE SEQUENCIA_ID (
+    SEQ_NOME TEXT PRIMARY KEY,
+    SEQ_VALOR INTEGER NOT NULL
+);
+
+INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR)
+SELECT 'CATEGORIA', MAX(IFNULL((SELECT MAX(CAT_ID) FROM CATEGORIA), 0),
+                  IFNULL((SELECT seq FROM sqlite_sequence WHERE name = 'CATEGORIA'), 0));
+
+INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR)
+SELECT 'CATEGORIA_OPCAO', MAX(IFNULL((SELECT MAX(CATOP_ID) FROM CATEGORIA_OPCAO), 0),
+                  IFNULL((SELECT seq FROM sqlite_sequence WHERE name = 'CATEGORIA_OPCAO'), 0));
+
+INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR)
+SELECT 'PRODUTO', MAX(IFNULL((SELECT MAX(PRD_ID) FROM PRODUTO), 0),
+                  IFNULL((SELECT seq FROM sqlite_sequence WHERE name = 'PRODUTO'), 0));
+
+INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR)
+SELECT 'PRODUTO_PRECO', MAX(IFNULL((SELECT MAX(PRP_ID) FROM PRODUTO_PRECO), 0),
+                  IFNULL((SELECT seq FROM sqlite_sequence WHERE name = 'PRODUTO_PRECO'), 0));
+
+INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR)
+SELECT 'ADICIONAL', MAX(IFNULL((SELECT MAX(ADC_ID) FROM ADICIONAL), 0),
+                  IFNULL((SELECT seq FROM sqlite_sequence WHERE name = 'ADICIONAL'), 0));
+
+INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR)
+SELECT 'ADICIONAL_ITEM', MAX(IFNULL((SELECT MAX(AIT_ID) FROM ADICIONAL_ITEM), 0),
+                  IFNULL((SELECT seq FROM sqlite_sequence WHERE name = 'ADICIONAL_ITEM'), 0));
+
+INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR)
+SELECT 'CLIENTE', MAX(IFNULL((SELECT MAX(CLI_ID) FROM CLIENTE), 0),
+                  IFNULL((SELECT seq FROM sqlite_sequence WHERE name = 'CLIENTE'), 0));
+
+INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR)
+SELECT 'CLIENTE_ENDERECO', MAX(IFNULL((SELECT MAX(END_ID) FROM CLIENTE_ENDERECO), 0),
+                  IFNULL((SELECT seq FROM sqlite_sequence WHERE name = 'CLIENTE_ENDERECO'), 0));
+
+INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR)
+SELECT 'LOGIN_ATTEMPT', MAX(IFNULL((SELECT MAX(LGA_ID) FROM LOGIN_ATTEMPT), 0),
+                  IFNULL((SELECT seq FROM sqlite_sequence WHERE name = 'LOGIN_ATTEMPT'), 0));
@@ -0,0 +1,24 @@
+-- =====================================================
+-- V0017 - Indices para paginacao por cursor (keyset)
+-- Data: 2026-10-18
+-- Descricao: Cobrem filtro e ordenacao das listagens paginadas
+--            (organizacao, ativo, nome) e (organizacao, data de
+--            criacao). O ID fecha a chave porque e o rowid, que o
+--            SQLite ja guarda no fim de toda entrada de indice.
+--            Os indices antigos de mesmo prefixo ficam redundantes.
+-- =====================================================
+
+CREATE INDEX IF NOT EXISTS IDX_PROD_ORG_ATIVO_NOME ON PRODUTO(PRD_ORG_ID, PRD_ATIVO, PRD_NOME);
+DROP INDEX IF EXISTS IDX_PROD_ORG_ATIVO;
+
+CREATE INDEX IF NOT EXISTS IDX_ADC_ORG_ATIVO_NOME ON ADICIONAL(ADC_ORG_ID, ADC_ATIVO, ADC_NOME);
+DROP INDEX IF EXISTS IDX_ADC_ORG_ATIVO;
+
+CREATE INDEX IF NOT EXISTS IDX_CATEGORIA_ORG_ATIVO_ORDEM_NOME ON CATEGORIA(CAT_ORG_ID, CAT_ATIVO, CAT_ORDEM, CAT_NOME);
+DROP INDEX IF EXISTS IDX_CATEGORIA_ORG_ATIVO;
+
+CREATE INDEX IF NOT EXISTS IDX_CLIENTE_ORG_ATIVO_NOME ON CLIENTE(CLI_ORG_ID, CLI_ATIVO, CLI_NOME);
+DROP INDEX IF EXISTS IDX_CLIENTE_ATIVO;
+
+CREATE INDEX IF NOT EXISTS IDX_TODO_ORG_DATA_CRIACAO ON TODO(TODO_ORG_ID, TODO_DATA_CRIACAO);
+DROP INDEX IF EXISTS IDX_TODO_ORG;
@@ -0,0 +1,278 @@
+-- =============================================
+-- Migration tenant V0001: Tabelas de uma organizacao em arquivo proprio
+-- Usada apenas com tenant.database.enabled=true (um arquivo SQLite por organizacao).
+-- Estado final das tabelas de V0001/V0003 e V0009-V0013. As tabelas compartilhadas
+-- (ORGANIZATION, USUARIO, CULINARIA, MUNICIPIO...) ficam no banco central, anexado
+-- como "central" em cada conexao; por isso as FKs para elas foram removidas.
+-- =============================================
+
+-- Controle do arquivo (ex.: copia dos dados que estavam no banco central)
+CREATE TABLE TENANT_METADATA (
+    CHAVE TEXT PRIMARY KEY,
+    VALOR TEXT NOT NULL
+);
+
+-- -----------------------------------------------------
+-- TODO
+-- -----------------------------------------------------
+CREATE TABLE TODO (
+    TODO_ID INTEGER PRIMARY KEY AUTOINCREMENT,
+    TODO_TITULO TEXT NOT NULL,
+    TODO_DESCRICAO TEXT,
+    TODO_CONCLUIDO INTEGER DEFAULT 0,
+    TODO_DATA_CRIACAO TEXT NOT NULL,
+    TODO_DATA_CONCLUSAO TEXT,
+    TODO_ORG_ID INTEGER,
+    TODO_CRIADO_POR INTEGER
+);
+
+CREATE INDEX IDX_TODO_CONCLUIDO ON TODO(TODO_CONCLUIDO);
+CREATE INDEX IDX_TODO_DATA_CRIACAO ON TODO(TODO_DATA_CRIACAO DESC);
+CREATE INDEX IDX_TODO_ORG ON TODO(TODO_ORG_ID);
+CREATE INDEX IDX_TODO_ORG_CONCLUIDO ON TODO(TODO_ORG_ID, TODO_CONCLUIDO);
+CREATE INDEX IDX_TODO_CRIADO_POR ON TODO(TODO_CRIADO_POR);
+
+-- -----------------------------------------------------
+-- CATEGORIA e CATEGORIA_OPCAO
+-- -----------------------------------------------------
+CREATE TABLE CATEGORIA (
+    CAT_ID INTEGER PRIMARY KEY AUTOINCREMENT,
+    CAT_ORG_ID INTEGER NOT NULL,
+    CAT_CUL_ID INTEGER NOT NULL,
+    CAT_ORDEM INTEGER,
+    CAT_NOME TEXT NOT NULL,
+    CAT_DESCRICAO TEXT,
+    CAT_INICIO TEXT,
+    CAT_FIM TEXT,
+    CAT_ATIVO INTEGER NOT NULL DEFAULT 1,
+    CAT_OPCAO_MEIA TEXT NOT NULL DEFAULT '',
+    CAT_DISP_DOMINGO INTEGER NOT NULL DEFAULT 1,
+    CAT_DISP_SEGUNDA INTEGER NOT NULL DEFAULT 1,
+    CAT_DISP_TERCA INTEGER NOT NULL DEFAULT 1,
+    CAT_DISP_QUARTA INTEGER NOT NULL DEFAULT 1,
+    CAT_DISP_QUINTA INTEGER NOT NULL DEFAULT 1,
+    CAT_DISP_SEXTA INTEGER NOT NULL DEFAULT 1,
+    CAT_DISP_SABADO INTEGER NOT NULL DEFAULT 1,
+    CAT_DATA_CRIACAO TEXT NOT NULL,
+    CAT_DATA_ATUALIZACAO TEXT,
+    CAT_CRIADO_POR INTEGER,
+    CONSTRAINT CK_CATEGORIA_OPCAO_MEIA
+        CHECK (CAT_OPCAO_MEIA IN ('', 'M', 'V')),
+    CONSTRAINT CK_CATEGORIA_HORARIO
+        CHECK (CAT_INICIO IS NULL OR CAT_FIM IS NOT NULL)
+);
+
+CREATE UNIQUE INDEX IDX_CATEGORIA_ORG_ORDEM ON CATEGORIA(CAT_ORG_ID, CAT_ORDEM);
+CREATE INDEX IDX_CATEGORIA_ORG_ATIVO ON CATEGORIA(CAT_ORG_ID, CAT_ATIVO);
+CREATE INDEX IDX_CATEGORIA_ORG_CULINARIA ON CATEGORIA(CAT_ORG_ID, CAT_CUL_ID);
+
+CREATE TABLE CATEGORIA_OPCAO (
+    CATOP_ID INTEGER PRIMARY KEY AUTOINCREMENT,
+    CATOP_CAT_ID INTEGER NOT NULL,
+    CATOP_NOME TEXT NOT NULL,
+    CATOP_ATIVO INTEGER NOT NULL DEFAULT 1,
+    CONSTRAINT FK_CATEGORIA_OPCAO_CATEGORIA
+        FOREIGN KEY (CATOP_CAT_ID) REFERENCES CATEGORIA(CAT_ID)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX IDX_CATEGORIA_OPCAO_CATEGORIA ON CATEGORIA_OPCAO(CATOP_CAT_ID, CATOP_ATIVO);
+
+-- -----------------------------------------------------
+-- PRODUTO e PRODUTO_PRECO
+-- -----------------------------------------------------
+CREATE TABLE PRODUTO (
+    PRD_ID INTEGER PRIMARY KEY AUTOINCREMENT,
+    PRD_ORG_ID INTEGER NOT NULL,
+    PRD_CAT_ID INTEGER NOT NULL,
+    PRD_NOME TEXT NOT NULL,
+    PRD_DESCRICAO TEXT,
+    PRD_ATIVO INTEGER NOT NULL DEFAULT 1,
+    PRD_DATA_CRIACAO TEXT NOT NULL,
+    PRD_DATA_ATUALIZACAO TEXT,
+    PRD_CRIADO_POR INTEGER,
+    CONSTRAINT FK_PROD_CAT FOREIGN KEY (PRD_CAT_ID) REFERENCES CATEGORIA(CAT_ID)
+);
+
+CREATE INDEX IDX_PROD_ORG_ATIVO ON PRODUTO(PRD_ORG_ID, PRD_ATIVO);
+CREATE INDEX IDX_PROD_ORG_CAT ON PRODUTO(PRD_ORG_ID, PRD_CAT_ID, PRD_ATIVO);
+
+CREATE TABLE PRODUTO_PRECO (
+    PRP_ID INTEGER PRIMARY KEY AUTOINCREMENT,
+    PRP_ORG_ID INTEGER NOT NULL,
+    PRP_PRD_ID INTEGER NOT NULL,
+    PRP_CATOP_ID INTEGER NOT NULL,
+    PRP_VALOR NUMERIC(10,2) NOT NULL,
+    PRP_ATIVO INTEGER NOT NULL DEFAULT 1,
+    PRP_DATA_CRIACAO TEXT NOT NULL,
+    PRP_DATA_ATUALIZACAO TEXT,
+    CONSTRAINT FK_PRP_PRD FOREIGN KEY (PRP_PRD_ID) REFERENCES PRODUTO(PRD_ID) ON DELETE CASCADE,
+    CONSTRAINT FK_PRP_CATOP FOREIGN KEY (PRP_CATOP_ID) REFERENCES CATEGORIA_OPCAO(CATOP_ID)
+);
+
+CREATE INDEX IDX_PRP_ORG_PRD_ATIVO ON PRODUTO_PRECO(PRP_ORG_ID, PRP_PRD_ID, PRP_ATIVO);
+CREATE INDEX IDX_PRP_ORG_CATOP ON PRODUTO_PRECO(PRP_ORG_ID, PRP_CATOP_ID, PRP_ATIVO);
+
+CREATE TRIGGER TRG_CATEGORIA_SOFTDELETE_PRODUTO
+AFTER UPDATE ON CATEGORIA
+WHEN OLD.CAT_ATIVO = 1 AND NEW.CAT_ATIVO = 0
+BEGIN
+    UPDATE PRODUTO
+    SET PRD_ATIVO = 0,
+        PRD_DATA_ATUALIZACAO = datetime('now')
+    WHERE PRD_CAT_ID = NEW.CAT_ID;
+
+    UPDATE PRODUTO_PRECO
+    SET PRP_ATIVO = 0,
+        PRP_DATA_ATUALIZACAO = datetime('now')
+    WHERE PRP_PRD_ID IN (SELECT PRD_ID FROM PRODUTO WHERE PRD_CAT_ID = NEW.CAT_ID);
+END;
+
+CREATE TRIGGER TRG_CATOP_SOFTDELETE_PRECO
+AFTER UPDATE ON CATEGORIA_OPCAO
+WHEN OLD.CATOP_ATIVO = 1 AND NEW.CATOP_ATIVO = 0
+BEGIN
+    UPDATE PRODUTO_PRECO
+    SET PRP_ATIVO = 0,
+        PRP_DATA_ATUALIZACAO = datetime('now')
+    WHERE PRP_CATOP_ID = NEW.CATOP_ID;
+END;
+
+CREATE TRIGGER TRG_PRP_VALIDATE_CAT
+BEFORE INSERT ON PRODUTO_PRECO
+BEGIN
+    SELECT
+        CASE
+            WHEN (
+                SELECT CAT_ID FROM CATEGORIA_OPCAO CO
+                JOIN CATEGORIA C ON C.CAT_ID = CO.CATOP_CAT_ID
+                JOIN PRODUTO P ON P.PRD_ID = NEW.PRP_PRD_ID
+                WHERE CO.CATOP_ID = NEW.PRP_CATOP_ID
+                LIMIT 1
+            ) IS NULL OR (
+                SELECT C2.CAT_ID FROM CATEGORIA_OPCAO CO2
+                JOIN CATEGORIA C2 ON C2.CAT_ID = CO2.CATOP_CAT_ID
+                JOIN PRODUTO P2 ON P2.PRD_ID = NEW.PRP_PRD_ID
+                WHERE CO2.CATOP_ID = NEW.PRP_CATOP_ID
+                LIMIT 1
+            ) <> (SELECT PRD_CAT_ID FROM PRODUTO WHERE PRD_ID = NEW.PRP_PRD_ID)
+            THEN RAISE(ABORT, 'Opcao de categoria nao pertence a categoria do produto')
+        END;
+END;
+
+-- -----------------------------------------------------
+-- ADICIONAL e ADICIONAL_ITEM
+-- -----------------------------------------------------
+CREATE TABLE ADICIONAL (
+    ADC_ID INTEGER PRIMARY KEY AUTOINCREMENT,
+    ADC_ORG_ID INTEGER NOT NULL,
+    ADC_CAT_ID INTEGER NOT NULL,
+    ADC_NOME TEXT NOT NULL,
+    ADC_SELECAO TEXT NOT NULL CHECK (ADC_SELECAO IN ('U','M','Q')),
+    ADC_MINIMO INTEGER,
+    ADC_LIMITE INTEGER,
+    ADC_ATIVO INTEGER NOT NULL DEFAULT 1,
+    ADC_DATA_CRIACAO TEXT NOT NULL,
+    ADC_DATA_ATUALIZACAO TEXT,
+    ADC_CRIADO_POR INTEGER,
+    CONSTRAINT FK_ADC_CAT FOREIGN KEY (ADC_CAT_ID) REFERENCES CATEGORIA(CAT_ID)
+);
+
+CREATE INDEX IDX_ADC_ORG_ATIVO ON ADICIONAL(ADC_ORG_ID, ADC_ATIVO);
+CREATE INDEX IDX_ADC_ORG_CAT_ATIVO ON ADICIONAL(ADC_ORG_ID, ADC_CAT_ID, ADC_ATIVO);
+
+CREATE TABLE ADICIONAL_ITEM (
+    AIT_ID INTEGER PRIMARY KEY AUTOINCREMENT,
+    AIT_ORG_ID INTEGER NOT NULL,
+    AIT_ADC_ID INTEGER NOT NULL,
+    AIT_NOME TEXT NOT NULL,
+    AIT_VALOR NUMERIC(10,2) NOT NULL,
+    AIT_ATIVO INTEGER NOT NULL DEFAULT 1,
+    AIT_DATA_CRIACAO TEXT NOT NULL,
+    AIT_DATA_ATUALIZACAO TEXT,
+    CONSTRAINT FK_AIT_ADC FOREIGN KEY (AIT_ADC_ID) REFERENCES ADICIONAL(ADC_ID) ON DELETE CASCADE
+);
+
+CREATE INDEX IDX_AIT_ORG_ADC_ATIVO ON ADICIONAL_ITEM(AIT_ORG_ID, AIT_ADC_ID, AIT_ATIVO);
+
+CREATE TRIGGER TRG_CATEGORIA_SOFTDELETE_ADICIONAL
+AFTER UPDATE ON CATEGORIA
+WHEN OLD.CAT_ATIVO = 1 AND NEW.CAT_ATIVO = 0
+BEGIN
+    UPDATE ADICIONAL
+    SET ADC_ATIVO = 0,
+        ADC_DATA_ATUALIZACAO = datetime('now')
+    WHERE ADC_CAT_ID = NEW.CAT_ID AND ADC_ORG_ID = NEW.CAT_ORG_ID;
+
+    UPDATE ADICIONAL_ITEM
+    SET AIT_ATIVO = 0,
+        AIT_DATA_ATUALIZACAO = datetime('now')
+    WHERE AIT_ADC_ID IN (SELECT ADC_ID FROM ADICIONAL WHERE ADC_CAT_ID = NEW.CAT_ID AND ADC_ORG_ID = NEW.CAT_ORG_ID);
+END;
+
+CREATE TRIGGER TRG_ADC_SOFTDELETE_ITENS
+AFTER UPDATE ON ADICIONAL
+WHEN OLD.ADC_ATIVO = 1 AND NEW.ADC_ATIVO = 0
+BEGIN
+    UPDATE ADICIONAL_ITEM
+    SET AIT_ATIVO = 0,
+        AIT_DATA_ATUALIZACAO = datetime('now')
+    WHERE AIT_ADC_ID = NEW.ADC_ID AND AIT_ORG_ID = NEW.ADC_ORG_ID;
+END;
+
+CREATE TRIGGER TRG_AIT_VALIDATE_ORG
+BEFORE INSERT ON ADICIONAL_ITEM
+BEGIN
+    SELECT
+        CASE
+            WHEN (
+                SELECT ADC_ORG_ID FROM ADICIONAL WHERE ADC_ID = NEW.AIT_ADC_ID
+            ) IS NOT NULL AND (
+                SELECT ADC_ORG_ID FROM ADICIONAL WHERE ADC_ID = NEW.AIT_ADC_ID
+            ) != NEW.AIT_ORG_ID
+            THEN RAISE(ABORT, 'Organizacao do item deve ser a mesma do adicional')
+        END;
+END;
+
+-- -----------------------------------------------------
+-- CLIENTE e CLIENTE_ENDERECO
+-- -----------------------------------------------------
+CREATE TABLE CLIENTE (
+    CLI_ID INTEGER PRIMARY KEY AUTOINCREMENT,
+    CLI_ORG_ID INTEGER NOT NULL,
+    CLI_NOME VARCHAR(200) NOT NULL,
+    CLI_TEL_1 VARCHAR(20),
+    CLI_TEL_2 VARCHAR(20),
+    CLI_TEL_3 VARCHAR(20),
+    CLI_DOCUMENTO VARCHAR(20),
+    CLI_ATIVO BOOLEAN NOT NULL DEFAULT TRUE,
+    CLI_DATA_CRIACAO DATETIME NOT NULL,
+    CLI_DATA_ATUALIZACAO DATETIME,
+    CLI_CRIADO_POR INTEGER
+);
+
+CREATE INDEX IDX_CLIENTE_ORG ON CLIENTE(CLI_ORG_ID);
+CREATE INDEX IDX_CLIENTE_DOCUMENTO ON CLIENTE(CLI_DOCUMENTO, CLI_ORG_ID);
+CREATE INDEX IDX_CLIENTE_ATIVO ON CLIENTE(CLI_ORG_ID, CLI_ATIVO);
+
+CREATE TABLE CLIENTE_ENDERECO (
+    END_ID INTEGER PRIMARY KEY AUTOINCREMENT,
+    END_CLI_ID INTEGER NOT NULL,
+    END_ORG_ID INTEGER NOT NULL,
+    END_MUNI_CD INTEGER NOT NULL,
+    END_CEP VARCHAR(10),
+    END_BAIRRO VARCHAR(100),
+    END_RUA VARCHAR(200),
+    END_NUM VARCHAR(20),
+    END_COMPLEMENTO VARCHAR(100),
+    END_PONTO_REFERENCIA VARCHAR(200),
+    END_ATIVO BOOLEAN NOT NULL DEFAULT TRUE,
+    END_DATA_CRIACAO DATETIME NOT NULL,
+    END_DATA_ATUALIZACAO DATETIME,
+    CONSTRAINT FK_ENDERECO_CLIENTE FOREIGN KEY (END_CLI_ID) REFERENCES CLIENTE(CLI_ID)
+);
+
+CREATE INDEX IDX_ENDERECO_CLIENTE ON CLIENTE_ENDERECO(END_CLI_ID);
+CREATE INDEX IDX_ENDERECO_ORG ON CLIENTE_ENDERECO(END_ORG_ID);
+CREATE INDEX IDX_ENDERECO_MUNICIPIO ON CLIENTE_ENDERECO(END_MUNI_CD);
+CREATE INDEX IDX_ENDERECO_ATIVO ON CLIENTE_ENDERECO(END_CLI_ID, END_ATIVO);
@@ -0,0 +1,43 @@
+-- =============================================
+-- Migration tenant V0002: Blocos de IDs (@PooledId)
+-- Mesmo conteudo de V0016 do banco central, para as tabelas da organizacao.
+-- Linhas copiadas do banco central depois desta migration sao cobertas pelo
+-- gerador, que sempre reserva a partir do maior ID existente na tabela.
+-- =============================================
+
+CREATE TABLE SEQUENCIA_ID (
+    SEQ_NOME TEXT PRIMARY KEY,
+    SEQ_VALOR INTEGER NOT NULL
+);
+
+INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR)
+SELECT 'CATEGORIA', MAX(IFNULL((SELECT MAX(CAT_ID) FROM CATEGORIA), 0),
+                  IFNULL((SELECT seq FROM sqlite_sequence WHERE name = 'CATEGORIA'), 0));
+
+INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR)
+SELECT 'CATEGORIA_OPCAO', MAX(IFNULL((SELECT MAX(CATOP_ID) FROM CATEGORIA_OPCAO), 0),
+                  IFNULL((SELECT seq FROM sqlite_sequence WHERE name = 'CATEGORIA_OPCAO'), 0));
+
+INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR)
+SELECT 'PRODUTO', MAX(IFNULL((SELECT MAX(PRD_ID) FROM PRODUTO), 0),
+                  IFNULL((SELECT seq FROM sqlite_sequence WHERE name = 'PRODUTO'), 0));
+
+INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR)
+SELECT 'PRODUTO_PRECO', MAX(IFNULL((SELECT MAX(PRP_ID) FROM PRODUTO_PRECO), 0),
+                  IFNULL((SELECT seq FROM sqlite_sequence WHERE name = 'PRODUTO_PRECO'), 0));
+
+INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR)
+SELECT 'ADICIONAL', MAX(IFNULL((SELECT MAX(ADC_ID) FROM ADICIONAL), 0),
+                  IFNULL((SELECT seq FROM sqlite_sequence WHERE name = 'ADICIONAL'), 0));
+
+INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR)
+SELECT 'ADICIONAL_ITEM', MAX(IFNULL((SELECT MAX(AIT_ID) FROM ADICIONAL_ITEM), 0),
+                  IFNULL((SELECT seq FROM sqlite_sequence WHERE name = 'ADICIONAL_ITEM'), 0));
+
+INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR)
+SELECT 'CLIENTE', MAX(IFNULL((SELECT MAX(CLI_ID) FROM CLIENTE), 0),
+                  IFNULL((SELECT seq FROM sqlite_sequence WHERE name = 'CLIENTE'), 0));
+
+INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR)
+SELECT 'CLIENTE_ENDERECO', MAX(IFNULL((SELECT MAX(END_ID) FROM CLIENTE_ENDERECO), 0),
+                  IFNULL((SELECT seq FROM sqlite_sequence WHERE name = 'CLIENTE_ENDERECO'), 0));
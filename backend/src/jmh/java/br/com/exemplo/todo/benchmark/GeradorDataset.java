@@ -0,0 +1,562 @@
+package br.com.exemplo.todo.benchmark;
+
+import org.flywaydb.core.Flyway;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Gera uma organizacao grande e deterministica (mesma semente, mesmas linhas) direto por JDBC
+ * em lote sobre o schema das migrations do Flyway, para benchmarks e testes de carga.
+ * <p>
+ * Escala padrao: 500 categorias com opcoes, 20 mil produtos com precos, 5 mil adicionais com itens,
+ * 200 mil clientes com enderecos em municipios reais (tabela MUNICIPIO), 1 milhao de LOGIN_ATTEMPT
+ * e 100 mil TODOs. Os IDs sao explicitos e a SEQUENCIA_ID e ajustada no final, entao a aplicacao
+ * pode subir sobre o arquivo gerado. Datas sao relativas a {@link #DATA_BASE}, nao ao relogio.
+ * <pre>
+ * mvn -Pjmh test-compile exec:java@dataset -Ddataset.args="target/dataset/loja-grande.db 42 1.0"
+ * </pre>
+ * Benchmarks usam {@link #obter(Path, Escala, long)}, que gera o arquivo uma vez por escala/semente
+ * e devolve uma copia descartavel.
+ */
+public final class GeradorDataset {
+
+    /**
+     * Senha de todos os usuarios gerados (hash BCrypt fixo para o arquivo ser identico a cada execucao).
+     */
+    public static final String SENHA = "senha-dataset";
+
+    static final LocalDateTime DATA_BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private static final String SENHA_HASH = "$2a$10$YBtdYh5bYuiFkAs5W3kuseZibg0RP2w0E48qEzy/DhK8CwRm1RPcC";
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int LOTE = 5_000;
+    private static final int LINHAS_POR_TRANSACAO = 200_000;
+
+    private static final String[] NOMES = {"Ana", "Bruno", "Carla", "Daniel", "Eduarda", "Felipe", "Gabriela",
+            "Heitor", "Isabela", "Joao", "Larissa", "Marcos", "Natalia", "Otavio", "Paula", "Rafael", "Sofia",
+            "Thiago", "Valentina", "Vinicius", "Yasmin", "Lucas", "Mariana", "Pedro", "Julia", "Gustavo"};
+    private static final String[] SOBRENOMES = {"Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira",
+            "Alves", "Pereira", "Lima", "Gomes", "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes",
+            "Soares", "Fernandes", "Vieira", "Barbosa", "Rocha", "Dias", "Nascimento", "Moreira"};
+    private static final String[] PRATOS = {"X-Burguer", "Pizza", "Pastel", "Acai", "Espetinho", "Lasanha",
+            "Temaki", "Tapioca", "Crepe", "Wrap", "Porcao", "Salada", "Yakisoba", "Esfiha", "Coxinha", "Suco"};
+    private static final String[] SABORES = {"Calabresa", "Frango", "Catupiry", "Carne Seca", "Queijo",
+            "Portuguesa", "Marguerita", "Bacon", "Chocolate", "Morango", "Banana", "Costela", "Salmao", "Palmito"};
+    private static final String[][] OPCOES = {
+            {"Unico"},
+            {"Pequeno", "Grande"},
+            {"Broto", "Media", "Grande"},
+            {"300ml", "500ml", "700ml", "1L"}};
+    private static final String[] INGREDIENTES = {"Bacon", "Cheddar", "Ovo", "Catupiry", "Granola", "Leite Ninho",
+            "Banana", "Morango", "Pacoca", "Calabresa", "Milho", "Azeitona", "Cebola", "Tomate", "Batata Palha"};
+    private static final String[] RUAS = {"Rua das Flores", "Avenida Brasil", "Rua XV de Novembro",
+            "Rua Sete de Setembro", "Avenida Paulista", "Rua Tiradentes", "Rua Sao Jose", "Avenida Getulio Vargas"};
+    private static final String[] BAIRROS = {"Centro", "Jardim America", "Vila Nova", "Boa Vista", "Santa Cruz",
+            "Sao Francisco", "Industrial", "Alto da Serra"};
+    private static final String[] USER_AGENTS = {
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/126.0 Safari/537.36",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 17_5 like Mac OS X) AppleWebKit/605.1.15 Mobile/15E148",
+            "Mozilla/5.0 (Linux; Android 14; SM-A546E) AppleWebKit/537.36 Chrome/125.0 Mobile Safari/537.36",
+            "okhttp/4.12.0"};
+    private static final String[] MOTIVOS_FALHA = {"INVALID_PASSWORD", "INVALID_PASSWORD", "INVALID_PASSWORD",
+            "ACCOUNT_LOCKED", "USER_INACTIVE"};
+
+    /**
+     * Quantidade de linhas por tabela de uma organizacao.
+     */
+    public record Escala(int usuarios, int categorias, int produtos, int adicionais, int clientes,
+                         int tentativasLogin, int todos) {
+
+        public static final Escala PADRAO = new Escala(1_000, 500, 20_000, 5_000, 200_000, 1_000_000, 100_000);
+
+        /**
+         * Mesma proporcao com {@code fator} das linhas (minimo de uma por tabela).
+         */
+        public Escala vezes(double fator) {
+            return new Escala(escalar(usuarios, fator), escalar(categorias, fator), escalar(produtos, fator),
+                    escalar(adicionais, fator), escalar(clientes, fator), escalar(tentativasLogin, fator),
+                    escalar(todos, fator));
+        }
+
+        private static int escalar(int valor, double fator) {
+            return Math.max(1, (int) Math.round(valor * fator));
+        }
+    }
+
+    /**
+     * Organizacao gerada: o dono entra com {@code email} e {@link #SENHA}.
+     */
+    public record Resultado(long organizacaoId, String slug, long ownerId, String email,
+                            Map<String, Integer> linhas, Duration tempo) {
+    }
+
+    private final Connection connection;
+    private final Escala escala;
+    private final long semente;
+    private final Map<String, Integer> linhas = new LinkedHashMap<>();
+
+    private GeradorDataset(Connection connection, Escala escala, long semente) {
+        this.connection = connection;
+        this.escala = escala;
+        this.semente = semente;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("uso: GeradorDataset <arquivo.db> [semente=42] [fator=1.0]");
+            System.exit(1);
+        }
+        Path arquivo = Path.of(args[0]);
+        long semente = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+        Escala escala = args.length > 2 ? Escala.PADRAO.vezes(Double.parseDouble(args[2])) : Escala.PADRAO;
+
+        Resultado resultado = criar(arquivo, escala, semente);
+        System.out.printf(Locale.ROOT, "%s: organizacao %d (%s), login %s / %s%n", arquivo.toAbsolutePath(),
+                resultado.organizacaoId(), resultado.slug(), resultado.email(), SENHA);
+        resultado.linhas().forEach((tabela, total) -> System.out.printf(Locale.ROOT, "  %-18s %,10d%n", tabela, total));
+        System.out.printf(Locale.ROOT, "gerado em %.1f s%n", resultado.tempo().toMillis() / 1000.0);
+    }
+
+    /**
+     * Cria (ou completa) o arquivo: aplica as migrations de {@code flyway/sql} e gera uma organizacao.
+     */
+    public static Resultado criar(Path arquivo, Escala escala, long semente) throws SQLException, java.io.IOException {
+        if (arquivo.getParent() != null) {
+            Files.createDirectories(arquivo.getParent());
+        }
+        String url = "jdbc:sqlite:file:" + arquivo.toAbsolutePath();
+        Flyway.configure()
+                .dataSource(url, null, null)
+                .locations("filesystem:./flyway/sql")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+        try (Connection connection = DriverManager.getConnection(url)) {
+            return gerar(connection, escala, semente);
+        }
+    }
+
+    /**
+     * Copia descartavel de um dataset compartilhado em {@code diretorio}, gerado apenas na primeira chamada
+     * para cada escala/semente. Benchmarks que alteram dados recebem sempre o mesmo estado inicial.
+     */
+    public static Path obter(Path diretorio, Escala escala, long semente) throws SQLException, java.io.IOException {
+        Path modelo = diretorio.resolve("dataset-" + semente + "-" + Integer.toHexString(escala.hashCode()) + ".db");
+        if (!Files.exists(modelo)) {
+            Files.createDirectories(diretorio);
+            Path temporario = Files.createTempFile(diretorio, "dataset", ".db");
+            Files.delete(temporario);
+            criar(temporario, escala, semente);
+            Files.move(temporario, modelo, StandardCopyOption.ATOMIC_MOVE);
+        }
+        Path copia = Files.createTempFile("dataset", ".db");
+        Files.copy(modelo, copia, StandardCopyOption.REPLACE_EXISTING);
+        return copia;
+    }
+
+    /**
+     * Gera uma organizacao na conexao (schema ja migrado). Usa PRAGMAs de carga em massa apenas
+     * durante a geracao; cada tabela e gravada em transacoes de ate {@value #LINHAS_POR_TRANSACAO} linhas.
+     */
+    public static Resultado gerar(Connection connection, Escala escala, long semente) throws SQLException {
+        long inicio = System.nanoTime();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode = WAL");
+            statement.execute("PRAGMA synchronous = OFF");
+            statement.execute("PRAGMA cache_size = -200000");
+            statement.execute("PRAGMA temp_store = MEMORY");
+        }
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        Resultado resultado;
+        try {
+            resultado = new GeradorDataset(connection, escala, semente).executar();
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA synchronous = NORMAL");
+            statement.execute("PRAGMA optimize");
+            statement.execute("PRAGMA wal_checkpoint(TRUNCATE)");
+        }
+        return new Resultado(resultado.organizacaoId(), resultado.slug(), resultado.ownerId(),
+                resultado.email(), resultado.linhas(), Duration.ofNanos(System.nanoTime() - inicio));
+    }
+
+    private Resultado executar() throws SQLException {
+        String slug = "loja-" + semente;
+        long organizacaoId = proximoId("ORGANIZATION", "ORG_ID");
+        try (PreparedStatement ps = connection.prepareStatement("INSERT INTO ORGANIZATION (ORG_ID, ORG_NOME, ORG_SLUG, "
+                + "ORG_ATIVA, ORG_DATA_CRIACAO, ORG_DATA_ATUALIZACAO) VALUES (?, ?, ?, 1, ?, ?)")) {
+            ps.setLong(1, organizacaoId);
+            ps.setString(2, "Loja " + semente);
+            ps.setString(3, slug);
+            ps.setString(4, data(DATA_BASE.minusYears(2)));
+            ps.setString(5, data(DATA_BASE.minusYears(2)));
+            ps.executeUpdate();
+        }
+        linhas.put("ORGANIZATION", 1);
+
+        long[] usuarios = usuarios(organizacaoId, slug);
+        List<long[]> categorias = categorias(organizacaoId, usuarios[0]);
+        produtos(organizacaoId, usuarios[0], categorias);
+        adicionais(organizacaoId, usuarios[0], categorias);
+        clientes(organizacaoId, usuarios[0]);
+        tentativasLogin(usuarios);
+        todos(organizacaoId, usuarios);
+        ajustarSequencias();
+
+        return new Resultado(organizacaoId, slug, usuarios[0], "owner@" + slug + ".dataset", linhas, Duration.ZERO);
+    }
+
+    /**
+     * USUARIO, ACCOUNT e MEMBERSHIP; o primeiro usuario e o OWNER. Devolve os IDs dos usuarios.
+     */
+    private long[] usuarios(long organizacaoId, String slug) throws SQLException {
+        SplittableRandom random = random(1);
+        long[] ids = new long[escala.usuarios()];
+        long usuarioId = proximoId("USUARIO", "USR_ID");
+        long accountId = proximoId("ACCOUNT", "ACC_ID");
+        long membershipId = proximoId("MEMBERSHIP", "MBR_ID");
+        try (Lote usuario = new Lote("USUARIO", "INSERT INTO USUARIO (USR_ID, USR_NOME, USR_EMAIL, USR_ATIVO, "
+                + "USR_DATA_CRIACAO, USR_DATA_ATUALIZACAO, USR_ULTIMO_ACESSO) VALUES (?, ?, ?, ?, ?, ?, ?)");
+             Lote account = new Lote("ACCOUNT", "INSERT INTO ACCOUNT (ACC_ID, ACC_USR_ID, ACC_PROVIDER, "
+                     + "ACC_SENHA_HASH, ACC_BLOQUEADO, ACC_TENTATIVAS_FALHA, ACC_DATA_CRIACAO, ACC_SENHA_EXPIRADA) "
+                     + "VALUES (?, ?, 'local', ?, 0, 0, ?, 0)", usuario);
+             Lote membership = new Lote("MEMBERSHIP", "INSERT INTO MEMBERSHIP (MBR_ID, MBR_USR_ID, MBR_ORG_ID, "
+                     + "MBR_PAPEL, MBR_ATIVO, MBR_DATA_INGRESSO) VALUES (?, ?, ?, ?, 1, ?)", usuario)) {
+            for (int i = 0; i < ids.length; i++) {
+                long id = usuarioId++;
+                ids[i] = id;
+                String criacao = data(DATA_BASE.minusDays(30 + random.nextInt(700)));
+                String email = (i == 0 ? "owner" : "usuario" + i) + "@" + slug + ".dataset";
+                usuario.linha(id, nomePessoa(random), email, random.nextInt(50) == 0 ? 0 : 1, criacao, criacao,
+                        data(DATA_BASE.minusMinutes(random.nextInt(60 * 24 * 30))));
+                account.linha(accountId++, id, SENHA_HASH, criacao);
+                String papel = i == 0 ? "OWNER" : (i <= 5 ? "ADMIN" : "MEMBER");
+                membership.linha(membershipId++, id, organizacaoId, papel, criacao);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * CATEGORIA e CATEGORIA_OPCAO. Devolve, por categoria, {@code [catId, opcaoId...]}.
+     */
+    private List<long[]> categorias(long organizacaoId, long ownerId) throws SQLException {
+        SplittableRandom random = random(2);
+        int[] culinarias = inteiros("SELECT CUL_ID FROM CULINARIA ORDER BY CUL_ID");
+        List<long[]> categorias = new ArrayList<>(escala.categorias());
+        long categoriaId = proximoId("CATEGORIA", "CAT_ID");
+        long opcaoId = proximoId("CATEGORIA_OPCAO", "CATOP_ID");
+        try (Lote categoria = new Lote("CATEGORIA", "INSERT INTO CATEGORIA (CAT_ID, CAT_ORG_ID, CAT_CUL_ID, CAT_ORDEM, "
+                + "CAT_NOME, CAT_DESCRICAO, CAT_ATIVO, CAT_OPCAO_MEIA, CAT_DATA_CRIACAO, CAT_CRIADO_POR) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             Lote opcao = new Lote("CATEGORIA_OPCAO", "INSERT INTO CATEGORIA_OPCAO (CATOP_ID, CATOP_CAT_ID, "
+                     + "CATOP_NOME, CATOP_ATIVO) VALUES (?, ?, ?, 1)", categoria)) {
+            for (int i = 0; i < escala.categorias(); i++) {
+                long id = categoriaId++;
+                String[] nomesOpcoes = OPCOES[random.nextInt(OPCOES.length)];
+                categoria.linha(id, organizacaoId, culinarias[random.nextInt(culinarias.length)], i + 1,
+                        PRATOS[i % PRATOS.length] + " " + (i / PRATOS.length + 1), "Categoria gerada " + (i + 1),
+                        random.nextInt(20) == 0 ? 0 : 1, nomesOpcoes.length > 1 && random.nextInt(4) == 0 ? "M" : "",
+                        data(DATA_BASE.minusDays(random.nextInt(700))), ownerId);
+                long[] ids = new long[nomesOpcoes.length + 1];
+                ids[0] = id;
+                for (int j = 0; j < nomesOpcoes.length; j++) {
+                    ids[j + 1] = opcaoId;
+                    opcao.linha(opcaoId++, id, nomesOpcoes[j]);
+                }
+                categorias.add(ids);
+            }
+        }
+        return categorias;
+    }
+
+    /**
+     * PRODUTO e um PRODUTO_PRECO por opcao da categoria do produto.
+     */
+    private void produtos(long organizacaoId, long ownerId, List<long[]> categorias) throws SQLException {
+        SplittableRandom random = random(3);
+        long produtoId = proximoId("PRODUTO", "PRD_ID");
+        long precoId = proximoId("PRODUTO_PRECO", "PRP_ID");
+        try (Lote produto = new Lote("PRODUTO", "INSERT INTO PRODUTO (PRD_ID, PRD_ORG_ID, PRD_CAT_ID, PRD_NOME, "
+                + "PRD_DESCRICAO, PRD_ATIVO, PRD_DATA_CRIACAO, PRD_DATA_ATUALIZACAO, PRD_CRIADO_POR) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             Lote preco = new Lote("PRODUTO_PRECO", "INSERT INTO PRODUTO_PRECO (PRP_ID, PRP_ORG_ID, PRP_PRD_ID, "
+                     + "PRP_CATOP_ID, PRP_VALOR, PRP_ATIVO, PRP_DATA_CRIACAO, PRP_DATA_ATUALIZACAO) "
+                     + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", produto)) {
+            for (int i = 0; i < escala.produtos(); i++) {
+                long id = produtoId++;
+                long[] categoria = categorias.get(random.nextInt(categorias.size()));
+                String criacao = data(DATA_BASE.minusDays(random.nextInt(700)));
+                String atualizacao = random.nextInt(3) == 0 ? data(DATA_BASE.minusDays(random.nextInt(30))) : null;
+                int ativo = random.nextInt(10) == 0 ? 0 : 1;
+                produto.linha(id, organizacaoId, categoria[0],
+                        SABORES[random.nextInt(SABORES.length)] + " " + (i + 1),
+                        random.nextInt(4) == 0 ? null : "Produto gerado " + (i + 1), ativo, criacao, atualizacao, ownerId);
+                long centavos = 800 + random.nextInt(6_000);
+                for (int j = 1; j < categoria.length; j++) {
+                    preco.linha(precoId++, organizacaoId, id, categoria[j],
+                            BigDecimal.valueOf(centavos + (j - 1) * 500L, 2), ativo, criacao, atualizacao);
+                }
+            }
+        }
+    }
+
+    /**
+     * ADICIONAL (grupos de selecao unica, multipla ou por quantidade) com 3 a 8 itens cada.
+     */
+    private void adicionais(long organizacaoId, long ownerId, List<long[]> categorias) throws SQLException {
+        SplittableRandom random = random(4);
+        String[] selecoes = {"U", "M", "Q"};
+        long adicionalId = proximoId("ADICIONAL", "ADC_ID");
+        long itemId = proximoId("ADICIONAL_ITEM", "AIT_ID");
+        try (Lote adicional = new Lote("ADICIONAL", "INSERT INTO ADICIONAL (ADC_ID, ADC_ORG_ID, ADC_CAT_ID, ADC_NOME, "
+                + "ADC_SELECAO, ADC_MINIMO, ADC_LIMITE, ADC_ATIVO, ADC_DATA_CRIACAO, ADC_CRIADO_POR) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             Lote item = new Lote("ADICIONAL_ITEM", "INSERT INTO ADICIONAL_ITEM (AIT_ID, AIT_ORG_ID, AIT_ADC_ID, "
+                     + "AIT_NOME, AIT_VALOR, AIT_ATIVO, AIT_DATA_CRIACAO) VALUES (?, ?, ?, ?, ?, ?, ?)", adicional)) {
+            for (int i = 0; i < escala.adicionais(); i++) {
+                long id = adicionalId++;
+                String selecao = selecoes[random.nextInt(selecoes.length)];
+                int itens = 3 + random.nextInt(6);
+                String criacao = data(DATA_BASE.minusDays(random.nextInt(700)));
+                int ativo = random.nextInt(10) == 0 ? 0 : 1;
+                adicional.linha(id, organizacaoId, categorias.get(random.nextInt(categorias.size()))[0],
+                        "Adicionais " + (i + 1), selecao, "U".equals(selecao) ? 1 : 0,
+                        "U".equals(selecao) ? 1 : itens, ativo, criacao, ownerId);
+                for (int j = 0; j < itens; j++) {
+                    item.linha(itemId++, organizacaoId, id, INGREDIENTES[(i + j) % INGREDIENTES.length],
+                            BigDecimal.valueOf(random.nextInt(1_500), 2), ativo, criacao);
+                }
+            }
+        }
+    }
+
+    /**
+     * CLIENTE com 1 ou 2 CLIENTE_ENDERECO. Metade dos enderecos fica em poucos municipios de SP
+     * (a regiao da loja) e o restante em qualquer municipio da tabela MUNICIPIO.
+     */
+    private void clientes(long organizacaoId, long ownerId) throws SQLException {
+        SplittableRandom random = random(5);
+        int[] municipios = inteiros("SELECT MUNI_CD FROM MUNICIPIO ORDER BY MUNI_CD");
+        int[] regiao = inteiros("SELECT MUNI_CD FROM MUNICIPIO WHERE MUNI_UF_CD = 35 ORDER BY MUNI_CD LIMIT 20");
+        if (regiao.length == 0) {
+            regiao = municipios;
+        }
+        long clienteId = proximoId("CLIENTE", "CLI_ID");
+        long enderecoId = proximoId("CLIENTE_ENDERECO", "END_ID");
+        try (Lote cliente = new Lote("CLIENTE", "INSERT INTO CLIENTE (CLI_ID, CLI_ORG_ID, CLI_NOME, CLI_TEL_1, "
+                + "CLI_TEL_2, CLI_DOCUMENTO, CLI_ATIVO, CLI_DATA_CRIACAO, CLI_CRIADO_POR) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+             Lote endereco = new Lote("CLIENTE_ENDERECO", "INSERT INTO CLIENTE_ENDERECO (END_ID, END_CLI_ID, "
+                     + "END_ORG_ID, END_MUNI_CD, END_CEP, END_BAIRRO, END_RUA, END_NUM, END_COMPLEMENTO, END_ATIVO, "
+                     + "END_DATA_CRIACAO) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 1, ?)", cliente)) {
+            for (int i = 0; i < escala.clientes(); i++) {
+                long id = clienteId++;
+                String criacao = data(DATA_BASE.minusMinutes(random.nextInt(60 * 24 * 700)));
+                cliente.linha(id, organizacaoId, nomePessoa(random), telefone(random),
+                        random.nextInt(5) == 0 ? telefone(random) : null,
+                        random.nextInt(3) == 0 ? null : String.format(Locale.ROOT, "%011d", random.nextLong(100_000_000_000L)),
+                        random.nextInt(25) == 0 ? 0 : 1, criacao, ownerId);
+                int enderecos = random.nextInt(3) == 0 ? 2 : 1;
+                for (int j = 0; j < enderecos; j++) {
+                    int municipio = random.nextBoolean()
+                            ? regiao[random.nextInt(regiao.length)]
+                            : municipios[random.nextInt(municipios.length)];
+                    endereco.linha(enderecoId++, id, organizacaoId, municipio,
+                            String.format(Locale.ROOT, "%05d-%03d", random.nextInt(100_000), random.nextInt(1_000)),
+                            BAIRROS[random.nextInt(BAIRROS.length)], RUAS[random.nextInt(RUAS.length)],
+                            Integer.toString(1 + random.nextInt(3_000)), random.nextInt(4) == 0 ? "Apto " + (1 + random.nextInt(200)) : null,
+                            criacao);
+                }
+            }
+        }
+    }
+
+    /**
+     * LOGIN_ATTEMPT dos ultimos 90 dias, concentrados nos primeiros usuarios (o dono e os admins entram mais).
+     */
+    private void tentativasLogin(long[] usuarios) throws SQLException {
+        SplittableRandom random = random(6);
+        long tentativaId = proximoId("LOGIN_ATTEMPT", "LGA_ID");
+        long segundos = Duration.ofDays(90).toSeconds();
+        try (Lote tentativa = new Lote("LOGIN_ATTEMPT", "INSERT INTO LOGIN_ATTEMPT (LGA_ID, LGA_USR_ID, LGA_SUCESSO, "
+                + "LGA_IP_ADDRESS, LGA_USER_AGENT, LGA_MOTIVO_FALHA, LGA_DATA_TENTATIVA) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < escala.tentativasLogin(); i++) {
+                // quadrado de um uniforme: mais tentativas para os indices baixos
+                double u = random.nextDouble();
+                long usuario = usuarios[(int) (u * u * usuarios.length)];
+                boolean sucesso = random.nextInt(10) != 0;
+                tentativa.linha(tentativaId++, usuario, sucesso ? 1 : 0,
+                        "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(256),
+                        USER_AGENTS[random.nextInt(USER_AGENTS.length)],
+                        sucesso ? null : MOTIVOS_FALHA[random.nextInt(MOTIVOS_FALHA.length)],
+                        data(DATA_BASE.minusSeconds(random.nextLong(segundos))));
+            }
+        }
+    }
+
+    private void todos(long organizacaoId, long[] usuarios) throws SQLException {
+        SplittableRandom random = random(7);
+        long todoId = proximoId("TODO", "TODO_ID");
+        try (Lote todo = new Lote("TODO", "INSERT INTO TODO (TODO_ID, TODO_TITULO, TODO_DESCRICAO, TODO_CONCLUIDO, "
+                + "TODO_DATA_CRIACAO, TODO_DATA_CONCLUSAO, TODO_ORG_ID, TODO_CRIADO_POR) VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < escala.todos(); i++) {
+                LocalDateTime criacao = DATA_BASE.minusMinutes(random.nextInt(60 * 24 * 365));
+                boolean concluido = random.nextInt(3) != 0;
+                todo.linha(todoId++, "Tarefa " + (i + 1), random.nextBoolean() ? null : "Descricao da tarefa " + (i + 1),
+                        concluido ? 1 : 0, data(criacao),
+                        concluido ? data(criacao.plusMinutes(1 + random.nextInt(60 * 24 * 7))) : null,
+                        organizacaoId, usuarios[random.nextInt(usuarios.length)]);
+            }
+        }
+    }
+
+    /**
+     * Coloca a SEQUENCIA_ID (blocos de IDs do Hibernate) depois dos IDs explicitos gerados.
+     */
+    private void ajustarSequencias() throws SQLException {
+        Map<String, String> colunas = new LinkedHashMap<>();
+        colunas.put("CATEGORIA", "CAT_ID");
+        colunas.put("CATEGORIA_OPCAO", "CATOP_ID");
+        colunas.put("PRODUTO", "PRD_ID");
+        colunas.put("PRODUTO_PRECO", "PRP_ID");
+        colunas.put("ADICIONAL", "ADC_ID");
+        colunas.put("ADICIONAL_ITEM", "AIT_ID");
+        colunas.put("CLIENTE", "CLI_ID");
+        colunas.put("CLIENTE_ENDERECO", "END_ID");
+        colunas.put("LOGIN_ATTEMPT", "LGA_ID");
+        try (Statement statement = connection.createStatement()) {
+            for (Map.Entry<String, String> coluna : colunas.entrySet()) {
+                statement.executeUpdate("UPDATE SEQUENCIA_ID SET SEQ_VALOR = MAX(SEQ_VALOR, (SELECT IFNULL(MAX("
+                        + coluna.getValue() + "), 0) FROM " + coluna.getKey() + ")) WHERE SEQ_NOME = '"
+                        + coluna.getKey() + "'");
+            }
+        }
+    }
+
+    private long proximoId(String tabela, String coluna) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT IFNULL(MAX(" + coluna + "), 0) + 1 FROM " + tabela)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private int[] inteiros(String sql) throws SQLException {
+        List<Integer> valores = new ArrayList<>();
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                valores.add(rs.getInt(1));
+            }
+        }
+        return valores.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Um gerador por tabela: mudar a escala de uma tabela nao altera as linhas das outras.
+     */
+    private SplittableRandom random(int tabela) {
+        return new SplittableRandom(semente * 31 + tabela);
+    }
+
+    private static String nomePessoa(SplittableRandom random) {
+        return NOMES[random.nextInt(NOMES.length)] + " " + SOBRENOMES[random.nextInt(SOBRENOMES.length)]
+                + " " + SOBRENOMES[random.nextInt(SOBRENOMES.length)];
+    }
+
+    private static String telefone(SplittableRandom random) {
+        return String.format(Locale.ROOT, "(%02d) 9%04d-%04d", 11 + random.nextInt(89), random.nextInt(10_000),
+                random.nextInt(10_000));
+    }
+
+    private static String data(LocalDateTime data) {
+        return data.format(FORMATO_DATA);
+    }
+
+    /**
+     * INSERT preparado com executeBatch a cada {@value #LOTE} linhas e commit a cada
+     * {@value #LINHAS_POR_TRANSACAO}; conta as linhas por tabela no resultado.
+     */
+    private final class Lote implements AutoCloseable {
+
+        private final String tabela;
+        private final PreparedStatement statement;
+        private final Lote pai;
+        private int pendentes;
+        private int total;
+
+        Lote(String tabela, String sql) throws SQLException {
+            this(tabela, sql, null);
+        }
+
+        /**
+         * Lote de linhas filhas: antes de cada executeBatch grava as linhas pendentes do {@code pai}
+         * (os triggers de validacao consultam a linha pai).
+         */
+        Lote(String tabela, String sql, Lote pai) throws SQLException {
+            this.tabela = tabela;
+            this.statement = connection.prepareStatement(sql);
+            this.pai = pai;
+            linhas.putIfAbsent(tabela, 0);
+        }
+
+        void linha(Object... valores) throws SQLException {
+            for (int i = 0; i < valores.length; i++) {
+                statement.setObject(i + 1, valores[i]);
+            }
+            statement.addBatch();
+            total++;
+            if (++pendentes == LOTE) {
+                executar();
+                if (total % LINHAS_POR_TRANSACAO == 0) {
+                    connection.commit();
+                }
+            }
+        }
+
+        private void executar() throws SQLException {
+            if (pai != null) {
+                pai.executar();
+            }
+            if (pendentes > 0) {
+                statement.executeBatch();
+                pendentes = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                executar();
+            } finally {
+                statement.close();
+            }
+            linhas.merge(tabela, total, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package br.com.exemplo.todo.benchmark;
+
+import br.com.exemplo.todo.config.SqliteProperties;
+import br.com.exemplo.todo.infrastructure.sqlite.GroupCommitExecutor;
+import br.com.exemplo.todo.infrastructure.sqlite.SqliteDataSources;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Teste de carga: 64 chamadores concluindo tarefas (um UPDATE por transacao, como
+ * {@code TodoService.marcarConcluido}) contra o pool de escrita de uma conexao.
+ * <p>
+ * Com {@code modo=direto} cada chamador abre a sua transacao e espera a conexao unica na fila do
+ * Hikari; com {@code modo=agrupado} as operacoes vao para o {@link GroupCommitExecutor}, que
+ * executa ate 64 delas por transacao (um savepoint cada) com um commit por lote.
+ * {@code synchronous=FULL} inclui o fsync de cada commit, onde o ganho do group commit e maior.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="GroupCommitBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(64)
+public class GroupCommitBenchmark {
+
+    private static final int TAREFAS = 10_000;
+
+    @Param({"direto", "agrupado"})
+    public String modo;
+
+    @Param({"NORMAL", "FULL"})
+    public String synchronous;
+
+    private Path diretorio;
+    private HikariDataSource escritor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private GroupCommitExecutor executor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        diretorio = Files.createTempDirectory("group-commit-benchmark");
+        Map<String, String> pragmas = new LinkedHashMap<>();
+        pragmas.put("journal_mode", "WAL");
+        pragmas.put("synchronous", synchronous);
+        pragmas.put("busy_timeout", "5000");
+        escritor = SqliteDataSources.escritor("jdbc:sqlite:file:" + diretorio.resolve("benchmark.db"),
+                pragmas, Duration.ofSeconds(60));
+        jdbcTemplate = new JdbcTemplate(escritor);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(escritor);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        popular();
+
+        if ("agrupado".equals(modo)) {
+            SqliteProperties.GroupCommit properties = new SqliteProperties.GroupCommit();
+            properties.setEnabled(true);
+            executor = new GroupCommitExecutor(transactionManager, escritor, () -> { }, properties, false,
+                    new SimpleMeterRegistry());
+            executor.start();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (executor != null) {
+            executor.stop();
+        }
+        escritor.close();
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            arquivos.sorted(Comparator.reverseOrder()).forEach(arquivo -> arquivo.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int concluir() {
+        long id = ThreadLocalRandom.current().nextInt(TAREFAS) + 1;
+        if (executor == null) {
+            return transactionTemplate.execute(status -> atualizar(id));
+        }
+        return executor.submeter(() -> atualizar(id)).join();
+    }
+
+    private int atualizar(long id) {
+        return jdbcTemplate.update("UPDATE TODO_BENCH SET CONCLUIDO = 1 - CONCLUIDO, DATA_CONCLUSAO = ? WHERE ID = ?",
+                System.currentTimeMillis(), id);
+    }
+
+    private void popular() {
+        jdbcTemplate.execute("CREATE TABLE TODO_BENCH (ID INTEGER PRIMARY KEY, TITULO TEXT NOT NULL, "
+                + "CONCLUIDO INTEGER NOT NULL, DATA_CONCLUSAO INTEGER)");
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                "INSERT INTO TODO_BENCH (TITULO, CONCLUIDO) VALUES (?, 0)",
+                Stream.iterate(1, i -> i + 1).limit(TAREFAS).map(i -> new Object[]{"Tarefa " + i}).toList()));
+    }
+}
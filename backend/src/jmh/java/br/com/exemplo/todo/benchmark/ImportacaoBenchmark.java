@@ -0,0 +1,192 @@
+package br.com.exemplo.todo.benchmark;
+
+import br.com.exemplo.todo.LinveApplication;
+import br.com.exemplo.todo.domain.model.entity.Culinaria;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.model.enums.StatusImportacao;
+import br.com.exemplo.todo.domain.repository.CulinariaRepository;
+import br.com.exemplo.todo.domain.repository.OrganizationRepository;
+import br.com.exemplo.todo.domain.service.ImportacaoService;
+import br.com.exemplo.todo.domain.service.importacao.FormatoImportacao;
+import br.com.exemplo.todo.domain.service.importacao.Importacao;
+import br.com.exemplo.todo.security.TenantContext;
+import br.com.exemplo.todo.security.TenantInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tempo de ponta a ponta de uma importacao em lote de 50 mil produtos (100 categorias com 3 opcoes,
+ * 2 a 3 precos por produto e 500 adicionais) sobre o dataset do {@link GeradorDataset}, do envio do
+ * arquivo ate o status CONCLUIDA. Cada medicao importa o arquivo de novo na mesma organizacao.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ImportacaoBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ImportacaoBenchmark {
+
+    private static final long SEMENTE = 42;
+    private static final int CATEGORIAS = 100;
+    private static final int PRODUTOS = 50_000;
+    private static final int ADICIONAIS = 500;
+    private static final String[] OPCOES = {"P", "M", "G"};
+
+    @Param({"NDJSON", "CSV"})
+    private FormatoImportacao formato;
+
+    private Path banco;
+    private Path arquivo;
+    private ConfigurableApplicationContext context;
+    private ImportacaoService importacaoService;
+    private TenantInfo tenant;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        banco = GeradorDataset.obter(Path.of("target", "dataset"), GeradorDataset.Escala.PADRAO, SEMENTE);
+        String url = "jdbc:sqlite:file:" + banco + "?date_class=TEXT&date_string_format=yyyy-MM-dd HH:mm:ss";
+
+        context = new SpringApplication(LinveApplication.class).run(
+                "--spring.profiles.active=testes",
+                "--spring.datasource.url=" + url,
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=OFF",
+                "--logging.level.br.com.exemplo.todo=WARN");
+
+        importacaoService = context.getBean(ImportacaoService.class);
+        Long organizacaoId = context.getBean(OrganizationRepository.class)
+                .findBySlugAndAtivaTrue("loja-" + SEMENTE).orElseThrow().getId();
+        tenant = new TenantInfo(organizacaoId, null, MembershipRole.OWNER);
+
+        Integer culinaria = context.getBean(CulinariaRepository.class).findAll().stream()
+                .map(Culinaria::getId).min(Integer::compare).orElseThrow();
+        arquivo = Files.createTempFile("importacao", "." + formato.name().toLowerCase(Locale.ROOT));
+        escrever(arquivo, culinaria);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+        Files.deleteIfExists(arquivo);
+        Files.deleteIfExists(banco);
+    }
+
+    @Benchmark
+    public Importacao importar() throws Exception {
+        Importacao importacao;
+        try (InputStream corpo = Files.newInputStream(arquivo)) {
+            importacao = TenantContext.executar(tenant, () -> importacaoService.iniciar(formato, corpo));
+        }
+        while (!importacao.isFinalizada()) {
+            Thread.sleep(20);
+        }
+        if (importacao.getStatus() != StatusImportacao.CONCLUIDA || importacao.getLinhasComErro().get() > 0) {
+            throw new IllegalStateException("Importacao com erros: " + importacao.getMensagem() + " "
+                    + importacao.getErros());
+        }
+        return importacao;
+    }
+
+    private void escrever(Path destino, Integer culinaria) throws IOException {
+        Random random = new Random(SEMENTE);
+        try (BufferedWriter saida = Files.newBufferedWriter(destino, StandardCharsets.UTF_8)) {
+            if (formato == FormatoImportacao.CSV) {
+                saida.write("tipo;ref;categoria;id_culinaria;nome;descricao;selecao;limite;opcoes\n");
+            }
+            for (int c = 0; c < CATEGORIAS; c++) {
+                linha(saida, "categoria", "c" + c, null, culinaria, "Categoria importada " + c, null, null,
+                        String.join("|", OPCOES));
+            }
+            for (int p = 0; p < PRODUTOS; p++) {
+                StringBuilder precos = new StringBuilder();
+                for (int o = 0; o < 2 + random.nextInt(2); o++) {
+                    precos.append(precos.isEmpty() ? "" : "|").append(OPCOES[o]).append('=')
+                            .append(String.format(Locale.ROOT, "%.2f", 5 + random.nextInt(9_000) / 100.0));
+                }
+                linha(saida, "produto", null, "c" + random.nextInt(CATEGORIAS), null, "Produto importado " + p,
+                        "Descricao do produto " + p, null, precos.toString());
+            }
+            for (int a = 0; a < ADICIONAIS; a++) {
+                linha(saida, "adicional", null, "c" + random.nextInt(CATEGORIAS), null, "Adicional " + a, "M", 3,
+                        "Granola=1.50|Mel=2.00|Leite condensado=2.50");
+            }
+        }
+    }
+
+    /**
+     * Uma linha no formato do parametro; no NDJSON as listas viram os arrays dos inputs da API.
+     */
+    private void linha(BufferedWriter saida, String tipo, String ref, String categoria, Integer culinaria,
+                       String nome, String descricaoOuSelecao, Integer limite, String opcoes) throws IOException {
+        boolean adicional = tipo.equals("adicional");
+        if (formato == FormatoImportacao.CSV) {
+            saida.write(String.join(";", tipo, valor(ref), valor(categoria), valor(culinaria), nome,
+                    adicional ? "" : valor(descricaoOuSelecao), adicional ? descricaoOuSelecao : "", valor(limite),
+                    opcoes));
+            saida.write('\n');
+            return;
+        }
+        StringBuilder json = new StringBuilder("{\"tipo\":\"").append(tipo).append('"');
+        if (ref != null) {
+            json.append(",\"ref\":\"").append(ref).append('"');
+        }
+        if (categoria != null) {
+            json.append(",\"categoria\":\"").append(categoria).append('"');
+        }
+        if (culinaria != null) {
+            json.append(",\"id_culinaria\":").append(culinaria);
+        }
+        json.append(",\"nome\":\"").append(nome).append('"');
+        if (adicional) {
+            json.append(",\"selecao\":\"").append(descricaoOuSelecao).append("\",\"limite\":").append(limite);
+        } else if (descricaoOuSelecao != null) {
+            json.append(",\"descricao\":\"").append(descricaoOuSelecao).append('"');
+        }
+        json.append(",\"opcoes\":[");
+        String[] itens = opcoes.split("\\|");
+        for (int i = 0; i < itens.length; i++) {
+            json.append(i > 0 ? "," : "");
+            String[] partes = itens[i].split("=");
+            if (partes.length == 1) {
+                json.append('"').append(partes[0]).append('"');
+            } else {
+                json.append(adicional ? "{\"nome\":\"" : "{\"opcao\":\"").append(partes[0])
+                        .append("\",\"valor\":").append(partes[1]).append('}');
+            }
+        }
+        saida.write(json.append("]}\n").toString());
+    }
+
+    private static String valor(Object valor) {
+        return valor == null ? "" : valor.toString();
+    }
+}
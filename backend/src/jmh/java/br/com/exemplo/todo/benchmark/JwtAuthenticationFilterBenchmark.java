@@ -0,0 +1,88 @@
+package br.com.exemplo.todo.benchmark;
+
+import br.com.exemplo.todo.config.JwtConfig;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.security.AccessTokenCache;
+import br.com.exemplo.todo.security.JwtAuthenticationFilter;
+import br.com.exemplo.todo.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazao do JwtAuthenticationFilter com e sem o cache de claims verificadas.
+ * O benchmark "legado" reproduz a validacao anterior (chave e parser criados a cada chamada).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    private JwtConfig jwtConfig;
+    private JwtService jwtService;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    private final FilterChain chain = (request, response) -> { };
+
+    @Setup
+    public void setUp() {
+        jwtConfig = new JwtConfig();
+        jwtConfig.setSecret("chave-secreta-benchmark-com-pelo-menos-32-caracteres");
+        jwtConfig.getAccessToken().setCacheEnabled(cacheEnabled);
+
+        jwtService = new JwtService(jwtConfig, new AccessTokenCache(jwtConfig));
+        filter = new JwtAuthenticationFilter(jwtService);
+
+        User user = new User();
+        user.setId(42L);
+        user.setNome("Usuario Benchmark");
+        user.setEmail("bench@linve.com");
+        user.setAtivo(true);
+        user.setDataCriacao(LocalDateTime.now());
+        token = jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public Object filtro() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/produtos");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    @Benchmark
+    public void validacaoLegada(Blackhole bh) {
+        Claims claims = Jwts.parser()
+                .verifyWith(jwtConfig.getSecretKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        bh.consume(claims);
+    }
+
+    @Benchmark
+    public void validacao(Blackhole bh) {
+        bh.consume(jwtService.validateAccessToken(token));
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.exemplo.todo.benchmark;
+
+import br.com.exemplo.todo.config.JwtConfig;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.security.AccessTokenCache;
+import br.com.exemplo.todo.security.JwtService;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo das operacoes do JwtService usadas a cada login/refresh/requisicao (HS256).
+ * {@code validarAccessToken} com {@code cacheEnabled=true} mede o acerto no cache de claims
+ * (SHA-256 do token + lookup); com {@code false}, a verificacao HMAC e o parse completos.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="JwtServiceBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtServiceBenchmark {
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    @Param({"3"})
+    public int organizacoes;
+
+    private JwtService jwtService;
+    private User user;
+    private Map<Long, MembershipRole> papeis;
+    private String accessToken;
+    private String refreshToken;
+    private String familiaId;
+
+    @Setup
+    public void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setSecret("chave-secreta-benchmark-com-pelo-menos-32-caracteres");
+        jwtConfig.getAccessToken().setCacheEnabled(cacheEnabled);
+        jwtService = new JwtService(jwtConfig, new AccessTokenCache(jwtConfig));
+
+        user = new User();
+        user.setId(42L);
+        user.setNome("Usuario Benchmark");
+        user.setEmail("bench@linve.com");
+        user.setAtivo(true);
+        user.setDataCriacao(LocalDateTime.now());
+
+        papeis = new LinkedHashMap<>();
+        for (long orgId = 1; orgId <= organizacoes; orgId++) {
+            papeis.put(orgId, orgId == 1 ? MembershipRole.OWNER : MembershipRole.MEMBER);
+        }
+        accessToken = jwtService.generateAccessToken(user, papeis);
+        familiaId = UUID.randomUUID().toString();
+        refreshToken = jwtService.generateRefreshToken(familiaId);
+    }
+
+    @Benchmark
+    public String gerarAccessToken() {
+        return jwtService.generateAccessToken(user, papeis);
+    }
+
+    @Benchmark
+    public Claims validarAccessToken() {
+        return jwtService.validateAccessToken(accessToken).orElseThrow();
+    }
+
+    @Benchmark
+    public String hashToken() {
+        return jwtService.hashToken(refreshToken);
+    }
+
+    @Benchmark
+    public String gerarRefreshToken() {
+        return jwtService.generateRefreshToken(familiaId);
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.exemplo.todo.benchmark;
+
+import br.com.exemplo.todo.config.JwtConfig;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.security.AccessTokenCache;
+import br.com.exemplo.todo.security.JwtService;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazao de assinatura e verificacao de access tokens por algoritmo (HS256, ES256 e EdDSA).
+ * O cache de claims fica desligado para que {@code verificar} meça a verificacao da assinatura.
+ * As chaves assimetricas sao o par efemero do JwtKeyring.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="JwtSigningBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtSigningBenchmark {
+
+    @Param({"HS256", "ES256", "EdDSA"})
+    public JwtConfig.Algoritmo algoritmo;
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setSecret("chave-secreta-benchmark-com-pelo-menos-32-caracteres");
+        jwtConfig.getAccessToken().setCacheEnabled(false);
+        jwtConfig.getSigning().setAlgorithm(algoritmo);
+        jwtService = new JwtService(jwtConfig, new AccessTokenCache(jwtConfig));
+
+        user = new User();
+        user.setId(42L);
+        user.setNome("Usuario Benchmark");
+        user.setEmail("bench@linve.com");
+        user.setAtivo(true);
+        user.setDataCriacao(LocalDateTime.now());
+        token = jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String assinar() {
+        return jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public Claims verificar() {
+        return jwtService.validateAccessToken(token).orElseThrow();
+    }
+}
@@ -0,0 +1,197 @@
+package br.com.exemplo.todo.benchmark;
+
+import br.com.exemplo.todo.LinveApplication;
+import br.com.exemplo.todo.api.dto.auth.AuthResponse;
+import br.com.exemplo.todo.api.dto.auth.LoginInput;
+import br.com.exemplo.todo.api.dto.auth.MembershipOutput;
+import br.com.exemplo.todo.api.dto.auth.RegisterInput;
+import br.com.exemplo.todo.api.dto.auth.UserOutput;
+import br.com.exemplo.todo.config.JwtConfig;
+import br.com.exemplo.todo.domain.model.entity.Account;
+import br.com.exemplo.todo.domain.model.entity.LoginAttempt;
+import br.com.exemplo.todo.domain.model.entity.Membership;
+import br.com.exemplo.todo.domain.model.entity.Organization;
+import br.com.exemplo.todo.domain.model.entity.RefreshToken;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.repository.AccountRepository;
+import br.com.exemplo.todo.domain.repository.MembershipRepository;
+import br.com.exemplo.todo.domain.repository.OrganizationRepository;
+import br.com.exemplo.todo.domain.repository.RefreshTokenRepository;
+import br.com.exemplo.todo.domain.repository.UserRepository;
+import br.com.exemplo.todo.domain.service.AuthService;
+import br.com.exemplo.todo.infrastructure.audit.LoginAttemptWriter;
+import br.com.exemplo.todo.security.JwtService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencia do login por senha sobre um SQLite em arquivo (contexto Spring completo).
+ * <p>
+ * {@code atual} chama o {@link AuthService#login}; {@code legado} reproduz o caminho anterior
+ * (entidades carregadas, BCrypt dentro da transacao, UPDATEs por dirty checking e memberships
+ * com a organizacao carregada uma a uma). O BCrypt usa strength 4 para que a comparacao
+ * reflita o acesso ao banco; com strength 12 o hash domina o tempo total.
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="LoginBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoginBenchmark {
+
+    private static final String EMAIL = "bench-login@linve.com";
+    private static final String SENHA = "senha-benchmark";
+
+    @Param({"5"})
+    public int organizacoes;
+
+    /**
+     * Com o writer assincrono o caminho legado sofre SQLITE_BUSY (a transacao longa tenta promover
+     * o lock de leitura para escrita enquanto o writer grava); por isso o padrao compara com gravacao sincrona.
+     */
+    @Param({"false"})
+    public boolean auditoriaAssincrona;
+
+    private Path diretorio;
+    private ConfigurableApplicationContext context;
+    private AuthService authService;
+    private TransactionTemplate transactionTemplate;
+    private UserRepository userRepository;
+    private AccountRepository accountRepository;
+    private MembershipRepository membershipRepository;
+    private RefreshTokenRepository refreshTokenRepository;
+    private LoginAttemptWriter loginAttemptWriter;
+    private PasswordEncoder passwordEncoder;
+    private JwtService jwtService;
+    private JwtConfig jwtConfig;
+    private MockHttpServletRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        diretorio = Files.createTempDirectory("login-benchmark");
+        String url = "jdbc:sqlite:file:" + diretorio.resolve("linve.db")
+                + "?date_class=TEXT&date_string_format=yyyy-MM-dd HH:mm:ss";
+
+        context = new SpringApplication(LinveApplication.class).run(
+                "--spring.profiles.active=testes",
+                "--spring.datasource.url=" + url,
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--server.port=0",
+                "--security.bcrypt.strength=4",
+                "--auth.login-attempt.async-enabled=" + auditoriaAssincrona,
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=OFF",
+                "--logging.level.br.com.exemplo.todo=WARN");
+
+        authService = context.getBean(AuthService.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        userRepository = context.getBean(UserRepository.class);
+        accountRepository = context.getBean(AccountRepository.class);
+        membershipRepository = context.getBean(MembershipRepository.class);
+        refreshTokenRepository = context.getBean(RefreshTokenRepository.class);
+        loginAttemptWriter = context.getBean(LoginAttemptWriter.class);
+        passwordEncoder = context.getBean(PasswordEncoder.class);
+        jwtService = context.getBean(JwtService.class);
+        jwtConfig = context.getBean(JwtConfig.class);
+
+        request = new MockHttpServletRequest();
+        request.setRemoteAddr("127.0.0.1");
+        request.addHeader("User-Agent", "LoginBenchmark");
+
+        authService.register(new RegisterInput("Usuario Benchmark", EMAIL, SENHA, "Loja 1"), request);
+        User user = userRepository.findByEmail(EMAIL).orElseThrow();
+        OrganizationRepository organizationRepository = context.getBean(OrganizationRepository.class);
+        for (int i = 2; i <= organizacoes; i++) {
+            Organization organization = new Organization();
+            organization.setNome("Loja " + i);
+            organization.setSlug("loja-" + i);
+            organization.setAtiva(true);
+            organization.setDataCriacao(LocalDateTime.now());
+            organization.setDataAtualizacao(LocalDateTime.now());
+            organization = organizationRepository.save(organization);
+
+            Membership membership = new Membership();
+            membership.setUser(user);
+            membership.setOrganization(organization);
+            membership.setPapel(MembershipRole.MEMBER);
+            membership.setAtivo(true);
+            membership.setDataIngresso(LocalDateTime.now());
+            membershipRepository.save(membership);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+        try (var arquivos = Files.walk(diretorio)) {
+            arquivos.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public AuthResponse atual() {
+        return authService.login(new LoginInput(EMAIL, SENHA), request);
+    }
+
+    @Benchmark
+    public AuthResponse legado() {
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findByEmail(EMAIL).orElseThrow();
+            Account account = accountRepository.findByUserIdAndProvider(user.getId(), "local").orElseThrow();
+            if (!passwordEncoder.matches(SENHA, account.getSenhaHash())) {
+                throw new IllegalStateException("Senha invalida");
+            }
+
+            account.resetarTentativasFalha();
+            accountRepository.save(account);
+            loginAttemptWriter.registrar(new LoginAttempt(user, true, "127.0.0.1", "LoginBenchmark", null));
+            user.setUltimoAcesso(LocalDateTime.now());
+            userRepository.save(user);
+
+            String familyId = UUID.randomUUID().toString();
+            String rawRefreshToken = jwtService.generateRefreshToken(familyId);
+            RefreshToken refreshToken = new RefreshToken();
+            refreshToken.setUser(user);
+            refreshToken.setTokenHash(jwtService.hashToken(rawRefreshToken));
+            refreshToken.setDataExpiracao(LocalDateTime.now().plusDays(jwtConfig.getRefreshToken().getExpirationDays()));
+            refreshToken.setRevogado(false);
+            refreshToken.setFamiliaId(familyId);
+            refreshToken.setDeviceInfo("LoginBenchmark");
+            refreshToken.setIpAddress("127.0.0.1");
+            refreshToken.setDataCriacao(LocalDateTime.now());
+            refreshTokenRepository.save(refreshToken);
+
+            List<Membership> memberships = membershipRepository.findByUserIdAndAtivoTrueOrderByDataIngressoAsc(user.getId());
+            String accessToken = jwtService.generateAccessToken(user, memberships);
+
+            return new AuthResponse(accessToken, rawRefreshToken,
+                    jwtConfig.getAccessToken().getExpirationMs() / 1000,
+                    UserOutput.from(user),
+                    memberships.stream().map(MembershipOutput::from).toList(),
+                    false);
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.exemplo.todo.benchmark;
+
+import br.com.exemplo.todo.config.PasswordHashingProperties;
+import br.com.exemplo.todo.domain.exception.PasswordHashingBusyException;
+import br.com.exemplo.todo.security.BoundedPasswordEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Teste de carga: latencia de um endpoint de catalogo (serializacao de 50 produtos)
+ * durante uma rajada de logins (16 threads chamando BCrypt sem parar).
+ * <p>
+ * Com {@code limitado=false} cada login roda o BCrypt na propria thread (comportamento anterior);
+ * com {@code limitado=true} o BCrypt passa pelo {@link BoundedPasswordEncoder} e o excedente
+ * recebe 503 e espera o Retry-After, como um cliente real.
+ * Compare o p0.99 de {@code tempestade:catalogo} entre os dois cenarios.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoginStormBenchmark {
+
+    @Param({"true", "false"})
+    public boolean limitado;
+
+    @Param({"10"})
+    public int bcryptStrength;
+
+    private PasswordEncoder encoder;
+    private String hash;
+    private ObjectMapper objectMapper;
+    private List<ProdutoResumo> catalogo;
+
+    public record ProdutoResumo(Long id, String nome, String descricao, BigDecimal preco) {
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        if (limitado) {
+            PasswordHashingProperties properties = new PasswordHashingProperties();
+            properties.setRetryAfterSeconds(0);
+            encoder = new BoundedPasswordEncoder(bcrypt, properties, new SimpleMeterRegistry());
+        } else {
+            encoder = bcrypt;
+        }
+        hash = bcrypt.encode("senha-benchmark");
+
+        objectMapper = new ObjectMapper();
+        catalogo = new ArrayList<>();
+        for (long i = 1; i <= 50; i++) {
+            catalogo.add(new ProdutoResumo(i, "Produto " + i, "Descricao do produto " + i,
+                    BigDecimal.valueOf(i * 3.5)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (encoder instanceof BoundedPasswordEncoder bounded) {
+            bounded.destroy();
+        }
+    }
+
+    @Benchmark
+    @Group("tempestade")
+    @GroupThreads(16)
+    public boolean login() throws InterruptedException {
+        try {
+            return encoder.matches("senha-benchmark", hash);
+        } catch (PasswordHashingBusyException e) {
+            // Cliente respeitando o Retry-After (reduzido para manter a pressao)
+            Thread.sleep(10);
+            return false;
+        }
+    }
+
+    @Benchmark
+    @Group("tempestade")
+    @GroupThreads(2)
+    public String catalogo() throws Exception {
+        return objectMapper.writeValueAsString(catalogo);
+    }
+}
@@ -0,0 +1,137 @@
+package br.com.exemplo.todo.benchmark;
+
+import br.com.exemplo.todo.LinveApplication;
+import br.com.exemplo.todo.api.dto.produto.ProdutoOutput;
+import br.com.exemplo.todo.api.dto.produto.ProdutoPrecoOutput;
+import br.com.exemplo.todo.domain.model.entity.CategoriaOpcao;
+import br.com.exemplo.todo.domain.model.entity.Produto;
+import br.com.exemplo.todo.domain.model.entity.ProdutoPreco;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.repository.CategoriaOpcaoRepository;
+import br.com.exemplo.todo.domain.repository.OrganizationRepository;
+import br.com.exemplo.todo.domain.repository.ProdutoRepository;
+import br.com.exemplo.todo.domain.service.ProdutoService;
+import br.com.exemplo.todo.security.TenantContext;
+import br.com.exemplo.todo.security.TenantInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Latencia de GET /api/produtos (sem filtro) para a organizacao do {@link GeradorDataset}
+ * (20 mil produtos, ~51 mil precos), com contexto Spring completo sobre o arquivo SQLite.
+ * <p>
+ * {@code projecao} chama o {@link ProdutoService#listar}; {@code legado} reproduz o caminho anterior
+ * (entidades com {@code @EntityGraph("precos")}, inclusive precos inativos, nomes das opcoes em uma
+ * segunda consulta e mapeamento para os DTOs dentro do contexto de persistencia).
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ProdutoListagemBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProdutoListagemBenchmark {
+
+    private static final long SEMENTE = 42;
+
+    private Path arquivo;
+    private ConfigurableApplicationContext context;
+    private ProdutoService produtoService;
+    private ProdutoRepository produtoRepository;
+    private CategoriaOpcaoRepository categoriaOpcaoRepository;
+    private TransactionTemplate leitura;
+    private TenantInfo tenant;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        arquivo = GeradorDataset.obter(Path.of("target", "dataset"), GeradorDataset.Escala.PADRAO, SEMENTE);
+        String url = "jdbc:sqlite:file:" + arquivo + "?date_class=TEXT&date_string_format=yyyy-MM-dd HH:mm:ss";
+
+        context = new SpringApplication(LinveApplication.class).run(
+                "--spring.profiles.active=testes",
+                "--spring.datasource.url=" + url,
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=OFF",
+                "--logging.level.br.com.exemplo.todo=WARN");
+
+        produtoService = context.getBean(ProdutoService.class);
+        produtoRepository = context.getBean(ProdutoRepository.class);
+        categoriaOpcaoRepository = context.getBean(CategoriaOpcaoRepository.class);
+        leitura = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        leitura.setReadOnly(true);
+
+        Long organizacaoId = context.getBean(OrganizationRepository.class)
+                .findBySlugAndAtivaTrue("loja-" + SEMENTE).orElseThrow().getId();
+        tenant = new TenantInfo(organizacaoId, null, MembershipRole.OWNER);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+        Files.deleteIfExists(arquivo);
+    }
+
+    @Benchmark
+    public List<ProdutoOutput> projecao() throws Exception {
+        return TenantContext.executar(tenant, () -> produtoService.listar(null));
+    }
+
+    @Benchmark
+    public List<ProdutoOutput> legado() throws Exception {
+        return TenantContext.executar(tenant, () -> leitura.execute(status -> {
+            List<Produto> produtos = produtoRepository
+                    .findByOrganizationIdAndAtivoTrueOrderByNomeAsc(tenant.organizationId());
+            Set<Long> ids = produtos.stream()
+                    .flatMap(produto -> produto.getPrecos().stream())
+                    .filter(preco -> Boolean.TRUE.equals(preco.getAtivo()))
+                    .map(ProdutoPreco::getCategoriaOpcaoId)
+                    .collect(Collectors.toSet());
+            Map<Long, String> nomesOpcoes = categoriaOpcaoRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(CategoriaOpcao::getId, CategoriaOpcao::getNome));
+            return produtos.stream().map(produto -> toOutput(produto, nomesOpcoes)).toList();
+        }));
+    }
+
+    private static ProdutoOutput toOutput(Produto produto, Map<Long, String> nomesOpcoes) {
+        ProdutoOutput output = new ProdutoOutput();
+        output.setId_produto(produto.getId());
+        output.setId_categoria(produto.getCategoriaId());
+        output.setNome(produto.getNome());
+        output.setDescricao(produto.getDescricao());
+        output.setStatus(produto.getAtivo());
+        output.setOpcoes(produto.getPrecos().stream()
+                .filter(preco -> Boolean.TRUE.equals(preco.getAtivo()))
+                .map(preco -> {
+                    ProdutoPrecoOutput out = new ProdutoPrecoOutput();
+                    out.setId_preco(preco.getId());
+                    out.setId_opcao(preco.getCategoriaOpcaoId());
+                    out.setValor(preco.getValor());
+                    out.setStatus(preco.getAtivo());
+                    out.setNome(nomesOpcoes.get(preco.getCategoriaOpcaoId()));
+                    return out;
+                })
+                .toList());
+        return output;
+    }
+}
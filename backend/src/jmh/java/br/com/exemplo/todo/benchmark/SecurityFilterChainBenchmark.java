@@ -0,0 +1,163 @@
+package br.com.exemplo.todo.benchmark;
+
+import br.com.exemplo.todo.config.JwtConfig;
+import br.com.exemplo.todo.config.TenantCacheProperties;
+import br.com.exemplo.todo.domain.model.entity.Membership;
+import br.com.exemplo.todo.domain.model.entity.Organization;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.repository.MembershipRepository;
+import br.com.exemplo.todo.domain.repository.UserRepository;
+import br.com.exemplo.todo.security.AccessTokenCache;
+import br.com.exemplo.todo.security.JwtAuthenticationFilter;
+import br.com.exemplo.todo.security.JwtService;
+import br.com.exemplo.todo.security.MembershipCache;
+import br.com.exemplo.todo.security.MembershipVersions;
+import br.com.exemplo.todo.security.TenantContext;
+import br.com.exemplo.todo.security.TenantFilter;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho completo de autenticacao de uma requisicao: JwtAuthenticationFilter + TenantFilter,
+ * com as memberships em um store em memoria (sem banco), para isolar o custo dos filtros.
+ * <ul>
+ *   <li>{@code token}: memberships assinadas no token (caminho padrao);</li>
+ *   <li>{@code cache}: token sem memberships, resolvidas pelo MembershipCache;</li>
+ *   <li>{@code store}: token sem memberships e cache desligado (uma consulta ao store por requisicao).</li>
+ * </ul>
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="SecurityFilterChainBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SecurityFilterChainBenchmark {
+
+    private static final long USER_ID = 42L;
+    private static final String ORG_ID = "2";
+
+    @Param({"token", "cache", "store"})
+    public String resolucao;
+
+    @Param({"true"})
+    public boolean jwtCacheEnabled;
+
+    private JwtAuthenticationFilter jwtFilter;
+    private TenantFilter tenantFilter;
+    private String authorization;
+    private Blackhole blackhole;
+
+    private final FilterChain aplicacao = (request, response) -> blackhole.consume(TenantContext.get());
+    private final FilterChain tenant = (request, response) -> tenantFilter.doFilter(request, response, aplicacao);
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        this.blackhole = blackhole;
+
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setSecret("chave-secreta-benchmark-com-pelo-menos-32-caracteres");
+        jwtConfig.getAccessToken().setCacheEnabled(jwtCacheEnabled);
+        jwtConfig.getAccessToken().setMembershipClaims("token".equals(resolucao));
+        JwtService jwtService = new JwtService(jwtConfig, new AccessTokenCache(jwtConfig));
+
+        User user = new User();
+        user.setId(USER_ID);
+        user.setNome("Usuario Benchmark");
+        user.setEmail("bench@linve.com");
+        user.setAtivo(true);
+        user.setDataCriacao(LocalDateTime.now());
+
+        MembershipStore store = new MembershipStore();
+        for (long orgId = 1; orgId <= 3; orgId++) {
+            store.adicionar(user, orgId, orgId == 1 ? MembershipRole.OWNER : MembershipRole.MEMBER);
+        }
+
+        TenantCacheProperties cacheProperties = new TenantCacheProperties();
+        cacheProperties.setEnabled(!"store".equals(resolucao));
+
+        jwtFilter = new JwtAuthenticationFilter(jwtService);
+        tenantFilter = new TenantFilter(store.membershipRepository(), new MembershipCache(cacheProperties),
+                new MembershipVersions(jwtConfig, store.userRepository()));
+        authorization = "Bearer " + jwtService.generateAccessToken(user, store.doUsuario(USER_ID));
+    }
+
+    @Benchmark
+    public int filtros() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/produtos");
+        request.addHeader("Authorization", authorization);
+        request.addHeader("X-Organization-Id", ORG_ID);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtFilter.doFilter(request, response, tenant);
+        SecurityContextHolder.clearContext();
+        return response.getStatus();
+    }
+
+    /**
+     * Memberships em memoria expostas pelos metodos dos repositories usados pelos filtros.
+     */
+    private static final class MembershipStore {
+
+        private final Map<Long, List<Membership>> porUsuario = new HashMap<>();
+
+        void adicionar(User user, long orgId, MembershipRole papel) {
+            Organization organization = new Organization();
+            organization.setId(orgId);
+            organization.setNome("Loja " + orgId);
+            Membership membership = new Membership();
+            membership.setUser(user);
+            membership.setOrganization(organization);
+            membership.setPapel(papel);
+            membership.setAtivo(true);
+            membership.setDataIngresso(LocalDateTime.now());
+            porUsuario.computeIfAbsent(user.getId(), id -> new ArrayList<>()).add(membership);
+        }
+
+        List<Membership> doUsuario(Long userId) {
+            return porUsuario.getOrDefault(userId, List.of());
+        }
+
+        MembershipRepository membershipRepository() {
+            return (MembershipRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{MembershipRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "findByUserIdAndOrganizationIdAndAtivoTrue" -> doUsuario((Long) args[0]).stream()
+                                .filter(m -> m.getOrganization().getId().equals(args[1]))
+                                .findFirst();
+                        case "findFirstByUserIdAndAtivoTrueOrderByDataIngressoAsc" -> doUsuario((Long) args[0]).stream()
+                                .findFirst();
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        UserRepository userRepository() {
+            return (UserRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("buscarVersaoMembership")) {
+                            return Optional.of(0L);
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package br.com.exemplo.todo.benchmark;
+
+import br.com.exemplo.todo.infrastructure.sqlite.SqliteDataSources;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.sqlite.SQLiteErrorCode;
+import org.sqlite.SQLiteException;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Teste de carga: vazao de leituras (catalogo de uma organizacao) enquanto um escritor
+ * atualiza precos sem parar no mesmo arquivo SQLite.
+ * <p>
+ * Com {@code modo=rollback} leitores e escritor dividem um pool com o journal padrao do driver
+ * (o commit bloqueia os leitores); com {@code modo=wal} os PRAGMAs do profile sqlite-wal e os pools
+ * de {@link SqliteDataSources} (leitor somente leitura + escritor com uma conexao).
+ * Compare {@code leituraSobEscrita:leitura} entre os dois modos; {@code ocupado} conta as
+ * operacoes que desistiram com SQLITE_BUSY depois do busy_timeout (ambos os modos usam 5000 ms).
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="SqliteWalBenchmark"
+ * </pre>
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SqliteWalBenchmark {
+
+    private static final int ORGANIZACOES = 50;
+    private static final int PRODUTOS_POR_ORGANIZACAO = 200;
+
+    @Param({"wal", "rollback"})
+    public String modo;
+
+    private Path diretorio;
+    private HikariDataSource escritor;
+    private HikariDataSource leitor;
+    private DataSource dataSource;
+    private boolean marcarLeitura;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        diretorio = Files.createTempDirectory("sqlite-wal-benchmark");
+        String url = "jdbc:sqlite:file:" + diretorio.resolve("benchmark.db");
+
+        if ("wal".equals(modo)) {
+            Map<String, String> pragmas = new LinkedHashMap<>();
+            pragmas.put("journal_mode", "WAL");
+            pragmas.put("synchronous", "NORMAL");
+            pragmas.put("busy_timeout", "5000");
+            pragmas.put("cache_size", "-20000");
+            pragmas.put("mmap_size", "268435456");
+            escritor = SqliteDataSources.escritor(url, pragmas, Duration.ofSeconds(30));
+            leitor = SqliteDataSources.leitor(url, pragmas, 4, Duration.ofSeconds(30));
+            dataSource = SqliteDataSources.rotearLeituras(escritor, leitor);
+            marcarLeitura = true;
+        } else {
+            HikariConfig config = new HikariConfig();
+            config.setJdbcUrl(url);
+            config.addDataSourceProperty("busy_timeout", "5000");
+            config.setMaximumPoolSize(5);
+            escritor = new HikariDataSource(config);
+            dataSource = escritor;
+        }
+        popular();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (leitor != null) {
+            leitor.close();
+        }
+        escritor.close();
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            arquivos.sorted(Comparator.reverseOrder()).forEach(arquivo -> arquivo.toFile().delete());
+        }
+    }
+
+    /**
+     * Operacoes concluidas e operacoes que falharam com SQLITE_BUSY, por thread.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Contadores {
+        public long concluido;
+        public long ocupado;
+
+        @Setup(Level.Iteration)
+        public void zerar() {
+            concluido = 0;
+            ocupado = 0;
+        }
+
+        long registrar(SQLException e) throws SQLException {
+            if (e instanceof SQLiteException sqlite && (sqlite.getResultCode() == SQLiteErrorCode.SQLITE_BUSY
+                    || sqlite.getResultCode() == SQLiteErrorCode.SQLITE_BUSY_SNAPSHOT)) {
+                ocupado++;
+                return -1;
+            }
+            throw e;
+        }
+    }
+
+    @Benchmark
+    @Group("leituraSobEscrita")
+    @GroupThreads(4)
+    public long leitura(Contadores contadores) throws SQLException {
+        try {
+            long soma = ler();
+            contadores.concluido++;
+            return soma;
+        } catch (SQLException e) {
+            return contadores.registrar(e);
+        }
+    }
+
+    @Benchmark
+    @Group("leituraSobEscrita")
+    @GroupThreads(1)
+    public long escrita(Contadores contadores) throws SQLException {
+        try {
+            int linhas = escrever();
+            contadores.concluido++;
+            return linhas;
+        } catch (SQLException e) {
+            return contadores.registrar(e);
+        }
+    }
+
+    private long ler() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (marcarLeitura) {
+                connection.setReadOnly(true);
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT ID, NOME, PRECO FROM PRODUTO_BENCH WHERE ORG_ID = ? ORDER BY NOME")) {
+                statement.setInt(1, ThreadLocalRandom.current().nextInt(ORGANIZACOES));
+                long soma = 0;
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        soma += rs.getLong(1) + rs.getString(2).length() + rs.getLong(3);
+                    }
+                }
+                return soma;
+            }
+        }
+    }
+
+    private int escrever() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE PRODUTO_BENCH SET PRECO = PRECO + 1 WHERE ORG_ID = ?")) {
+                statement.setInt(1, ThreadLocalRandom.current().nextInt(ORGANIZACOES));
+                int linhas = statement.executeUpdate();
+                connection.commit();
+                return linhas;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private void popular() throws SQLException {
+        try (Connection connection = escritor.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE PRODUTO_BENCH (ID INTEGER PRIMARY KEY, ORG_ID INTEGER NOT NULL, "
+                        + "NOME TEXT NOT NULL, PRECO INTEGER NOT NULL)");
+                statement.execute("CREATE INDEX IDX_PRODUTO_BENCH_ORG ON PRODUTO_BENCH (ORG_ID)");
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO PRODUTO_BENCH (ORG_ID, NOME, PRECO) VALUES (?, ?, ?)")) {
+                for (int org = 0; org < ORGANIZACOES; org++) {
+                    for (int i = 0; i < PRODUTOS_POR_ORGANIZACAO; i++) {
+                        insert.setInt(1, org);
+                        insert.setString(2, "Produto " + i + " da loja " + org);
+                        insert.setInt(3, 1000 + i);
+                        insert.addBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+            connection.setAutoCommit(true);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import br.com.exemplo.todo.api.dto.adicional.AdicionalInput;
 import br.com.exemplo.todo.api.dto.adicional.AdicionalItemOutput;
 import br.com.exemplo.todo.api.dto.adicional.AdicionalOutput;
 import br.com.exemplo.todo.api.openapi.AdicionalControllerOpenApi;
+import br.com.exemplo.todo.api.paginacao.PaginacaoHttp;
 import br.com.exemplo.todo.domain.model.entity.Adicional;
 import br.com.exemplo.todo.domain.model.entity.AdicionalItem;
 import br.com.exemplo.todo.domain.service.AdicionalService;
@@ -11,6 +12,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -36,12 +38,21 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 public class AdicionalController implements AdicionalControllerOpenApi {
 
     private final AdicionalService adicionalService;
+    private final PaginacaoHttp paginacao;
 
     @Override
     @GetMapping
-    public List<AdicionalOutput> listar(@RequestParam(name = "id_categoria", required = false) Long idCategoria) {
-        log.debug("GET /adicionais - id_categoria={}", idCategoria);
-        return adicionalService.listar(idCategoria).stream().map(this::toOutput).toList();
+    public ResponseEntity<List<AdicionalOutput>> listar(
+            @RequestParam(name = "id_categoria", required = false) Long idCategoria,
+            @RequestParam(required = false) Integer limite,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean total) {
+        log.debug("GET /adicionais - id_categoria={}, limite={}, cursor={}", idCategoria, limite, cursor);
+        if (paginacao.semPaginacao(limite, cursor)) {
+            return paginacao.completa(adicionalService.listar(idCategoria).stream().map(this::toOutput).toList(), total);
+        }
+        return paginacao.pagina(adicionalService.listarPagina(idCategoria, paginacao.request(limite, cursor, total))
+                .map(this::toOutput));
     }
 
     @Override
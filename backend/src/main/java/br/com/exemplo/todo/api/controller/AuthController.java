@@ -2,6 +2,8 @@ package br.com.exemplo.todo.api.controller;
 
 import br.com.exemplo.todo.api.dto.auth.*;
 import br.com.exemplo.todo.domain.service.AuthService;
+import br.com.exemplo.todo.security.AuthRateLimiter;
+import br.com.exemplo.todo.security.JwtKeyring;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -11,11 +13,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -23,6 +29,8 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthRateLimiter authRateLimiter;
+    private final JwtKeyring jwtKeyring;
 
     @Operation(summary = "Registrar novo usuario",
             description = "Cria uma nova conta de usuario com uma organizacao inicial")
@@ -51,6 +59,8 @@ public class AuthController {
             @ApiResponse(responseCode = "401", description = "Credenciais invalidas",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))),
             @ApiResponse(responseCode = "423", description = "Conta bloqueada",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "429", description = "Muitas tentativas (ver Retry-After)",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class)))
     })
     @PostMapping(value = "/login", produces = "application/json")
@@ -58,6 +68,7 @@ public class AuthController {
             @Valid @RequestBody LoginInput input,
             HttpServletRequest request) {
 
+        authRateLimiter.verificar(request, input.email());
         AuthResponse response = authService.login(input, request);
         return ResponseEntity.ok(response);
     }
@@ -68,6 +79,8 @@ public class AuthController {
             @ApiResponse(responseCode = "200", description = "Tokens renovados com sucesso",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = AuthResponse.class))),
             @ApiResponse(responseCode = "401", description = "Refresh token invalido ou expirado",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "429", description = "Muitas tentativas (ver Retry-After)",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class)))
     })
     @PostMapping(value = "/refresh", produces = "application/json")
@@ -75,6 +88,7 @@ public class AuthController {
             @Valid @RequestBody RefreshTokenInput input,
             HttpServletRequest request) {
 
+        authRateLimiter.verificar(request);
         AuthResponse response = authService.refresh(input, request);
         return ResponseEntity.ok(response);
     }
@@ -95,13 +109,16 @@ public class AuthController {
     @Operation(summary = "Solicitar magic link de login",
             description = "Envia um link de login por email. Nao revela se o email existe ou nao.")
     @ApiResponses({
-            @ApiResponse(responseCode = "204", description = "Magic link enviado (se email existir)")
+            @ApiResponse(responseCode = "204", description = "Magic link enviado (se email existir)"),
+            @ApiResponse(responseCode = "429", description = "Muitas tentativas (ver Retry-After)",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class)))
     })
     @PostMapping(value = "/magic-link", produces = "application/json")
     public ResponseEntity<Void> solicitarMagicLink(
             @Valid @RequestBody MagicLinkLoginInput input,
             HttpServletRequest request) {
 
+        authRateLimiter.verificar(request, input.email());
         authService.enviarMagicLink(input.email(), request);
         return ResponseEntity.noContent().build();
     }
@@ -122,4 +139,15 @@ public class AuthController {
         AuthResponse response = authService.loginViaMagicLink(input.token(), request);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "Chaves publicas de verificacao (JWKS)",
+            description = "JWK Set com as chaves publicas que verificam os access tokens (ES256/EdDSA). "
+                    + "Vazio quando os tokens sao assinados com HS256.")
+    @ApiResponse(responseCode = "200", description = "JWK Set")
+    @GetMapping(value = "/jwks", produces = "application/json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwtKeyring.jwks());
+    }
 }
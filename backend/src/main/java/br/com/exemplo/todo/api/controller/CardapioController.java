@@ -0,0 +1,131 @@
+package br.com.exemplo.todo.api.controller;
+
+import br.com.exemplo.todo.api.openapi.CardapioControllerOpenApi;
+import br.com.exemplo.todo.config.CardapioProperties;
+import br.com.exemplo.todo.domain.exception.OrganizationNotFoundException;
+import br.com.exemplo.todo.domain.service.CardapioService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(value = "/api/cardapio", produces = {"application/json", "application/problem+json"})
+public class CardapioController implements CardapioControllerOpenApi {
+
+    private static final String SUFIXO_GZIP = "-gzip";
+
+    private final CardapioService cardapioService;
+    private final CardapioProperties cardapioProperties;
+
+    @Override
+    @GetMapping("/{slug}")
+    public ResponseEntity<byte[]> buscar(
+            @PathVariable String slug,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.debug("GET /api/cardapio/{}", slug);
+
+        CardapioService.Publicado publicado = cardapioService.buscar(slug)
+                .orElseThrow(() -> new OrganizationNotFoundException(
+                        String.format("Cardapio da organizacao '%s' nao encontrado", slug)));
+
+        // Corpos diferentes (gzip ou nao) precisam de ETags fortes diferentes
+        boolean gzip = aceitaGzip(acceptEncoding);
+        String etag = "\"" + publicado.etag() + (gzip ? SUFIXO_GZIP : "") + "\"";
+
+        if (corresponde(ifNoneMatch, publicado.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.CACHE_CONTROL, cardapioProperties.getCacheControl())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok()
+                .eTag(etag)
+                .header(HttpHeaders.CACHE_CONTROL, cardapioProperties.getCacheControl())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            // Content-Encoding ja definido: o Tomcat nao comprime de novo
+            return resposta.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(publicado.gzip());
+        }
+        return resposta.body(descomprimir(publicado.gzip()));
+    }
+
+    private static boolean aceitaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String parte : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] campos = parte.trim().split(";");
+            String codificacao = campos[0].trim();
+            if (!codificacao.equals("gzip") && !codificacao.equals("*")) {
+                continue;
+            }
+            boolean recusado = false;
+            for (int i = 1; i < campos.length; i++) {
+                String parametro = campos[i].trim().replace(" ", "");
+                if (parametro.matches("q=0(\\.0*)?")) {
+                    recusado = true;
+                }
+            }
+            if (!recusado) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-None-Match usa comparacao fraca: o mesmo cardapio em gzip ou nao corresponde ao mesmo hash.
+     */
+    private static boolean corresponde(String ifNoneMatch, String hash) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String parte : ifNoneMatch.split(",")) {
+            String valor = parte.trim();
+            if (valor.equals("*")) {
+                return true;
+            }
+            if (valor.startsWith("W/")) {
+                valor = valor.substring(2);
+            }
+            if (valor.length() >= 2 && valor.startsWith("\"") && valor.endsWith("\"")) {
+                valor = valor.substring(1, valor.length() - 1);
+            }
+            if (valor.endsWith(SUFIXO_GZIP)) {
+                valor = valor.substring(0, valor.length() - SUFIXO_GZIP.length());
+            }
+            if (valor.equals(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] descomprimir(byte[] gzip) {
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return entrada.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import br.com.exemplo.todo.api.dto.categoria.CategoriaOpcaoInput;
 import br.com.exemplo.todo.api.dto.categoria.CategoriaOpcaoOutput;
 import br.com.exemplo.todo.api.dto.categoria.CategoriaOutput;
 import br.com.exemplo.todo.api.openapi.CategoriaControllerOpenApi;
+import br.com.exemplo.todo.api.paginacao.PaginacaoHttp;
 import br.com.exemplo.todo.domain.model.entity.Categoria;
 import br.com.exemplo.todo.domain.model.entity.CategoriaOpcao;
 import br.com.exemplo.todo.domain.service.CategoriaService;
@@ -13,6 +14,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -35,15 +37,24 @@ import java.util.List;
 public class CategoriaController implements CategoriaControllerOpenApi {
 
     private final CategoriaService categoriaService;
+    private final PaginacaoHttp paginacao;
 
     @Override
     @GetMapping
-    public List<CategoriaOutput> listar(@RequestParam(name = "id_culinaria", required = false) Integer idCulinaria) {
-        log.debug("GET /categorias - id_culinaria={}", idCulinaria);
-        List<Categoria> categorias = categoriaService.listar(idCulinaria);
-        return categorias.stream()
-                .map(this::toOutput)
-                .toList();
+    public ResponseEntity<List<CategoriaOutput>> listar(
+            @RequestParam(name = "id_culinaria", required = false) Integer idCulinaria,
+            @RequestParam(required = false) Integer limite,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean total) {
+        log.debug("GET /categorias - id_culinaria={}, limite={}, cursor={}", idCulinaria, limite, cursor);
+        if (paginacao.semPaginacao(limite, cursor)) {
+            List<Categoria> categorias = categoriaService.listar(idCulinaria);
+            return paginacao.completa(categorias.stream()
+                    .map(this::toOutput)
+                    .toList(), total);
+        }
+        return paginacao.pagina(categoriaService.listarPagina(idCulinaria, paginacao.request(limite, cursor, total))
+                .map(this::toOutput));
     }
 
     @Override
@@ -4,6 +4,7 @@ import br.com.exemplo.todo.api.dto.cliente.ClienteEnderecoOutput;
 import br.com.exemplo.todo.api.dto.cliente.ClienteInput;
 import br.com.exemplo.todo.api.dto.cliente.ClienteOutput;
 import br.com.exemplo.todo.api.openapi.ClienteControllerOpenApi;
+import br.com.exemplo.todo.api.paginacao.PaginacaoHttp;
 import br.com.exemplo.todo.domain.model.entity.Cliente;
 import br.com.exemplo.todo.domain.model.entity.ClienteEndereco;
 import br.com.exemplo.todo.domain.service.ClienteService;
@@ -11,6 +12,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -32,15 +35,22 @@ import java.util.List;
 public class ClienteController implements ClienteControllerOpenApi {
 
     private final ClienteService clienteService;
+    private final PaginacaoHttp paginacao;
 
     @Override
     @GetMapping
-    public List<ClienteOutput> listar() {
-        log.debug("GET /clientes");
-        List<Cliente> clientes = clienteService.listar();
-        return clientes.stream()
-                .map(this::toOutput)
-                .toList();
+    public ResponseEntity<List<ClienteOutput>> listar(@RequestParam(required = false) Integer limite,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "false") boolean total) {
+        log.debug("GET /clientes - limite={}, cursor={}", limite, cursor);
+        if (paginacao.semPaginacao(limite, cursor)) {
+            List<Cliente> clientes = clienteService.listar();
+            return paginacao.completa(clientes.stream()
+                    .map(this::toOutput)
+                    .toList(), total);
+        }
+        return paginacao.pagina(clienteService.listarPagina(paginacao.request(limite, cursor, total))
+                .map(this::toOutput));
     }
 
     @Override
@@ -0,0 +1,80 @@
+package br.com.exemplo.todo.api.controller;
+
+import br.com.exemplo.todo.api.dto.importacao.ImportacaoErroOutput;
+import br.com.exemplo.todo.api.dto.importacao.ImportacaoOutput;
+import br.com.exemplo.todo.api.openapi.ImportacaoControllerOpenApi;
+import br.com.exemplo.todo.domain.service.ImportacaoService;
+import br.com.exemplo.todo.domain.service.importacao.FormatoImportacao;
+import br.com.exemplo.todo.domain.service.importacao.Importacao;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.InputStream;
+import java.net.URI;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(value = "/api/importacoes", produces = {APPLICATION_JSON_VALUE, "application/problem+json"})
+@PreAuthorize("@tenantSecurity.isMember()")
+public class ImportacaoController implements ImportacaoControllerOpenApi {
+
+    private final ImportacaoService importacaoService;
+
+    @Override
+    @PostMapping(consumes = {FormatoImportacao.NDJSON_VALUE, FormatoImportacao.CSV_VALUE})
+    public ResponseEntity<ImportacaoOutput> importar(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                     InputStream corpo) {
+        log.debug("POST /importacoes - content-type={}", contentType);
+        Importacao importacao = importacaoService.iniciar(FormatoImportacao.de(contentType), corpo);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .path("/{id}")
+                .buildAndExpand(importacao.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(toOutput(importacao));
+    }
+
+    @Override
+    @GetMapping("/{id}")
+    public ImportacaoOutput buscar(@PathVariable String id) {
+        log.debug("GET /importacoes/{}", id);
+        return toOutput(importacaoService.buscar(id));
+    }
+
+    private ImportacaoOutput toOutput(Importacao importacao) {
+        return ImportacaoOutput.builder()
+                .idImportacao(importacao.getId())
+                .status(importacao.getStatus().name())
+                .formato(importacao.getFormato().name())
+                .linhasProcessadas(importacao.getLinhasProcessadas().get())
+                .linhasComErro(importacao.getLinhasComErro().get())
+                .categoriasCriadas(importacao.getCategoriasCriadas().get())
+                .produtosCriados(importacao.getProdutosCriados().get())
+                .adicionaisCriados(importacao.getAdicionaisCriados().get())
+                .inicio(importacao.getInicio())
+                .fim(importacao.getFim())
+                .mensagem(importacao.getMensagem())
+                .erros(importacao.getErros().stream()
+                        .map(erro -> ImportacaoErroOutput.builder()
+                                .linha(erro.linha())
+                                .tipo(erro.tipo())
+                                .ref(erro.ref())
+                                .mensagem(erro.mensagem())
+                                .build())
+                        .toList())
+                .errosTruncados(importacao.isErrosTruncados())
+                .build();
+    }
+}
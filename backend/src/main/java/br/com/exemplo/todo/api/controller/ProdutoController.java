@@ -3,15 +3,21 @@ package br.com.exemplo.todo.api.controller;
 import br.com.exemplo.todo.api.dto.produto.ProdutoInput;
 import br.com.exemplo.todo.api.dto.produto.ProdutoOutput;
 import br.com.exemplo.todo.api.dto.produto.ProdutoPrecoOutput;
+import br.com.exemplo.todo.api.dto.produto.ReajustePrecoInput;
+import br.com.exemplo.todo.api.dto.produto.ReajustePrecoOutput;
 import br.com.exemplo.todo.api.openapi.ProdutoControllerOpenApi;
+import br.com.exemplo.todo.api.paginacao.PaginacaoHttp;
+import br.com.exemplo.todo.domain.model.entity.CategoriaOpcao;
 import br.com.exemplo.todo.domain.model.entity.Produto;
 import br.com.exemplo.todo.domain.model.entity.ProdutoPreco;
 import br.com.exemplo.todo.domain.repository.CategoriaOpcaoRepository;
 import br.com.exemplo.todo.domain.service.ProdutoService;
+import br.com.exemplo.todo.domain.service.ReajustePrecoService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,6 +31,9 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
@@ -36,14 +45,22 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 public class ProdutoController implements ProdutoControllerOpenApi {
 
     private final ProdutoService produtoService;
+    private final ReajustePrecoService reajustePrecoService;
     private final CategoriaOpcaoRepository categoriaOpcaoRepository;
+    private final PaginacaoHttp paginacao;
 
     @Override
     @GetMapping
-    public List<ProdutoOutput> listar(@RequestParam(name = "id_categoria", required = false) Long idCategoria) {
-        log.debug("GET /produtos - id_categoria={}", idCategoria);
-        List<Produto> produtos = produtoService.listar(idCategoria);
-        return produtos.stream().map(this::toOutput).toList();
+    public ResponseEntity<List<ProdutoOutput>> listar(
+            @RequestParam(name = "id_categoria", required = false) Long idCategoria,
+            @RequestParam(required = false) Integer limite,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean total) {
+        log.debug("GET /produtos - id_categoria={}, limite={}, cursor={}", idCategoria, limite, cursor);
+        if (paginacao.semPaginacao(limite, cursor)) {
+            return paginacao.completa(produtoService.listar(idCategoria), total);
+        }
+        return paginacao.pagina(produtoService.listarPagina(idCategoria, paginacao.request(limite, cursor, total)));
     }
 
     @Override
@@ -79,7 +96,19 @@ public class ProdutoController implements ProdutoControllerOpenApi {
         produtoService.excluir(id);
     }
 
+    @Override
+    @PostMapping("/reajuste-precos")
+    public ReajustePrecoOutput reajustarPrecos(@RequestBody @Valid ReajustePrecoInput input) {
+        log.debug("POST /produtos/reajuste-precos - categoria={}, opcao={}, simular={}",
+                input.getId_categoria(), input.getId_opcao(), input.isSimular());
+        return reajustePrecoService.reajustar(input);
+    }
+
     private ProdutoOutput toOutput(Produto produto) {
+        return toOutput(produto, nomesOpcoes(List.of(produto)));
+    }
+
+    private ProdutoOutput toOutput(Produto produto, Map<Long, String> nomesOpcoes) {
         ProdutoOutput output = new ProdutoOutput();
         output.setId_produto(produto.getId());
         output.setId_categoria(produto.getCategoriaId());
@@ -90,23 +119,38 @@ public class ProdutoController implements ProdutoControllerOpenApi {
         if (produto.getPrecos() != null) {
             List<ProdutoPrecoOutput> precos = produto.getPrecos().stream()
                     .filter(p -> Boolean.TRUE.equals(p.getAtivo()))
-                    .map(this::toPrecoOutput)
+                    .map(preco -> toPrecoOutput(preco, nomesOpcoes))
                     .toList();
             output.setOpcoes(precos);
         }
         return output;
     }
 
-    private ProdutoPrecoOutput toPrecoOutput(ProdutoPreco preco) {
+    private ProdutoPrecoOutput toPrecoOutput(ProdutoPreco preco, Map<Long, String> nomesOpcoes) {
         ProdutoPrecoOutput out = new ProdutoPrecoOutput();
         out.setId_preco(preco.getId());
         out.setId_opcao(preco.getCategoriaOpcaoId());
         out.setValor(preco.getValor());
         out.setStatus(preco.getAtivo());
-
-        categoriaOpcaoRepository.findById(preco.getCategoriaOpcaoId())
-                .ifPresent(co -> out.setNome(co.getNome()));
+        out.setNome(nomesOpcoes.get(preco.getCategoriaOpcaoId()));
         return out;
     }
+
+    /**
+     * Nomes das opcoes dos precos ativos em uma unica consulta (antes era um findById por preco).
+     */
+    private Map<Long, String> nomesOpcoes(List<Produto> produtos) {
+        Set<Long> ids = produtos.stream()
+                .filter(produto -> produto.getPrecos() != null)
+                .flatMap(produto -> produto.getPrecos().stream())
+                .filter(preco -> Boolean.TRUE.equals(preco.getAtivo()))
+                .map(ProdutoPreco::getCategoriaOpcaoId)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return categoriaOpcaoRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(CategoriaOpcao::getId, CategoriaOpcao::getNome));
+    }
 }
 
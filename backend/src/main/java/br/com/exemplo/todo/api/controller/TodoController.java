@@ -3,6 +3,7 @@ package br.com.exemplo.todo.api.controller;
 import br.com.exemplo.todo.api.dto.todo.TodoInput;
 import br.com.exemplo.todo.api.dto.todo.TodoOutput;
 import br.com.exemplo.todo.api.openapi.TodoControllerOpenApi;
+import br.com.exemplo.todo.api.paginacao.PaginacaoHttp;
 import br.com.exemplo.todo.domain.model.entity.Todo;
 import br.com.exemplo.todo.domain.service.TodoService;
 import jakarta.validation.Valid;
@@ -10,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -34,11 +36,20 @@ public class TodoController implements TodoControllerOpenApi {
 
     private final TodoService todoService;
     private final ModelMapper modelMapper;
+    private final PaginacaoHttp paginacao;
 
     @Override
     @GetMapping
-    public List<TodoOutput> listar(@RequestParam(required = false) Boolean concluido) {
-        log.debug("GET /todos - concluido={}", concluido);
+    public ResponseEntity<List<TodoOutput>> listar(@RequestParam(required = false) Boolean concluido,
+                                                   @RequestParam(required = false) Integer limite,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "false") boolean total) {
+        log.debug("GET /todos - concluido={}, limite={}, cursor={}", concluido, limite, cursor);
+
+        if (!paginacao.semPaginacao(limite, cursor)) {
+            return paginacao.pagina(todoService.listarPagina(concluido, paginacao.request(limite, cursor, total))
+                    .map(this::toOutput));
+        }
 
         List<Todo> todos;
         if (concluido != null) {
@@ -47,9 +58,9 @@ public class TodoController implements TodoControllerOpenApi {
             todos = todoService.listarTodos();
         }
 
-        return todos.stream()
+        return paginacao.completa(todos.stream()
                 .map(this::toOutput)
-                .toList();
+                .toList(), total);
     }
 
     @Override
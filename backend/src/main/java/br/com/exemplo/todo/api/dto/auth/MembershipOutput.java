@@ -2,6 +2,7 @@ package br.com.exemplo.todo.api.dto.auth;
 
 import br.com.exemplo.todo.domain.model.entity.Membership;
 import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.model.projection.MembershipResumo;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Dados de membership do usuario em uma organizacao", requiredProperties = {"organization", "role"})
@@ -18,4 +19,16 @@ public record MembershipOutput(
                 membership.getPapel()
         );
     }
+
+    public static MembershipOutput from(MembershipResumo resumo) {
+        return new MembershipOutput(
+                new OrganizationOutput(
+                        resumo.organizationId(),
+                        resumo.organizationNome(),
+                        resumo.organizationSlug(),
+                        resumo.organizationLogo()
+                ),
+                resumo.papel()
+        );
+    }
 }
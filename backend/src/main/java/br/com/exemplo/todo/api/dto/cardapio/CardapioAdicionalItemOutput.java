@@ -0,0 +1,33 @@
+package br.com.exemplo.todo.api.dto.cardapio;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Item de adicional do cardapio publico",
+        requiredProperties = {"id_item", "nome", "valor"})
+public class CardapioAdicionalItemOutput {
+
+    @JsonProperty("id_item")
+    @Schema(description = "ID do item de adicional", example = "11")
+    private Long idItem;
+
+    @JsonProperty("nome")
+    @Schema(description = "Nome do item", example = "Granola")
+    private String nome;
+
+    @JsonProperty("valor")
+    @Schema(description = "Valor do item", example = "1.50")
+    private BigDecimal valor;
+}
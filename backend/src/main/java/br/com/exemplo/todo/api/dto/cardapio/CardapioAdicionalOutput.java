@@ -0,0 +1,45 @@
+package br.com.exemplo.todo.api.dto.cardapio;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Grupo de adicionais do cardapio publico",
+        requiredProperties = {"id_adicional", "nome", "selecao", "itens"})
+public class CardapioAdicionalOutput {
+
+    @JsonProperty("id_adicional")
+    @Schema(description = "ID do adicional", example = "5001")
+    private Long idAdicional;
+
+    @JsonProperty("nome")
+    @Schema(description = "Nome do grupo", example = "Escolha um adicional")
+    private String nome;
+
+    @JsonProperty("selecao")
+    @Schema(description = "Tipo de selecao (U, M, Q)", example = "M")
+    private String selecao;
+
+    @JsonProperty("minimo")
+    @Schema(description = "Minimo (quando aplicavel)", example = "0")
+    private Integer minimo;
+
+    @JsonProperty("limite")
+    @Schema(description = "Limite (quando aplicavel)", example = "3")
+    private Integer limite;
+
+    @JsonProperty("itens")
+    @Schema(description = "Itens ativos do grupo")
+    private List<CardapioAdicionalItemOutput> itens;
+}
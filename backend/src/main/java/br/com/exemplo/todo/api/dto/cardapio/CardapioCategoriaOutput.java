@@ -0,0 +1,70 @@
+package br.com.exemplo.todo.api.dto.cardapio;
+
+import br.com.exemplo.todo.api.dto.categoria.CategoriaDisponibilidadeDto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Schema(description = "Categoria do cardapio publico",
+        requiredProperties = {"id_categoria", "id_culinaria", "nome", "disponivel", "opcoes", "produtos", "adicionais"})
+public class CardapioCategoriaOutput {
+
+    @JsonProperty("id_categoria")
+    @Schema(description = "ID da categoria", example = "160732")
+    private Long idCategoria;
+
+    @JsonProperty("id_culinaria")
+    @Schema(description = "ID da culinaria da categoria", example = "4")
+    private Integer idCulinaria;
+
+    @JsonProperty("ordem")
+    @Schema(description = "Ordem da categoria no cardapio", example = "1")
+    private Integer ordem;
+
+    @JsonProperty("nome")
+    @Schema(description = "Nome da categoria", example = "Açaís")
+    private String nome;
+
+    @JsonProperty("descricao")
+    @Schema(description = "Descricao da categoria", example = "Nova descrição.")
+    private String descricao;
+
+    @JsonProperty("inicio")
+    @Schema(description = "Horario inicial (hh:mm)", example = "18:00")
+    private String inicio;
+
+    @JsonProperty("fim")
+    @Schema(description = "Horario final (hh:mm)", example = "23:00")
+    private String fim;
+
+    @JsonProperty("opcao_meia")
+    @Schema(description = "Usada em pizzas: '', 'M' (valor medio) ou 'V' (maior valor)", example = "")
+    private String opcaoMeia;
+
+    @JsonProperty("disponivel")
+    @Schema(description = "Dias da semana em que a categoria esta disponivel")
+    private CategoriaDisponibilidadeDto disponivel;
+
+    @JsonProperty("opcoes")
+    @Schema(description = "Opcoes ativas da categoria (tamanhos)")
+    private List<CardapioOpcaoOutput> opcoes;
+
+    @JsonProperty("produtos")
+    @Schema(description = "Produtos ativos da categoria, por nome")
+    private List<CardapioProdutoOutput> produtos;
+
+    @JsonProperty("adicionais")
+    @Schema(description = "Grupos de adicionais ativos da categoria, por nome")
+    private List<CardapioAdicionalOutput> adicionais;
+}
@@ -0,0 +1,27 @@
+package br.com.exemplo.todo.api.dto.cardapio;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Opcao (tamanho) de uma categoria do cardapio publico",
+        requiredProperties = {"id_opcao", "nome"})
+public class CardapioOpcaoOutput {
+
+    @JsonProperty("id_opcao")
+    @Schema(description = "ID da opcao", example = "185862")
+    private Long idOpcao;
+
+    @JsonProperty("nome")
+    @Schema(description = "Nome da opcao", example = "Pequeno")
+    private String nome;
+}
@@ -0,0 +1,33 @@
+package br.com.exemplo.todo.api.dto.cardapio;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Cardapio publico da organizacao (somente itens ativos)",
+        requiredProperties = {"organizacao", "slug", "categorias"})
+public class CardapioOutput {
+
+    @JsonProperty("organizacao")
+    @Schema(description = "Nome da organizacao", example = "Acaiteria do Centro")
+    private String organizacao;
+
+    @JsonProperty("slug")
+    @Schema(description = "Slug da organizacao", example = "acaiteria-do-centro")
+    private String slug;
+
+    @JsonProperty("categorias")
+    @Schema(description = "Categorias ativas na ordem do cardapio, com produtos e adicionais")
+    private List<CardapioCategoriaOutput> categorias;
+}
@@ -0,0 +1,33 @@
+package br.com.exemplo.todo.api.dto.cardapio;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Preco de um produto do cardapio publico",
+        requiredProperties = {"id_opcao", "nome", "valor"})
+public class CardapioPrecoOutput {
+
+    @JsonProperty("id_opcao")
+    @Schema(description = "ID da opcao de categoria", example = "185862")
+    private Long idOpcao;
+
+    @JsonProperty("nome")
+    @Schema(description = "Nome da opcao", example = "Pequeno")
+    private String nome;
+
+    @JsonProperty("valor")
+    @Schema(description = "Valor do produto nesta opcao", example = "20.00")
+    private BigDecimal valor;
+}
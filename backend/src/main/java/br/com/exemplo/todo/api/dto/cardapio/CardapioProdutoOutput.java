@@ -0,0 +1,37 @@
+package br.com.exemplo.todo.api.dto.cardapio;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Produto do cardapio publico",
+        requiredProperties = {"id_produto", "nome", "precos"})
+public class CardapioProdutoOutput {
+
+    @JsonProperty("id_produto")
+    @Schema(description = "ID do produto", example = "673114")
+    private Long idProduto;
+
+    @JsonProperty("nome")
+    @Schema(description = "Nome do produto", example = "No copo")
+    private String nome;
+
+    @JsonProperty("descricao")
+    @Schema(description = "Descricao do produto", example = "Açaí no copo")
+    private String descricao;
+
+    @JsonProperty("precos")
+    @Schema(description = "Precos ativos por opcao da categoria")
+    private List<CardapioPrecoOutput> precos;
+}
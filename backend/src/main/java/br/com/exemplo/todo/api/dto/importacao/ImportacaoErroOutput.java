@@ -0,0 +1,34 @@
+package br.com.exemplo.todo.api.dto.importacao;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Linha rejeitada na importacao", requiredProperties = {"linha", "mensagem"})
+public class ImportacaoErroOutput {
+
+    @JsonProperty("linha")
+    @Schema(description = "Numero da linha no arquivo (a primeira e 1)", example = "42")
+    private Long linha;
+
+    @JsonProperty("tipo")
+    @Schema(description = "Tipo do registro: categoria, produto ou adicional", example = "produto")
+    private String tipo;
+
+    @JsonProperty("ref")
+    @Schema(description = "Referencia do registro no arquivo, quando informada", example = "acai")
+    private String ref;
+
+    @JsonProperty("mensagem")
+    @Schema(description = "Motivo da rejeicao", example = "Opcao '700ml' nao existe na categoria Açaís")
+    private String mensagem;
+}
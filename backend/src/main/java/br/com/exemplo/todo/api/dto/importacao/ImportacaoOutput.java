@@ -0,0 +1,74 @@
+package br.com.exemplo.todo.api.dto.importacao;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Progresso e relatorio de uma importacao em lote",
+        requiredProperties = {"id_importacao", "status", "formato", "linhas_processadas", "linhas_com_erro", "inicio"})
+public class ImportacaoOutput {
+
+    @JsonProperty("id_importacao")
+    @Schema(description = "ID da importacao", example = "5f1c2b7e-9a43-4f0e-8d7e-0b6f3f1d2a10")
+    private String idImportacao;
+
+    @JsonProperty("status")
+    @Schema(description = "PROCESSANDO, CONCLUIDA ou FALHOU", example = "PROCESSANDO")
+    private String status;
+
+    @JsonProperty("formato")
+    @Schema(description = "NDJSON ou CSV", example = "NDJSON")
+    private String formato;
+
+    @JsonProperty("linhas_processadas")
+    @Schema(description = "Linhas ja processadas (gravadas ou rejeitadas)", example = "12000")
+    private Long linhasProcessadas;
+
+    @JsonProperty("linhas_com_erro")
+    @Schema(description = "Linhas rejeitadas", example = "3")
+    private Long linhasComErro;
+
+    @JsonProperty("categorias_criadas")
+    @Schema(description = "Categorias gravadas", example = "40")
+    private Long categoriasCriadas;
+
+    @JsonProperty("produtos_criados")
+    @Schema(description = "Produtos gravados", example = "11900")
+    private Long produtosCriados;
+
+    @JsonProperty("adicionais_criados")
+    @Schema(description = "Adicionais gravados", example = "57")
+    private Long adicionaisCriados;
+
+    @JsonProperty("inicio")
+    @Schema(description = "Data/hora de recebimento do arquivo", example = "2026-03-01T10:15:30")
+    private LocalDateTime inicio;
+
+    @JsonProperty("fim")
+    @Schema(description = "Data/hora de termino (ausente enquanto processa)", example = "2026-03-01T10:15:52")
+    private LocalDateTime fim;
+
+    @JsonProperty("mensagem")
+    @Schema(description = "Motivo da interrupcao quando status = FALHOU")
+    private String mensagem;
+
+    @JsonProperty("erros")
+    @Schema(description = "Linhas rejeitadas (limitado a importacao.max-erros)")
+    private List<ImportacaoErroOutput> erros;
+
+    @JsonProperty("erros_truncados")
+    @Schema(description = "true quando ha mais linhas com erro do que as listadas", example = "false")
+    private Boolean errosTruncados;
+}
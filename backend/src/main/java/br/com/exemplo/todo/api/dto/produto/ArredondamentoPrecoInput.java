@@ -0,0 +1,34 @@
+package br.com.exemplo.todo.api.dto.produto;
+
+import br.com.exemplo.todo.domain.model.enums.DirecaoArredondamento;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "Arredonda para valores da forma n * passo + terminacao (ex.: passo 1.00 e terminacao 0.90 "
+        + "gera precos terminados em ,90; passo 0.50 e terminacao 0 gera multiplos de 0,50)")
+public class ArredondamentoPrecoInput {
+
+    @DecimalMin(value = "0.01", message = "passo deve ser no minimo 0.01")
+    @DecimalMax(value = "10.00", message = "passo deve ser no maximo 10.00")
+    @Digits(integer = 2, fraction = 2, message = "passo deve ter no maximo 2 casas decimais")
+    @Schema(description = "Intervalo entre valores permitidos (padrao 1.00)", example = "1.00")
+    private BigDecimal passo;
+
+    @DecimalMin(value = "0.00", message = "terminacao nao pode ser negativa")
+    @Digits(integer = 2, fraction = 2, message = "terminacao deve ter no maximo 2 casas decimais")
+    @Schema(description = "Deslocamento dentro do passo, menor que o passo (padrao 0.00)", example = "0.90")
+    private BigDecimal terminacao;
+
+    @Schema(description = "ACIMA (padrao), ABAIXO ou PROXIMO", example = "ACIMA")
+    private DirecaoArredondamento direcao;
+}
@@ -0,0 +1,38 @@
+package br.com.exemplo.todo.api.dto.produto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Preco alterado por um reajuste em lote")
+public class ReajustePrecoAlteracaoOutput {
+
+    @Schema(description = "ID do preco do produto", example = "1467748")
+    private Long id_preco;
+
+    @Schema(description = "ID do produto", example = "1467700")
+    private Long id_produto;
+
+    @Schema(description = "Nome do produto", example = "Calabresa")
+    private String produto;
+
+    @Schema(description = "ID da opcao de categoria", example = "185862")
+    private Long id_opcao;
+
+    @Schema(description = "Nome da opcao", example = "Grande")
+    private String opcao;
+
+    @Schema(description = "Valor atual", example = "54.00")
+    private BigDecimal valor_atual;
+
+    @Schema(description = "Valor depois do reajuste", example = "58.90")
+    private BigDecimal valor_novo;
+}
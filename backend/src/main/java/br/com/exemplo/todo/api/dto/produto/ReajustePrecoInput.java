@@ -0,0 +1,50 @@
+package br.com.exemplo.todo.api.dto.produto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "Reajuste de precos em lote. O escopo e a intersecao dos filtros informados (ao menos um); "
+        + "a regra aplica percentual, depois valor, depois arredondamento (ao menos um)")
+public class ReajustePrecoInput {
+
+    @Schema(description = "Reajusta os produtos desta categoria", example = "90395")
+    private Long id_categoria;
+
+    @Schema(description = "Reajusta apenas os precos desta opcao de categoria", example = "185862")
+    private Long id_opcao;
+
+    @Size(max = 1000, message = "ids_produto deve ter no maximo 1000 itens")
+    @Schema(description = "Reajusta apenas estes produtos", example = "[1467700, 1467701]")
+    private List<@NotNull(message = "ids_produto nao pode conter nulos") Long> ids_produto;
+
+    @DecimalMin(value = "-100", inclusive = false, message = "percentual deve ser maior que -100")
+    @DecimalMax(value = "1000", message = "percentual deve ser no maximo 1000")
+    @Digits(integer = 4, fraction = 4, message = "percentual deve ter no maximo 4 casas decimais")
+    @Schema(description = "Percentual sobre o valor atual (negativo para reduzir)", example = "8")
+    private BigDecimal percentual;
+
+    @Digits(integer = 8, fraction = 2, message = "valor deve ter no maximo 2 casas decimais")
+    @Schema(description = "Valor somado ao preco depois do percentual (negativo para reduzir)", example = "1.50")
+    private BigDecimal valor;
+
+    @Valid
+    @Schema(description = "Arredondamento aplicado por ultimo")
+    private ArredondamentoPrecoInput arredondamento;
+
+    @Schema(description = "Quando true apenas calcula e devolve o diff, sem gravar", example = "true")
+    private boolean simular;
+}
@@ -0,0 +1,29 @@
+package br.com.exemplo.todo.api.dto.produto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado do reajuste de precos em lote")
+public class ReajustePrecoOutput {
+
+    @Schema(description = "true quando nada foi gravado", example = "true")
+    private Boolean simulacao;
+
+    @Schema(description = "Precos cujo valor muda (ou mudou)", example = "240")
+    private Integer precos_alterados;
+
+    @Schema(description = "Produtos com ao menos um preco alterado", example = "96")
+    private Integer produtos_afetados;
+
+    @Schema(description = "Diff preco a preco; presente apenas na simulacao")
+    private List<ReajustePrecoAlteracaoOutput> alteracoes;
+}
@@ -8,19 +8,29 @@ import br.com.exemplo.todo.domain.exception.EmailAlreadyExistsException;
 import br.com.exemplo.todo.domain.exception.InvalidCredentialsException;
 import br.com.exemplo.todo.domain.exception.InvalidRefreshTokenException;
 import br.com.exemplo.todo.domain.exception.OrganizationAccessDeniedException;
+import br.com.exemplo.todo.domain.exception.OrganizationNotFoundException;
 import br.com.exemplo.todo.domain.exception.StoredFileNotFoundException;
 import br.com.exemplo.todo.domain.exception.StorageException;
 import br.com.exemplo.todo.domain.exception.CulinariaNotFoundException;
 import br.com.exemplo.todo.domain.exception.PasswordExpiredException;
+import br.com.exemplo.todo.domain.exception.PasswordHashingBusyException;
+import br.com.exemplo.todo.domain.exception.RateLimitExceededException;
+import br.com.exemplo.todo.domain.exception.TenantBusyException;
+import br.com.exemplo.todo.domain.exception.DatabaseBusyException;
 import br.com.exemplo.todo.domain.exception.UserNotFoundException;
 import br.com.exemplo.todo.domain.service.exception.CategoriaNaoEncontradaException;
 import br.com.exemplo.todo.domain.service.exception.CategoriaOpcaoNaoEncontradaException;
 import br.com.exemplo.todo.domain.service.exception.AdicionalNaoEncontradoException;
 import br.com.exemplo.todo.domain.service.exception.AdicionalItemNaoEncontradoException;
 import br.com.exemplo.todo.domain.service.exception.AdicionalSelecaoInvalidaException;
+import br.com.exemplo.todo.domain.service.exception.CursorInvalidoException;
+import br.com.exemplo.todo.domain.service.exception.ImportacaoEmAndamentoException;
+import br.com.exemplo.todo.domain.service.exception.ImportacaoInvalidaException;
+import br.com.exemplo.todo.domain.service.exception.ImportacaoNaoEncontradaException;
 import br.com.exemplo.todo.domain.service.exception.ProdutoNaoEncontradoException;
 import br.com.exemplo.todo.domain.service.exception.ProdutoPrecoCategoriaInvalidaException;
 import br.com.exemplo.todo.domain.service.exception.ProdutoPrecoNaoEncontradoException;
+import br.com.exemplo.todo.domain.service.exception.ReajustePrecoInvalidoException;
 import br.com.exemplo.todo.domain.service.exception.TodoNaoEncontradoException;
 import br.com.exemplo.todo.domain.exception.UfNaoEncontradaException;
 import lombok.extern.slf4j.Slf4j;
@@ -49,8 +59,12 @@ public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
     protected ResponseEntity<Object> handleExceptionInternal(@NonNull Exception ex, @Nullable Object body,
             @NonNull HttpHeaders headers, @NonNull HttpStatusCode statusCode, @NonNull WebRequest request) {
 
-        // Estrategia de log: 5xx = ERROR (erros reais), 4xx = INFO (erros de cliente)
-        if (statusCode.is5xxServerError()) {
+        // Estrategia de log: 5xx = ERROR (erros reais), 503 = WARN (sobrecarga), 4xx = INFO (erros de cliente)
+        if (statusCode.value() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+            log.warn("Servico indisponivel [503]: {} | URI: {}",
+                    ex.getMessage(),
+                    request.getDescription(false));
+        } else if (statusCode.is5xxServerError()) {
             log.error("Erro interno: ", ex);
         } else {
             log.info("Erro cliente [{}]: {} | URI: {}",
@@ -171,6 +185,41 @@ public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
         return handleExceptionInternal(ex, problemDetail, new HttpHeaders(), status, request);
     }
 
+    @ExceptionHandler(CursorInvalidoException.class)
+    public ResponseEntity<Object> handleCursorInvalido(CursorInvalidoException ex, WebRequest request) {
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        ProblemDetail problemDetail = createProblem(ex, status);
+        return handleExceptionInternal(ex, problemDetail, new HttpHeaders(), status, request);
+    }
+
+    @ExceptionHandler(ImportacaoNaoEncontradaException.class)
+    public ResponseEntity<Object> handleImportacaoNaoEncontrada(ImportacaoNaoEncontradaException ex, WebRequest request) {
+        HttpStatus status = HttpStatus.NOT_FOUND;
+        ProblemDetail problemDetail = createProblem(ex, status);
+        return handleExceptionInternal(ex, problemDetail, new HttpHeaders(), status, request);
+    }
+
+    @ExceptionHandler(ImportacaoEmAndamentoException.class)
+    public ResponseEntity<Object> handleImportacaoEmAndamento(ImportacaoEmAndamentoException ex, WebRequest request) {
+        HttpStatus status = HttpStatus.CONFLICT;
+        ProblemDetail problemDetail = createProblem(ex, status);
+        return handleExceptionInternal(ex, problemDetail, new HttpHeaders(), status, request);
+    }
+
+    @ExceptionHandler(ImportacaoInvalidaException.class)
+    public ResponseEntity<Object> handleImportacaoInvalida(ImportacaoInvalidaException ex, WebRequest request) {
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        ProblemDetail problemDetail = createProblem(ex, status);
+        return handleExceptionInternal(ex, problemDetail, new HttpHeaders(), status, request);
+    }
+
+    @ExceptionHandler(ReajustePrecoInvalidoException.class)
+    public ResponseEntity<Object> handleReajustePrecoInvalido(ReajustePrecoInvalidoException ex, WebRequest request) {
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        ProblemDetail problemDetail = createProblem(ex, status);
+        return handleExceptionInternal(ex, problemDetail, new HttpHeaders(), status, request);
+    }
+
     @ExceptionHandler(InvalidCredentialsException.class)
     public ResponseEntity<Object> handleInvalidCredentialsException(
             InvalidCredentialsException ex, WebRequest request) {
@@ -231,6 +280,16 @@ public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
         return handleExceptionInternal(ex, problemDetail, new HttpHeaders(), status, request);
     }
 
+    @ExceptionHandler(OrganizationNotFoundException.class)
+    public ResponseEntity<Object> handleOrganizationNotFoundException(
+            OrganizationNotFoundException ex, WebRequest request) {
+
+        HttpStatus status = HttpStatus.NOT_FOUND;
+        ProblemDetail problemDetail = createProblem(ex, status);
+
+        return handleExceptionInternal(ex, problemDetail, new HttpHeaders(), status, request);
+    }
+
     @ExceptionHandler(CannotModifyOwnerException.class)
     public ResponseEntity<Object> handleCannotModifyOwnerException(
             CannotModifyOwnerException ex, WebRequest request) {
@@ -261,6 +320,58 @@ public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
         return handleExceptionInternal(ex, problemDetail, new HttpHeaders(), status, request);
     }
 
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<Object> handlePasswordHashingBusyException(
+            PasswordHashingBusyException ex, WebRequest request) {
+
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        ProblemDetail problemDetail = createProblem(ex, status);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+
+        return handleExceptionInternal(ex, problemDetail, headers, status, request);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Object> handleRateLimitExceededException(
+            RateLimitExceededException ex, WebRequest request) {
+
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        ProblemDetail problemDetail = createProblem(ex, status);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+
+        return handleExceptionInternal(ex, problemDetail, headers, status, request);
+    }
+
+    @ExceptionHandler(TenantBusyException.class)
+    public ResponseEntity<Object> handleTenantBusyException(
+            TenantBusyException ex, WebRequest request) {
+
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        ProblemDetail problemDetail = createProblem(ex, status);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+
+        return handleExceptionInternal(ex, problemDetail, headers, status, request);
+    }
+
+    @ExceptionHandler(DatabaseBusyException.class)
+    public ResponseEntity<Object> handleDatabaseBusyException(
+            DatabaseBusyException ex, WebRequest request) {
+
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        ProblemDetail problemDetail = createProblem(ex, status);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+
+        return handleExceptionInternal(ex, problemDetail, headers, status, request);
+    }
+
     @ExceptionHandler(StoredFileNotFoundException.class)
     public ResponseEntity<Object> handleStoredFileNotFoundException(
             StoredFileNotFoundException ex, WebRequest request) {
@@ -3,6 +3,7 @@ package br.com.exemplo.todo.api.exceptionhandler;
 import br.com.exemplo.todo.domain.exception.AccountLockedException;
 import br.com.exemplo.todo.domain.exception.CannotModifyOwnerException;
 import br.com.exemplo.todo.domain.exception.CannotModifySelfException;
+import br.com.exemplo.todo.domain.exception.DatabaseBusyException;
 import br.com.exemplo.todo.domain.exception.EmailAlreadyExistsException;
 import br.com.exemplo.todo.domain.exception.InvalidCredentialsException;
 import br.com.exemplo.todo.domain.exception.InvalidRefreshTokenException;
@@ -12,6 +13,9 @@ import br.com.exemplo.todo.domain.exception.StoredFileNotFoundException;
 import br.com.exemplo.todo.domain.exception.StorageException;
 import br.com.exemplo.todo.domain.exception.CulinariaNotFoundException;
 import br.com.exemplo.todo.domain.exception.PasswordExpiredException;
+import br.com.exemplo.todo.domain.exception.PasswordHashingBusyException;
+import br.com.exemplo.todo.domain.exception.RateLimitExceededException;
+import br.com.exemplo.todo.domain.exception.TenantBusyException;
 import br.com.exemplo.todo.domain.exception.UfNaoEncontradaException;
 import br.com.exemplo.todo.domain.exception.UserNotFoundException;
 import br.com.exemplo.todo.domain.service.exception.CategoriaNaoEncontradaException;
@@ -23,10 +27,15 @@ import br.com.exemplo.todo.domain.service.exception.AdicionalNaoEncontradoExcept
 import br.com.exemplo.todo.domain.service.exception.AdicionalItemNaoEncontradoException;
 import br.com.exemplo.todo.domain.service.exception.AdicionalSelecaoInvalidaException;
 import br.com.exemplo.todo.domain.service.exception.ClienteNaoEncontradoException;
+import br.com.exemplo.todo.domain.service.exception.CursorInvalidoException;
+import br.com.exemplo.todo.domain.service.exception.ImportacaoEmAndamentoException;
+import br.com.exemplo.todo.domain.service.exception.ImportacaoInvalidaException;
+import br.com.exemplo.todo.domain.service.exception.ImportacaoNaoEncontradaException;
 import br.com.exemplo.todo.domain.service.exception.ClienteEnderecoNaoEncontradoException;
 import br.com.exemplo.todo.domain.service.exception.DocumentoJaCadastradoException;
 import br.com.exemplo.todo.domain.service.exception.DocumentoInvalidoException;
 import br.com.exemplo.todo.domain.service.exception.MunicipioNaoEncontradoException;
+import br.com.exemplo.todo.domain.service.exception.ReajustePrecoInvalidoException;
 import br.com.exemplo.todo.domain.service.exception.TodoNaoEncontradoException;
 import lombok.Getter;
 import lombok.NonNull;
@@ -109,6 +118,18 @@ public enum ProblemType {
     SENHA_EXPIRADA(PasswordExpiredException.class,
             "Senha expirada", "senha-expirada"),
 
+    SERVICO_SOBRECARREGADO(PasswordHashingBusyException.class,
+            "Servico sobrecarregado", "servico-sobrecarregado"),
+
+    MUITAS_REQUISICOES(RateLimitExceededException.class,
+            "Muitas requisicoes", "muitas-requisicoes"),
+
+    ORGANIZACAO_OCUPADA(TenantBusyException.class,
+            "Organizacao ocupada", "organizacao-ocupada"),
+
+    BANCO_OCUPADO(DatabaseBusyException.class,
+            "Banco de dados ocupado", "banco-ocupado"),
+
     CLIENTE_NAO_ENCONTRADO(ClienteNaoEncontradoException.class,
             "Cliente nao encontrado", "cliente-nao-encontrado"),
 
@@ -124,6 +145,21 @@ public enum ProblemType {
     DOCUMENTO_INVALIDO(DocumentoInvalidoException.class,
             "Documento invalido", "documento-invalido"),
 
+    CURSOR_INVALIDO(CursorInvalidoException.class,
+            "Cursor de paginacao invalido", "cursor-invalido"),
+
+    IMPORTACAO_NAO_ENCONTRADA(ImportacaoNaoEncontradaException.class,
+            "Importacao nao encontrada", "importacao-nao-encontrada"),
+
+    IMPORTACAO_EM_ANDAMENTO(ImportacaoEmAndamentoException.class,
+            "Importacao em andamento", "importacao-em-andamento"),
+
+    IMPORTACAO_INVALIDA(ImportacaoInvalidaException.class,
+            "Arquivo de importacao invalido", "importacao-invalida"),
+
+    REAJUSTE_PRECO_INVALIDO(ReajustePrecoInvalidoException.class,
+            "Reajuste de precos invalido", "reajuste-preco-invalido"),
+
     ERRO_SISTEMA(Exception.class,
             "Erro de sistema nao previsto", "erro-de-sistema-nao-previsto");
 
@@ -4,11 +4,13 @@ import br.com.exemplo.todo.api.dto.adicional.AdicionalInput;
 import br.com.exemplo.todo.api.dto.adicional.AdicionalOutput;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 
 import java.util.List;
 
@@ -16,11 +18,22 @@ import java.util.List;
 public interface AdicionalControllerOpenApi {
 
     @Operation(summary = "Listar adicionais",
-            description = "Lista grupos de adicionais da organizacao, opcionalmente filtrando por categoria")
+            description = "Lista grupos de adicionais da organizacao, opcionalmente filtrando por categoria. "
+                    + "Com limite ou cursor a resposta e paginada por cursor.")
     @ApiResponse(responseCode = "200", description = "Lista de adicionais",
+            headers = {
+                    @Header(name = "X-Next-Cursor", description = "Cursor da proxima pagina (ausente na ultima)"),
+                    @Header(name = "Link", description = "URL da proxima pagina com rel=\"next\""),
+                    @Header(name = "X-Total-Count", description = "Total de registros (quando total=true)")
+            },
             content = @Content(schema = @Schema(implementation = AdicionalOutput.class)))
-    List<AdicionalOutput> listar(
-            @Parameter(description = "ID da categoria (opcional)") Long id_categoria);
+    @ApiResponse(responseCode = "400", description = "Cursor invalido",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+    ResponseEntity<List<AdicionalOutput>> listar(
+            @Parameter(description = "ID da categoria (opcional)") Long id_categoria,
+            @Parameter(description = "Tamanho da pagina; sem limite e sem cursor a lista vem completa") Integer limite,
+            @Parameter(description = "Cursor opaco do cabecalho X-Next-Cursor da pagina anterior") String cursor,
+            @Parameter(description = "Inclui o cabecalho X-Total-Count (uma consulta a mais)") boolean total);
 
     @Operation(summary = "Buscar adicional por ID")
     @ApiResponse(responseCode = "200", description = "Adicional encontrado")
@@ -0,0 +1,39 @@
+package br.com.exemplo.todo.api.openapi;
+
+import br.com.exemplo.todo.api.dto.cardapio.CardapioOutput;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@Tag(name = "Cardapio Publico", description = "Cardapio publico de cada organizacao (sem autenticacao)")
+public interface CardapioControllerOpenApi {
+
+    @Operation(summary = "Retorna o cardapio publico de uma organizacao",
+            description = "Retorna categorias, opcoes, produtos, precos e adicionais ativos da organizacao "
+                    + "identificada pelo slug. Este endpoint e publico e nao requer autenticacao. "
+                    + "A resposta e servida ja comprimida (gzip) quando o cliente aceita e traz um ETag: "
+                    + "envie If-None-Match para receber 304 sem corpo quando o cardapio nao mudou.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Cardapio retornado com sucesso",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = CardapioOutput.class))),
+            @ApiResponse(responseCode = "304", description = "Cardapio nao mudou desde o ETag informado",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Organizacao nao encontrada ou inativa",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    ResponseEntity<byte[]> buscar(
+            @Parameter(description = "Slug da organizacao", required = true, example = "minha-loja") String slug,
+            @Parameter(description = "ETag recebido anteriormente") String ifNoneMatch,
+            @Parameter(description = "Codificacoes aceitas pelo cliente") String acceptEncoding
+    );
+}
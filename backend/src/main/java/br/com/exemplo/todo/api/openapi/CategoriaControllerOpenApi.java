@@ -6,6 +6,7 @@ import br.com.exemplo.todo.api.dto.categoria.CategoriaOpcaoOutput;
 import br.com.exemplo.todo.api.dto.categoria.CategoriaOutput;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,6 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 
 import java.util.List;
 
@@ -25,12 +27,23 @@ public interface CategoriaControllerOpenApi {
 
     @Operation(summary = "Lista categorias da organizacao atual",
             description = "Retorna todas as categorias ativas da organizacao atual. "
-                    + "Opcionalmente filtra por ID de culinaria.")
+                    + "Opcionalmente filtra por ID de culinaria. Com limite ou cursor a resposta e paginada por cursor.")
     @ApiResponse(responseCode = "200", description = "Lista de categorias retornada com sucesso",
+            headers = {
+                    @Header(name = "X-Next-Cursor", description = "Cursor da proxima pagina (ausente na ultima)"),
+                    @Header(name = "Link", description = "URL da proxima pagina com rel=\"next\""),
+                    @Header(name = "X-Total-Count", description = "Total de registros (quando total=true)")
+            },
             content = @Content(mediaType = APPLICATION_JSON_VALUE,
                     array = @ArraySchema(schema = @Schema(implementation = CategoriaOutput.class))))
-    List<CategoriaOutput> listar(
-            @Parameter(description = "ID da culinaria para filtro opcional") Integer idCulinaria
+    @ApiResponse(responseCode = "400", description = "Cursor invalido",
+            content = @Content(mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class)))
+    ResponseEntity<List<CategoriaOutput>> listar(
+            @Parameter(description = "ID da culinaria para filtro opcional") Integer idCulinaria,
+            @Parameter(description = "Tamanho da pagina; sem limite e sem cursor a lista vem completa") Integer limite,
+            @Parameter(description = "Cursor opaco do cabecalho X-Next-Cursor da pagina anterior") String cursor,
+            @Parameter(description = "Inclui o cabecalho X-Total-Count (uma consulta a mais)") boolean total
     );
 
     @Operation(summary = "Busca categoria pelo ID",
@@ -4,6 +4,7 @@ import br.com.exemplo.todo.api.dto.cliente.ClienteInput;
 import br.com.exemplo.todo.api.dto.cliente.ClienteOutput;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -12,6 +13,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 
 import java.util.List;
 
@@ -22,11 +24,24 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 public interface ClienteControllerOpenApi {
 
     @Operation(summary = "Lista clientes da organizacao atual",
-            description = "Retorna todos os clientes ativos da organizacao atual com seus enderecos.")
+            description = "Retorna todos os clientes ativos da organizacao atual com seus enderecos. "
+                    + "Com limite ou cursor a resposta e paginada por cursor.")
     @ApiResponse(responseCode = "200", description = "Lista de clientes retornada com sucesso",
+            headers = {
+                    @Header(name = "X-Next-Cursor", description = "Cursor da proxima pagina (ausente na ultima)"),
+                    @Header(name = "Link", description = "URL da proxima pagina com rel=\"next\""),
+                    @Header(name = "X-Total-Count", description = "Total de registros (quando total=true)")
+            },
             content = @Content(mediaType = APPLICATION_JSON_VALUE,
                     array = @ArraySchema(schema = @Schema(implementation = ClienteOutput.class))))
-    List<ClienteOutput> listar();
+    @ApiResponse(responseCode = "400", description = "Cursor invalido",
+            content = @Content(mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class)))
+    ResponseEntity<List<ClienteOutput>> listar(
+            @Parameter(description = "Tamanho da pagina; sem limite e sem cursor a lista vem completa") Integer limite,
+            @Parameter(description = "Cursor opaco do cabecalho X-Next-Cursor da pagina anterior") String cursor,
+            @Parameter(description = "Inclui o cabecalho X-Total-Count (uma consulta a mais)") boolean total
+    );
 
     @Operation(summary = "Busca cliente pelo ID",
             description = "Retorna os dados de um cliente especifico da organizacao atual com seus enderecos.")
@@ -0,0 +1,73 @@
+package br.com.exemplo.todo.api.openapi;
+
+import br.com.exemplo.todo.api.dto.importacao.ImportacaoOutput;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+
+import java.io.InputStream;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@Tag(name = "Importacao de Catalogo", description = "Importacao em lote de categorias, produtos e adicionais")
+@SecurityRequirement(name = "bearerAuth")
+public interface ImportacaoControllerOpenApi {
+
+    @Operation(summary = "Importa catalogo em lote",
+            description = "Recebe um arquivo NDJSON (application/x-ndjson) ou CSV (text/csv) e processa em "
+                    + "segundo plano. Cada linha tem tipo (categoria, produto ou adicional), ref e os campos "
+                    + "dos inputs da API; produtos e adicionais podem apontar para a categoria pela ref e os "
+                    + "precos para a opcao pelo nome. Linhas invalidas vao para o relatorio sem interromper "
+                    + "as demais. Uma importacao por organizacao de cada vez.",
+            requestBody = @RequestBody(required = true, content = {
+                    @Content(mediaType = "application/x-ndjson", schema = @Schema(type = "string",
+                            example = "{\"tipo\":\"categoria\",\"ref\":\"acai\",\"id_culinaria\":1,"
+                                    + "\"nome\":\"Açaís\",\"opcoes\":[\"300ml\",\"500ml\"]}\n"
+                                    + "{\"tipo\":\"produto\",\"categoria\":\"acai\",\"nome\":\"No copo\","
+                                    + "\"opcoes\":[{\"opcao\":\"300ml\",\"valor\":12.00}]}")),
+                    @Content(mediaType = "text/csv", schema = @Schema(type = "string",
+                            example = "tipo;ref;categoria;id_culinaria;nome;opcoes\n"
+                                    + "categoria;acai;;1;Açaís;300ml|500ml\n"
+                                    + "produto;;acai;;No copo;300ml=12.00|500ml=16.00"))
+            }))
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Arquivo recebido; acompanhe pelo Location",
+                    headers = @Header(name = "Location", description = "URL de consulta do progresso"),
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ImportacaoOutput.class))),
+            @ApiResponse(responseCode = "400", description = "Arquivo vazio, grande demais ou Content-Type invalido",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "409", description = "Ja existe importacao em andamento na organizacao",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    ResponseEntity<ImportacaoOutput> importar(
+            @Parameter(hidden = true) String contentType,
+            @Parameter(hidden = true) InputStream corpo
+    );
+
+    @Operation(summary = "Consulta progresso da importacao",
+            description = "Retorna contadores, status e as linhas rejeitadas da importacao. "
+                    + "Importacoes concluidas ficam disponiveis por importacao.retencao.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Progresso da importacao",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ImportacaoOutput.class))),
+            @ApiResponse(responseCode = "404", description = "Importacao nao encontrada",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    ImportacaoOutput buscar(
+            @Parameter(description = "ID da importacao", required = true) String id
+    );
+}
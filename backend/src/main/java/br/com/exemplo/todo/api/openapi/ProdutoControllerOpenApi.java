@@ -2,8 +2,11 @@ package br.com.exemplo.todo.api.openapi;
 
 import br.com.exemplo.todo.api.dto.produto.ProdutoInput;
 import br.com.exemplo.todo.api.dto.produto.ProdutoOutput;
+import br.com.exemplo.todo.api.dto.produto.ReajustePrecoInput;
+import br.com.exemplo.todo.api.dto.produto.ReajustePrecoOutput;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -12,6 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 
 import java.util.List;
 
@@ -22,12 +26,24 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 public interface ProdutoControllerOpenApi {
 
     @Operation(summary = "Listar produtos",
-            description = "Retorna produtos da organizacao atual. Filtro opcional por id_categoria.")
+            description = "Retorna produtos da organizacao atual em ordem de nome. Filtro opcional por id_categoria. "
+                    + "Com limite ou cursor a resposta e paginada por cursor.")
     @ApiResponse(responseCode = "200", description = "Lista retornada",
+            headers = {
+                    @Header(name = "X-Next-Cursor", description = "Cursor da proxima pagina (ausente na ultima)"),
+                    @Header(name = "Link", description = "URL da proxima pagina com rel=\"next\""),
+                    @Header(name = "X-Total-Count", description = "Total de registros (quando total=true)")
+            },
             content = @Content(mediaType = APPLICATION_JSON_VALUE,
                     array = @ArraySchema(schema = @Schema(implementation = ProdutoOutput.class))))
-    List<ProdutoOutput> listar(
-            @Parameter(description = "ID da categoria para filtrar") Long id_categoria
+    @ApiResponse(responseCode = "400", description = "Cursor invalido",
+            content = @Content(mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ProblemDetail.class)))
+    ResponseEntity<List<ProdutoOutput>> listar(
+            @Parameter(description = "ID da categoria para filtrar") Long id_categoria,
+            @Parameter(description = "Tamanho da pagina; sem limite e sem cursor a lista vem completa") Integer limite,
+            @Parameter(description = "Cursor opaco do cabecalho X-Next-Cursor da pagina anterior") String cursor,
+            @Parameter(description = "Inclui o cabecalho X-Total-Count (uma consulta a mais)") boolean total
     );
 
     @Operation(summary = "Buscar produto por ID")
@@ -74,5 +90,18 @@ public interface ProdutoControllerOpenApi {
                             schema = @Schema(implementation = ProblemDetail.class)))
     })
     void excluir(Long id);
-}
 
+    @Operation(summary = "Reajustar precos em lote",
+            description = "Aplica percentual, valor e arredondamento aos precos ativos do escopo (categoria, opcao "
+                    + "e/ou lista de produtos) em um unico UPDATE. Com simular=true devolve o diff sem gravar. "
+                    + "Precos que nao mudam nao sao tocados.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Reajuste simulado ou aplicado",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ReajustePrecoOutput.class))),
+            @ApiResponse(responseCode = "400", description = "Escopo ou regra invalidos, ou preco resultante <= 0",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    ReajustePrecoOutput reajustarPrecos(ReajustePrecoInput input);
+}
@@ -4,6 +4,7 @@ import br.com.exemplo.todo.api.dto.todo.TodoInput;
 import br.com.exemplo.todo.api.dto.todo.TodoOutput;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -12,6 +13,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 
 import java.util.List;
 
@@ -20,12 +22,23 @@ import java.util.List;
 public interface TodoControllerOpenApi {
 
     @Operation(summary = "Lista todas as tarefas",
-            description = "Retorna a lista de todas as tarefas da organizacao atual")
+            description = "Retorna a lista de todas as tarefas da organizacao atual, mais recentes primeiro. "
+                    + "Com limite ou cursor a resposta e paginada por cursor.")
     @ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso",
+            headers = {
+                    @Header(name = "X-Next-Cursor", description = "Cursor da proxima pagina (ausente na ultima)"),
+                    @Header(name = "Link", description = "URL da proxima pagina com rel=\"next\""),
+                    @Header(name = "X-Total-Count", description = "Total de registros (quando total=true)")
+            },
             content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = TodoOutput.class))))
-    List<TodoOutput> listar(
+    @ApiResponse(responseCode = "400", description = "Cursor invalido",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class)))
+    ResponseEntity<List<TodoOutput>> listar(
             @Parameter(description = "Filtrar por status de conclusão (true = concluídas, false = pendentes)")
-            Boolean concluido
+            Boolean concluido,
+            @Parameter(description = "Tamanho da pagina; sem limite e sem cursor a lista vem completa") Integer limite,
+            @Parameter(description = "Cursor opaco do cabecalho X-Next-Cursor da pagina anterior") String cursor,
+            @Parameter(description = "Inclui o cabecalho X-Total-Count (uma consulta a mais)") boolean total
     );
 
     @Operation(summary = "Busca uma tarefa pelo ID", description = "Retorna os dados de uma tarefa específica")
@@ -0,0 +1,68 @@
+package br.com.exemplo.todo.api.paginacao;
+
+import br.com.exemplo.todo.config.PaginacaoProperties;
+import br.com.exemplo.todo.domain.model.paginacao.Pagina;
+import br.com.exemplo.todo.domain.model.paginacao.PaginaRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+
+/**
+ * Parametros e cabecalhos da paginacao por cursor nos controllers de listagem.
+ * O corpo continua sendo o array JSON de antes; os metadados vao em cabecalhos:
+ * {@code X-Next-Cursor} e {@code Link rel="next"} (ausentes na ultima pagina) e
+ * {@code X-Total-Count} quando pedido com {@code total=true}.
+ */
+@Component
+@RequiredArgsConstructor
+public class PaginacaoHttp {
+
+    public static final String HEADER_PROXIMO_CURSOR = "X-Next-Cursor";
+    public static final String HEADER_TOTAL = "X-Total-Count";
+
+    private final PaginacaoProperties properties;
+
+    /**
+     * Chamada sem limite nem cursor com o modo de compatibilidade ligado: lista completa.
+     */
+    public boolean semPaginacao(Integer limite, String cursor) {
+        return properties.isLegacyUnpaged() && limite == null && cursor == null;
+    }
+
+    public PaginaRequest request(Integer limite, String cursor, boolean total) {
+        int tamanho = limite != null ? limite : properties.getDefaultSize();
+        tamanho = Math.max(1, Math.min(tamanho, properties.getMaxSize()));
+        return new PaginaRequest(tamanho, cursor, total);
+    }
+
+    /**
+     * Resposta da listagem completa (modo de compatibilidade); o total e o proprio tamanho da lista.
+     */
+    public <T> ResponseEntity<List<T>> completa(List<T> itens, boolean total) {
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+        if (total) {
+            resposta.header(HEADER_TOTAL, String.valueOf(itens.size()));
+        }
+        return resposta.body(itens);
+    }
+
+    public <T> ResponseEntity<List<T>> pagina(Pagina<T> pagina) {
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+        if (pagina.proximoCursor() != null) {
+            String proxima = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", pagina.proximoCursor())
+                    .build()
+                    .toUriString();
+            resposta.header(HEADER_PROXIMO_CURSOR, pagina.proximoCursor());
+            resposta.header(HttpHeaders.LINK, "<" + proxima + ">; rel=\"next\"");
+        }
+        if (pagina.total() != null) {
+            resposta.header(HEADER_TOTAL, String.valueOf(pagina.total()));
+        }
+        return resposta.body(pagina.itens());
+    }
+}
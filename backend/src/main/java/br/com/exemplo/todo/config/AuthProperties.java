@@ -5,15 +5,89 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
-@ConfigurationProperties(prefix = "auth.magic-link")
+@ConfigurationProperties(prefix = "auth")
 @Getter
 @Setter
 public class AuthProperties {
 
+    private MagicLink magicLink = new MagicLink();
+    private RateLimit rateLimit = new RateLimit();
+
+    @Getter
+    @Setter
+    public static class MagicLink {
+        /**
+         * URL base usada no magic link (frontend).
+         * Ex.: http://localhost:4200/auth/magic-link
+         */
+        private String baseUrl = "http://localhost:4200/auth/magic-link";
+    }
+
     /**
-     * URL base usada no magic link (frontend).
-     * Ex.: http://localhost:4200/auth/magic-link
+     * Limite de requisicoes (token bucket) dos endpoints de login, magic link e refresh,
+     * aplicado antes de qualquer acesso ao banco ou BCrypt.
      */
-    private String baseUrl = "http://localhost:4200/auth/magic-link";
+    @Getter
+    @Setter
+    public static class RateLimit {
+
+        private boolean enabled = true;
+
+        /**
+         * Limite por IP do cliente (todos os endpoints limitados).
+         */
+        private Limite ip = new Limite(30, 30);
+
+        /**
+         * Limite por email normalizado (login e solicitacao de magic link).
+         */
+        private Limite email = new Limite(10, 5);
+
+        /**
+         * Tempo sem requisicoes apos o qual a entrada e descartada (ja com o balde cheio).
+         */
+        private Duration idleTimeout = Duration.ofMinutes(10);
+
+        /**
+         * Intervalo da limpeza de entradas ociosas.
+         */
+        private Duration cleanupInterval = Duration.ofMinutes(1);
+
+        /**
+         * Quantidade de faixas (locks) em que as entradas sao distribuidas.
+         */
+        private int stripes = 64;
+
+        /**
+         * Maximo de entradas por limite. Com a faixa cheia, a entrada usada ha mais tempo
+         * e descartada para dar lugar a chave nova.
+         */
+        private int maxEntries = 100000;
+    }
+
+    @Getter
+    @Setter
+    public static class Limite {
+
+        /**
+         * Rajada maxima (tamanho do balde).
+         */
+        private int capacity;
+
+        /**
+         * Tokens repostos por minuto.
+         */
+        private int refillPerMinute;
+
+        public Limite() {
+        }
+
+        public Limite(int capacity, int refillPerMinute) {
+            this.capacity = capacity;
+            this.refillPerMinute = refillPerMinute;
+        }
+    }
 }
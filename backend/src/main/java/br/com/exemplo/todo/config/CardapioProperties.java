@@ -0,0 +1,39 @@
+package br.com.exemplo.todo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuracoes do cardapio publico (GET /api/cardapio/{slug}) mantido em memoria.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "cardapio")
+@Getter
+@Setter
+public class CardapioProperties {
+
+    /**
+     * Quantidade maxima de organizacoes com cardapio em memoria.
+     */
+    private long maximumSize = 1000;
+
+    /**
+     * Rede de seguranca para alteracoes feitas fora dos services ou por outra instancia:
+     * apos este tempo o cardapio e montado de novo por completo (a invalidacao normal e imediata).
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    /**
+     * Por quanto tempo o slug resolvido (ou inexistente) fica em memoria.
+     */
+    private Duration slugTtl = Duration.ofMinutes(1);
+
+    /**
+     * Cache-Control das respostas: o cliente revalida com If-None-Match e recebe 304 sem corpo.
+     */
+    private String cacheControl = "public, no-cache";
+}
@@ -0,0 +1,39 @@
+package br.com.exemplo.todo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Importacao em lote do catalogo (categorias, produtos e adicionais) por NDJSON ou CSV.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "importacao")
+@Getter
+@Setter
+public class ImportacaoProperties {
+
+    /**
+     * Registros gravados por transacao. Se o lote falhar no banco, suas linhas sao refeitas uma a uma.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * Tamanho maximo do arquivo enviado; o corpo e copiado para um arquivo temporario antes do processamento.
+     */
+    private DataSize maxTamanho = DataSize.ofMegabytes(100);
+
+    /**
+     * Erros por linha guardados no relatorio; os demais so entram na contagem.
+     */
+    private int maxErros = 1000;
+
+    /**
+     * Tempo que uma importacao concluida continua disponivel para consulta.
+     */
+    private Duration retencao = Duration.ofHours(1);
+}
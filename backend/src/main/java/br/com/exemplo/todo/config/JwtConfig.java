@@ -12,6 +12,9 @@ import org.springframework.validation.annotation.Validated;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Configuracoes de JWT carregadas do application.yml.
@@ -30,17 +33,51 @@ public class JwtConfig {
     private AccessToken accessToken = new AccessToken();
     private RefreshToken refreshToken = new RefreshToken();
     private MagicLink magicLink = new MagicLink();
+    private Signing signing = new Signing();
 
     @Getter
     @Setter
     public static class AccessToken {
         private long expirationMs = 900000; // 15 minutos
+
+        /**
+         * Habilita o cache de claims ja verificadas (evita HMAC + parse a cada requisicao).
+         */
+        private boolean cacheEnabled = true;
+
+        /**
+         * Quantidade maxima de tokens mantidos no cache de claims.
+         */
+        private long cacheMaxSize = 10000;
+
+        /**
+         * Inclui as memberships ativas (organizacao e papel) no token, permitindo que o
+         * TenantFilter resolva o tenant sem consultar o banco.
+         */
+        private boolean membershipClaims = true;
+
+        /**
+         * Tempo que a versao das memberships de um usuario fica em memoria antes de ser relida
+         * do banco. Alteracoes feitas nesta instancia valem imediatamente; nas demais, apos esse prazo.
+         */
+        private Duration membershipVersionTtl = Duration.ofSeconds(5);
+
+        /**
+         * Quantidade maxima de usuarios na tabela de versoes.
+         */
+        private long membershipVersionMaxSize = 100000;
     }
 
     @Getter
     @Setter
     public static class RefreshToken {
         private int expirationDays = 30;
+
+        /**
+         * Quantidade maxima de familias revogadas mantidas em memoria para rejeitar
+         * tokens reutilizados sem consultar o banco.
+         */
+        private long revokedFamiliesMaxSize = 100000;
     }
 
     @Getter
@@ -52,6 +89,63 @@ public class JwtConfig {
         private long expirationMinutes = 15;
     }
 
+    /**
+     * Algoritmos de assinatura suportados.
+     */
+    public enum Algoritmo {
+        /** HMAC com o segredo compartilhado (security.jwt.secret). */
+        HS256,
+        /** ECDSA P-256. */
+        ES256,
+        /** Ed25519. */
+        EdDSA
+    }
+
+    @Getter
+    @Setter
+    public static class Signing {
+        /**
+         * Algoritmo usado para assinar novos tokens. Com ES256/EdDSA cada no precisa apenas
+         * das chaves publicas (ou do JWKS) para verificar.
+         */
+        private Algoritmo algorithm = Algoritmo.HS256;
+
+        /**
+         * kid da chave que assina novos tokens; vazio = primeira chave com private-key.
+         */
+        private String activeKeyId;
+
+        /**
+         * Chaves conhecidas. Chaves sem private-key sao apenas de verificacao (rotacao:
+         * a chave antiga permanece ate expirarem os tokens emitidos com ela).
+         * Sem chaves configuradas, ES256/EdDSA usam um par efemero gerado na inicializacao
+         * (apenas para desenvolvimento com um unico no).
+         */
+        private List<SigningKey> keys = new ArrayList<>();
+
+        /**
+         * Aceita tokens HS256 sem kid (assinados com o segredo compartilhado) enquanto os
+         * tokens emitidos antes da migracao para ES256/EdDSA nao expiram.
+         */
+        private boolean acceptLegacyHs256 = true;
+    }
+
+    @Getter
+    @Setter
+    public static class SigningKey {
+        private String id;
+
+        /**
+         * Chave privada PKCS#8 em PEM (ou Base64 sem cabecalho).
+         */
+        private String privateKey;
+
+        /**
+         * Chave publica X.509 em PEM (ou Base64 sem cabecalho).
+         */
+        private String publicKey;
+    }
+
     /**
      * Retorna a chave secreta para assinatura HS256.
      */
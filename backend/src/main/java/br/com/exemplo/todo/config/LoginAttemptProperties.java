@@ -0,0 +1,42 @@
+package br.com.exemplo.todo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuracoes da gravacao assincrona (em lotes) do historico de login.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "auth.login-attempt")
+@Getter
+@Setter
+public class LoginAttemptProperties {
+
+    /**
+     * Quando false, cada tentativa e gravada de forma sincrona na transacao do login.
+     */
+    private boolean asyncEnabled = true;
+
+    /**
+     * Capacidade maxima da fila em memoria. Com a fila cheia o registro e gravado
+     * de forma sincrona pelo proprio chamador (nenhuma tentativa e descartada).
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * Quantidade maxima de registros gravados por transacao.
+     */
+    private int batchSize = 200;
+
+    /**
+     * Tempo maximo (ms) que um registro aguarda na fila antes do flush.
+     */
+    private long flushIntervalMs = 250;
+
+    /**
+     * Tempo maximo (ms) aguardado no shutdown para esvaziar a fila.
+     */
+    private long shutdownTimeoutMs = 10000;
+}
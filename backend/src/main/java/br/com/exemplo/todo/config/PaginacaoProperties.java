@@ -0,0 +1,32 @@
+package br.com.exemplo.todo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Paginacao por cursor (keyset) das listagens de produtos, adicionais, categorias, clientes e tarefas.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "paginacao")
+@Getter
+@Setter
+public class PaginacaoProperties {
+
+    /**
+     * Compatibilidade: sem {@code limite} e sem {@code cursor} a listagem volta inteira, como antes.
+     * Com false toda listagem e paginada e a primeira pagina usa {@link #defaultSize}.
+     */
+    private boolean legacyUnpaged = true;
+
+    /**
+     * Tamanho da pagina quando o cliente manda so o cursor (ou quando legacyUnpaged = false).
+     */
+    private int defaultSize = 50;
+
+    /**
+     * Limite superior para o parametro {@code limite}; valores maiores sao reduzidos a este.
+     */
+    private int maxSize = 500;
+}
@@ -0,0 +1,36 @@
+package br.com.exemplo.todo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuracoes do executor dedicado ao BCrypt (hash e verificacao de senhas).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "security.bcrypt.executor")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+
+    /**
+     * Threads dedicadas ao BCrypt. Zero (padrao) usa metade dos processadores
+     * disponiveis (minimo 1), deixando CPU livre para os demais endpoints.
+     */
+    private int threads = 0;
+
+    /**
+     * Operacoes aguardando uma thread livre. Acima disso a requisicao e rejeitada com 503.
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * Valor (segundos) do header Retry-After enviado quando o executor esta saturado.
+     */
+    private int retryAfterSeconds = 1;
+
+    public int threadsEfetivas() {
+        return threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+}
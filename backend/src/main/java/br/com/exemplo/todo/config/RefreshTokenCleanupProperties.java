@@ -0,0 +1,56 @@
+package br.com.exemplo.todo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuracoes da limpeza periodica de REFRESH_TOKEN.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "auth.refresh-token-cleanup")
+@Getter
+@Setter
+public class RefreshTokenCleanupProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Intervalo entre execucoes (fixed delay).
+     */
+    private Duration interval = Duration.ofHours(1);
+
+    /**
+     * Atraso da primeira execucao apos o startup.
+     */
+    private Duration initialDelay = Duration.ofMinutes(5);
+
+    /**
+     * Tempo que um token expirado e mantido antes de ser removido.
+     */
+    private Duration expiredRetention = Duration.ofDays(1);
+
+    /**
+     * Tempo que um token revogado e mantido. Enquanto existir, a reutilizacao do
+     * token ainda e detectada como roubo (revogando a familia inteira).
+     */
+    private Duration revokedRetention = Duration.ofDays(30);
+
+    /**
+     * Linhas removidas por transacao. Lotes pequenos liberam o lock de escrita do SQLite rapidamente.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Pausa entre lotes, dando vez a outras escritas.
+     */
+    private Duration pauseBetweenBatches = Duration.ofMillis(50);
+
+    /**
+     * Limite de lotes por execucao (o restante fica para a proxima).
+     */
+    private int maxBatchesPerRun = 200;
+}
@@ -0,0 +1,12 @@
+package br.com.exemplo.todo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita tarefas agendadas (@Scheduled), como a limpeza de refresh tokens.
+ */
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+}
@@ -1,7 +1,10 @@
 package br.com.exemplo.todo.config;
 
+import br.com.exemplo.todo.security.BoundedPasswordEncoder;
 import br.com.exemplo.todo.security.JwtAuthenticationFilter;
+import br.com.exemplo.todo.security.TenantConcurrencyFilter;
 import br.com.exemplo.todo.security.TenantFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -36,6 +39,7 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final TenantFilter tenantFilter;
+    private final TenantConcurrencyFilter tenantConcurrencyFilter;
 
     @Value("${security.cors.allowed-origins:http://localhost:3000}")
     private String allowedOrigins;
@@ -64,6 +68,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/media/**").permitAll()
                         .requestMatchers("/api/dados-abertos/**").permitAll()
+                        .requestMatchers("/api/cardapio/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/api-docs/**", "/api-docs.yaml").permitAll()
                         .requestMatchers("/", "/index.html", "/favicon.ico").permitAll()
@@ -74,6 +79,7 @@ public class SecurityConfig {
                 // Adiciona filtros na ordem correta
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterAfter(tenantFilter, JwtAuthenticationFilter.class)
+                .addFilterAfter(tenantConcurrencyFilter, TenantFilter.class)
                 .build();
     }
 
@@ -91,7 +97,7 @@ public class SecurityConfig {
                 Arrays.asList(allowedHeaders.split(",")));
 
         configuration.setExposedHeaders(
-                List.of("X-Token-Expired", "X-Organization-Id"));
+                List.of("X-Token-Expired", "X-Organization-Id", "X-Next-Cursor", "X-Total-Count", "Link"));
 
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(corsMaxAge);
@@ -101,9 +107,14 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * BCrypt executado em pool dedicado e limitado (ver {@link BoundedPasswordEncoder}).
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(bcryptStrength);
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties,
+                                           MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength),
+                passwordHashingProperties, meterRegistry);
     }
 
     @Bean
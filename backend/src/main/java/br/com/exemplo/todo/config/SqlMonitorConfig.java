@@ -0,0 +1,27 @@
+package br.com.exemplo.todo.config;
+
+import br.com.exemplo.todo.infrastructure.sql.SqlMonitorFilter;
+import br.com.exemplo.todo.infrastructure.sql.SqlStatementInspector;
+import br.com.exemplo.todo.infrastructure.sql.SqlTimingListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registra no Hibernate o inspector que conta as instrucoes SQL e o listener que mede o tempo
+ * de JDBC de cada requisicao amostrada pelo {@link SqlMonitorFilter}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql.monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitorConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlMonitorHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingListener.class.getName());
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.exemplo.todo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuracoes da contagem de instrucoes SQL por requisicao (Server-Timing, metricas por
+ * handler e alerta de N+1).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "sql.monitor")
+@Getter
+@Setter
+public class SqlMonitorProperties {
+
+    /**
+     * Quando false, o StatementInspector e o filtro nao sao registrados.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Fracao das requisicoes medidas (0.0 a 1.0). As demais nao pagam nenhum custo por instrucao.
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * Inclui o header Server-Timing (db;dur=...) nas respostas medidas.
+     */
+    private boolean serverTiming = true;
+
+    /**
+     * Execucoes da mesma forma de SQL em uma requisicao acima das quais o N+1 e registrado no log.
+     */
+    private int repeatedThreshold = 10;
+
+    /**
+     * Instrucoes em uma requisicao acima das quais um aviso e registrado no log.
+     */
+    private int statementsThreshold = 100;
+}
@@ -0,0 +1,43 @@
+package br.com.exemplo.todo.config;
+
+import br.com.exemplo.todo.infrastructure.sqlite.SqliteDataSources;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+
+/**
+ * Pool de escrita e pool de leitura para o banco SQLite (sqlite.pools.enabled): transacoes
+ * {@code readOnly} usam conexoes do leitor e as demais a conexao unica do escritor.
+ * Nao se aplica ao modo banco-por-organizacao, que tem seus proprios pools.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("${sqlite.pools.enabled:false} and !${tenant.database.enabled:false}")
+public class SqliteDataSourceConfig {
+
+    @Bean
+    public HikariDataSource writerDataSource(DataSourceProperties dataSourceProperties, SqliteProperties properties) {
+        log.info("SQLite com pool de escrita (1 conexao) e pool de leitura ({} conexoes)",
+                properties.getPools().getReaderSize());
+        return SqliteDataSources.escritor(dataSourceProperties.determineUrl(), properties.getPragmas(),
+                properties.getPools().getWriterConnectionTimeout());
+    }
+
+    @Bean
+    public HikariDataSource readerDataSource(DataSourceProperties dataSourceProperties, SqliteProperties properties) {
+        return SqliteDataSources.leitor(dataSourceProperties.determineUrl(), properties.getPragmas(),
+                properties.getPools().getReaderSize(), properties.getPools().getReaderConnectionTimeout());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource writerDataSource, HikariDataSource readerDataSource) {
+        return SqliteDataSources.rotearLeituras(writerDataSource, readerDataSource);
+    }
+}
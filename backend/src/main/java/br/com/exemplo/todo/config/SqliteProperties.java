@@ -0,0 +1,126 @@
+package br.com.exemplo.todo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuracoes de armazenamento do SQLite: PRAGMAs aplicados a toda conexao e separacao
+ * entre pool de leitura e pool de escrita (o profile {@code sqlite-wal} liga ambos), novas
+ * tentativas de transacoes que encontram o banco bloqueado e escritor unico com group commit.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "sqlite")
+@Getter
+@Setter
+public class SqliteProperties {
+
+    /**
+     * PRAGMAs aplicados ao abrir cada conexao (ex.: journal_mode=WAL, synchronous=NORMAL,
+     * busy_timeout=5000). Vazio mantem os padroes do driver.
+     */
+    private Map<String, String> pragmas = new LinkedHashMap<>();
+
+    private Pools pools = new Pools();
+
+    private Retry retry = new Retry();
+
+    private GroupCommit groupCommit = new GroupCommit();
+
+    @Getter
+    @Setter
+    public static class Pools {
+
+        /**
+         * Quando true, transacoes readOnly usam o pool de leitura e as demais o pool de escrita
+         * (uma conexao). Requer journal_mode=WAL; ignorado com tenant.database.enabled.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Conexoes do pool de leitura.
+         */
+        private int readerSize = 4;
+
+        /**
+         * Espera maxima por uma conexao de leitura.
+         */
+        private Duration readerConnectionTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Espera maxima pela conexao de escrita (fila de escritores).
+         */
+        private Duration writerConnectionTimeout = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Retry {
+
+        /**
+         * Quando false, metodos @RetryOnBusy falham na primeira ocorrencia de banco bloqueado.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Espera antes da primeira nova tentativa; dobra a cada tentativa (com jitter).
+         */
+        private Duration initialBackoff = Duration.ofMillis(10);
+
+        /**
+         * Teto da espera entre tentativas.
+         */
+        private Duration maxBackoff = Duration.ofMillis(200);
+
+        /**
+         * Tempo total para refazer a transacao; depois disso responde 503.
+         */
+        private Duration maxDuration = Duration.ofSeconds(2);
+
+        /**
+         * Valor do header Retry-After quando o prazo acaba.
+         */
+        private int retryAfterSeconds = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class GroupCommit {
+
+        /**
+         * Quando true, metodos @WriteOperation sao executados por uma thread escritora dedicada,
+         * varios por transacao.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximo de operacoes por transacao.
+         */
+        private int maxBatchSize = 64;
+
+        /**
+         * Espera por mais operacoes depois da primeira do lote (0 = apenas as ja enfileiradas).
+         */
+        private Duration linger = Duration.ZERO;
+
+        /**
+         * Operacoes aguardando a thread escritora; com a fila cheia responde 503.
+         */
+        private int queueCapacity = 4096;
+
+        /**
+         * Espera maxima pela thread escritora no shutdown.
+         */
+        private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+        /**
+         * Valor do header Retry-After quando a fila esta cheia.
+         */
+        private int retryAfterSeconds = 1;
+    }
+}
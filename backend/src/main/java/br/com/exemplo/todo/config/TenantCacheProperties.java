@@ -0,0 +1,33 @@
+package br.com.exemplo.todo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuracoes do cache de memberships usado pelo TenantFilter.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "security.tenant-cache")
+@Getter
+@Setter
+public class TenantCacheProperties {
+
+    /**
+     * Quando false, toda requisicao consulta MEMBERSHIP no banco.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Quantidade maxima de entradas em cada cache (por organizacao e organizacao padrao).
+     */
+    private long maximumSize = 10000;
+
+    /**
+     * Rede de seguranca para alteracoes feitas fora dos services (a invalidacao normal e imediata).
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
@@ -0,0 +1,65 @@
+package br.com.exemplo.todo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuracoes do limite de concorrencia por organizacao (requisicoes em andamento e
+ * transacoes de escrita).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "tenant.concurrency")
+@Getter
+@Setter
+public class TenantConcurrencyProperties {
+
+    /**
+     * Quando false, nenhuma requisicao ou transacao e limitada.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Requisicoes em andamento por organizacao.
+     */
+    private int maxRequests = 16;
+
+    /**
+     * Transacoes de escrita (nao read-only) simultaneas por organizacao.
+     */
+    private int maxWrites = 4;
+
+    /**
+     * Quantas requisicoes/transacoes podem esperar por vaga em cada faixa; acima disso => 429.
+     */
+    private int queueCapacity = 32;
+
+    /**
+     * Espera maxima por uma vaga; esgotado o prazo => 429.
+     */
+    private Duration queueTimeout = Duration.ofMillis(500);
+
+    /**
+     * Faixas de semaforos (organizacoes com o mesmo hash dividem a faixa). Potencia de 2.
+     */
+    private int stripes = 1024;
+
+    /**
+     * Valor (segundos) do header Retry-After nas respostas 429.
+     */
+    private int retryAfterSeconds = 1;
+
+    /**
+     * Organizacoes com serie propria nas metricas de espera (as de maior espera na janela);
+     * as demais sao agregadas em organizacao="outras".
+     */
+    private int metricsTopTenants = 20;
+
+    /**
+     * Janela usada para escolher as organizacoes de maior espera.
+     */
+    private Duration metricsWindow = Duration.ofMinutes(1);
+}
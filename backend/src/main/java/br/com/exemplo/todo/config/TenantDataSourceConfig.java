@@ -0,0 +1,47 @@
+package br.com.exemplo.todo.config;
+
+import br.com.exemplo.todo.infrastructure.tenant.TenantDataSourceRegistry;
+import br.com.exemplo.todo.infrastructure.tenant.TenantRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+
+/**
+ * Modo banco-por-organizacao: substitui o DataSource do Spring Boot por um
+ * {@link TenantRoutingDataSource}, que envia as conexoes com tenant para o arquivo da
+ * organizacao e as demais para o banco central (spring.datasource.*).
+ * JPA, Flyway e JdbcTemplate continuam usando um unico DataSource.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "tenant.database.enabled", havingValue = "true")
+public class TenantDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource centralDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public TenantDataSourceRegistry tenantDataSourceRegistry(TenantDatabaseProperties properties,
+                                                             DataSourceProperties dataSourceProperties,
+                                                             SqliteProperties sqliteProperties) {
+        log.info("Banco por organizacao habilitado em '{}'", properties.getDirectory());
+        return new TenantDataSourceRegistry(properties, dataSourceProperties.determineUrl(),
+                sqliteProperties.getPragmas());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource centralDataSource, TenantDataSourceRegistry registry) {
+        return new TenantRoutingDataSource(centralDataSource, registry);
+    }
+}
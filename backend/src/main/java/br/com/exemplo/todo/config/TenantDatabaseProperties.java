@@ -0,0 +1,53 @@
+package br.com.exemplo.todo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuracoes do modo banco-por-organizacao (um arquivo SQLite por tenant).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "tenant.database")
+@Getter
+@Setter
+public class TenantDatabaseProperties {
+
+    /**
+     * Quando false, todas as organizacoes usam o banco de spring.datasource.url.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Diretorio dos arquivos das organizacoes (org-{id}.db).
+     */
+    private String directory = "./data/tenants";
+
+    /**
+     * Migrations aplicadas em cada arquivo de organizacao, na primeira conexao.
+     */
+    private String migrationsLocation = "filesystem:./flyway/tenant";
+
+    /**
+     * Copia para o arquivo novo as linhas da organizacao que ja estavam no banco central.
+     */
+    private boolean copyExistingData = true;
+
+    /**
+     * Conexoes por organizacao (o SQLite serializa as escritas de cada arquivo).
+     */
+    private int maximumPoolSize = 4;
+
+    /**
+     * Pools sem uso por esse periodo sao fechados (o arquivo permanece).
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Intervalo da verificacao de pools ociosos.
+     */
+    private Duration cleanupInterval = Duration.ofMinutes(1);
+}
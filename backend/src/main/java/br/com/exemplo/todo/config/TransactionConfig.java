@@ -0,0 +1,26 @@
+package br.com.exemplo.todo.config;
+
+import br.com.exemplo.todo.infrastructure.tenant.TenantWriteLimitingTransactionManager;
+import br.com.exemplo.todo.security.TenantConcurrencyLimiter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Substitui o JpaTransactionManager do Spring Boot pelo
+ * {@link TenantWriteLimitingTransactionManager}, que limita as transacoes de escrita
+ * simultaneas de cada organizacao (tenant.concurrency.max-writes).
+ */
+@Configuration
+public class TransactionConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager(TenantConcurrencyLimiter limiter,
+                                                         ObjectProvider<TransactionManagerCustomizers> customizers) {
+        TenantWriteLimitingTransactionManager transactionManager = new TenantWriteLimitingTransactionManager(limiter);
+        customizers.ifAvailable(c -> c.customize(transactionManager));
+        return transactionManager;
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.exemplo.todo.domain.exception;
+
+import lombok.Getter;
+
+/**
+ * Excecao lancada quando o banco continuou bloqueado (SQLITE_BUSY/SQLITE_LOCKED) durante todo o
+ * prazo de novas tentativas de uma transacao marcada com {@code @RetryOnBusy}, ou quando a fila da
+ * thread escritora (group commit) esta cheia.
+ */
+@Getter
+public class DatabaseBusyException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public DatabaseBusyException(int retryAfterSeconds, Throwable cause) {
+        super("Banco de dados ocupado. Tente novamente em instantes", cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
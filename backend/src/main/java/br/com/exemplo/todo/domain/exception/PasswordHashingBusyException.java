@@ -0,0 +1,17 @@
+package br.com.exemplo.todo.domain.exception;
+
+import lombok.Getter;
+
+/**
+ * Excecao lancada quando o executor de BCrypt esta saturado (fila cheia).
+ */
+@Getter
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public PasswordHashingBusyException(int retryAfterSeconds) {
+        super("Servico de autenticacao sobrecarregado. Tente novamente em instantes");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.exemplo.todo.domain.exception;
+
+import lombok.Getter;
+
+/**
+ * Excecao lancada quando o cliente excede o limite de requisicoes de autenticacao.
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super("Muitas tentativas. Tente novamente em " + retryAfterSeconds + " segundo(s)");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.exemplo.todo.domain.exception;
+
+import lombok.Getter;
+
+/**
+ * Excecao lancada quando a organizacao atingiu o limite de requisicoes ou de transacoes de
+ * escrita simultaneas e a fila de espera esta cheia (ou o prazo de espera acabou).
+ */
+@Getter
+public class TenantBusyException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public TenantBusyException(int retryAfterSeconds) {
+        super("Muitas operacoes simultaneas nesta organizacao. Tente novamente em instantes");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
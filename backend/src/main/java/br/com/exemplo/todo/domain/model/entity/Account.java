@@ -65,13 +65,18 @@ public class Account {
     @Column(name = "ACC_SENHA_EXPIRADA")
     private Boolean senhaExpirada = false;
 
+    /**
+     * Quantidade de tentativas falhas que bloqueia a conta.
+     */
+    public static final int LIMITE_TENTATIVAS_FALHA = 5;
+
     /**
      * Incrementa contador de tentativas falhas.
      * @return true se a conta deve ser bloqueada (5+ tentativas)
      */
     public boolean incrementarTentativasFalha() {
         this.tentativasFalha = (this.tentativasFalha == null ? 0 : this.tentativasFalha) + 1;
-        return this.tentativasFalha >= 5;
+        return this.tentativasFalha >= LIMITE_TENTATIVAS_FALHA;
     }
 
     /**
@@ -1,14 +1,13 @@
 package br.com.exemplo.todo.domain.model.entity;
 
 import br.com.exemplo.todo.domain.model.enums.SelecaoAdicional;
+import br.com.exemplo.todo.infrastructure.sqlite.PooledId;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
@@ -27,7 +26,7 @@ public class Adicional {
 
     @EqualsAndHashCode.Include
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId
     @Column(name = "ADC_ID")
     private Long id;
 
@@ -1,10 +1,9 @@
 package br.com.exemplo.todo.domain.model.entity;
 
+import br.com.exemplo.todo.infrastructure.sqlite.PooledId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -20,7 +19,7 @@ public class CategoriaOpcao {
 
     @EqualsAndHashCode.Include
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId
     @Column(name = "CATOP_ID")
     private Long id;
 
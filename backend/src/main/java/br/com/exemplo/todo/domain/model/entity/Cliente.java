@@ -1,11 +1,10 @@
 package br.com.exemplo.todo.domain.model.entity;
 
+import br.com.exemplo.todo.infrastructure.sqlite.PooledId;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
@@ -25,7 +24,7 @@ public class Cliente {
 
     @EqualsAndHashCode.Include
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId
     @Column(name = "CLI_ID")
     private Long id;
 
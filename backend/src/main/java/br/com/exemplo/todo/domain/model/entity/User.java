@@ -51,4 +51,12 @@ public class User {
 
     @Column(name = "USR_AVATAR", length = 500)
     private String avatar;
+
+    /**
+     * Versao das memberships do usuario, incrementada a cada alteracao de papel ou status.
+     * Access tokens com versao diferente nao sao usados para resolver o tenant.
+     */
+    @NotNull
+    @Column(name = "USR_VERSAO_MEMBERSHIP", nullable = false)
+    private Long versaoMembership = 0L;
 }
@@ -0,0 +1,23 @@
+package br.com.exemplo.todo.domain.model.enums;
+
+import java.math.BigDecimal;
+
+/**
+ * Direcao do arredondamento de preco no reajuste em lote. O desvio e somado antes do floor
+ * (ver {@link br.com.exemplo.todo.domain.model.preco.ReajustePreco}).
+ */
+public enum DirecaoArredondamento {
+    ACIMA(new BigDecimal("0.99999")),   // Menor valor da regra maior ou igual ao preco
+    ABAIXO(BigDecimal.ZERO),            // Maior valor da regra menor ou igual ao preco
+    PROXIMO(new BigDecimal("0.5"));     // Valor mais proximo (empate vai para cima)
+
+    private final BigDecimal desvio;
+
+    DirecaoArredondamento(BigDecimal desvio) {
+        this.desvio = desvio;
+    }
+
+    public BigDecimal getDesvio() {
+        return desvio;
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.exemplo.todo.domain.model.enums;
+
+public enum StatusImportacao {
+    PROCESSANDO, // Arquivo recebido, registros sendo gravados
+    CONCLUIDA,   // Todas as linhas lidas (linhas com erro ficam no relatorio)
+    FALHOU       // Processamento interrompido (arquivo ilegivel ou erro inesperado)
+}
@@ -0,0 +1,94 @@
+package br.com.exemplo.todo.domain.model.paginacao;
+
+import br.com.exemplo.todo.domain.service.exception.CursorInvalidoException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Cursor opaco de paginacao: base64url de um array JSON com o tipo da listagem seguido dos valores
+ * da chave de ordenacao da ultima linha devolvida (ex.: ["produto", "Acai", "42"]).
+ * O tipo impede que um cursor de uma listagem seja usado em outra.
+ */
+public record Cursor(String tipo, List<String> valores) {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final TypeReference<List<String>> LISTA = new TypeReference<>() {};
+
+    public static String codificar(String tipo, Object... valores) {
+        List<String> partes = new ArrayList<>(valores.length + 1);
+        partes.add(tipo);
+        for (Object valor : valores) {
+            partes.add(valor != null ? valor.toString() : null);
+        }
+        try {
+            byte[] json = JSON.writeValueAsBytes(partes);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao codificar cursor", e);
+        }
+    }
+
+    /**
+     * Decodifica o cursor esperando o tipo e a quantidade de valores informados.
+     *
+     * @throws CursorInvalidoException se o cursor nao puder ser lido ou for de outra listagem
+     */
+    public static Cursor decodificar(String cursor, String tipo, int quantidadeValores) {
+        List<String> partes;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.US_ASCII));
+            partes = JSON.readValue(json, LISTA);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new CursorInvalidoException();
+        }
+        if (partes == null || partes.size() != quantidadeValores + 1 || !tipo.equals(partes.get(0))) {
+            throw new CursorInvalidoException();
+        }
+        return new Cursor(tipo, partes.subList(1, partes.size()));
+    }
+
+    public String texto(int indice) {
+        String valor = valores.get(indice);
+        if (valor == null) {
+            throw new CursorInvalidoException();
+        }
+        return valor;
+    }
+
+    public Long longo(int indice) {
+        try {
+            return Long.valueOf(texto(indice));
+        } catch (NumberFormatException e) {
+            throw new CursorInvalidoException();
+        }
+    }
+
+    /**
+     * Inteiro que pode ser nulo (ex.: ordem da categoria).
+     */
+    public Integer inteiroOuNulo(int indice) {
+        String valor = valores.get(indice);
+        try {
+            return valor != null ? Integer.valueOf(valor) : null;
+        } catch (NumberFormatException e) {
+            throw new CursorInvalidoException();
+        }
+    }
+
+    public LocalDateTime dataHora(int indice) {
+        try {
+            return LocalDateTime.parse(texto(indice));
+        } catch (DateTimeParseException e) {
+            throw new CursorInvalidoException();
+        }
+    }
+}
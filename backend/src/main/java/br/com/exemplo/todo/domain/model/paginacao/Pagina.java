@@ -0,0 +1,41 @@
+package br.com.exemplo.todo.domain.model.paginacao;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Uma pagina de uma listagem por keyset. {@code proximoCursor} e nulo na ultima pagina e
+ * {@code total} so e preenchido quando pedido.
+ */
+public record Pagina<T>(List<T> itens, String proximoCursor, Long total) {
+
+    /**
+     * Monta a pagina a partir de ate {@code limite + 1} linhas: a linha extra so indica que existe
+     * proxima pagina e nao e devolvida; o cursor aponta para a ultima linha devolvida.
+     */
+    public static <T> Pagina<T> de(List<T> linhas, int limite, Function<T, String> cursorDe, Long total) {
+        if (linhas.size() <= limite) {
+            return new Pagina<>(linhas, null, total);
+        }
+        List<T> itens = linhas.subList(0, limite);
+        return new Pagina<>(itens, cursorDe.apply(itens.get(limite - 1)), total);
+    }
+
+    /**
+     * Reordena entidades carregadas por "id IN (...)" na ordem da consulta de ids da pagina.
+     */
+    public static <T> List<T> naOrdemDosIds(List<Long> ids, Collection<T> entidades, Function<T, Long> idDe) {
+        Map<Long, T> porId = new HashMap<>();
+        entidades.forEach(entidade -> porId.put(idDe.apply(entidade), entidade));
+        return ids.stream().map(porId::get).filter(Objects::nonNull).toList();
+    }
+
+    public <R> Pagina<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> convertidos = itens.stream().<R>map(mapper).toList();
+        return new Pagina<>(convertidos, proximoCursor, total);
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.exemplo.todo.domain.model.paginacao;
+
+/**
+ * Pedido de uma pagina por keyset: tamanho ja validado, cursor opaco recebido do cliente
+ * (nulo na primeira pagina) e se o total deve ser contado (uma consulta a mais).
+ */
+public record PaginaRequest(int limite, String cursor, boolean contarTotal) {
+}
@@ -0,0 +1,52 @@
+package br.com.exemplo.todo.domain.model.preco;
+
+import br.com.exemplo.todo.domain.model.enums.DirecaoArredondamento;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Reajuste de precos em lote ja normalizado para a expressao de {@code ProdutoPrecoRepository}:
+ * <pre>
+ * base = round(valor * fator + soma, 2)
+ * novo = round(floor(round((base - terminacao) / passo, 6) + desvio) * passo + terminacao, 2)
+ * </pre>
+ * Sem regra de arredondamento o passo e 0.01 e a terminacao zero, o que mantem a base. O escopo
+ * e a intersecao dos filtros informados (categoria, opcao e lista de produtos).
+ */
+public record ReajustePreco(
+        Long organizationId,
+        Long categoriaId,
+        Long opcaoId,
+        List<Long> produtoIds,
+        BigDecimal fator,
+        BigDecimal soma,
+        BigDecimal passo,
+        BigDecimal terminacao,
+        BigDecimal desvio
+) {
+
+    public static final BigDecimal SEM_PASSO = new BigDecimal("0.01");
+
+    public ReajustePreco {
+        produtoIds = produtoIds == null ? List.of() : List.copyOf(produtoIds);
+    }
+
+    public static ReajustePreco de(Long organizationId, Long categoriaId, Long opcaoId, List<Long> produtoIds,
+                                   BigDecimal percentual, BigDecimal valor, BigDecimal passo,
+                                   BigDecimal terminacao, DirecaoArredondamento direcao) {
+        BigDecimal fator = percentual == null
+                ? BigDecimal.ONE
+                : BigDecimal.ONE.add(percentual.movePointLeft(2));
+        boolean arredondar = passo != null || terminacao != null;
+        return new ReajustePreco(organizationId, categoriaId, opcaoId, produtoIds, fator,
+                valor == null ? BigDecimal.ZERO : valor,
+                arredondar ? (passo == null ? BigDecimal.ONE : passo) : SEM_PASSO,
+                terminacao == null ? BigDecimal.ZERO : terminacao,
+                (direcao == null ? DirecaoArredondamento.ACIMA : direcao).getDesvio());
+    }
+
+    public boolean todosProdutos() {
+        return produtoIds.isEmpty();
+    }
+}
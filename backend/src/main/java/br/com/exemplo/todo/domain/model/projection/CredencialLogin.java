@@ -0,0 +1,47 @@
+package br.com.exemplo.todo.domain.model.projection;
+
+import br.com.exemplo.todo.domain.model.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dados de usuario e conta local necessarios para o login, lidos em uma unica consulta
+ * (sem carregar as entidades no contexto de persistencia).
+ */
+public record CredencialLogin(
+        Long userId,
+        String nome,
+        String email,
+        String avatar,
+        Boolean usuarioAtivo,
+        Long versaoMembership,
+        LocalDateTime dataCriacao,
+        Long accountId,
+        String senhaHash,
+        Boolean bloqueado,
+        Integer tentativasFalha,
+        Boolean senhaExpirada
+) {
+
+    /**
+     * Indica se ha tentativas de falha a zerar apos um login bem-sucedido.
+     */
+    public boolean possuiTentativasFalha() {
+        return tentativasFalha != null && tentativasFalha != 0;
+    }
+
+    /**
+     * Usuario desanexado com os dados da credencial, usado como referencia (token, refresh token, auditoria).
+     */
+    public User toUser() {
+        User user = new User();
+        user.setId(userId);
+        user.setNome(nome);
+        user.setEmail(email);
+        user.setAvatar(avatar);
+        user.setAtivo(usuarioAtivo);
+        user.setVersaoMembership(versaoMembership);
+        user.setDataCriacao(dataCriacao);
+        return user;
+    }
+}
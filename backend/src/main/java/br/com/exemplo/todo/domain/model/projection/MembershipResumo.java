@@ -0,0 +1,15 @@
+package br.com.exemplo.todo.domain.model.projection;
+
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+
+/**
+ * Membership ativa com os dados da organizacao, lida em uma unica consulta (sem N+1 na organizacao).
+ */
+public record MembershipResumo(
+        Long organizationId,
+        String organizationNome,
+        String organizationSlug,
+        String organizationLogo,
+        MembershipRole papel
+) {
+}
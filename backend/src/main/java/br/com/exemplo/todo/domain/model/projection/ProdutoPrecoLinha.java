@@ -0,0 +1,20 @@
+package br.com.exemplo.todo.domain.model.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Produto ativo com um de seus precos ativos e o nome da opcao, lido em uma unica consulta
+ * (sem carregar as entidades no contexto de persistencia). Produto sem preco ativo vem em uma
+ * linha com os campos de preco nulos.
+ */
+public record ProdutoPrecoLinha(
+        Long produtoId,
+        Long categoriaId,
+        String nome,
+        String descricao,
+        Long precoId,
+        Long opcaoId,
+        String opcaoNome,
+        BigDecimal valor
+) {
+}
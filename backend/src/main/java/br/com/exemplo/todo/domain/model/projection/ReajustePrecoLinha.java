@@ -0,0 +1,18 @@
+package br.com.exemplo.todo.domain.model.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Preco ativo alcancado por um reajuste em lote, com o valor atual e o valor calculado pela
+ * mesma expressao do UPDATE (linha do diff da simulacao).
+ */
+public record ReajustePrecoLinha(
+        Long precoId,
+        Long produtoId,
+        String produtoNome,
+        Long opcaoId,
+        String opcaoNome,
+        BigDecimal valorAtual,
+        BigDecimal valorNovo
+) {
+}
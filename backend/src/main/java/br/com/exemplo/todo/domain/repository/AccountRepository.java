@@ -1,9 +1,14 @@
 package br.com.exemplo.todo.domain.repository;
 
 import br.com.exemplo.todo.domain.model.entity.Account;
+import br.com.exemplo.todo.domain.model.projection.CredencialLogin;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Optional;
 
@@ -46,4 +51,37 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
      * Busca contas de uma lista de usuarios para um provider.
      */
     java.util.List<Account> findByUserIdInAndProvider(Collection<Long> userIds, String provider);
+
+    /**
+     * Busca usuario e conta local pelo email em uma unica consulta (projecao para o login).
+     */
+    @Query("""
+            SELECT new br.com.exemplo.todo.domain.model.projection.CredencialLogin(
+                u.id, u.nome, u.email, u.avatar, u.ativo, u.versaoMembership, u.dataCriacao,
+                a.id, a.senhaHash, a.bloqueado, a.tentativasFalha, a.senhaExpirada)
+            FROM Account a JOIN a.user u
+            WHERE u.email = :email AND a.provider = 'local'
+            """)
+    Optional<CredencialLogin> buscarCredencialLocal(@Param("email") String email);
+
+    /**
+     * Zera as tentativas de falha (apenas se houver alguma).
+     */
+    @Modifying
+    @Query("UPDATE Account a SET a.tentativasFalha = 0 WHERE a.id = :id AND a.tentativasFalha <> 0")
+    int resetarTentativasFalha(@Param("id") Long id);
+
+    /**
+     * Incrementa as tentativas de falha e bloqueia a conta ao atingir o limite, em um unico UPDATE
+     * (sem ler a conta e sem perder incrementos de tentativas concorrentes).
+     */
+    @Modifying
+    @Query("""
+            UPDATE Account a SET
+                a.tentativasFalha = COALESCE(a.tentativasFalha, 0) + 1,
+                a.bloqueado = CASE WHEN COALESCE(a.tentativasFalha, 0) + 1 >= :limite THEN true ELSE a.bloqueado END,
+                a.dataBloqueio = CASE WHEN COALESCE(a.tentativasFalha, 0) + 1 >= :limite THEN :agora ELSE a.dataBloqueio END
+            WHERE a.id = :id
+            """)
+    int registrarTentativaFalha(@Param("id") Long id, @Param("limite") int limite, @Param("agora") LocalDateTime agora);
 }
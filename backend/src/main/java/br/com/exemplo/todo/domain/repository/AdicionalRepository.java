@@ -1,12 +1,15 @@
 package br.com.exemplo.todo.domain.repository;
 
 import br.com.exemplo.todo.domain.model.entity.Adicional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +25,30 @@ public interface AdicionalRepository extends JpaRepository<Adicional, Long> {
     @EntityGraph(attributePaths = "itens")
     Optional<Adicional> findByIdAndOrganizationIdAndAtivoTrue(Long id, Long organizationId);
 
+    @EntityGraph(attributePaths = "itens")
+    List<Adicional> findByOrganizationIdAndIdIn(Long organizationId, Collection<Long> ids);
+
+    /**
+     * Ids da pagina seguinte a (nome, id) em ordem de nome e id (keyset); os adicionais com itens
+     * sao carregados depois por {@link #findByOrganizationIdAndIdIn(Long, Collection)}.
+     */
+    @Query("""
+            SELECT a.id FROM Adicional a
+            WHERE a.organizationId = :organizationId AND a.ativo = true
+              AND (:categoriaId IS NULL OR a.categoriaId = :categoriaId)
+              AND a.nome >= :nome AND (a.nome > :nome OR a.id > :id)
+            ORDER BY a.nome ASC, a.id ASC
+            """)
+    List<Long> findIdsPagina(@Param("organizationId") Long organizationId, @Param("categoriaId") Long categoriaId,
+                             @Param("nome") String nome, @Param("id") Long id, Limit limit);
+
+    @Query("""
+            SELECT COUNT(a) FROM Adicional a
+            WHERE a.organizationId = :organizationId AND a.ativo = true
+              AND (:categoriaId IS NULL OR a.categoriaId = :categoriaId)
+            """)
+    long contarAtivos(@Param("organizationId") Long organizationId, @Param("categoriaId") Long categoriaId);
+
     boolean existsByIdAndOrganizationIdAndAtivoTrue(Long id, Long organizationId);
 
     @Modifying
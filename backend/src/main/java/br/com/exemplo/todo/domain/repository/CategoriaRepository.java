@@ -1,10 +1,14 @@
 package br.com.exemplo.todo.domain.repository;
 
 import br.com.exemplo.todo.domain.model.entity.Categoria;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +22,48 @@ public interface CategoriaRepository extends JpaRepository<Categoria, Long> {
     List<Categoria> findByOrganizationIdAndAtivoTrueAndCulinariaIdOrderByOrdemAscNomeAsc(
             Long organizationId, Integer culinariaId);
 
+    @EntityGraph(attributePaths = "opcoes")
+    List<Categoria> findByOrganizationIdAndIdIn(Long organizationId, Collection<Long> ids);
+
+    /**
+     * Ids da pagina seguinte a uma categoria sem ordem (keyset por ordem, nome e id; no SQLite
+     * ordem nula vem primeiro): as demais sem ordem depois de (nome, id) e todas com ordem.
+     * A primeira pagina usa nome vazio e id 0.
+     */
+    @Query("""
+            SELECT c.id FROM Categoria c
+            WHERE c.organizationId = :organizationId AND c.ativo = true
+              AND (:culinariaId IS NULL OR c.culinariaId = :culinariaId)
+              AND (c.ordem IS NOT NULL
+                   OR (c.nome >= :nome AND (c.nome > :nome OR c.id > :id)))
+            ORDER BY c.ordem ASC, c.nome ASC, c.id ASC
+            """)
+    List<Long> findIdsPaginaAposSemOrdem(@Param("organizationId") Long organizationId,
+                                         @Param("culinariaId") Integer culinariaId,
+                                         @Param("nome") String nome, @Param("id") Long id, Limit limit);
+
+    /**
+     * Ids da pagina seguinte a uma categoria com ordem (keyset por ordem, nome e id).
+     */
+    @Query("""
+            SELECT c.id FROM Categoria c
+            WHERE c.organizationId = :organizationId AND c.ativo = true
+              AND (:culinariaId IS NULL OR c.culinariaId = :culinariaId)
+              AND c.ordem >= :ordem
+              AND (c.ordem > :ordem OR c.nome > :nome OR (c.nome = :nome AND c.id > :id))
+            ORDER BY c.ordem ASC, c.nome ASC, c.id ASC
+            """)
+    List<Long> findIdsPaginaAposOrdem(@Param("organizationId") Long organizationId,
+                                      @Param("culinariaId") Integer culinariaId, @Param("ordem") Integer ordem,
+                                      @Param("nome") String nome, @Param("id") Long id, Limit limit);
+
+    @Query("""
+            SELECT COUNT(c) FROM Categoria c
+            WHERE c.organizationId = :organizationId AND c.ativo = true
+              AND (:culinariaId IS NULL OR c.culinariaId = :culinariaId)
+            """)
+    long contarAtivas(@Param("organizationId") Long organizationId, @Param("culinariaId") Integer culinariaId);
+
     @EntityGraph(attributePaths = "opcoes")
     Optional<Categoria> findByIdAndOrganizationIdAndAtivoTrue(Long id, Long organizationId);
 
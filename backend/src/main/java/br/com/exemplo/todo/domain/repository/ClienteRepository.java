@@ -1,12 +1,15 @@
 package br.com.exemplo.todo.domain.repository;
 
 import br.com.exemplo.todo.domain.model.entity.Cliente;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +22,23 @@ public interface ClienteRepository extends JpaRepository<Cliente, Long> {
     @EntityGraph(attributePaths = {"enderecos", "enderecos.municipio", "enderecos.municipio.uf"})
     Optional<Cliente> findByIdAndOrganizationIdAndAtivoTrue(Long id, Long organizationId);
 
+    @EntityGraph(attributePaths = {"enderecos", "enderecos.municipio", "enderecos.municipio.uf"})
+    List<Cliente> findByOrganizationIdAndIdIn(Long organizationId, Collection<Long> ids);
+
+    /**
+     * Ids da pagina seguinte a (nome, id) em ordem de nome e id (keyset).
+     */
+    @Query("""
+            SELECT c.id FROM Cliente c
+            WHERE c.organizationId = :organizationId AND c.ativo = true
+              AND c.nome >= :nome AND (c.nome > :nome OR c.id > :id)
+            ORDER BY c.nome ASC, c.id ASC
+            """)
+    List<Long> findIdsPagina(@Param("organizationId") Long organizationId,
+                             @Param("nome") String nome, @Param("id") Long id, Limit limit);
+
+    long countByOrganizationIdAndAtivoTrue(Long organizationId);
+
     Optional<Cliente> findByDocumentoAndOrganizationIdAndAtivoTrue(String documento, Long organizationId);
 
     boolean existsByDocumentoAndOrganizationIdAndAtivoTrue(String documento, Long organizationId);
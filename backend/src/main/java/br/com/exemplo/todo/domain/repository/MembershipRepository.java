@@ -2,6 +2,7 @@ package br.com.exemplo.todo.domain.repository;
 
 import br.com.exemplo.todo.domain.model.entity.Membership;
 import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.model.projection.MembershipResumo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -32,6 +33,18 @@ public interface MembershipRepository extends JpaRepository<Membership, Long>, J
      */
     List<Membership> findByUserIdAndAtivoTrueOrderByDataIngressoAsc(Long userId);
 
+    /**
+     * Busca as memberships ativas de um usuario com os dados da organizacao (projecao, sem N+1).
+     */
+    @Query("""
+            SELECT new br.com.exemplo.todo.domain.model.projection.MembershipResumo(
+                o.id, o.nome, o.slug, o.logo, m.papel)
+            FROM Membership m JOIN m.organization o
+            WHERE m.user.id = :userId AND m.ativo = true
+            ORDER BY m.dataIngresso ASC
+            """)
+    List<MembershipResumo> buscarResumosAtivos(@Param("userId") Long userId);
+
     /**
      * Busca a primeira membership ativa de um usuario (organizacao padrao).
      */
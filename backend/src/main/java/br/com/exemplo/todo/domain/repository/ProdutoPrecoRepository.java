@@ -1,17 +1,43 @@
 package br.com.exemplo.todo.domain.repository;
 
 import br.com.exemplo.todo.domain.model.entity.ProdutoPreco;
+import br.com.exemplo.todo.domain.model.preco.ReajustePreco;
+import br.com.exemplo.todo.domain.model.projection.ReajustePrecoLinha;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProdutoPrecoRepository extends JpaRepository<ProdutoPreco, Long> {
 
+    /**
+     * Novo valor de um preco no reajuste em lote (formula em {@link ReajustePreco}). A simulacao e o
+     * UPDATE usam a mesma expressao, entao o diff mostra exatamente o que sera gravado.
+     */
+    String REAJUSTE_NOVO_VALOR = """
+            round(floor(round((round(pp.valor * :#{#reajuste.fator()} + :#{#reajuste.soma()}, 2)
+                - :#{#reajuste.terminacao()}) / :#{#reajuste.passo()}, 6) + :#{#reajuste.desvio()})
+                * :#{#reajuste.passo()} + :#{#reajuste.terminacao()}, 2)""";
+
+    /**
+     * Precos ativos de produtos ativos da organizacao dentro do escopo do reajuste.
+     */
+    String REAJUSTE_ESCOPO = """
+            pp.organizationId = :#{#reajuste.organizationId()} and pp.ativo = true
+              and (:#{#reajuste.opcaoId()} is null or pp.categoriaOpcaoId = :#{#reajuste.opcaoId()})
+              and pp.produto.id in (
+                  select p.id from Produto p
+                  where p.organizationId = :#{#reajuste.organizationId()} and p.ativo = true
+                    and (:#{#reajuste.categoriaId()} is null or p.categoriaId = :#{#reajuste.categoriaId()})
+                    and (:#{#reajuste.todosProdutos()} = true or p.id in :#{#reajuste.produtoIds()}))
+            """;
+
     List<ProdutoPreco> findByProdutoIdAndAtivoTrueOrderByValorAsc(Long produtoId);
 
     Optional<ProdutoPreco> findByIdAndProdutoIdAndAtivoTrue(Long id, Long produtoId);
@@ -30,5 +56,36 @@ public interface ProdutoPrecoRepository extends JpaRepository<ProdutoPreco, Long
               and pp.categoriaOpcaoId = :categoriaOpcaoId
             """)
     void softDeleteByOpcao(Long organizationId, Long categoriaOpcaoId);
-}
 
+    /**
+     * Diff do reajuste: precos do escopo cujo valor muda, em ordem de produto e preco.
+     */
+    @Query("select new br.com.exemplo.todo.domain.model.projection.ReajustePrecoLinha("
+            + "pp.id, p.id, p.nome, pp.categoriaOpcaoId, o.nome, pp.valor, " + REAJUSTE_NOVO_VALOR + ") "
+            + "from ProdutoPreco pp join pp.produto p join CategoriaOpcao o on o.id = pp.categoriaOpcaoId "
+            + "where " + REAJUSTE_ESCOPO + " and " + REAJUSTE_NOVO_VALOR + " <> pp.valor "
+            + "order by p.nome, p.id, pp.id")
+    List<ReajustePrecoLinha> simularReajuste(@Param("reajuste") ReajustePreco reajuste);
+
+    /**
+     * Produtos com ao menos um preco alterado pelo reajuste (para o cardapio publico).
+     */
+    @Query("select distinct pp.produto.id from ProdutoPreco pp "
+            + "where " + REAJUSTE_ESCOPO + " and " + REAJUSTE_NOVO_VALOR + " <> pp.valor")
+    List<Long> findProdutosReajuste(@Param("reajuste") ReajustePreco reajuste);
+
+    /**
+     * Precos do escopo que ficariam zerados ou negativos (o reajuste e recusado inteiro).
+     */
+    @Query("select count(pp) from ProdutoPreco pp "
+            + "where " + REAJUSTE_ESCOPO + " and " + REAJUSTE_NOVO_VALOR + " <= 0")
+    long contarReajusteNaoPositivo(@Param("reajuste") ReajustePreco reajuste);
+
+    /**
+     * Aplica o reajuste em um unico UPDATE. So as linhas cujo valor muda recebem a data de atualizacao.
+     */
+    @Modifying
+    @Query("update ProdutoPreco pp set pp.valor = " + REAJUSTE_NOVO_VALOR + ", pp.dataAtualizacao = :agora "
+            + "where " + REAJUSTE_ESCOPO + " and " + REAJUSTE_NOVO_VALOR + " <> pp.valor")
+    int aplicarReajuste(@Param("reajuste") ReajustePreco reajuste, @Param("agora") LocalDateTime agora);
+}
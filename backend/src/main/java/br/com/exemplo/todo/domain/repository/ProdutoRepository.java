@@ -1,14 +1,19 @@
 package br.com.exemplo.todo.domain.repository;
 
 import br.com.exemplo.todo.domain.model.entity.Produto;
+import br.com.exemplo.todo.domain.model.projection.ProdutoPrecoLinha;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProdutoRepository extends JpaRepository<Produto, Long> {
@@ -16,12 +21,78 @@ public interface ProdutoRepository extends JpaRepository<Produto, Long> {
     @EntityGraph(attributePaths = "precos")
     List<Produto> findByOrganizationIdAndAtivoTrueOrderByNomeAsc(Long organizationId);
 
-    @EntityGraph(attributePaths = "precos")
-    List<Produto> findByOrganizationIdAndCategoriaIdAndAtivoTrueOrderByNomeAsc(Long organizationId, Long categoriaId);
+    /**
+     * Produtos ativos com precos ativos e nome da opcao (projecao, uma linha por preco), em ordem de
+     * nome e id do produto: as linhas de um mesmo produto vem em sequencia.
+     */
+    @Query("""
+            SELECT new br.com.exemplo.todo.domain.model.projection.ProdutoPrecoLinha(
+                p.id, p.categoriaId, p.nome, p.descricao, pp.id, pp.categoriaOpcaoId, o.nome, pp.valor)
+            FROM Produto p
+            LEFT JOIN ProdutoPreco pp ON pp.produto.id = p.id AND pp.ativo = true
+            LEFT JOIN CategoriaOpcao o ON o.id = pp.categoriaOpcaoId
+            WHERE p.organizationId = :organizationId AND p.ativo = true
+            ORDER BY p.nome ASC, p.id ASC, pp.id ASC
+            """)
+    Stream<ProdutoPrecoLinha> streamListagem(@Param("organizationId") Long organizationId);
+
+    /**
+     * Mesmo que {@link #streamListagem(Long)}, filtrado por categoria.
+     */
+    @Query("""
+            SELECT new br.com.exemplo.todo.domain.model.projection.ProdutoPrecoLinha(
+                p.id, p.categoriaId, p.nome, p.descricao, pp.id, pp.categoriaOpcaoId, o.nome, pp.valor)
+            FROM Produto p
+            LEFT JOIN ProdutoPreco pp ON pp.produto.id = p.id AND pp.ativo = true
+            LEFT JOIN CategoriaOpcao o ON o.id = pp.categoriaOpcaoId
+            WHERE p.organizationId = :organizationId AND p.categoriaId = :categoriaId AND p.ativo = true
+            ORDER BY p.nome ASC, p.id ASC, pp.id ASC
+            """)
+    Stream<ProdutoPrecoLinha> streamListagemPorCategoria(@Param("organizationId") Long organizationId,
+                                                        @Param("categoriaId") Long categoriaId);
+
+    /**
+     * Ids da pagina seguinte a (nome, id) em ordem de nome e id (keyset). A primeira pagina usa
+     * nome vazio e id 0. O {@code nome >= :nome} deixa o SQLite usar o indice como faixa.
+     */
+    @Query("""
+            SELECT p.id FROM Produto p
+            WHERE p.organizationId = :organizationId AND p.ativo = true
+              AND (:categoriaId IS NULL OR p.categoriaId = :categoriaId)
+              AND p.nome >= :nome AND (p.nome > :nome OR p.id > :id)
+            ORDER BY p.nome ASC, p.id ASC
+            """)
+    List<Long> findIdsPagina(@Param("organizationId") Long organizationId, @Param("categoriaId") Long categoriaId,
+                             @Param("nome") String nome, @Param("id") Long id, Limit limit);
+
+    @Query("""
+            SELECT COUNT(p) FROM Produto p
+            WHERE p.organizationId = :organizationId AND p.ativo = true
+              AND (:categoriaId IS NULL OR p.categoriaId = :categoriaId)
+            """)
+    long contarAtivos(@Param("organizationId") Long organizationId, @Param("categoriaId") Long categoriaId);
+
+    /**
+     * Mesmo que {@link #streamListagem(Long)}, restrito aos produtos de uma pagina.
+     */
+    @Query("""
+            SELECT new br.com.exemplo.todo.domain.model.projection.ProdutoPrecoLinha(
+                p.id, p.categoriaId, p.nome, p.descricao, pp.id, pp.categoriaOpcaoId, o.nome, pp.valor)
+            FROM Produto p
+            LEFT JOIN ProdutoPreco pp ON pp.produto.id = p.id AND pp.ativo = true
+            LEFT JOIN CategoriaOpcao o ON o.id = pp.categoriaOpcaoId
+            WHERE p.organizationId = :organizationId AND p.id IN :ids
+            ORDER BY p.nome ASC, p.id ASC, pp.id ASC
+            """)
+    Stream<ProdutoPrecoLinha> streamListagemPorIds(@Param("organizationId") Long organizationId,
+                                                  @Param("ids") Collection<Long> ids);
 
     @EntityGraph(attributePaths = "precos")
     Optional<Produto> findByIdAndOrganizationIdAndAtivoTrue(Long id, Long organizationId);
 
+    @EntityGraph(attributePaths = "precos")
+    List<Produto> findByOrganizationIdAndIdIn(Long organizationId, Collection<Long> ids);
+
     boolean existsByIdAndOrganizationIdAndAtivoTrue(Long id, Long organizationId);
 
     @Modifying
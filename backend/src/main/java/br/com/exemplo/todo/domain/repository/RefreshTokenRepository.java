@@ -1,6 +1,7 @@
 package br.com.exemplo.todo.domain.repository;
 
 import br.com.exemplo.todo.domain.model.entity.RefreshToken;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +9,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -65,4 +68,20 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     @Modifying
     @Query("DELETE FROM RefreshToken rt WHERE rt.revogado = true AND rt.dataRevogacao < :limite")
     int removerRevogadosAntigos(@Param("limite") LocalDateTime limite);
+
+    /**
+     * Ids de tokens expirados ou revogados antigos, em lotes (limpeza periodica).
+     */
+    @Query("SELECT rt.id FROM RefreshToken rt WHERE rt.dataExpiracao < :limiteExpirados " +
+            "OR (rt.revogado = true AND rt.dataRevogacao < :limiteRevogados)")
+    List<Long> buscarIdsParaLimpeza(@Param("limiteExpirados") LocalDateTime limiteExpirados,
+                                    @Param("limiteRevogados") LocalDateTime limiteRevogados,
+                                    Limit limite);
+
+    /**
+     * Remove tokens pelos ids (limpeza periodica em lotes).
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.id IN :ids")
+    int removerPorIds(@Param("ids") Collection<Long> ids);
 }
@@ -1,9 +1,13 @@
 package br.com.exemplo.todo.domain.repository;
 
 import br.com.exemplo.todo.domain.model.entity.Todo;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +31,20 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
      */
     List<Todo> findByOrganizationIdAndConcluidoOrderByDataCriacaoDesc(Long organizationId, Boolean concluido);
 
+    /**
+     * Pagina seguinte a (dataCriacao, id) em ordem decrescente de criacao (keyset), com filtro
+     * opcional por status. A primeira pagina usa uma data maxima e id Long.MAX_VALUE.
+     */
+    @Query("""
+            SELECT t FROM Todo t
+            WHERE t.organizationId = :organizationId
+              AND (:concluido IS NULL OR t.concluido = :concluido)
+              AND t.dataCriacao <= :dataCriacao AND (t.dataCriacao < :dataCriacao OR t.id < :id)
+            ORDER BY t.dataCriacao DESC, t.id DESC
+            """)
+    List<Todo> findPagina(@Param("organizationId") Long organizationId, @Param("concluido") Boolean concluido,
+                          @Param("dataCriacao") LocalDateTime dataCriacao, @Param("id") Long id, Limit limit);
+
     /**
      * Busca tarefa por ID dentro de uma organizacao (isolamento de tenant).
      */
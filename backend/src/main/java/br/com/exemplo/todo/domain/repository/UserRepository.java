@@ -2,8 +2,12 @@ package br.com.exemplo.todo.domain.repository;
 
 import br.com.exemplo.todo.domain.model.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -26,4 +30,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * Verifica se existe usuario com o email.
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Busca apenas a versao das memberships do usuario.
+     */
+    @Query("SELECT u.versaoMembership FROM User u WHERE u.id = :userId")
+    Optional<Long> buscarVersaoMembership(@Param("userId") Long userId);
+
+    /**
+     * Atualiza apenas o ultimo acesso do usuario.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.ultimoAcesso = :agora WHERE u.id = :userId")
+    int atualizarUltimoAcesso(@Param("userId") Long userId, @Param("agora") LocalDateTime agora);
 }
@@ -7,14 +7,19 @@ import br.com.exemplo.todo.domain.model.entity.AdicionalItem;
 import br.com.exemplo.todo.domain.model.entity.Categoria;
 import br.com.exemplo.todo.domain.model.enums.MembershipRole;
 import br.com.exemplo.todo.domain.model.enums.SelecaoAdicional;
+import br.com.exemplo.todo.domain.model.paginacao.Cursor;
+import br.com.exemplo.todo.domain.model.paginacao.Pagina;
+import br.com.exemplo.todo.domain.model.paginacao.PaginaRequest;
 import br.com.exemplo.todo.domain.repository.AdicionalItemRepository;
 import br.com.exemplo.todo.domain.repository.AdicionalRepository;
 import br.com.exemplo.todo.domain.repository.CategoriaRepository;
 import br.com.exemplo.todo.domain.service.exception.AdicionalNaoEncontradoException;
 import br.com.exemplo.todo.domain.service.exception.AdicionalSelecaoInvalidaException;
+import br.com.exemplo.todo.infrastructure.sqlite.RetryOnBusy;
 import br.com.exemplo.todo.security.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -26,13 +31,18 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@RetryOnBusy
 @RequiredArgsConstructor
 public class AdicionalService {
 
+    private static final String CURSOR_TIPO = "adicional";
+
     private final AdicionalRepository adicionalRepository;
     private final AdicionalItemRepository adicionalItemRepository;
     private final CategoriaRepository categoriaRepository;
+    private final CardapioService cardapioService;
 
+    @Transactional(readOnly = true)
     public List<Adicional> listar(Long idCategoria) {
         Long orgId = TenantContext.getOrganizationId();
         if (idCategoria != null) {
@@ -41,6 +51,30 @@ public class AdicionalService {
         return adicionalRepository.findByOrganizationIdAndAtivoTrueOrderByNomeAsc(orgId);
     }
 
+    /**
+     * Uma pagina da listagem (keyset por nome e id): ids da pagina e depois os adicionais com
+     * itens so desses ids.
+     */
+    @Transactional(readOnly = true)
+    public Pagina<Adicional> listarPagina(Long idCategoria, PaginaRequest request) {
+        Long orgId = TenantContext.getOrganizationId();
+        String nome = "";
+        Long id = 0L;
+        if (request.cursor() != null) {
+            Cursor cursor = Cursor.decodificar(request.cursor(), CURSOR_TIPO, 2);
+            nome = cursor.texto(0);
+            id = cursor.longo(1);
+        }
+        List<Long> ids = adicionalRepository.findIdsPagina(orgId, idCategoria, nome, id,
+                Limit.of(request.limite() + 1));
+        Long total = request.contarTotal() ? adicionalRepository.contarAtivos(orgId, idCategoria) : null;
+        List<Adicional> adicionais = ids.isEmpty() ? List.of()
+                : Pagina.naOrdemDosIds(ids, adicionalRepository.findByOrganizationIdAndIdIn(orgId, ids), Adicional::getId);
+        return Pagina.de(adicionais, request.limite(),
+                a -> Cursor.codificar(CURSOR_TIPO, a.getNome(), a.getId()), total);
+    }
+
+    @Transactional(readOnly = true)
     public Adicional buscar(Long id) {
         Long orgId = TenantContext.getOrganizationId();
         return adicionalRepository.findByIdAndOrganizationIdAndAtivoTrue(id, orgId)
@@ -52,24 +86,10 @@ public class AdicionalService {
         Long orgId = TenantContext.getOrganizationId();
         Long userId = TenantContext.getUserId();
         Categoria categoria = validarCategoria(orgId, input.getIdCategoria());
-
-        SelecaoAdicional selecao = validarSelecao(input);
-        validarOpcoesInput(input, selecao);
-
-        Adicional adicional = new Adicional();
-        adicional.setOrganizationId(orgId);
-        adicional.setCategoriaId(categoria.getId());
-        adicional.setNome(input.getNome().trim());
-        adicional.setSelecao(selecao);
-        adicional.setMinimo(normalizarMinimo(input, selecao));
-        adicional.setLimite(normalizarLimite(input, selecao));
-        adicional.setAtivo(Boolean.TRUE.equals(input.getStatus()));
-        adicional.setCriadoPor(userId);
-        adicional.setDataCriacao(LocalDateTime.now());
-
-        adicional.getItens().addAll(mapearItens(input.getOpcoes(), adicional, orgId));
+        Adicional adicional = novoAdicional(categoria, input, orgId, userId);
 
         Adicional salvo = adicionalRepository.save(adicional);
+        cardapioService.adicionalAlterado(orgId, salvo.getId());
         log.info("Adicional criado id={} org={}", salvo.getId(), orgId);
         return salvo;
     }
@@ -101,6 +121,7 @@ public class AdicionalService {
         }
 
         Adicional salvo = adicionalRepository.save(existente);
+        cardapioService.adicionalAlterado(orgId, salvo.getId());
         log.info("Adicional atualizado id={} org={}", salvo.getId(), orgId);
         return salvo;
     }
@@ -115,9 +136,33 @@ public class AdicionalService {
             item.setDataAtualizacao(LocalDateTime.now());
         });
         adicionalRepository.save(adicional);
+        cardapioService.adicionalAlterado(adicional.getOrganizationId(), id);
         log.info("Adicional desativado id={}", id);
     }
 
+    /**
+     * Monta um adicional novo com seus itens, sem gravar, validando selecao e opcoes.
+     * Usado tambem pela importacao em lote.
+     */
+    Adicional novoAdicional(Categoria categoria, AdicionalInput input, Long orgId, Long userId) {
+        SelecaoAdicional selecao = validarSelecao(input);
+        validarOpcoesInput(input, selecao);
+
+        Adicional adicional = new Adicional();
+        adicional.setOrganizationId(orgId);
+        adicional.setCategoriaId(categoria.getId());
+        adicional.setNome(input.getNome().trim());
+        adicional.setSelecao(selecao);
+        adicional.setMinimo(normalizarMinimo(input, selecao));
+        adicional.setLimite(normalizarLimite(input, selecao));
+        adicional.setAtivo(Boolean.TRUE.equals(input.getStatus()));
+        adicional.setCriadoPor(userId);
+        adicional.setDataCriacao(LocalDateTime.now());
+
+        adicional.getItens().addAll(mapearItens(input.getOpcoes(), adicional, orgId));
+        return adicional;
+    }
+
     private Categoria validarCategoria(Long orgId, Long categoriaId) {
         return categoriaRepository.findByIdAndOrganizationIdAndAtivoTrue(categoriaId, orgId)
                 .orElseThrow(() -> new IllegalArgumentException("Categoria invalida ou inativa"));
@@ -9,10 +9,16 @@ import br.com.exemplo.todo.domain.exception.InvalidCredentialsException;
 import br.com.exemplo.todo.domain.exception.InvalidRefreshTokenException;
 import br.com.exemplo.todo.domain.model.entity.*;
 import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.model.projection.CredencialLogin;
+import br.com.exemplo.todo.domain.model.projection.MembershipResumo;
 import br.com.exemplo.todo.domain.repository.*;
 import br.com.exemplo.todo.domain.exception.PasswordExpiredException;
+import br.com.exemplo.todo.infrastructure.audit.LoginAttemptWriter;
 import br.com.exemplo.todo.infrastructure.email.EmailTemplateService;
+import br.com.exemplo.todo.security.ClientIp;
 import br.com.exemplo.todo.security.JwtService;
+import br.com.exemplo.todo.security.MembershipCache;
+import br.com.exemplo.todo.security.RevokedTokenFamilies;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,8 +29,10 @@ import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -37,13 +45,16 @@ public class AuthService {
     private final OrganizationRepository organizationRepository;
     private final MembershipRepository membershipRepository;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final LoginAttemptRepository loginAttemptRepository;
+    private final LoginAttemptWriter loginAttemptWriter;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final JwtConfig jwtConfig;
     private final EmailService emailService;
     private final EmailTemplateService emailTemplateService;
     private final AuthProperties authProperties;
+    private final RevokedTokenFamilies revokedTokenFamilies;
+    private final MembershipCache membershipCache;
+    private final LoginPersistenceService loginPersistenceService;
 
     @Transactional
     public AuthResponse register(RegisterInput input, HttpServletRequest request) {
@@ -92,94 +103,96 @@ public class AuthService {
         membership.setAtivo(true);
         membership.setDataIngresso(LocalDateTime.now());
         membershipRepository.save(membership);
+        membershipCache.invalidarUsuario(user.getId());
 
         log.info("Novo usuario registrado: userId={}, email={}", user.getId(), user.getEmail());
 
         return generateAuthResponse(user, request);
     }
 
-    @Transactional
+    /**
+     * Login por senha. Usuario e conta sao lidos em uma unica projecao e o BCrypt roda fora de transacao;
+     * as escritas de cada resultado sao feitas pelo {@link LoginPersistenceService} em uma unica transacao curta.
+     */
     public AuthResponse login(LoginInput input, HttpServletRequest request) {
         String ipAddress = extractIpAddress(request);
         String userAgent = extractDeviceInfo(request);
 
-        // Busca usuario
-        User user = userRepository.findByEmail(input.email())
+        // Busca usuario e account local
+        CredencialLogin credencial = accountRepository.buscarCredencialLocal(input.email())
                 .orElseThrow(() -> {
                     log.warn("Tentativa de login com email inexistente: {}", input.email());
                     return new InvalidCredentialsException();
                 });
-
-        // Busca account local
-        Account account = accountRepository.findByUserIdAndProvider(user.getId(), "local")
-                .orElseThrow(InvalidCredentialsException::new);
+        User user = credencial.toUser();
 
         // Verifica bloqueio
-        if (Boolean.TRUE.equals(account.getBloqueado())) {
+        if (Boolean.TRUE.equals(credencial.bloqueado())) {
             registrarTentativaLogin(user, false, ipAddress, userAgent, "ACCOUNT_LOCKED");
             log.warn("Tentativa de login em conta bloqueada: userId={}", user.getId());
             throw new AccountLockedException();
         }
 
         // Verifica se usuario esta ativo
-        if (!Boolean.TRUE.equals(user.getAtivo())) {
+        if (!Boolean.TRUE.equals(credencial.usuarioAtivo())) {
             registrarTentativaLogin(user, false, ipAddress, userAgent, "USER_INACTIVE");
             log.warn("Tentativa de login em conta inativa: userId={}", user.getId());
             throw new InvalidCredentialsException("Usuario inativo");
         }
 
         // Verifica senha
-        if (!passwordEncoder.matches(input.senha(), account.getSenhaHash())) {
-            boolean shouldBlock = account.incrementarTentativasFalha();
-            if (shouldBlock) {
-                account.bloquear();
-            }
-            accountRepository.save(account);
-            registrarTentativaLogin(user, false, ipAddress, userAgent, "INVALID_PASSWORD");
+        if (!passwordEncoder.matches(input.senha(), credencial.senhaHash())) {
+            // Gravado em transacao propria: a excecao abaixo nao desfaz o incremento
+            loginPersistenceService.registrarFalha(credencial,
+                    new LoginAttempt(user, false, ipAddress, userAgent, "INVALID_PASSWORD"), LocalDateTime.now());
             log.warn("Senha incorreta para usuario: userId={}, tentativas={}",
-                    user.getId(), account.getTentativasFalha());
+                    user.getId(), (credencial.tentativasFalha() == null ? 0 : credencial.tentativasFalha()) + 1);
             throw new InvalidCredentialsException();
         }
 
-        // Reset tentativas de login
-        account.resetarTentativasFalha();
-        accountRepository.save(account);
-
-        // Registra tentativa de sucesso
-        registrarTentativaLogin(user, true, ipAddress, userAgent, null);
-
-        // Atualiza ultimo acesso
-        user.setUltimoAcesso(LocalDateTime.now());
-        userRepository.save(user);
+        // Registra tentativa de sucesso, reseta tentativas, atualiza ultimo acesso e persiste o refresh token de uma vez
+        String familyId = UUID.randomUUID().toString();
+        String rawRefreshToken = jwtService.generateRefreshToken(familyId);
+        RefreshToken refreshToken = novoRefreshToken(user, rawRefreshToken, familyId, request);
+        List<MembershipResumo> memberships = loginPersistenceService.registrarSucesso(credencial,
+                new LoginAttempt(user, true, ipAddress, userAgent, null), refreshToken, LocalDateTime.now());
 
         log.info("Login realizado: userId={}, email={}", user.getId(), user.getEmail());
 
         // Verifica se senha esta expirada
-        boolean senhaExpirada = Boolean.TRUE.equals(account.getSenhaExpirada());
+        boolean senhaExpirada = Boolean.TRUE.equals(credencial.senhaExpirada());
 
-        return generateAuthResponse(user, request, senhaExpirada);
+        return montarAuthResponse(user, rawRefreshToken, memberships, senhaExpirada);
     }
 
     private void registrarTentativaLogin(User user, boolean sucesso, String ipAddress, String userAgent, String motivoFalha) {
         LoginAttempt attempt = new LoginAttempt(user, sucesso, ipAddress, userAgent, motivoFalha);
-        loginAttemptRepository.save(attempt);
+        loginAttemptWriter.registrar(attempt);
     }
 
-    @Transactional
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
     public AuthResponse refresh(RefreshTokenInput input, HttpServletRequest request) {
+        // Familia revogada recentemente: rejeita sem consultar o banco
+        Optional<String> familiaToken = jwtService.extractRefreshTokenFamily(input.refreshToken());
+        if (familiaToken.isPresent() && revokedTokenFamilies.isRevogada(familiaToken.get())) {
+            log.debug("Refresh token de familia revogada rejeitado: familyId={}", familiaToken.get());
+            throw new InvalidRefreshTokenException();
+        }
+
         String tokenHash = jwtService.hashToken(input.refreshToken());
 
         RefreshToken storedToken = refreshTokenRepository.findByTokenHash(tokenHash)
                 .orElseThrow(InvalidRefreshTokenException::new);
 
-        // Verifica se token esta valido
-        if (Boolean.TRUE.equals(storedToken.getRevogado()) || storedToken.isExpirado()) {
-            // Possivelmente roubo de token - revoga toda a familia
-            if (!Boolean.TRUE.equals(storedToken.getRevogado())) {
-                revokeTokenFamily(storedToken.getFamiliaId());
-                log.warn("Possivel roubo de refresh token detectado: familyId={}",
-                        storedToken.getFamiliaId());
-            }
+        // Reutilizacao de token ja rotacionado: possivel roubo - revoga toda a familia
+        if (Boolean.TRUE.equals(storedToken.getRevogado())) {
+            revokeTokenFamily(storedToken.getFamiliaId());
+            log.warn("Possivel roubo de refresh token detectado: familyId={}",
+                    storedToken.getFamiliaId());
+            throw new InvalidRefreshTokenException();
+        }
+
+        if (storedToken.isExpirado()) {
             throw new InvalidRefreshTokenException();
         }
 
@@ -212,7 +225,7 @@ public class AuthService {
         userRepository.findByEmail(email).ifPresent(user -> {
             String token = jwtService.generateMagicLoginToken(user);
 
-            String baseUrl = authProperties.getBaseUrl();
+            String baseUrl = authProperties.getMagicLink().getBaseUrl();
             String magicUrl = baseUrl + "?token=" + java.net.URLEncoder.encode(token, java.nio.charset.StandardCharsets.UTF_8);
 
             // Prepara variaveis do template
@@ -294,44 +307,50 @@ public class AuthService {
     }
 
     private AuthResponse generateAuthResponse(User user, HttpServletRequest request, String familyId, boolean senhaExpirada) {
-        // Gera access token
-        String accessToken = jwtService.generateAccessToken(user);
+        // Gera e persiste refresh token
+        String rawRefreshToken = jwtService.generateRefreshToken(familyId);
+        refreshTokenRepository.save(novoRefreshToken(user, rawRefreshToken, familyId, request));
 
-        // Gera refresh token
-        String rawRefreshToken = jwtService.generateRefreshToken();
-        String tokenHash = jwtService.hashToken(rawRefreshToken);
+        // Busca memberships do usuario (tambem assinadas no access token)
+        List<MembershipResumo> memberships = membershipRepository.buscarResumosAtivos(user.getId());
 
-        // Persiste refresh token
+        return montarAuthResponse(user, rawRefreshToken, memberships, senhaExpirada);
+    }
+
+    private RefreshToken novoRefreshToken(User user, String rawRefreshToken, String familyId, HttpServletRequest request) {
         RefreshToken refreshTokenEntity = new RefreshToken();
         refreshTokenEntity.setUser(user);
-        refreshTokenEntity.setTokenHash(tokenHash);
+        refreshTokenEntity.setTokenHash(jwtService.hashToken(rawRefreshToken));
         refreshTokenEntity.setDataExpiracao(LocalDateTime.now().plusDays(jwtConfig.getRefreshToken().getExpirationDays()));
         refreshTokenEntity.setRevogado(false);
         refreshTokenEntity.setFamiliaId(familyId);
         refreshTokenEntity.setDeviceInfo(extractDeviceInfo(request));
         refreshTokenEntity.setIpAddress(extractIpAddress(request));
         refreshTokenEntity.setDataCriacao(LocalDateTime.now());
-        refreshTokenRepository.save(refreshTokenEntity);
+        return refreshTokenEntity;
+    }
 
-        // Busca memberships do usuario
-        List<MembershipOutput> memberships = membershipRepository
-                .findByUserIdAndAtivoTrueOrderByDataIngressoAsc(user.getId())
-                .stream()
-                .map(MembershipOutput::from)
-                .toList();
+    private AuthResponse montarAuthResponse(User user, String rawRefreshToken, List<MembershipResumo> memberships,
+                                            boolean senhaExpirada) {
+        Map<Long, MembershipRole> organizacoes = new LinkedHashMap<>();
+        memberships.forEach(membership -> organizacoes.put(membership.organizationId(), membership.papel()));
+
+        // Gera access token
+        String accessToken = jwtService.generateAccessToken(user, organizacoes);
 
         return new AuthResponse(
                 accessToken,
                 rawRefreshToken,
                 jwtConfig.getAccessToken().getExpirationMs() / 1000,
                 UserOutput.from(user),
-                memberships,
+                memberships.stream().map(MembershipOutput::from).toList(),
                 senhaExpirada
         );
     }
 
     private void revokeTokenFamily(String familyId) {
         refreshTokenRepository.revokeByFamiliaId(familyId);
+        revokedTokenFamilies.revogar(familyId);
     }
 
     private String generateSlug(String name) {
@@ -360,10 +379,6 @@ public class AuthService {
     }
 
     private String extractIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (StringUtils.hasText(xForwardedFor)) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        return request.getRemoteAddr();
+        return ClientIp.extrair(request);
     }
 }
@@ -0,0 +1,504 @@
+package br.com.exemplo.todo.domain.service;
+
+import br.com.exemplo.todo.api.dto.cardapio.CardapioAdicionalItemOutput;
+import br.com.exemplo.todo.api.dto.cardapio.CardapioAdicionalOutput;
+import br.com.exemplo.todo.api.dto.cardapio.CardapioCategoriaOutput;
+import br.com.exemplo.todo.api.dto.cardapio.CardapioOpcaoOutput;
+import br.com.exemplo.todo.api.dto.cardapio.CardapioOutput;
+import br.com.exemplo.todo.api.dto.cardapio.CardapioPrecoOutput;
+import br.com.exemplo.todo.api.dto.cardapio.CardapioProdutoOutput;
+import br.com.exemplo.todo.api.dto.categoria.CategoriaDisponibilidadeDto;
+import br.com.exemplo.todo.config.CardapioProperties;
+import br.com.exemplo.todo.domain.model.entity.Adicional;
+import br.com.exemplo.todo.domain.model.entity.Categoria;
+import br.com.exemplo.todo.domain.model.entity.Produto;
+import br.com.exemplo.todo.domain.repository.AdicionalRepository;
+import br.com.exemplo.todo.domain.repository.CategoriaRepository;
+import br.com.exemplo.todo.domain.repository.OrganizationRepository;
+import br.com.exemplo.todo.domain.repository.ProdutoRepository;
+import br.com.exemplo.todo.security.TenantContext;
+import br.com.exemplo.todo.security.TenantInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cardapio publico de cada organizacao (categorias, opcoes, produtos, precos e adicionais ativos),
+ * mantido em memoria ja serializado e comprimido com gzip, com um ETag forte calculado sobre o JSON.
+ * <p>
+ * A primeira leitura monta o cardapio com tres consultas (categorias, produtos e adicionais com
+ * {@code @EntityGraph}). Depois do commit, escritas dos services marcam o que mudou: produtos e
+ * adicionais alterados sao relidos por ID e encaixados no cardapio anterior; alteracoes de categoria
+ * (que desativam produtos e adicionais por trigger) remontam tudo. A remontagem acontece na proxima
+ * leitura; enquanto uma thread remonta, as demais continuam recebendo a versao anterior.
+ */
+@Slf4j
+@Service
+public class CardapioService {
+
+    static final String CACHE_NAME = "cardapio";
+
+    /**
+     * Acima deste numero de produtos ou adicionais alterados a remontagem completa sai mais barata.
+     */
+    static final int LIMITE_INCREMENTAL = 500;
+
+    private static final Comparator<CardapioProdutoOutput> POR_NOME_PRODUTO =
+            Comparator.comparing(CardapioProdutoOutput::getNome).thenComparing(CardapioProdutoOutput::getIdProduto);
+    private static final Comparator<CardapioAdicionalOutput> POR_NOME_ADICIONAL =
+            Comparator.comparing(CardapioAdicionalOutput::getNome).thenComparing(CardapioAdicionalOutput::getIdAdicional);
+
+    private final OrganizationRepository organizationRepository;
+    private final CategoriaRepository categoriaRepository;
+    private final ProdutoRepository produtoRepository;
+    private final AdicionalRepository adicionalRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate leitura;
+    private final Cache<String, Optional<Loja>> lojas;
+    private final Cache<Long, Entrada> cardapios;
+    private final Timer montagemCompleta;
+    private final Timer montagemIncremental;
+
+    public CardapioService(OrganizationRepository organizationRepository,
+                           CategoriaRepository categoriaRepository,
+                           ProdutoRepository produtoRepository,
+                           AdicionalRepository adicionalRepository,
+                           ObjectMapper objectMapper,
+                           PlatformTransactionManager transactionManager,
+                           CardapioProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.organizationRepository = organizationRepository;
+        this.categoriaRepository = categoriaRepository;
+        this.produtoRepository = produtoRepository;
+        this.adicionalRepository = adicionalRepository;
+        this.objectMapper = objectMapper;
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setReadOnly(true);
+        this.lojas = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize() * 4)
+                .expireAfterWrite(properties.getSlugTtl())
+                .build();
+        this.cardapios = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cardapios, CACHE_NAME);
+        this.montagemCompleta = Timer.builder("cardapio.montagem").tag("tipo", "completa")
+                .description("Tempo para montar, serializar e comprimir o cardapio publico")
+                .register(meterRegistry);
+        this.montagemIncremental = Timer.builder("cardapio.montagem").tag("tipo", "incremental")
+                .description("Tempo para montar, serializar e comprimir o cardapio publico")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cardapio publicado da organizacao ativa com o slug informado.
+     */
+    public Optional<Publicado> buscar(String slug) {
+        Optional<Loja> loja = lojas.get(slug, this::carregarLoja);
+        if (loja.isEmpty()) {
+            return Optional.empty();
+        }
+        Entrada entrada = cardapios.get(loja.get().id(), id -> new Entrada());
+        return Optional.of(publicado(loja.get(), entrada));
+    }
+
+    /**
+     * Categoria ou opcao criada, alterada ou desativada: o proximo acesso remonta o cardapio inteiro.
+     */
+    public void categoriaAlterada(Long organizationId) {
+        aposCommit(organizationId, Entrada::marcarTudo);
+    }
+
+    /**
+     * Produto (ou seus precos) criado, alterado ou desativado: o proximo acesso rele apenas este produto.
+     */
+    public void produtoAlterado(Long organizationId, Long produtoId) {
+        aposCommit(organizationId, entrada -> entrada.marcarProduto(produtoId));
+    }
+
+    /**
+     * Varios produtos alterados de uma vez (reajuste em lote): um unico registro apos o commit.
+     */
+    public void produtosAlterados(Long organizationId, Collection<Long> produtoIds) {
+        if (produtoIds.isEmpty()) {
+            return;
+        }
+        aposCommit(organizationId, entrada -> produtoIds.forEach(entrada::marcarProduto));
+    }
+
+    /**
+     * Adicional (ou seus itens) criado, alterado ou desativado: o proximo acesso rele apenas este adicional.
+     */
+    public void adicionalAlterado(Long organizationId, Long adicionalId) {
+        aposCommit(organizationId, entrada -> entrada.marcarAdicional(adicionalId));
+    }
+
+    /**
+     * Descarta os cardapios em memoria (o proximo acesso de cada organizacao remonta tudo).
+     */
+    public void invalidateAll() {
+        cardapios.invalidateAll();
+        lojas.invalidateAll();
+    }
+
+    private void aposCommit(Long organizationId, Consumer<Entrada> marcar) {
+        if (organizationId == null) {
+            return;
+        }
+        Runnable acao = () -> {
+            Entrada entrada = cardapios.getIfPresent(organizationId);
+            if (entrada != null) {
+                marcar.accept(entrada);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+
+    private Publicado publicado(Loja loja, Entrada entrada) {
+        Montagem atual = entrada.montagem;
+        if (atual != null && !entrada.pendente) {
+            return atual.publicado();
+        }
+        // Com uma versao anterior disponivel, quem nao conseguir o lock nao espera a remontagem
+        if (atual != null) {
+            if (!entrada.montando.tryLock()) {
+                return atual.publicado();
+            }
+        } else {
+            entrada.montando.lock();
+        }
+        try {
+            atual = entrada.montagem;
+            if (atual != null && !entrada.pendente) {
+                return atual.publicado();
+            }
+            Alteracoes alteracoes = entrada.retirarAlteracoes();
+            Montagem nova;
+            try {
+                nova = montar(loja, atual, alteracoes);
+            } catch (RuntimeException e) {
+                entrada.montagem = null;
+                throw e;
+            }
+            entrada.montagem = nova;
+            return nova.publicado();
+        } finally {
+            entrada.montando.unlock();
+        }
+    }
+
+    private Montagem montar(Loja loja, Montagem atual, Alteracoes alteracoes) {
+        boolean completa = atual == null || alteracoes.tudo();
+        long inicio = System.nanoTime();
+        Montagem[] resultado = new Montagem[1];
+        TenantContext.executar(new TenantInfo(loja.id(), null, null), () -> {
+            resultado[0] = leitura.execute(status -> completa
+                    ? carregarTudo(loja)
+                    : carregarAlteracoes(atual, alteracoes));
+        });
+        long duracao = System.nanoTime() - inicio;
+        (completa ? montagemCompleta : montagemIncremental).record(duracao, TimeUnit.NANOSECONDS);
+        log.debug("Cardapio da organizacao {} montado ({}) em {} ms: {} produtos, {} bytes gzip",
+                loja.id(), completa ? "completo" : "incremental", TimeUnit.NANOSECONDS.toMillis(duracao),
+                resultado[0].produtos().size(), resultado[0].publicado().gzip().length);
+        return resultado[0];
+    }
+
+    private Optional<Loja> carregarLoja(String slug) {
+        Loja[] loja = new Loja[1];
+        // O slug e resolvido no banco central mesmo que a thread tenha um tenant
+        TenantContext.executar(null, () -> {
+            loja[0] = organizationRepository.findBySlugAndAtivaTrue(slug)
+                    .map(org -> new Loja(org.getId(), org.getNome(), org.getSlug()))
+                    .orElse(null);
+        });
+        return Optional.ofNullable(loja[0]);
+    }
+
+    private Montagem carregarTudo(Loja loja) {
+        Long orgId = loja.id();
+        Map<Long, String> opcoes = new HashMap<>();
+        List<CardapioCategoriaOutput> categorias = new ArrayList<>();
+        for (Categoria categoria : categoriaRepository.findByOrganizationIdAndAtivoTrueOrderByOrdemAscNomeAsc(orgId)) {
+            categorias.add(toCategoria(categoria, opcoes));
+        }
+        Set<Long> categoriaIds = idsCategorias(categorias);
+
+        Map<Long, Montado<CardapioProdutoOutput>> produtos = new HashMap<>();
+        for (Produto produto : produtoRepository.findByOrganizationIdAndAtivoTrueOrderByNomeAsc(orgId)) {
+            adicionarProduto(produtos, produto, categoriaIds, opcoes);
+        }
+        Map<Long, Montado<CardapioAdicionalOutput>> adicionais = new HashMap<>();
+        for (Adicional adicional : adicionalRepository.findByOrganizationIdAndAtivoTrueOrderByNomeAsc(orgId)) {
+            adicionarAdicional(adicionais, adicional, categoriaIds);
+        }
+        return publicar(loja, categorias, opcoes, produtos, adicionais, 0);
+    }
+
+    private Montagem carregarAlteracoes(Montagem atual, Alteracoes alteracoes) {
+        Long orgId = atual.loja().id();
+        Set<Long> categoriaIds = idsCategorias(atual.categorias());
+
+        Map<Long, Montado<CardapioProdutoOutput>> produtos = atual.produtos();
+        if (!alteracoes.produtos().isEmpty()) {
+            produtos = new HashMap<>(produtos);
+            alteracoes.produtos().forEach(produtos::remove);
+            for (Produto produto : produtoRepository.findByOrganizationIdAndIdIn(orgId, alteracoes.produtos())) {
+                adicionarProduto(produtos, produto, categoriaIds, atual.opcoes());
+            }
+        }
+        Map<Long, Montado<CardapioAdicionalOutput>> adicionais = atual.adicionais();
+        if (!alteracoes.adicionais().isEmpty()) {
+            adicionais = new HashMap<>(adicionais);
+            alteracoes.adicionais().forEach(adicionais::remove);
+            for (Adicional adicional : adicionalRepository.findByOrganizationIdAndIdIn(orgId, alteracoes.adicionais())) {
+                adicionarAdicional(adicionais, adicional, categoriaIds);
+            }
+        }
+        return publicar(atual.loja(), atual.categorias(), atual.opcoes(), produtos, adicionais,
+                atual.publicado().gzip().length);
+    }
+
+    private Montagem publicar(Loja loja, List<CardapioCategoriaOutput> categorias, Map<Long, String> opcoes,
+                              Map<Long, Montado<CardapioProdutoOutput>> produtos,
+                              Map<Long, Montado<CardapioAdicionalOutput>> adicionais, int tamanhoAnterior) {
+        Map<Long, List<CardapioProdutoOutput>> produtosPorCategoria = agrupar(produtos, POR_NOME_PRODUTO);
+        Map<Long, List<CardapioAdicionalOutput>> adicionaisPorCategoria = agrupar(adicionais, POR_NOME_ADICIONAL);
+
+        CardapioOutput documento = CardapioOutput.builder()
+                .organizacao(loja.nome())
+                .slug(loja.slug())
+                .categorias(categorias.stream()
+                        .map(categoria -> categoria.toBuilder()
+                                .produtos(produtosPorCategoria.getOrDefault(categoria.getIdCategoria(), List.of()))
+                                .adicionais(adicionaisPorCategoria.getOrDefault(categoria.getIdCategoria(), List.of()))
+                                .build())
+                        .toList())
+                .build();
+
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            ByteArrayOutputStream gzip = new ByteArrayOutputStream(Math.max(tamanhoAnterior + 1024, 8192));
+            // O digest ve o JSON antes da compressao: o ETag nao depende do nivel do gzip
+            try (DigestOutputStream json = new DigestOutputStream(new GZIPOutputStream(gzip, 8192), sha256);
+                 OutputStream saida = json) {
+                objectMapper.writeValue(saida, documento);
+            }
+            String etag = HexFormat.of().formatHex(sha256.digest(), 0, 16);
+            return new Montagem(loja, categorias, opcoes, produtos, adicionais,
+                    new Publicado(gzip.toByteArray(), etag));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao serializar o cardapio da organizacao " + loja.id(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> Map<Long, List<T>> agrupar(Map<Long, Montado<T>> itens, Comparator<T> ordem) {
+        Map<Long, List<T>> porCategoria = new HashMap<>();
+        for (Montado<T> item : itens.values()) {
+            porCategoria.computeIfAbsent(item.categoriaId(), id -> new ArrayList<>()).add(item.output());
+        }
+        porCategoria.values().forEach(lista -> lista.sort(ordem));
+        return porCategoria;
+    }
+
+    private static Set<Long> idsCategorias(List<CardapioCategoriaOutput> categorias) {
+        Set<Long> ids = new HashSet<>();
+        categorias.forEach(categoria -> ids.add(categoria.getIdCategoria()));
+        return ids;
+    }
+
+    private static CardapioCategoriaOutput toCategoria(Categoria categoria, Map<Long, String> opcoes) {
+        CategoriaDisponibilidadeDto disp = new CategoriaDisponibilidadeDto();
+        disp.setDomingo(categoria.getDisponivelDomingo());
+        disp.setSegunda(categoria.getDisponivelSegunda());
+        disp.setTerca(categoria.getDisponivelTerca());
+        disp.setQuarta(categoria.getDisponivelQuarta());
+        disp.setQuinta(categoria.getDisponivelQuinta());
+        disp.setSexta(categoria.getDisponivelSexta());
+        disp.setSabado(categoria.getDisponivelSabado());
+
+        List<CardapioOpcaoOutput> opcoesAtivas = new ArrayList<>();
+        if (categoria.getOpcoes() != null) {
+            categoria.getOpcoes().stream()
+                    .filter(opcao -> Boolean.TRUE.equals(opcao.getAtivo()))
+                    .forEach(opcao -> {
+                        opcoes.put(opcao.getId(), opcao.getNome());
+                        opcoesAtivas.add(CardapioOpcaoOutput.builder()
+                                .idOpcao(opcao.getId())
+                                .nome(opcao.getNome())
+                                .build());
+                    });
+        }
+
+        return CardapioCategoriaOutput.builder()
+                .idCategoria(categoria.getId())
+                .idCulinaria(categoria.getCulinariaId())
+                .ordem(categoria.getOrdem())
+                .nome(categoria.getNome())
+                .descricao(categoria.getDescricao())
+                .inicio(categoria.getInicio())
+                .fim(categoria.getFim())
+                .opcaoMeia(categoria.getOpcaoMeia())
+                .disponivel(disp)
+                .opcoes(opcoesAtivas)
+                .build();
+    }
+
+    /**
+     * Produto ativo de categoria ativa, apenas com precos ativos de opcoes ativas.
+     */
+    private static void adicionarProduto(Map<Long, Montado<CardapioProdutoOutput>> produtos, Produto produto,
+                                         Set<Long> categoriaIds, Map<Long, String> opcoes) {
+        if (!Boolean.TRUE.equals(produto.getAtivo()) || !categoriaIds.contains(produto.getCategoriaId())) {
+            return;
+        }
+        List<CardapioPrecoOutput> precos = produto.getPrecos().stream()
+                .filter(preco -> Boolean.TRUE.equals(preco.getAtivo()) && opcoes.containsKey(preco.getCategoriaOpcaoId()))
+                .sorted(Comparator.comparing(preco -> preco.getCategoriaOpcaoId()))
+                .map(preco -> CardapioPrecoOutput.builder()
+                        .idOpcao(preco.getCategoriaOpcaoId())
+                        .nome(opcoes.get(preco.getCategoriaOpcaoId()))
+                        .valor(preco.getValor())
+                        .build())
+                .toList();
+        produtos.put(produto.getId(), new Montado<>(produto.getCategoriaId(), CardapioProdutoOutput.builder()
+                .idProduto(produto.getId())
+                .nome(produto.getNome())
+                .descricao(produto.getDescricao())
+                .precos(precos)
+                .build()));
+    }
+
+    private static void adicionarAdicional(Map<Long, Montado<CardapioAdicionalOutput>> adicionais, Adicional adicional,
+                                           Set<Long> categoriaIds) {
+        if (!Boolean.TRUE.equals(adicional.getAtivo()) || !categoriaIds.contains(adicional.getCategoriaId())) {
+            return;
+        }
+        List<CardapioAdicionalItemOutput> itens = adicional.getItens().stream()
+                .filter(item -> Boolean.TRUE.equals(item.getAtivo()))
+                .sorted(Comparator.comparing(item -> item.getId()))
+                .map(item -> CardapioAdicionalItemOutput.builder()
+                        .idItem(item.getId())
+                        .nome(item.getNome())
+                        .valor(item.getValor())
+                        .build())
+                .toList();
+        adicionais.put(adicional.getId(), new Montado<>(adicional.getCategoriaId(), CardapioAdicionalOutput.builder()
+                .idAdicional(adicional.getId())
+                .nome(adicional.getNome())
+                .selecao(adicional.getSelecao() != null ? adicional.getSelecao().name() : null)
+                .minimo(adicional.getMinimo())
+                .limite(adicional.getLimite())
+                .itens(itens)
+                .build()));
+    }
+
+    /**
+     * Cardapio pronto para a resposta: JSON comprimido com gzip e o ETag (sem aspas) do JSON.
+     */
+    public record Publicado(byte[] gzip, String etag) {
+    }
+
+    private record Loja(Long id, String nome, String slug) {
+    }
+
+    private record Montado<T>(Long categoriaId, T output) {
+    }
+
+    /**
+     * Estado montado de uma organizacao; os mapas nunca sao alterados depois de publicados.
+     */
+    private record Montagem(Loja loja,
+                            List<CardapioCategoriaOutput> categorias,
+                            Map<Long, String> opcoes,
+                            Map<Long, Montado<CardapioProdutoOutput>> produtos,
+                            Map<Long, Montado<CardapioAdicionalOutput>> adicionais,
+                            Publicado publicado) {
+    }
+
+    private record Alteracoes(boolean tudo, Set<Long> produtos, Set<Long> adicionais) {
+    }
+
+    /**
+     * Cardapio de uma organizacao e as alteracoes confirmadas desde a ultima montagem.
+     */
+    private static final class Entrada {
+
+        private final ReentrantLock montando = new ReentrantLock();
+        private volatile Montagem montagem;
+        private volatile boolean pendente;
+        private boolean tudo;
+        private Set<Long> produtos = new HashSet<>();
+        private Set<Long> adicionais = new HashSet<>();
+
+        synchronized void marcarTudo() {
+            tudo = true;
+            pendente = true;
+        }
+
+        synchronized void marcarProduto(Long produtoId) {
+            produtos.add(produtoId);
+            tudo |= produtos.size() > LIMITE_INCREMENTAL;
+            pendente = true;
+        }
+
+        synchronized void marcarAdicional(Long adicionalId) {
+            adicionais.add(adicionalId);
+            tudo |= adicionais.size() > LIMITE_INCREMENTAL;
+            pendente = true;
+        }
+
+        synchronized Alteracoes retirarAlteracoes() {
+            Alteracoes alteracoes = new Alteracoes(tudo, produtos, adicionais);
+            tudo = false;
+            produtos = new HashSet<>();
+            adicionais = new HashSet<>();
+            pendente = false;
+            return alteracoes;
+        }
+    }
+}
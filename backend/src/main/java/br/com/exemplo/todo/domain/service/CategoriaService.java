@@ -5,12 +5,17 @@ import br.com.exemplo.todo.api.dto.categoria.CategoriaInput;
 import br.com.exemplo.todo.api.dto.categoria.CategoriaOpcaoInput;
 import br.com.exemplo.todo.domain.model.entity.Categoria;
 import br.com.exemplo.todo.domain.model.entity.CategoriaOpcao;
+import br.com.exemplo.todo.domain.model.paginacao.Cursor;
+import br.com.exemplo.todo.domain.model.paginacao.Pagina;
+import br.com.exemplo.todo.domain.model.paginacao.PaginaRequest;
 import br.com.exemplo.todo.domain.repository.CategoriaRepository;
 import br.com.exemplo.todo.domain.service.exception.CategoriaNaoEncontradaException;
 import br.com.exemplo.todo.domain.service.exception.CategoriaOpcaoNaoEncontradaException;
+import br.com.exemplo.todo.infrastructure.sqlite.RetryOnBusy;
 import br.com.exemplo.todo.security.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,13 +33,16 @@ import java.util.Set;
 
 @Slf4j
 @Service
+@RetryOnBusy
 @RequiredArgsConstructor
 public class CategoriaService {
 
     private static final DateTimeFormatter HORARIO_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final String CURSOR_TIPO = "categoria";
 
     private final CategoriaRepository categoriaRepository;
     private final CulinariaService culinariaService;
+    private final CardapioService cardapioService;
 
     @Transactional(readOnly = true)
     public List<Categoria> listar(Integer idCulinaria) {
@@ -48,6 +56,33 @@ public class CategoriaService {
         return categoriaRepository.findByOrganizationIdAndAtivoTrueOrderByOrdemAscNomeAsc(orgId);
     }
 
+    /**
+     * Uma pagina da listagem (keyset por ordem, nome e id, ordem nula primeiro): ids da pagina
+     * e depois as categorias com opcoes so desses ids.
+     */
+    @Transactional(readOnly = true)
+    public Pagina<Categoria> listarPagina(Integer idCulinaria, PaginaRequest request) {
+        Long orgId = TenantContext.getOrganizationId();
+        Limit limit = Limit.of(request.limite() + 1);
+        List<Long> ids;
+        if (request.cursor() == null) {
+            ids = categoriaRepository.findIdsPaginaAposSemOrdem(orgId, idCulinaria, "", 0L, limit);
+        } else {
+            Cursor cursor = Cursor.decodificar(request.cursor(), CURSOR_TIPO, 3);
+            Integer ordem = cursor.inteiroOuNulo(0);
+            ids = ordem == null
+                    ? categoriaRepository.findIdsPaginaAposSemOrdem(orgId, idCulinaria,
+                            cursor.texto(1), cursor.longo(2), limit)
+                    : categoriaRepository.findIdsPaginaAposOrdem(orgId, idCulinaria, ordem,
+                            cursor.texto(1), cursor.longo(2), limit);
+        }
+        Long total = request.contarTotal() ? categoriaRepository.contarAtivas(orgId, idCulinaria) : null;
+        List<Categoria> categorias = ids.isEmpty() ? List.of()
+                : Pagina.naOrdemDosIds(ids, categoriaRepository.findByOrganizationIdAndIdIn(orgId, ids), Categoria::getId);
+        return Pagina.de(categorias, request.limite(),
+                c -> Cursor.codificar(CURSOR_TIPO, c.getOrdem(), c.getNome(), c.getId()), total);
+    }
+
     @Transactional(readOnly = true)
     public Categoria buscarPorId(Long id) {
         Long orgId = TenantContext.getOrganizationId();
@@ -63,29 +98,11 @@ public class CategoriaService {
         Long userId = TenantContext.getUserId();
         log.debug("Criando categoria na organizacao {} com nome {}", orgId, input.getNome());
 
+        Categoria categoria = novaCategoria(input, orgId, userId);
         validarNegocio(input, null, orgId);
 
-        Categoria categoria = new Categoria();
-        categoria.setOrganizationId(orgId);
-        categoria.setCulinariaId(input.getIdCulinaria());
-        categoria.setOrdem(input.getOrdem());
-        categoria.setNome(input.getNome());
-        categoria.setDescricao(input.getDescricao());
-        categoria.setOpcaoMeia(normalizarOpcaoMeia(input.getOpcaoMeia()));
-        aplicarDisponibilidade(input.getDisponivel(), categoria);
-
-        Horario intervalo = normalizarHorario(input.getInicio(), input.getFim());
-        categoria.setInicio(intervalo.inicio());
-        categoria.setFim(intervalo.fim());
-
-        categoria.setAtivo(true);
-        categoria.setDataCriacao(LocalDateTime.now());
-        categoria.setCriadoPor(userId);
-
-        List<CategoriaOpcao> opcoes = criarOpcoes(input.getOpcoes(), categoria);
-        categoria.setOpcoes(opcoes);
-
         Categoria salva = categoriaRepository.save(categoria);
+        cardapioService.categoriaAlterada(orgId);
         log.info("Categoria criada com ID {} na organizacao {}", salva.getId(), orgId);
 
         return salva;
@@ -98,6 +115,7 @@ public class CategoriaService {
 
         Categoria existente = buscarPorId(id);
 
+        validarCampos(input);
         validarNegocio(input, existente, orgId);
 
         existente.setCulinariaId(input.getIdCulinaria());
@@ -117,6 +135,7 @@ public class CategoriaService {
         existente.setDataAtualizacao(LocalDateTime.now());
 
         Categoria atualizada = categoriaRepository.save(existente);
+        cardapioService.categoriaAlterada(orgId);
         log.info("Categoria {} atualizada na organizacao {}", id, orgId);
 
         return atualizada;
@@ -136,6 +155,7 @@ public class CategoriaService {
         }
 
         categoriaRepository.save(categoria);
+        cardapioService.categoriaAlterada(orgId);
         log.info("Categoria {} desativada na organizacao {}", id, orgId);
     }
 
@@ -174,6 +194,7 @@ public class CategoriaService {
 
         categoria.getOpcoes().add(opcao);
         categoriaRepository.save(categoria);
+        cardapioService.categoriaAlterada(orgId);
 
         return opcao;
     }
@@ -198,6 +219,7 @@ public class CategoriaService {
 
         opcao.setNome(input.getNome());
         categoriaRepository.save(categoria);
+        cardapioService.categoriaAlterada(orgId);
 
         return opcao;
     }
@@ -212,18 +234,44 @@ public class CategoriaService {
         opcao.setAtivo(false);
 
         categoriaRepository.save(categoria);
+        cardapioService.categoriaAlterada(orgId);
     }
 
+    /**
+     * Monta uma categoria nova com suas opcoes, sem gravar. Valida opcao_meia, opcoes e horario;
+     * culinaria e ordem unica dependem do banco e ficam com quem chama ({@link #criar} ou a importacao).
+     */
+    Categoria novaCategoria(CategoriaInput input, Long orgId, Long userId) {
+        validarCampos(input);
+
+        Categoria categoria = new Categoria();
+        categoria.setOrganizationId(orgId);
+        categoria.setCulinariaId(input.getIdCulinaria());
+        categoria.setOrdem(input.getOrdem());
+        categoria.setNome(input.getNome());
+        categoria.setDescricao(input.getDescricao());
+        categoria.setOpcaoMeia(normalizarOpcaoMeia(input.getOpcaoMeia()));
+        aplicarDisponibilidade(input.getDisponivel(), categoria);
+
+        Horario intervalo = normalizarHorario(input.getInicio(), input.getFim());
+        categoria.setInicio(intervalo.inicio());
+        categoria.setFim(intervalo.fim());
+
+        categoria.setAtivo(true);
+        categoria.setDataCriacao(LocalDateTime.now());
+        categoria.setCriadoPor(userId);
+
+        List<CategoriaOpcao> opcoes = criarOpcoes(input.getOpcoes(), categoria);
+        categoria.setOpcoes(opcoes);
+        return categoria;
+    }
+
+    /**
+     * Regras que dependem do banco (culinaria existente e ordem unica), checadas depois dos campos.
+     */
     private void validarNegocio(CategoriaInput input, Categoria existente, Long orgId) {
         culinariaService.buscarPorId(input.getIdCulinaria());
 
-        String opcaoMeiaNormalizada = normalizarOpcaoMeia(input.getOpcaoMeia());
-        if (!opcaoMeiaNormalizada.isEmpty()
-                && !opcaoMeiaNormalizada.equals("M")
-                && !opcaoMeiaNormalizada.equals("V")) {
-            throw new IllegalArgumentException("opcao_meia deve ser '', 'M' ou 'V'");
-        }
-
         if (input.getOrdem() != null) {
             categoriaRepository.findByOrganizationIdAndOrdemAndAtivoTrue(orgId, input.getOrdem())
                     .ifPresent(categoria -> {
@@ -232,6 +280,15 @@ public class CategoriaService {
                         }
                     });
         }
+    }
+
+    private void validarCampos(CategoriaInput input) {
+        String opcaoMeiaNormalizada = normalizarOpcaoMeia(input.getOpcaoMeia());
+        if (!opcaoMeiaNormalizada.isEmpty()
+                && !opcaoMeiaNormalizada.equals("M")
+                && !opcaoMeiaNormalizada.equals("V")) {
+            throw new IllegalArgumentException("opcao_meia deve ser '', 'M' ou 'V'");
+        }
 
         if (input.getOpcoes() == null || input.getOpcoes().isEmpty()) {
             throw new IllegalArgumentException("Deve informar ao menos uma opcao");
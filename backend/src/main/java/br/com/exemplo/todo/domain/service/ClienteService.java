@@ -5,6 +5,9 @@ import br.com.exemplo.todo.api.dto.cliente.ClienteInput;
 import br.com.exemplo.todo.domain.model.entity.Cliente;
 import br.com.exemplo.todo.domain.model.entity.ClienteEndereco;
 import br.com.exemplo.todo.domain.model.entity.Municipio;
+import br.com.exemplo.todo.domain.model.paginacao.Cursor;
+import br.com.exemplo.todo.domain.model.paginacao.Pagina;
+import br.com.exemplo.todo.domain.model.paginacao.PaginaRequest;
 import br.com.exemplo.todo.domain.repository.ClienteEnderecoRepository;
 import br.com.exemplo.todo.domain.repository.ClienteRepository;
 import br.com.exemplo.todo.domain.repository.MunicipioRepository;
@@ -13,9 +16,12 @@ import br.com.exemplo.todo.domain.service.exception.DocumentoInvalidoException;
 import br.com.exemplo.todo.domain.service.exception.DocumentoJaCadastradoException;
 import br.com.exemplo.todo.domain.service.exception.MunicipioNaoEncontradoException;
 import br.com.exemplo.todo.domain.validation.DocumentoValidator;
+import br.com.exemplo.todo.infrastructure.sqlite.RetryOnBusy;
+import br.com.exemplo.todo.infrastructure.sqlite.WriteOperation;
 import br.com.exemplo.todo.security.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,9 +33,12 @@ import java.util.Set;
 
 @Slf4j
 @Service
+@RetryOnBusy
 @RequiredArgsConstructor
 public class ClienteService {
 
+    private static final String CURSOR_TIPO = "cliente";
+
     private final ClienteRepository clienteRepository;
     private final ClienteEnderecoRepository enderecoRepository;
     private final MunicipioRepository municipioRepository;
@@ -41,6 +50,28 @@ public class ClienteService {
         return clienteRepository.findByOrganizationIdAndAtivoTrueOrderByNomeAsc(orgId);
     }
 
+    /**
+     * Uma pagina da listagem (keyset por nome e id): ids da pagina e depois os clientes com
+     * enderecos so desses ids.
+     */
+    @Transactional(readOnly = true)
+    public Pagina<Cliente> listarPagina(PaginaRequest request) {
+        Long orgId = TenantContext.getOrganizationId();
+        String nome = "";
+        Long id = 0L;
+        if (request.cursor() != null) {
+            Cursor cursor = Cursor.decodificar(request.cursor(), CURSOR_TIPO, 2);
+            nome = cursor.texto(0);
+            id = cursor.longo(1);
+        }
+        List<Long> ids = clienteRepository.findIdsPagina(orgId, nome, id, Limit.of(request.limite() + 1));
+        Long total = request.contarTotal() ? clienteRepository.countByOrganizationIdAndAtivoTrue(orgId) : null;
+        List<Cliente> clientes = ids.isEmpty() ? List.of()
+                : Pagina.naOrdemDosIds(ids, clienteRepository.findByOrganizationIdAndIdIn(orgId, ids), Cliente::getId);
+        return Pagina.de(clientes, request.limite(),
+                c -> Cursor.codificar(CURSOR_TIPO, c.getNome(), c.getId()), total);
+    }
+
     @Transactional(readOnly = true)
     public Cliente buscar(Long id) {
         Long orgId = TenantContext.getOrganizationId();
@@ -50,6 +81,7 @@ public class ClienteService {
     }
 
     @Transactional
+    @WriteOperation
     public Cliente criar(ClienteInput input) {
         Long orgId = TenantContext.getOrganizationId();
         Long userId = TenantContext.getUserId();
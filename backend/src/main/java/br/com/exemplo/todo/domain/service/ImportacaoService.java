@@ -0,0 +1,518 @@
+package br.com.exemplo.todo.domain.service;
+
+import br.com.exemplo.todo.api.dto.adicional.AdicionalInput;
+import br.com.exemplo.todo.api.dto.categoria.CategoriaInput;
+import br.com.exemplo.todo.api.dto.produto.ProdutoInput;
+import br.com.exemplo.todo.config.ImportacaoProperties;
+import br.com.exemplo.todo.domain.exception.CulinariaNotFoundException;
+import br.com.exemplo.todo.domain.model.entity.Adicional;
+import br.com.exemplo.todo.domain.model.entity.Categoria;
+import br.com.exemplo.todo.domain.model.entity.CategoriaOpcao;
+import br.com.exemplo.todo.domain.model.entity.Produto;
+import br.com.exemplo.todo.domain.repository.AdicionalRepository;
+import br.com.exemplo.todo.domain.repository.CategoriaRepository;
+import br.com.exemplo.todo.domain.repository.CulinariaRepository;
+import br.com.exemplo.todo.domain.repository.ProdutoRepository;
+import br.com.exemplo.todo.domain.service.exception.AdicionalSelecaoInvalidaException;
+import br.com.exemplo.todo.domain.service.exception.ImportacaoEmAndamentoException;
+import br.com.exemplo.todo.domain.service.exception.ImportacaoInvalidaException;
+import br.com.exemplo.todo.domain.service.exception.ImportacaoNaoEncontradaException;
+import br.com.exemplo.todo.domain.service.exception.ProdutoPrecoCategoriaInvalidaException;
+import br.com.exemplo.todo.domain.service.importacao.FormatoImportacao;
+import br.com.exemplo.todo.domain.service.importacao.Importacao;
+import br.com.exemplo.todo.domain.service.importacao.ImportacaoErro;
+import br.com.exemplo.todo.domain.service.importacao.LeitorRegistros;
+import br.com.exemplo.todo.domain.service.importacao.Registro;
+import br.com.exemplo.todo.security.TenantContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Importacao em lote do catalogo a partir de NDJSON ou CSV.
+ * <p>
+ * O corpo da requisicao e copiado para um arquivo temporario e processado em segundo plano,
+ * um registro por vez. Categorias recebem um {@code ref} do arquivo; produtos e adicionais
+ * apontam para ele (ou para o {@code id_categoria} de uma categoria ja existente) e os precos
+ * podem citar a opcao pelo nome. As referencias sao resolvidas em memoria, sem consultas por linha.
+ * <p>
+ * Cada linha passa pela bean validation dos inputs da API e pelas mesmas regras de
+ * {@link CategoriaService}, {@link ProdutoService} e {@link AdicionalService}; linhas invalidas
+ * vao para o relatorio e as demais seguem. A gravacao e feita em lotes de {@code importacao.chunk-size}
+ * registros por transacao; se o banco rejeitar um lote, as linhas dele sao refeitas uma a uma para
+ * isolar a que falhou, como no group commit.
+ */
+@Slf4j
+@Service
+public class ImportacaoService {
+
+    static final String TIPO_CATEGORIA = "categoria";
+    static final String TIPO_PRODUTO = "produto";
+    static final String TIPO_ADICIONAL = "adicional";
+
+    private final CategoriaService categoriaService;
+    private final ProdutoService produtoService;
+    private final AdicionalService adicionalService;
+    private final CulinariaRepository culinariaRepository;
+    private final CategoriaRepository categoriaRepository;
+    private final ProdutoRepository produtoRepository;
+    private final AdicionalRepository adicionalRepository;
+    private final CardapioService cardapioService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final AsyncTaskExecutor executor;
+    private final ImportacaoProperties properties;
+    private final TransactionTemplate escrita;
+    private final TransactionTemplate leitura;
+    private final Map<String, Importacao> importacoes = new ConcurrentHashMap<>();
+    private final Map<Long, String> emAndamento = new ConcurrentHashMap<>();
+
+    public ImportacaoService(CategoriaService categoriaService,
+                             ProdutoService produtoService,
+                             AdicionalService adicionalService,
+                             CulinariaRepository culinariaRepository,
+                             CategoriaRepository categoriaRepository,
+                             ProdutoRepository produtoRepository,
+                             AdicionalRepository adicionalRepository,
+                             CardapioService cardapioService,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             @Qualifier("applicationTaskExecutor") AsyncTaskExecutor executor,
+                             PlatformTransactionManager transactionManager,
+                             ImportacaoProperties properties) {
+        this.categoriaService = categoriaService;
+        this.produtoService = produtoService;
+        this.adicionalService = adicionalService;
+        this.culinariaRepository = culinariaRepository;
+        this.categoriaRepository = categoriaRepository;
+        this.produtoRepository = produtoRepository;
+        this.adicionalRepository = adicionalRepository;
+        this.cardapioService = cardapioService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.executor = executor;
+        this.properties = properties;
+        this.escrita = new TransactionTemplate(transactionManager);
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setReadOnly(true);
+    }
+
+    /**
+     * Recebe o arquivo e agenda o processamento. Uma importacao por organizacao de cada vez.
+     */
+    public Importacao iniciar(FormatoImportacao formato, InputStream corpo) {
+        Long orgId = TenantContext.getOrganizationId();
+        purgarAntigas();
+
+        String id = UUID.randomUUID().toString();
+        String atual = emAndamento.putIfAbsent(orgId, id);
+        if (atual != null) {
+            throw new ImportacaoEmAndamentoException(atual);
+        }
+
+        Path arquivo = null;
+        try {
+            arquivo = copiarParaTemporario(formato, corpo);
+            Importacao importacao = new Importacao(id, orgId, formato, properties.getMaxErros());
+            importacoes.put(id, importacao);
+            Path origem = arquivo;
+            executor.execute(() -> processar(importacao, origem));
+            log.info("Importacao {} ({}) agendada org={}", id, formato, orgId);
+            return importacao;
+        } catch (RuntimeException e) {
+            importacoes.remove(id);
+            emAndamento.remove(orgId, id);
+            apagar(arquivo);
+            throw e;
+        }
+    }
+
+    /**
+     * Progresso de uma importacao da organizacao atual.
+     */
+    public Importacao buscar(String id) {
+        Long orgId = TenantContext.getOrganizationId();
+        purgarAntigas();
+        Importacao importacao = importacoes.get(id);
+        if (importacao == null || !importacao.getOrganizationId().equals(orgId)) {
+            throw new ImportacaoNaoEncontradaException(id);
+        }
+        return importacao;
+    }
+
+    private Path copiarParaTemporario(FormatoImportacao formato, InputStream corpo) {
+        long limite = properties.getMaxTamanho().toBytes();
+        Path arquivo = null;
+        try {
+            arquivo = Files.createTempFile("importacao-", "." + formato.name().toLowerCase(Locale.ROOT));
+            long total = 0;
+            byte[] buffer = new byte[64 * 1024];
+            try (OutputStream saida = Files.newOutputStream(arquivo)) {
+                int lidos;
+                while ((lidos = corpo.read(buffer)) != -1) {
+                    total += lidos;
+                    if (total > limite) {
+                        throw new ImportacaoInvalidaException(String.format(
+                                "Arquivo maior que o limite de %d MB", properties.getMaxTamanho().toMegabytes()));
+                    }
+                    saida.write(buffer, 0, lidos);
+                }
+            }
+            if (total == 0) {
+                throw new ImportacaoInvalidaException("Arquivo de importacao vazio");
+            }
+            return arquivo;
+        } catch (IOException e) {
+            apagar(arquivo);
+            throw new UncheckedIOException("Falha ao receber o arquivo de importacao", e);
+        } catch (RuntimeException e) {
+            apagar(arquivo);
+            throw e;
+        }
+    }
+
+    private void processar(Importacao importacao, Path arquivo) {
+        long inicio = System.nanoTime();
+        try (LeitorRegistros leitor = importacao.getFormato().abrir(arquivo, objectMapper)) {
+            Referencias referencias = carregarReferencias(importacao.getOrganizationId());
+            List<Registro> lote = new ArrayList<>(properties.getChunkSize());
+            Registro registro;
+            while ((registro = leitor.proximo()) != null) {
+                lote.add(registro);
+                if (lote.size() >= properties.getChunkSize()) {
+                    gravarLote(importacao, referencias, lote);
+                    lote.clear();
+                }
+            }
+            gravarLote(importacao, referencias, lote);
+            importacao.concluir();
+            log.info("Importacao {} concluida em {} ms: {} linhas, {} categorias, {} produtos, {} adicionais, {} erros",
+                    importacao.getId(), (System.nanoTime() - inicio) / 1_000_000,
+                    importacao.getLinhasProcessadas().get(), importacao.getCategoriasCriadas().get(),
+                    importacao.getProdutosCriados().get(), importacao.getAdicionaisCriados().get(),
+                    importacao.getLinhasComErro().get());
+        } catch (Exception e) {
+            log.error("Importacao {} interrompida: {}", importacao.getId(), e.getMessage(), e);
+            importacao.falhar("Processamento interrompido: " + mensagem(e));
+        } finally {
+            apagar(arquivo);
+            emAndamento.remove(importacao.getOrganizationId(), importacao.getId());
+        }
+    }
+
+    private Referencias carregarReferencias(Long orgId) {
+        Referencias referencias = new Referencias();
+        leitura.executeWithoutResult(status -> {
+            for (Categoria categoria : categoriaRepository.findByOrganizationIdAndAtivoTrueOrderByOrdemAscNomeAsc(orgId)) {
+                referencias.porId.put(categoria.getId(), categoria);
+                if (categoria.getOrdem() != null) {
+                    referencias.ordens.add(categoria.getOrdem());
+                }
+            }
+        });
+        return referencias;
+    }
+
+    /**
+     * Grava o lote em uma transacao. Se o commit falhar, desfaz as referencias criadas por ele e
+     * refaz cada linha na sua propria transacao.
+     */
+    private void gravarLote(Importacao importacao, Referencias referencias, List<Registro> lote) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        Resultado resultado = new Resultado();
+        try {
+            escrita.executeWithoutResult(status -> {
+                for (Registro registro : lote) {
+                    gravar(importacao.getOrganizationId(), registro, referencias, resultado);
+                }
+                if (resultado.criados() > 0) {
+                    cardapioService.categoriaAlterada(importacao.getOrganizationId());
+                }
+            });
+        } catch (RuntimeException e) {
+            resultado.desfazer(referencias);
+            if (lote.size() == 1) {
+                Registro registro = lote.get(0);
+                importacao.getLinhasProcessadas().incrementAndGet();
+                importacao.registrarErro(new ImportacaoErro(registro.linha(), texto(registro, "tipo"),
+                        texto(registro, "ref"), "Falha ao gravar: " + mensagem(e)));
+                return;
+            }
+            log.warn("Lote de {} linhas da importacao {} desfeito ({}); refazendo linha a linha",
+                    lote.size(), importacao.getId(), mensagem(e));
+            lote.forEach(registro -> gravarLote(importacao, referencias, List.of(registro)));
+            return;
+        }
+        importacao.getLinhasProcessadas().addAndGet(lote.size());
+        importacao.getCategoriasCriadas().addAndGet(resultado.categorias);
+        importacao.getProdutosCriados().addAndGet(resultado.produtos);
+        importacao.getAdicionaisCriados().addAndGet(resultado.adicionais);
+        resultado.erros.forEach(importacao::registrarErro);
+    }
+
+    /**
+     * Valida e monta a linha fora do banco (erros viram linha rejeitada) e so entao grava;
+     * falhas na gravacao sobem e derrubam o lote.
+     */
+    private void gravar(Long orgId, Registro registro, Referencias referencias, Resultado resultado) {
+        if (!registro.isValido()) {
+            resultado.erros.add(new ImportacaoErro(registro.linha(), null, null, registro.erro()));
+            return;
+        }
+        ObjectNode dados = registro.dados().deepCopy();
+        String tipo = textoMinusculo(dados.remove("tipo"));
+        String ref = textoOuNulo(dados.remove("ref"));
+        Object entidade;
+        try {
+            entidade = montar(orgId, tipo, ref, dados, referencias);
+        } catch (LinhaInvalidaException | IllegalArgumentException | CulinariaNotFoundException
+                 | ProdutoPrecoCategoriaInvalidaException | AdicionalSelecaoInvalidaException e) {
+            resultado.erros.add(new ImportacaoErro(registro.linha(), tipo, ref, e.getMessage()));
+            return;
+        }
+
+        switch (entidade) {
+            case Categoria categoria -> {
+                categoriaRepository.save(categoria);
+                resultado.registrar(referencias, ref, categoria);
+            }
+            case Produto produto -> {
+                produtoRepository.save(produto);
+                resultado.produtos++;
+            }
+            case Adicional adicional -> {
+                adicionalRepository.save(adicional);
+                resultado.adicionais++;
+            }
+            default -> throw new IllegalStateException("Entidade inesperada: " + entidade);
+        }
+    }
+
+    private Object montar(Long orgId, String tipo, String ref, ObjectNode dados, Referencias referencias) {
+        Long userId = TenantContext.getUserId();
+        switch (tipo == null ? "" : tipo) {
+            case TIPO_CATEGORIA -> {
+                CategoriaInput input = converter(dados, CategoriaInput.class);
+                validarCategoria(input, ref, referencias);
+                return categoriaService.novaCategoria(input, orgId, userId);
+            }
+            case TIPO_PRODUTO -> {
+                Categoria categoria = resolverCategoria(dados, "id_categoria", referencias);
+                resolverOpcoes(dados, categoria);
+                return produtoService.novoProduto(categoria, converter(dados, ProdutoInput.class), orgId, userId);
+            }
+            case TIPO_ADICIONAL -> {
+                Categoria categoria = resolverCategoria(dados, "id_categoria", referencias);
+                return adicionalService.novoAdicional(categoria, converter(dados, AdicionalInput.class), orgId, userId);
+            }
+            default -> throw new LinhaInvalidaException("tipo deve ser categoria, produto ou adicional");
+        }
+    }
+
+    private void validarCategoria(CategoriaInput input, String ref, Referencias referencias) {
+        if (ref == null) {
+            throw new LinhaInvalidaException("ref e obrigatorio para categoria");
+        }
+        if (referencias.porRef.containsKey(ref)) {
+            throw new LinhaInvalidaException("ref '" + ref + "' repetido no arquivo");
+        }
+        if (!referencias.culinarias.computeIfAbsent(input.getIdCulinaria(), culinariaRepository::existsById)) {
+            throw new CulinariaNotFoundException(input.getIdCulinaria());
+        }
+        if (input.getOrdem() != null && referencias.ordens.contains(input.getOrdem())) {
+            throw new LinhaInvalidaException("Ja existe categoria com esta ordem para a organizacao");
+        }
+    }
+
+    /**
+     * Troca {@code "categoria": "<ref>"} pelo id da categoria criada no arquivo ou valida o
+     * {@code id_categoria} informado contra as categorias ativas da organizacao.
+     */
+    private Categoria resolverCategoria(ObjectNode dados, String campoId, Referencias referencias) {
+        String ref = textoOuNulo(dados.remove("categoria"));
+        Categoria categoria;
+        if (ref != null) {
+            categoria = referencias.porRef.get(ref);
+            if (categoria == null) {
+                throw new LinhaInvalidaException("categoria '" + ref + "' nao encontrada nas linhas anteriores");
+            }
+        } else {
+            JsonNode id = dados.get(campoId);
+            if (id == null || id.isNull()) {
+                throw new LinhaInvalidaException("Informe categoria (ref do arquivo) ou " + campoId);
+            }
+            categoria = referencias.porId.get(id.asLong());
+            if (categoria == null) {
+                throw new LinhaInvalidaException("Categoria invalida ou inativa");
+            }
+        }
+        dados.put(campoId, categoria.getId());
+        return categoria;
+    }
+
+    /**
+     * Precos podem citar a opcao da categoria pelo nome ({@code "opcao": "500ml"}) em vez do id.
+     */
+    private static void resolverOpcoes(ObjectNode dados, Categoria categoria) {
+        JsonNode opcoes = dados.get("opcoes");
+        if (opcoes == null || !opcoes.isArray()) {
+            return;
+        }
+        for (JsonNode opcao : opcoes) {
+            if (!(opcao instanceof ObjectNode preco) || !preco.has("opcao")) {
+                continue;
+            }
+            String nome = preco.remove("opcao").asText().trim();
+            CategoriaOpcao encontrada = categoria.getOpcoes().stream()
+                    .filter(o -> Boolean.TRUE.equals(o.getAtivo()) && o.getNome().equalsIgnoreCase(nome))
+                    .findFirst()
+                    .orElseThrow(() -> new LinhaInvalidaException(
+                            "Opcao '" + nome + "' nao existe na categoria " + categoria.getNome()));
+            preco.put("id_opcao", encontrada.getId());
+        }
+    }
+
+    private <T> T converter(ObjectNode dados, Class<T> tipo) {
+        T input;
+        try {
+            input = objectMapper.treeToValue(dados, tipo);
+        } catch (JsonProcessingException e) {
+            throw new LinhaInvalidaException("Campo invalido: " + e.getOriginalMessage());
+        }
+        Set<ConstraintViolation<T>> violacoes = validator.validate(input);
+        if (!violacoes.isEmpty()) {
+            throw new LinhaInvalidaException(violacoes.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return input;
+    }
+
+    private void purgarAntigas() {
+        LocalDateTime limite = LocalDateTime.now().minus(properties.getRetencao());
+        importacoes.values().removeIf(i -> i.isFinalizada() && i.getFim().isBefore(limite));
+    }
+
+    private static void apagar(Path arquivo) {
+        if (arquivo == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(arquivo);
+        } catch (IOException e) {
+            log.warn("Nao foi possivel apagar o arquivo temporario {}: {}", arquivo, e.getMessage());
+        }
+    }
+
+    private static String mensagem(Throwable e) {
+        Throwable causa = NestedExceptionUtils.getMostSpecificCause(e);
+        return causa.getMessage() != null ? causa.getMessage() : causa.getClass().getSimpleName();
+    }
+
+    private static String texto(Registro registro, String campo) {
+        return registro.dados() == null ? null : textoOuNulo(registro.dados().get(campo));
+    }
+
+    private static String textoOuNulo(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        String texto = node.asText().trim();
+        return texto.isEmpty() ? null : texto;
+    }
+
+    private static String textoMinusculo(JsonNode node) {
+        String texto = textoOuNulo(node);
+        return texto == null ? null : texto.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Categorias conhecidas pela importacao: as ativas da organizacao (por id) e as criadas
+     * pelo arquivo (por ref), alem das ordens ja usadas e das culinarias ja conferidas.
+     */
+    private static final class Referencias {
+        private final Map<String, Categoria> porRef = new HashMap<>();
+        private final Map<Long, Categoria> porId = new HashMap<>();
+        private final Set<Integer> ordens = new HashSet<>();
+        private final Map<Integer, Boolean> culinarias = new HashMap<>();
+    }
+
+    /**
+     * O que um lote gravou; as categorias criadas entram nas referencias na hora (as linhas
+     * seguintes do mesmo lote podem usa-las) e saem de novo se o lote for desfeito.
+     */
+    private static final class Resultado {
+        private final List<CategoriaNova> categoriasNovas = new ArrayList<>();
+        private final List<ImportacaoErro> erros = new ArrayList<>();
+        private int categorias;
+        private int produtos;
+        private int adicionais;
+
+        void registrar(Referencias referencias, String ref, Categoria categoria) {
+            referencias.porRef.put(ref, categoria);
+            referencias.porId.put(categoria.getId(), categoria);
+            if (categoria.getOrdem() != null) {
+                referencias.ordens.add(categoria.getOrdem());
+            }
+            categoriasNovas.add(new CategoriaNova(ref, categoria));
+            categorias++;
+        }
+
+        int criados() {
+            return categorias + produtos + adicionais;
+        }
+
+        void desfazer(Referencias referencias) {
+            for (CategoriaNova nova : categoriasNovas) {
+                referencias.porRef.remove(nova.ref());
+                referencias.porId.remove(nova.categoria().getId());
+                if (nova.categoria().getOrdem() != null) {
+                    referencias.ordens.remove(nova.categoria().getOrdem());
+                }
+            }
+        }
+    }
+
+    private record CategoriaNova(String ref, Categoria categoria) {
+    }
+
+    /**
+     * Linha rejeitada pela importacao (referencia, formato ou bean validation).
+     */
+    private static final class LinhaInvalidaException extends RuntimeException {
+        LinhaInvalidaException(String message) {
+            super(message);
+        }
+    }
+}
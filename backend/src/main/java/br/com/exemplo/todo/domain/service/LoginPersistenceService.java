@@ -0,0 +1,64 @@
+package br.com.exemplo.todo.domain.service;
+
+import br.com.exemplo.todo.domain.model.entity.Account;
+import br.com.exemplo.todo.domain.model.entity.LoginAttempt;
+import br.com.exemplo.todo.domain.model.entity.RefreshToken;
+import br.com.exemplo.todo.domain.model.projection.CredencialLogin;
+import br.com.exemplo.todo.domain.model.projection.MembershipResumo;
+import br.com.exemplo.todo.domain.repository.AccountRepository;
+import br.com.exemplo.todo.domain.repository.MembershipRepository;
+import br.com.exemplo.todo.domain.repository.RefreshTokenRepository;
+import br.com.exemplo.todo.domain.repository.UserRepository;
+import br.com.exemplo.todo.infrastructure.audit.LoginAttemptWriter;
+import br.com.exemplo.todo.infrastructure.sqlite.WriteOperation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Escritas do login por senha.
+ * Cada resultado (sucesso ou falha) e gravado em uma unica transacao curta, aberta apenas
+ * depois da verificacao do BCrypt, com UPDATEs diretos (sem carregar entidades) e
+ * sem UPDATE quando nada mudou. A tentativa de login entra na mesma transacao quando o
+ * {@link LoginAttemptWriter} grava de forma sincrona.
+ */
+@Service
+@RequiredArgsConstructor
+public class LoginPersistenceService {
+
+    private final AccountRepository accountRepository;
+    private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final MembershipRepository membershipRepository;
+    private final LoginAttemptWriter loginAttemptWriter;
+
+    /**
+     * Zera as tentativas de falha (se houver), atualiza o ultimo acesso e persiste a tentativa e o refresh token.
+     * @return memberships ativas do usuario, lidas na mesma transacao
+     */
+    @Transactional
+    @WriteOperation
+    public List<MembershipResumo> registrarSucesso(CredencialLogin credencial, LoginAttempt tentativa,
+                                                   RefreshToken refreshToken, LocalDateTime agora) {
+        loginAttemptWriter.registrar(tentativa);
+        if (credencial.possuiTentativasFalha()) {
+            accountRepository.resetarTentativasFalha(credencial.accountId());
+        }
+        userRepository.atualizarUltimoAcesso(credencial.userId(), agora);
+        refreshTokenRepository.save(refreshToken);
+        return membershipRepository.buscarResumosAtivos(credencial.userId());
+    }
+
+    /**
+     * Incrementa as tentativas de falha, bloqueando a conta ao atingir o limite, e registra a tentativa.
+     */
+    @Transactional
+    @WriteOperation
+    public void registrarFalha(CredencialLogin credencial, LoginAttempt tentativa, LocalDateTime agora) {
+        loginAttemptWriter.registrar(tentativa);
+        accountRepository.registrarTentativaFalha(credencial.accountId(), Account.LIMITE_TENTATIVAS_FALHA, agora);
+    }
+}
@@ -14,6 +14,7 @@ import br.com.exemplo.todo.domain.repository.MembershipRepository;
 import br.com.exemplo.todo.domain.repository.OrganizationRepository;
 import br.com.exemplo.todo.domain.repository.UserRepository;
 import br.com.exemplo.todo.security.AuthenticatedUser;
+import br.com.exemplo.todo.security.MembershipCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -30,6 +31,7 @@ public class OrganizationService {
     private final OrganizationRepository organizationRepository;
     private final MembershipRepository membershipRepository;
     private final UserRepository userRepository;
+    private final MembershipCache membershipCache;
 
     @Transactional
     public MembershipOutput criarOrganizacao(OrganizationInput input) {
@@ -56,6 +58,7 @@ public class OrganizationService {
         membership.setAtivo(true);
         membership.setDataIngresso(LocalDateTime.now());
         membership = membershipRepository.save(membership);
+        membershipCache.invalidar(userId, organization.getId());
 
         log.info("Nova organizacao criada: orgId={}, nome={}, userId={}",
                 organization.getId(), organization.getNome(), userId);
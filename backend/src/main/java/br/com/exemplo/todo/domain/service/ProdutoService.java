@@ -2,46 +2,92 @@ package br.com.exemplo.todo.domain.service;
 
 import br.com.exemplo.todo.api.dto.produto.ProdutoInput;
 import br.com.exemplo.todo.api.dto.produto.ProdutoOpcaoInput;
+import br.com.exemplo.todo.api.dto.produto.ProdutoOutput;
+import br.com.exemplo.todo.api.dto.produto.ProdutoPrecoOutput;
 import br.com.exemplo.todo.domain.model.entity.Categoria;
 import br.com.exemplo.todo.domain.model.entity.CategoriaOpcao;
 import br.com.exemplo.todo.domain.model.entity.Produto;
 import br.com.exemplo.todo.domain.model.entity.ProdutoPreco;
+import br.com.exemplo.todo.domain.model.paginacao.Cursor;
+import br.com.exemplo.todo.domain.model.paginacao.Pagina;
+import br.com.exemplo.todo.domain.model.paginacao.PaginaRequest;
+import br.com.exemplo.todo.domain.model.projection.ProdutoPrecoLinha;
 import br.com.exemplo.todo.domain.repository.CategoriaOpcaoRepository;
 import br.com.exemplo.todo.domain.repository.CategoriaRepository;
 import br.com.exemplo.todo.domain.repository.ProdutoPrecoRepository;
 import br.com.exemplo.todo.domain.repository.ProdutoRepository;
 import br.com.exemplo.todo.domain.service.exception.ProdutoNaoEncontradoException;
 import br.com.exemplo.todo.domain.service.exception.ProdutoPrecoCategoriaInvalidaException;
+import br.com.exemplo.todo.infrastructure.sqlite.RetryOnBusy;
 import br.com.exemplo.todo.security.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
+@RetryOnBusy
 @RequiredArgsConstructor
 public class ProdutoService {
 
+    private static final String CURSOR_TIPO = "produto";
+
     private final ProdutoRepository produtoRepository;
     private final ProdutoPrecoRepository produtoPrecoRepository;
     private final CategoriaRepository categoriaRepository;
     private final CategoriaOpcaoRepository categoriaOpcaoRepository;
+    private final CardapioService cardapioService;
+
+    /**
+     * Listagem de produtos ativos com precos ativos montada direto da projecao (uma consulta com
+     * join em PRODUTO_PRECO e CATEGORIA_OPCAO, sem entidades gerenciadas).
+     */
+    @Transactional(readOnly = true)
+    public List<ProdutoOutput> listar(Long categoriaId) {
+        Long orgId = TenantContext.getOrganizationId();
+        try (Stream<ProdutoPrecoLinha> linhas = categoriaId != null
+                ? produtoRepository.streamListagemPorCategoria(orgId, categoriaId)
+                : produtoRepository.streamListagem(orgId)) {
+            return agrupar(linhas);
+        }
+    }
 
+    /**
+     * Uma pagina da listagem (keyset por nome e id): primeiro os ids da pagina, depois os precos
+     * so desses produtos pela mesma projecao de {@link #listar(Long)}.
+     */
     @Transactional(readOnly = true)
-    public List<Produto> listar(Long categoriaId) {
+    public Pagina<ProdutoOutput> listarPagina(Long categoriaId, PaginaRequest request) {
         Long orgId = TenantContext.getOrganizationId();
-        if (categoriaId != null) {
-            return produtoRepository.findByOrganizationIdAndCategoriaIdAndAtivoTrueOrderByNomeAsc(orgId, categoriaId);
+        String nome = "";
+        Long id = 0L;
+        if (request.cursor() != null) {
+            Cursor cursor = Cursor.decodificar(request.cursor(), CURSOR_TIPO, 2);
+            nome = cursor.texto(0);
+            id = cursor.longo(1);
+        }
+        List<Long> ids = produtoRepository.findIdsPagina(orgId, categoriaId, nome, id,
+                Limit.of(request.limite() + 1));
+        Long total = request.contarTotal() ? produtoRepository.contarAtivos(orgId, categoriaId) : null;
+        if (ids.isEmpty()) {
+            return new Pagina<>(List.of(), null, total);
+        }
+        try (Stream<ProdutoPrecoLinha> linhas = produtoRepository.streamListagemPorIds(orgId, ids)) {
+            return Pagina.de(agrupar(linhas), request.limite(),
+                    p -> Cursor.codificar(CURSOR_TIPO, p.getNome(), p.getId_produto()), total);
         }
-        return produtoRepository.findByOrganizationIdAndAtivoTrueOrderByNomeAsc(orgId);
     }
 
     @Transactional(readOnly = true)
@@ -57,29 +103,10 @@ public class ProdutoService {
         Long userId = TenantContext.getUserId();
 
         Categoria categoria = validarCategoria(orgId, input.getId_categoria());
-        Map<Long, CategoriaOpcao> opcoesValidas = validarOpcoes(categoria, input.getOpcoes());
-
-        Produto produto = new Produto();
-        produto.setOrganizationId(orgId);
-        produto.setCategoriaId(categoria.getId());
-        produto.setNome(input.getNome());
-        produto.setDescricao(input.getDescricao());
-        produto.setAtivo(true);
-        produto.setCriadoPor(userId);
-        produto.setDataCriacao(LocalDateTime.now());
-
-        for (ProdutoOpcaoInput opc : input.getOpcoes()) {
-            ProdutoPreco preco = new ProdutoPreco();
-            preco.setOrganizationId(orgId);
-            preco.setProduto(produto);
-            preco.setCategoriaOpcaoId(opc.getId_opcao());
-            preco.setValor(opc.getValor());
-            preco.setAtivo(true);
-            preco.setDataCriacao(LocalDateTime.now());
-            produto.getPrecos().add(preco);
-        }
+        Produto produto = novoProduto(categoria, input, orgId, userId);
 
         Produto salvo = produtoRepository.save(produto);
+        cardapioService.produtoAlterado(orgId, salvo.getId());
         log.info("Produto criado id={} org={}", salvo.getId(), orgId);
         return salvo;
     }
@@ -100,6 +127,7 @@ public class ProdutoService {
         sincronizarPrecos(existente, input.getOpcoes());
 
         Produto atualizado = produtoRepository.save(existente);
+        cardapioService.produtoAlterado(orgId, atualizado.getId());
         log.info("Produto atualizado id={} org={}", atualizado.getId(), orgId);
         return atualizado;
     }
@@ -116,9 +144,78 @@ public class ProdutoService {
             });
         }
         produtoRepository.save(produto);
+        cardapioService.produtoAlterado(produto.getOrganizationId(), id);
         log.info("Produto desativado id={}", id);
     }
 
+    private static List<ProdutoOutput> agrupar(Stream<ProdutoPrecoLinha> linhas) {
+        List<ProdutoOutput> produtos = new ArrayList<>();
+        ProdutoOutput atual = null;
+        Iterator<ProdutoPrecoLinha> iterator = linhas.iterator();
+        while (iterator.hasNext()) {
+            ProdutoPrecoLinha linha = iterator.next();
+            // Linhas do mesmo produto chegam em sequencia (ORDER BY nome, id)
+            if (atual == null || !atual.getId_produto().equals(linha.produtoId())) {
+                atual = toOutput(linha);
+                produtos.add(atual);
+            }
+            if (linha.precoId() != null) {
+                atual.getOpcoes().add(toPrecoOutput(linha));
+            }
+        }
+        return produtos;
+    }
+
+    private static ProdutoOutput toOutput(ProdutoPrecoLinha linha) {
+        ProdutoOutput output = new ProdutoOutput();
+        output.setId_produto(linha.produtoId());
+        output.setId_categoria(linha.categoriaId());
+        output.setNome(linha.nome());
+        output.setDescricao(linha.descricao());
+        output.setStatus(true);
+        output.setOpcoes(new ArrayList<>());
+        return output;
+    }
+
+    private static ProdutoPrecoOutput toPrecoOutput(ProdutoPrecoLinha linha) {
+        ProdutoPrecoOutput output = new ProdutoPrecoOutput();
+        output.setId_preco(linha.precoId());
+        output.setId_opcao(linha.opcaoId());
+        output.setNome(linha.opcaoNome());
+        output.setValor(linha.valor());
+        output.setStatus(true);
+        return output;
+    }
+
+    /**
+     * Monta um produto novo com seus precos, sem gravar, validando as opcoes contra a categoria
+     * ja carregada (com opcoes). Usado tambem pela importacao em lote.
+     */
+    Produto novoProduto(Categoria categoria, ProdutoInput input, Long orgId, Long userId) {
+        validarOpcoes(categoria, input.getOpcoes());
+
+        Produto produto = new Produto();
+        produto.setOrganizationId(orgId);
+        produto.setCategoriaId(categoria.getId());
+        produto.setNome(input.getNome());
+        produto.setDescricao(input.getDescricao());
+        produto.setAtivo(true);
+        produto.setCriadoPor(userId);
+        produto.setDataCriacao(LocalDateTime.now());
+
+        for (ProdutoOpcaoInput opc : input.getOpcoes()) {
+            ProdutoPreco preco = new ProdutoPreco();
+            preco.setOrganizationId(orgId);
+            preco.setProduto(produto);
+            preco.setCategoriaOpcaoId(opc.getId_opcao());
+            preco.setValor(opc.getValor());
+            preco.setAtivo(true);
+            preco.setDataCriacao(LocalDateTime.now());
+            produto.getPrecos().add(preco);
+        }
+        return produto;
+    }
+
     private Categoria validarCategoria(Long orgId, Long categoriaId) {
         return categoriaRepository.findByIdAndOrganizationIdAndAtivoTrue(categoriaId, orgId)
                 .orElseThrow(() -> new IllegalArgumentException("Categoria invalida ou inativa"));
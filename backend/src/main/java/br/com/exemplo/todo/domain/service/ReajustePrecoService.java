@@ -0,0 +1,87 @@
+package br.com.exemplo.todo.domain.service;
+
+import br.com.exemplo.todo.api.dto.produto.ArredondamentoPrecoInput;
+import br.com.exemplo.todo.api.dto.produto.ReajustePrecoAlteracaoOutput;
+import br.com.exemplo.todo.api.dto.produto.ReajustePrecoInput;
+import br.com.exemplo.todo.api.dto.produto.ReajustePrecoOutput;
+import br.com.exemplo.todo.domain.model.preco.ReajustePreco;
+import br.com.exemplo.todo.domain.model.projection.ReajustePrecoLinha;
+import br.com.exemplo.todo.domain.repository.ProdutoPrecoRepository;
+import br.com.exemplo.todo.domain.service.exception.ReajustePrecoInvalidoException;
+import br.com.exemplo.todo.infrastructure.sqlite.RetryOnBusy;
+import br.com.exemplo.todo.security.TenantContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reajuste de precos em lote (percentual, valor e arredondamento) por categoria, opcao ou lista de
+ * produtos. O calculo fica no banco: a simulacao le o diff e a aplicacao e um unico UPDATE em
+ * PRODUTO_PRECO com a mesma expressao, na mesma transacao das validacoes.
+ */
+@Slf4j
+@Service
+@RetryOnBusy
+@RequiredArgsConstructor
+public class ReajustePrecoService {
+
+    private final ProdutoPrecoRepository produtoPrecoRepository;
+    private final CardapioService cardapioService;
+
+    @Transactional
+    public ReajustePrecoOutput reajustar(ReajustePrecoInput input) {
+        Long orgId = TenantContext.getOrganizationId();
+        ReajustePreco reajuste = validar(orgId, input);
+
+        long naoPositivos = produtoPrecoRepository.contarReajusteNaoPositivo(reajuste);
+        if (naoPositivos > 0) {
+            throw new ReajustePrecoInvalidoException(
+                    "Reajuste deixaria " + naoPositivos + " preco(s) com valor zero ou negativo");
+        }
+
+        if (input.isSimular()) {
+            List<ReajustePrecoLinha> linhas = produtoPrecoRepository.simularReajuste(reajuste);
+            long produtos = linhas.stream().map(ReajustePrecoLinha::produtoId).distinct().count();
+            return new ReajustePrecoOutput(true, linhas.size(), (int) produtos,
+                    linhas.stream().map(ReajustePrecoService::toOutput).toList());
+        }
+
+        List<Long> produtos = produtoPrecoRepository.findProdutosReajuste(reajuste);
+        int alterados = produtos.isEmpty() ? 0 : produtoPrecoRepository.aplicarReajuste(reajuste, LocalDateTime.now());
+        cardapioService.produtosAlterados(orgId, produtos);
+        log.info("Reajuste de precos aplicado org={} precos={} produtos={}", orgId, alterados, produtos.size());
+        return new ReajustePrecoOutput(false, alterados, produtos.size(), null);
+    }
+
+    private static ReajustePreco validar(Long orgId, ReajustePrecoInput input) {
+        List<Long> produtoIds = input.getIds_produto() == null ? List.of() : input.getIds_produto();
+        if (input.getId_categoria() == null && input.getId_opcao() == null && produtoIds.isEmpty()) {
+            throw new ReajustePrecoInvalidoException("Informe id_categoria, id_opcao ou ids_produto");
+        }
+        ArredondamentoPrecoInput arredondamento = input.getArredondamento();
+        if (input.getPercentual() == null && input.getValor() == null && arredondamento == null) {
+            throw new ReajustePrecoInvalidoException("Informe percentual, valor ou arredondamento");
+        }
+        if (arredondamento == null) {
+            return ReajustePreco.de(orgId, input.getId_categoria(), input.getId_opcao(), produtoIds,
+                    input.getPercentual(), input.getValor(), null, null, null);
+        }
+
+        ReajustePreco reajuste = ReajustePreco.de(orgId, input.getId_categoria(), input.getId_opcao(), produtoIds,
+                input.getPercentual(), input.getValor(), arredondamento.getPasso(), arredondamento.getTerminacao(),
+                arredondamento.getDirecao());
+        if (reajuste.terminacao().compareTo(reajuste.passo()) >= 0) {
+            throw new ReajustePrecoInvalidoException("terminacao deve ser menor que o passo");
+        }
+        return reajuste;
+    }
+
+    private static ReajustePrecoAlteracaoOutput toOutput(ReajustePrecoLinha linha) {
+        return new ReajustePrecoAlteracaoOutput(linha.precoId(), linha.produtoId(), linha.produtoNome(),
+                linha.opcaoId(), linha.opcaoNome(), linha.valorAtual(), linha.valorNovo());
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.exemplo.todo.domain.service;
+
+import br.com.exemplo.todo.config.RefreshTokenCleanupProperties;
+import br.com.exemplo.todo.domain.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limpeza periodica de REFRESH_TOKEN (tokens expirados e revogados antigos).
+ * <p>
+ * Remove em lotes pequenos, cada um na sua propria transacao e com uma pausa entre eles,
+ * para que o lock de escrita do SQLite nunca fique retido por muito tempo.
+ * Linhas removidas por execucao sao publicadas em {@code auth.refresh-token.cleanup.purged}.
+ */
+@Slf4j
+@Service
+public class RefreshTokenCleanupService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RefreshTokenCleanupProperties properties;
+    private final DistributionSummary removidosPorExecucao;
+    private final Timer duracao;
+
+    public RefreshTokenCleanupService(RefreshTokenRepository refreshTokenRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      RefreshTokenCleanupProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.removidosPorExecucao = DistributionSummary.builder("auth.refresh-token.cleanup.purged")
+                .description("Refresh tokens removidos por execucao da limpeza")
+                .baseUnit("rows")
+                .register(meterRegistry);
+        this.duracao = Timer.builder("auth.refresh-token.cleanup")
+                .description("Duracao de uma execucao da limpeza de refresh tokens")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.refresh-token-cleanup.interval:PT1H}",
+            initialDelayString = "${auth.refresh-token-cleanup.initial-delay:PT5M}")
+    public void limparAgendado() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            limpar();
+        } catch (RuntimeException e) {
+            log.error("Falha na limpeza de refresh tokens: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Executa uma rodada de limpeza.
+     *
+     * @return quantidade de tokens removidos
+     */
+    public int limpar() {
+        long inicio = System.nanoTime();
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDateTime limiteExpirados = agora.minus(properties.getExpiredRetention());
+        LocalDateTime limiteRevogados = agora.minus(properties.getRevokedRetention());
+        int tamanhoLote = Math.max(properties.getBatchSize(), 1);
+
+        int total = 0;
+        int lotes = 0;
+        while (lotes < properties.getMaxBatchesPerRun()) {
+            Integer removidos = transactionTemplate.execute(status -> {
+                List<Long> ids = refreshTokenRepository.buscarIdsParaLimpeza(
+                        limiteExpirados, limiteRevogados, Limit.of(tamanhoLote));
+                return ids.isEmpty() ? 0 : refreshTokenRepository.removerPorIds(ids);
+            });
+            lotes++;
+            total += removidos != null ? removidos : 0;
+
+            if (removidos == null || removidos < tamanhoLote || !pausar()) {
+                break;
+            }
+        }
+
+        removidosPorExecucao.record(total);
+        duracao.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        if (total > 0) {
+            log.info("Limpeza de refresh tokens: {} removidos em {} lotes", total, lotes);
+        }
+        return total;
+    }
+
+    private boolean pausar() {
+        long pausaMs = properties.getPauseBetweenBatches().toMillis();
+        if (pausaMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pausaMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
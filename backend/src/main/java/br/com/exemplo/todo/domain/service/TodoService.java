@@ -2,12 +2,18 @@ package br.com.exemplo.todo.domain.service;
 
 import br.com.exemplo.todo.api.dto.todo.TodoInput;
 import br.com.exemplo.todo.domain.model.entity.Todo;
+import br.com.exemplo.todo.domain.model.paginacao.Cursor;
+import br.com.exemplo.todo.domain.model.paginacao.Pagina;
+import br.com.exemplo.todo.domain.model.paginacao.PaginaRequest;
 import br.com.exemplo.todo.domain.repository.TodoRepository;
 import br.com.exemplo.todo.domain.service.exception.TodoNaoEncontradoException;
+import br.com.exemplo.todo.infrastructure.sqlite.RetryOnBusy;
+import br.com.exemplo.todo.infrastructure.sqlite.WriteOperation;
 import br.com.exemplo.todo.security.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,8 +23,16 @@ import java.util.List;
 @Slf4j
 @RequiredArgsConstructor
 @Service
+@RetryOnBusy
 public class TodoService {
 
+    private static final String CURSOR_TIPO = "todo";
+
+    /**
+     * Inicio da primeira pagina em ordem decrescente: depois de qualquer data de criacao real.
+     */
+    private static final LocalDateTime PRIMEIRA_PAGINA_DATA = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     private final TodoRepository repository;
     private final ModelMapper modelMapper;
 
@@ -27,6 +41,7 @@ public class TodoService {
      *
      * @return lista de tarefas
      */
+    @Transactional(readOnly = true)
     public List<Todo> listarTodos() {
         Long orgId = TenantContext.getOrganizationId();
         log.debug("Listando tarefas da organizacao {}", orgId);
@@ -39,12 +54,42 @@ public class TodoService {
      * @param concluido true para tarefas concluidas, false para pendentes
      * @return lista de tarefas filtradas
      */
+    @Transactional(readOnly = true)
     public List<Todo> listarPorStatus(Boolean concluido) {
         Long orgId = TenantContext.getOrganizationId();
         log.debug("Listando tarefas da organizacao {} com status concluido={}", orgId, concluido);
         return repository.findByOrganizationIdAndConcluidoOrderByDataCriacaoDesc(orgId, concluido);
     }
 
+    /**
+     * Lista uma pagina de tarefas da organizacao atual (keyset por data de criacao e id, mais
+     * recentes primeiro), com filtro opcional por status.
+     *
+     * @param concluido status para filtrar ou null para todas
+     * @param request tamanho, cursor e se o total deve ser contado
+     * @return pagina de tarefas
+     */
+    @Transactional(readOnly = true)
+    public Pagina<Todo> listarPagina(Boolean concluido, PaginaRequest request) {
+        Long orgId = TenantContext.getOrganizationId();
+        LocalDateTime dataCriacao = PRIMEIRA_PAGINA_DATA;
+        Long id = Long.MAX_VALUE;
+        if (request.cursor() != null) {
+            Cursor cursor = Cursor.decodificar(request.cursor(), CURSOR_TIPO, 2);
+            dataCriacao = cursor.dataHora(0);
+            id = cursor.longo(1);
+        }
+        List<Todo> todos = repository.findPagina(orgId, concluido, dataCriacao, id, Limit.of(request.limite() + 1));
+        Long total = null;
+        if (request.contarTotal()) {
+            total = concluido != null
+                    ? repository.countByOrganizationIdAndConcluido(orgId, concluido)
+                    : repository.countByOrganizationId(orgId);
+        }
+        return Pagina.de(todos, request.limite(),
+                t -> Cursor.codificar(CURSOR_TIPO, t.getDataCriacao(), t.getId()), total);
+    }
+
     /**
      * Busca uma tarefa pelo ID dentro da organizacao atual.
      *
@@ -52,6 +97,7 @@ public class TodoService {
      * @return a tarefa encontrada
      * @throws TodoNaoEncontradoException se a tarefa nao existir na organizacao
      */
+    @Transactional(readOnly = true)
     public Todo buscarPorId(Long id) {
         Long orgId = TenantContext.getOrganizationId();
         log.debug("Buscando tarefa {} na organizacao {}", id, orgId);
@@ -66,6 +112,7 @@ public class TodoService {
      * @return a tarefa criada
      */
     @Transactional
+    @WriteOperation
     public Todo criar(TodoInput input) {
         Long orgId = TenantContext.getOrganizationId();
         Long userId = TenantContext.getUserId();
@@ -92,6 +139,7 @@ public class TodoService {
      * @throws TodoNaoEncontradoException se a tarefa não existir
      */
     @Transactional
+    @WriteOperation
     public Todo atualizar(Long id, TodoInput input) {
         log.debug("Atualizando tarefa com ID {}", id);
 
@@ -113,6 +161,7 @@ public class TodoService {
      * @throws TodoNaoEncontradoException se a tarefa não existir
      */
     @Transactional
+    @WriteOperation
     public void excluir(Long id) {
         log.debug("Excluindo tarefa com ID {}", id);
 
@@ -130,6 +179,7 @@ public class TodoService {
      * @throws TodoNaoEncontradoException se a tarefa não existir
      */
     @Transactional
+    @WriteOperation
     public Todo marcarConcluido(Long id) {
         log.debug("Marcando tarefa ID {} como concluída", id);
 
@@ -151,6 +201,7 @@ public class TodoService {
      * @throws TodoNaoEncontradoException se a tarefa não existir
      */
     @Transactional
+    @WriteOperation
     public Todo reabrir(Long id) {
         log.debug("Reabrindo tarefa ID {}", id);
 
@@ -6,6 +6,8 @@ import br.com.exemplo.todo.domain.model.entity.*;
 import br.com.exemplo.todo.domain.model.enums.MembershipRole;
 import br.com.exemplo.todo.domain.repository.*;
 import br.com.exemplo.todo.domain.repository.spec.MembershipSpecifications;
+import br.com.exemplo.todo.security.MembershipCache;
+import br.com.exemplo.todo.security.MembershipVersions;
 import br.com.exemplo.todo.security.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +37,8 @@ public class UserAdminService {
     private final MembershipRepository membershipRepository;
     private final LoginAttemptRepository loginAttemptRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MembershipCache membershipCache;
+    private final MembershipVersions membershipVersions;
 
     private static final String CARACTERES_SENHA = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789!@#$%";
     private static final int TAMANHO_SENHA = 12;
@@ -134,6 +138,7 @@ public class UserAdminService {
         membership.setDataIngresso(LocalDateTime.now());
         membership.setConvidadoPor(adminId);
         membershipRepository.save(membership);
+        membershipCache.invalidarUsuario(user.getId());
 
         log.info("Usuario criado: userId={}, email={}, role={}, criadoPor={}",
                 user.getId(), user.getEmail(), input.role(), adminId);
@@ -205,7 +210,9 @@ public class UserAdminService {
         User user = membership.getUser();
         user.setAtivo(ativo);
         user.setDataAtualizacao(LocalDateTime.now());
+        membershipVersions.incrementar(user);
         userRepository.save(user);
+        membershipCache.invalidarUsuario(userId);
 
         log.info("Usuario {}: userId={}", ativo ? "ativado" : "desativado", userId);
 
@@ -246,10 +253,15 @@ public class UserAdminService {
 
         membership.setPapel(input.role());
         membershipRepository.save(membership);
+        membershipCache.invalidar(userId, orgId);
+
+        // Tokens emitidos com o papel anterior deixam de resolver o tenant
+        User user = membership.getUser();
+        membershipVersions.incrementar(user);
+        userRepository.save(user);
 
         log.info("Role alterado: userId={}, novoRole={}", userId, input.role());
 
-        User user = membership.getUser();
         Account account = accountRepository.findByUserIdAndProvider(userId, "local").orElse(null);
         return UserAdminOutput.from(user, membership, account);
     }
@@ -0,0 +1,7 @@
+package br.com.exemplo.todo.domain.service.exception;
+
+public class CursorInvalidoException extends RuntimeException {
+    public CursorInvalidoException() {
+        super("Cursor de paginacao invalido ou de outra listagem");
+    }
+}
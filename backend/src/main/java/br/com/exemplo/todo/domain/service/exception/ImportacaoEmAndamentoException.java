@@ -0,0 +1,8 @@
+package br.com.exemplo.todo.domain.service.exception;
+
+public class ImportacaoEmAndamentoException extends RuntimeException {
+
+    public ImportacaoEmAndamentoException(String id) {
+        super(String.format("Ja existe uma importacao em andamento para a organizacao (%s)", id));
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.exemplo.todo.domain.service.exception;
+
+public class ImportacaoInvalidaException extends RuntimeException {
+
+    public ImportacaoInvalidaException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.exemplo.todo.domain.service.exception;
+
+public class ImportacaoNaoEncontradaException extends RuntimeException {
+
+    public ImportacaoNaoEncontradaException(String id) {
+        super(String.format("Importacao %s nao encontrada", id));
+    }
+}
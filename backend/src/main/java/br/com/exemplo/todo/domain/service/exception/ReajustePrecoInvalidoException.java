@@ -0,0 +1,8 @@
+package br.com.exemplo.todo.domain.service.exception;
+
+public class ReajustePrecoInvalidoException extends RuntimeException {
+
+    public ReajustePrecoInvalidoException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.exemplo.todo.domain.service.importacao;
+
+import br.com.exemplo.todo.domain.service.exception.ImportacaoInvalidaException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+public enum FormatoImportacao {
+
+    NDJSON(FormatoImportacao.NDJSON_VALUE),
+    CSV(FormatoImportacao.CSV_VALUE);
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+
+    FormatoImportacao(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    /**
+     * Formato correspondente ao Content-Type da requisicao (parametros como charset sao ignorados).
+     */
+    public static FormatoImportacao de(String contentType) {
+        try {
+            MediaType informado = MediaType.parseMediaType(contentType);
+            return Stream.of(values())
+                    .filter(formato -> formato.mediaType.equalsTypeAndSubtype(informado))
+                    .findFirst()
+                    .orElseThrow(() -> new ImportacaoInvalidaException("Content-Type deve ser "
+                            + NDJSON_VALUE + " ou " + CSV_VALUE));
+        } catch (InvalidMediaTypeException e) {
+            throw new ImportacaoInvalidaException("Content-Type invalido: " + contentType);
+        }
+    }
+
+    public LeitorRegistros abrir(Path arquivo, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8);
+        return switch (this) {
+            case NDJSON -> new LeitorNdjson(reader, objectMapper);
+            case CSV -> new LeitorCsv(reader, objectMapper);
+        };
+    }
+}
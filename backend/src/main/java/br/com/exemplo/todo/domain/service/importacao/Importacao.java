@@ -0,0 +1,72 @@
+package br.com.exemplo.todo.domain.service.importacao;
+
+import br.com.exemplo.todo.domain.model.enums.StatusImportacao;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estado de uma importacao em lote, atualizado pela thread que processa o arquivo e lido
+ * pelas consultas de progresso. Os contadores so avancam depois do commit de cada lote.
+ */
+@Getter
+public class Importacao {
+
+    private final String id;
+    private final Long organizationId;
+    private final FormatoImportacao formato;
+    private final LocalDateTime inicio = LocalDateTime.now();
+    private final AtomicLong linhasProcessadas = new AtomicLong();
+    private final AtomicLong linhasComErro = new AtomicLong();
+    private final AtomicLong categoriasCriadas = new AtomicLong();
+    private final AtomicLong produtosCriados = new AtomicLong();
+    private final AtomicLong adicionaisCriados = new AtomicLong();
+    private final int maxErros;
+    private final List<ImportacaoErro> erros = new ArrayList<>();
+    private volatile StatusImportacao status = StatusImportacao.PROCESSANDO;
+    private volatile LocalDateTime fim;
+    private volatile String mensagem;
+
+    public Importacao(String id, Long organizationId, FormatoImportacao formato, int maxErros) {
+        this.id = id;
+        this.organizationId = organizationId;
+        this.formato = formato;
+        this.maxErros = maxErros;
+    }
+
+    public synchronized void registrarErro(ImportacaoErro erro) {
+        linhasComErro.incrementAndGet();
+        if (erros.size() < maxErros) {
+            erros.add(erro);
+        }
+    }
+
+    /**
+     * Copia dos erros guardados ate agora, em ordem de linha dentro de cada lote.
+     */
+    public synchronized List<ImportacaoErro> getErros() {
+        return List.copyOf(erros);
+    }
+
+    public boolean isErrosTruncados() {
+        return linhasComErro.get() > maxErros;
+    }
+
+    public boolean isFinalizada() {
+        return status != StatusImportacao.PROCESSANDO;
+    }
+
+    public void concluir() {
+        fim = LocalDateTime.now();
+        status = StatusImportacao.CONCLUIDA;
+    }
+
+    public void falhar(String mensagem) {
+        this.mensagem = mensagem;
+        fim = LocalDateTime.now();
+        status = StatusImportacao.FALHOU;
+    }
+}
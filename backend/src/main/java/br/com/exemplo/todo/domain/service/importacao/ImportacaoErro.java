@@ -0,0 +1,7 @@
+package br.com.exemplo.todo.domain.service.importacao;
+
+/**
+ * Linha rejeitada na importacao.
+ */
+public record ImportacaoErro(long linha, String tipo, String ref, String mensagem) {
+}
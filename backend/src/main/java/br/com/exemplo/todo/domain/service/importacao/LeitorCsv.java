@@ -0,0 +1,214 @@
+package br.com.exemplo.todo.domain.service.importacao;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * CSV com cabecalho, separado por virgula ou ponto e virgula (detectado no cabecalho), com
+ * aspas duplas para campos que contem separador, aspas ou quebra de linha.
+ * <p>
+ * As colunas tem os nomes dos campos do JSON. Celulas vazias ficam ausentes. A coluna
+ * {@code opcoes} usa {@code |} entre os itens: nomes na categoria ({@code P|M|G}),
+ * {@code opcao=valor} no produto e {@code nome=valor} no adicional. A coluna
+ * {@code disponivel} lista os dias da categoria ({@code segunda|terca|sabado}).
+ */
+public class LeitorCsv implements LeitorRegistros {
+
+    private static final int LIMITE_CABECALHO = 64 * 1024;
+    private static final List<String> DIAS =
+            List.of("domingo", "segunda", "terca", "quarta", "quinta", "sexta", "sabado");
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private List<String> colunas;
+    private char separador;
+    private long linha = 1;
+    private boolean fim;
+
+    public LeitorCsv(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Registro proximo() throws IOException {
+        if (colunas == null && !lerCabecalho()) {
+            return null;
+        }
+        List<String> campos;
+        long inicio;
+        do {
+            if (fim) {
+                return null;
+            }
+            inicio = linha;
+            campos = lerCampos();
+            if (campos == null) {
+                return null;
+            }
+        } while (campos.size() == 1 && campos.get(0).isBlank());
+
+        if (campos.size() > colunas.size()) {
+            return Registro.invalido(inicio, String.format("Linha com %d colunas; o cabecalho tem %d",
+                    campos.size(), colunas.size()));
+        }
+        try {
+            return Registro.valido(inicio, converter(campos));
+        } catch (IllegalArgumentException e) {
+            return Registro.invalido(inicio, e.getMessage());
+        }
+    }
+
+    private boolean lerCabecalho() throws IOException {
+        reader.mark(LIMITE_CABECALHO);
+        String primeira = reader.readLine();
+        if (primeira == null) {
+            return false;
+        }
+        reader.reset();
+        separador = contar(primeira, ';') > contar(primeira, ',') ? ';' : ',';
+
+        List<String> nomes = lerCampos();
+        colunas = new ArrayList<>(nomes.size());
+        for (String nome : nomes) {
+            colunas.add(nome.replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT));
+        }
+        return true;
+    }
+
+    private static int contar(String texto, char c) {
+        int total = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) == c) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Campos do proximo registro, que pode ocupar varias linhas fisicas quando ha aspas.
+     */
+    private List<String> lerCampos() throws IOException {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean aspas = false;
+        boolean leuAlgo = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            leuAlgo = true;
+            char ch = (char) c;
+            if (aspas) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int seguinte = reader.read();
+                    if (seguinte == '"') {
+                        campo.append('"');
+                    } else {
+                        aspas = false;
+                        if (seguinte != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (ch == '\n') {
+                        linha++;
+                    }
+                    campo.append(ch);
+                }
+            } else if (ch == '"' && campo.isEmpty()) {
+                aspas = true;
+            } else if (ch == separador) {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (ch == '\n') {
+                linha++;
+                campos.add(campo.toString());
+                return campos;
+            } else if (ch != '\r') {
+                campo.append(ch);
+            }
+        }
+        fim = true;
+        if (!leuAlgo) {
+            return null;
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+
+    private ObjectNode converter(List<String> campos) {
+        ObjectNode dados = objectMapper.createObjectNode();
+        String tipo = null;
+        int indiceTipo = colunas.indexOf("tipo");
+        if (indiceTipo >= 0 && indiceTipo < campos.size()) {
+            tipo = campos.get(indiceTipo).trim().toLowerCase(Locale.ROOT);
+        }
+        for (int i = 0; i < campos.size(); i++) {
+            String valor = campos.get(i).trim();
+            if (valor.isEmpty()) {
+                continue;
+            }
+            String coluna = colunas.get(i);
+            switch (coluna) {
+                case "opcoes" -> dados.set(coluna, opcoes(tipo, valor));
+                case "disponivel" -> dados.set(coluna, disponivel(valor));
+                default -> dados.put(coluna, valor);
+            }
+        }
+        return dados;
+    }
+
+    private ArrayNode opcoes(String tipo, String valor) {
+        ArrayNode opcoes = objectMapper.createArrayNode();
+        for (String item : itens(valor)) {
+            if ("categoria".equals(tipo)) {
+                opcoes.add(item);
+                continue;
+            }
+            int igual = item.lastIndexOf('=');
+            if (igual <= 0) {
+                throw new IllegalArgumentException("opcoes: use nome=valor separados por |");
+            }
+            ObjectNode opcao = opcoes.addObject();
+            opcao.put("produto".equals(tipo) ? "opcao" : "nome", item.substring(0, igual).trim());
+            opcao.put("valor", item.substring(igual + 1).trim());
+        }
+        return opcoes;
+    }
+
+    private ObjectNode disponivel(String valor) {
+        ObjectNode dias = objectMapper.createObjectNode();
+        DIAS.forEach(dia -> dias.put(dia, false));
+        for (String dia : itens(valor)) {
+            String nome = dia.toLowerCase(Locale.ROOT);
+            if (!DIAS.contains(nome)) {
+                throw new IllegalArgumentException("disponivel: dia desconhecido '" + dia + "'");
+            }
+            dias.put(nome, true);
+        }
+        return dias;
+    }
+
+    private static List<String> itens(String valor) {
+        List<String> itens = new ArrayList<>();
+        for (String item : valor.split("\\|")) {
+            if (!item.isBlank()) {
+                itens.add(item.trim());
+            }
+        }
+        return itens;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
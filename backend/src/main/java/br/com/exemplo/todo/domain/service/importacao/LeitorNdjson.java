@@ -0,0 +1,54 @@
+package br.com.exemplo.todo.domain.service.importacao;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Um objeto JSON por linha; linhas em branco sao ignoradas.
+ */
+public class LeitorNdjson implements LeitorRegistros {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long linha;
+
+    public LeitorNdjson(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Registro proximo() throws IOException {
+        String texto;
+        do {
+            texto = reader.readLine();
+            if (texto == null) {
+                return null;
+            }
+            linha++;
+            if (linha == 1 && texto.startsWith("\uFEFF")) {
+                texto = texto.substring(1);
+            }
+        } while (texto.isBlank());
+
+        try {
+            JsonNode node = objectMapper.readTree(texto);
+            if (node instanceof ObjectNode objeto) {
+                return Registro.valido(linha, objeto);
+            }
+            return Registro.invalido(linha, "Linha deve conter um objeto JSON");
+        } catch (JsonProcessingException e) {
+            return Registro.invalido(linha, "JSON invalido: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.exemplo.todo.domain.service.importacao;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Le o arquivo de importacao um registro por vez, sem carregar o arquivo inteiro em memoria.
+ */
+public interface LeitorRegistros extends Closeable {
+
+    /**
+     * Proximo registro do arquivo ou {@code null} no fim.
+     */
+    Registro proximo() throws IOException;
+}
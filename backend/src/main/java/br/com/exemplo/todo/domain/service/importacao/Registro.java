@@ -0,0 +1,25 @@
+package br.com.exemplo.todo.domain.service.importacao;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Uma linha do arquivo de importacao ja convertida para JSON, com os mesmos campos dos
+ * inputs da API mais {@code tipo} e {@code ref}. Linhas que nao puderam ser lidas chegam
+ * sem dados e com o motivo em {@code erro}.
+ *
+ * @param linha numero da linha no arquivo (a primeira e 1)
+ */
+public record Registro(long linha, ObjectNode dados, String erro) {
+
+    public static Registro valido(long linha, ObjectNode dados) {
+        return new Registro(linha, dados, null);
+    }
+
+    public static Registro invalido(long linha, String erro) {
+        return new Registro(linha, null, erro);
+    }
+
+    public boolean isValido() {
+        return erro == null;
+    }
+}
@@ -0,0 +1,230 @@
+package br.com.exemplo.todo.infrastructure.audit;
+
+import br.com.exemplo.todo.config.LoginAttemptProperties;
+import br.com.exemplo.todo.domain.model.entity.LoginAttempt;
+import br.com.exemplo.todo.domain.repository.LoginAttemptRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grava o historico de login (LOGIN_ATTEMPT) em lotes, fora da transacao do login.
+ * <p>
+ * Os registros entram numa fila limitada e uma thread dedicada grava ate {@code batchSize}
+ * linhas por transacao, no maximo {@code flushIntervalMs} apos o primeiro registro do lote.
+ * Assim o lock de escrita do SQLite e obtido uma vez por lote e nao uma vez por login.
+ * <p>
+ * Politica de overflow: com a fila cheia (ou com o writer parado/desabilitado) o registro
+ * e gravado de forma sincrona na transacao do chamador, como antes. Nenhuma tentativa e
+ * descartada; o contador {@code login.attempt.writer.overflow} indica quando isso ocorre.
+ * <p>
+ * No shutdown a fila e esvaziada depois que o servidor web para de aceitar requisicoes.
+ */
+@Slf4j
+@Component
+public class LoginAttemptWriter implements SmartLifecycle {
+
+    /**
+     * Sentinela enfileirado no shutdown para acordar o worker.
+     */
+    private static final LoginAttempt PARADA = new LoginAttempt();
+
+    private final LoginAttemptRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final LoginAttemptProperties properties;
+    private final BlockingQueue<LoginAttempt> fila;
+
+    private final Timer flushTimer;
+    private final Counter gravadosCounter;
+    private final Counter overflowCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public LoginAttemptWriter(LoginAttemptRepository repository,
+                              PlatformTransactionManager transactionManager,
+                              LoginAttemptProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.fila = new ArrayBlockingQueue<>(Math.max(properties.getQueueCapacity(), 1));
+
+        Gauge.builder("login.attempt.writer.queue.depth", fila, BlockingQueue::size)
+                .description("Tentativas de login aguardando gravacao")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("login.attempt.writer.flush")
+                .description("Tempo de gravacao de um lote de tentativas de login")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.gravadosCounter = Counter.builder("login.attempt.writer.rows")
+                .description("Tentativas de login gravadas em lote")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("login.attempt.writer.overflow")
+                .description("Tentativas gravadas de forma sincrona por fila cheia")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Enfileira a tentativa para gravacao em lote.
+     * Se a fila estiver cheia ou o writer parado, grava de forma sincrona.
+     */
+    public void registrar(LoginAttempt attempt) {
+        if (running && fila.offer(attempt)) {
+            return;
+        }
+        if (running) {
+            overflowCounter.increment();
+            log.warn("Fila de tentativas de login cheia ({}), gravando de forma sincrona",
+                    properties.getQueueCapacity());
+        }
+        repository.save(attempt);
+    }
+
+    /**
+     * Quantidade de registros aguardando gravacao.
+     */
+    public int pendentes() {
+        return fila.size();
+    }
+
+    @Override
+    public void start() {
+        if (running || !properties.isAsyncEnabled()) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("login-attempt-writer")
+                .daemon(true)
+                .start(this::executar);
+        log.info("LoginAttemptWriter iniciado: batchSize={}, flushIntervalMs={}, queueCapacity={}",
+                properties.getBatchSize(), properties.getFlushIntervalMs(), properties.getQueueCapacity());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        // Acorda o worker para gravar o lote parcial sem aguardar o flushInterval
+        fila.offer(PARADA);
+        try {
+            worker.join(properties.getShutdownTimeoutMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Registros que chegaram depois da ultima iteracao do worker
+        List<LoginAttempt> restantes = new ArrayList<>();
+        fila.drainTo(restantes);
+        restantes.removeIf(attempt -> attempt == PARADA);
+        for (int i = 0; i < restantes.size(); i += loteMaximo()) {
+            gravarLote(restantes.subList(i, Math.min(i + loteMaximo(), restantes.size())));
+        }
+        log.info("LoginAttemptWriter finalizado ({} registros gravados no shutdown)", restantes.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Para depois do servidor web (que para na fase DEFAULT_PHASE - 2048),
+     * garantindo que nenhum login chegue com a fila ja esvaziada.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void executar() {
+        List<LoginAttempt> lote = new ArrayList<>(loteMaximo() + 1);
+        long intervaloNanos = TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMs());
+        boolean parar = false;
+
+        while (!parar && (running || !fila.isEmpty())) {
+            try {
+                LoginAttempt primeiro = fila.poll(properties.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+
+                long limite = System.nanoTime() + intervaloNanos;
+                while (lote.size() < loteMaximo() && primeiro != PARADA) {
+                    fila.drainTo(lote, loteMaximo() - lote.size());
+                    long restante = limite - System.nanoTime();
+                    if (lote.size() >= loteMaximo() || restante <= 0 || contemParada(lote)) {
+                        break;
+                    }
+                    LoginAttempt proximo = fila.poll(restante, TimeUnit.NANOSECONDS);
+                    if (proximo == null) {
+                        break;
+                    }
+                    lote.add(proximo);
+                }
+
+                // O sentinela de parada nunca e gravado (comparacao por identidade,
+                // pois equals de LoginAttempt considera apenas o id)
+                parar = lote.removeIf(attempt -> attempt == PARADA);
+                gravarLote(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                gravarLote(lote);
+                return;
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private static boolean contemParada(List<LoginAttempt> lote) {
+        return lote.stream().anyMatch(attempt -> attempt == PARADA);
+    }
+
+    private void gravarLote(List<LoginAttempt> lote) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> repository.saveAll(lote)));
+            gravadosCounter.increment(lote.size());
+        } catch (RuntimeException e) {
+            log.error("Falha ao gravar lote de {} tentativas de login, gravando individualmente: {}",
+                    lote.size(), e.getMessage());
+            gravarIndividualmente(lote);
+        }
+    }
+
+    private void gravarIndividualmente(List<LoginAttempt> lote) {
+        for (LoginAttempt attempt : lote) {
+            try {
+                attempt.setId(null);
+                transactionTemplate.executeWithoutResult(status -> repository.save(attempt));
+                gravadosCounter.increment();
+            } catch (RuntimeException e) {
+                log.error("Tentativa de login descartada (userId={}): {}",
+                        attempt.getUser() != null ? attempt.getUser().getId() : null, e.getMessage());
+            }
+        }
+    }
+
+    private int loteMaximo() {
+        return Math.max(properties.getBatchSize(), 1);
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.exemplo.todo.infrastructure.sql;
+
+import br.com.exemplo.todo.config.SqlMonitorProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede as instrucoes SQL de cada requisicao amostrada (sql.monitor.sample-rate): responde com o
+ * header {@code Server-Timing: db;dur=<ms>;desc="<n> SQL"}, publica os histogramas
+ * {@code http.server.requests.sql.statements} e {@code http.server.requests.sql.time} por handler
+ * e registra no log a forma do SQL repetido acima de sql.monitor.repeated-threshold (N+1).
+ * <p>
+ * Roda antes da cadeia do Spring Security, entao as consultas de autenticacao e tenant tambem
+ * entram na conta.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "sql.monitor.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SqlMonitorFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+    private static final String SEM_HANDLER = "nenhum";
+
+    private final SqlMonitorProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        if (!amostrar()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        SqlRequestStats stats = SqlRequestStats.iniciar();
+        ServerTimingResponse comHeader = properties.isServerTiming() ? new ServerTimingResponse(response, stats) : null;
+        try {
+            filterChain.doFilter(request, comHeader != null ? comHeader : response);
+        } finally {
+            SqlRequestStats.encerrar();
+            if (comHeader != null) {
+                // Respostas sem corpo nao passam pelo commit do wrapper
+                comHeader.escreverHeader();
+            }
+            publicar(request, stats);
+        }
+    }
+
+    private boolean amostrar() {
+        double taxa = properties.getSampleRate();
+        return taxa >= 1.0 || (taxa > 0 && ThreadLocalRandom.current().nextDouble() < taxa);
+    }
+
+    private void publicar(HttpServletRequest request, SqlRequestStats stats) {
+        String handler = handler(request);
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("Instrucoes SQL por requisicao")
+                .baseUnit("statements")
+                .tag("handler", handler)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(1000.0)
+                .register(meterRegistry)
+                .record(stats.getInstrucoes());
+        Timer.builder("http.server.requests.sql.time")
+                .description("Tempo de execucao JDBC por requisicao")
+                .tag("handler", handler)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getTempoJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getInstrucoes() > properties.getStatementsThreshold()) {
+            log.warn("{} {} ({}) executou {} instrucoes SQL", request.getMethod(), request.getRequestURI(),
+                    handler, stats.getInstrucoes());
+        }
+        Map<String, Integer> repetidas = stats.repetidas(properties.getRepeatedThreshold());
+        if (!repetidas.isEmpty()) {
+            Counter.builder("http.server.requests.sql.repeated")
+                    .description("Requisicoes que repetiram a mesma forma de SQL acima do limite (N+1)")
+                    .tag("handler", handler)
+                    .register(meterRegistry)
+                    .increment();
+            repetidas.forEach((forma, vezes) -> log.warn("Possivel N+1 em {} {} ({}): {} execucoes de [{}]",
+                    request.getMethod(), request.getRequestURI(), handler, vezes, forma));
+        }
+    }
+
+    private static String handler(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod metodo) {
+            return metodo.getBeanType().getSimpleName() + "." + metodo.getMethod().getName();
+        }
+        return SEM_HANDLER;
+    }
+
+    /**
+     * Acrescenta o Server-Timing no commit da resposta, quando todas as consultas ja rodaram
+     * (open-in-view desligado: nada e carregado durante a serializacao).
+     */
+    private static final class ServerTimingResponse extends OnCommittedResponseWrapper {
+
+        private final SqlRequestStats stats;
+        private boolean escrito;
+
+        private ServerTimingResponse(HttpServletResponse response, SqlRequestStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            escreverHeader();
+        }
+
+        private void escreverHeader() {
+            if (escrito || isCommitted()) {
+                return;
+            }
+            escrito = true;
+            addHeader(SERVER_TIMING, String.format(Locale.ROOT, "db;dur=%.3f;desc=\"%d SQL\"",
+                    stats.getTempoJdbcNanos() / 1_000_000.0, stats.getInstrucoes()));
+        }
+    }
+}
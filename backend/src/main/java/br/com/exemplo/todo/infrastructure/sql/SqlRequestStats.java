@@ -0,0 +1,101 @@
+package br.com.exemplo.todo.infrastructure.sql;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Instrucoes SQL e tempo de JDBC da requisicao atual, alimentados pelo
+ * {@link SqlStatementInspector} e pelo {@link SqlTimingListener} e lidos pelo
+ * {@link SqlMonitorFilter} ao final da requisicao.
+ * <p>
+ * Fica em um ThreadLocal, como o TenantContext: instrucoes executadas em outras threads
+ * (ex.: lotes da thread escritora do group commit) nao entram na conta da requisicao.
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> ATUAL = new ThreadLocal<>();
+
+    private static final Pattern TEXTO = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERO = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern LISTA = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+    /**
+     * Execucoes por SQL. O Hibernate reaproveita a mesma String para a mesma consulta, entao a
+     * forma normalizada so e calculada no fim, sobre as instrucoes distintas.
+     */
+    private final Map<String, Integer> execucoes = new HashMap<>();
+    private int instrucoes;
+    private long tempoJdbcNanos;
+    private long inicioExecucao;
+
+    /**
+     * Inicia a contagem na thread atual.
+     */
+    public static SqlRequestStats iniciar() {
+        SqlRequestStats stats = new SqlRequestStats();
+        ATUAL.set(stats);
+        return stats;
+    }
+
+    /**
+     * Contagem da thread atual ou null se a requisicao nao foi amostrada.
+     */
+    public static SqlRequestStats atual() {
+        return ATUAL.get();
+    }
+
+    public static void encerrar() {
+        ATUAL.remove();
+    }
+
+    void registrar(String sql) {
+        instrucoes++;
+        execucoes.merge(sql, 1, Integer::sum);
+    }
+
+    void inicioExecucao() {
+        inicioExecucao = System.nanoTime();
+    }
+
+    void fimExecucao() {
+        if (inicioExecucao != 0) {
+            tempoJdbcNanos += System.nanoTime() - inicioExecucao;
+            inicioExecucao = 0;
+        }
+    }
+
+    public int getInstrucoes() {
+        return instrucoes;
+    }
+
+    public long getTempoJdbcNanos() {
+        return tempoJdbcNanos;
+    }
+
+    /**
+     * Formas de SQL executadas mais de {@code limite} vezes, com o numero de execucoes.
+     */
+    public Map<String, Integer> repetidas(int limite) {
+        Map<String, Integer> porForma = new HashMap<>();
+        execucoes.forEach((sql, vezes) -> porForma.merge(forma(sql), vezes, Integer::sum));
+        Map<String, Integer> repetidas = new LinkedHashMap<>();
+        porForma.entrySet().stream()
+                .filter(e -> e.getValue() > limite)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(e -> repetidas.put(e.getKey(), e.getValue()));
+        return repetidas;
+    }
+
+    /**
+     * Forma do SQL: literais viram ?, listas (?, ?, ...) viram (?) e os espacos sao normalizados.
+     */
+    static String forma(String sql) {
+        String forma = TEXTO.matcher(sql).replaceAll("?");
+        forma = NUMERO.matcher(forma).replaceAll("?");
+        forma = LISTA.matcher(forma).replaceAll("(?)");
+        return ESPACOS.matcher(forma).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.exemplo.todo.infrastructure.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Conta as instrucoes preparadas pelo Hibernate na requisicao atual ({@link SqlRequestStats}).
+ * Nao altera o SQL; fora de requisicoes amostradas e apenas uma leitura de ThreadLocal.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlRequestStats stats = SqlRequestStats.atual();
+        if (stats != null) {
+            stats.registrar(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.exemplo.todo.infrastructure.sql;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Soma o tempo de execucao JDBC (instrucoes e lotes) da requisicao atual ({@link SqlRequestStats}).
+ * Registrado em {@code hibernate.session.events.auto}: o Hibernate cria uma instancia por sessao.
+ */
+public class SqlTimingListener extends BaseSessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        SqlRequestStats stats = SqlRequestStats.atual();
+        if (stats != null) {
+            stats.inicioExecucao();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlRequestStats stats = SqlRequestStats.atual();
+        if (stats != null) {
+            stats.fimExecucao();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.exemplo.todo.infrastructure.sqlite;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Envia metodos {@link WriteOperation} para o {@link GroupCommitExecutor} e espera o commit do lote.
+ * <p>
+ * Roda por fora do interceptor de transacao (ordem menor), entao a transacao do metodo e aberta
+ * na thread escritora e participa da transacao do lote; e por dentro do
+ * {@link SqliteBusyRetryAspect}, que refaz a chamada se o lote falhar com o banco bloqueado.
+ * Com o executor parado ou dentro de uma transacao ja aberta, o metodo roda na propria thread.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class GroupCommitAspect {
+
+    private final GroupCommitExecutor executor;
+
+    @Around("@annotation(br.com.exemplo.todo.infrastructure.sqlite.WriteOperation)")
+    public Object executarNoEscritor(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!executor.isRunning() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        try {
+            return executor.submeter(() -> proceder(joinPoint)).join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Object proceder(ProceedingJoinPoint joinPoint) throws Exception {
+        try {
+            return joinPoint.proceed();
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+}
@@ -0,0 +1,452 @@
+package br.com.exemplo.todo.infrastructure.sqlite;
+
+import br.com.exemplo.todo.config.SqliteProperties;
+import br.com.exemplo.todo.config.TenantDatabaseProperties;
+import br.com.exemplo.todo.domain.exception.DatabaseBusyException;
+import br.com.exemplo.todo.security.TenantContext;
+import br.com.exemplo.todo.security.TenantInfo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.UnexpectedRollbackException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escritor unico com group commit: operacoes de escrita ({@link WriteOperation}) entram numa
+ * fila limitada e uma thread dedicada executa ate {@code maxBatchSize} delas na mesma transacao,
+ * cada uma isolada por um savepoint, com um unico commit por lote. O SQLite aceita um escritor
+ * por vez e o custo de uma transacao curta e dominado pelo commit (lock + fsync do WAL), entao
+ * dividir o commit aumenta a vazao de escrita sob concorrencia.
+ * <p>
+ * Cada operacao roda com o tenant e o usuario autenticado de quem a enfileirou. Se ela falhar
+ * (ou for marcada para rollback), apenas o seu savepoint e desfeito e o chamador recebe a excecao
+ * depois do commit do lote. Se a falha deixar a transacao inteira condenada (o Hibernate marca
+ * rollback-only em erros de flush), o lote e desfeito e as demais operacoes sao executadas de
+ * novo, uma por transacao ({@code sqlite.writer.fallback}). Uma falha no commit vai para todas
+ * as operacoes do lote.
+ * <p>
+ * No modo banco-por-organizacao cada transacao abrange apenas operacoes da mesma organizacao.
+ * Com a fila cheia a chamada falha com {@link DatabaseBusyException} (503 + Retry-After).
+ * No shutdown a fila e esvaziada depois que o servidor web para de aceitar requisicoes.
+ */
+@Slf4j
+@Component
+public class GroupCommitExecutor implements SmartLifecycle {
+
+    /**
+     * Sentinela enfileirado no shutdown para acordar o worker.
+     */
+    private static final Operacao<?> PARADA = new Operacao<>(() -> null, null, null);
+
+    private static final long ESPERA_FILA_MS = 100;
+
+    /**
+     * Operacao em execucao na thread escritora.
+     */
+    private static final ThreadLocal<Operacao<?>> ATUAL = new ThreadLocal<>();
+
+    private final TransactionTemplate transactionTemplate;
+    private final DataSource dataSource;
+    private final Runnable descartar;
+    private final SqliteProperties.GroupCommit properties;
+    private final boolean agruparPorOrganizacao;
+    private final BlockingQueue<Operacao<?>> fila;
+
+    private final DistributionSummary tamanhoLote;
+    private final Timer commitTimer;
+    private final Timer esperaTimer;
+    private final Counter fallbackCounter;
+    private final Counter rejeitadasCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    @Autowired
+    public GroupCommitExecutor(PlatformTransactionManager transactionManager,
+                               DataSource dataSource,
+                               EntityManager entityManager,
+                               SqliteProperties sqliteProperties,
+                               TenantDatabaseProperties tenantDatabaseProperties,
+                               MeterRegistry meterRegistry) {
+        this(transactionManager, dataSource, entityManager::clear, sqliteProperties.getGroupCommit(),
+                tenantDatabaseProperties.isEnabled(), meterRegistry);
+    }
+
+    /**
+     * @param descartar limpa o estado em memoria deixado por uma operacao desfeita
+     *                  (o contexto de persistencia, com JPA)
+     * @param agruparPorOrganizacao true quando cada organizacao tem o seu banco
+     */
+    public GroupCommitExecutor(PlatformTransactionManager transactionManager,
+                               DataSource dataSource,
+                               Runnable descartar,
+                               SqliteProperties.GroupCommit properties,
+                               boolean agruparPorOrganizacao,
+                               MeterRegistry meterRegistry) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dataSource = dataSource;
+        this.descartar = descartar;
+        this.properties = properties;
+        this.agruparPorOrganizacao = agruparPorOrganizacao;
+        this.fila = new ArrayBlockingQueue<>(Math.max(properties.getQueueCapacity(), 1));
+
+        Gauge.builder("sqlite.writer.queue.depth", fila, BlockingQueue::size)
+                .description("Operacoes de escrita aguardando a thread escritora")
+                .register(meterRegistry);
+        this.tamanhoLote = DistributionSummary.builder("sqlite.writer.batch.size")
+                .description("Operacoes por transacao da thread escritora")
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("sqlite.writer.commit")
+                .description("Tempo de execucao e commit de um lote de operacoes de escrita")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.esperaTimer = Timer.builder("sqlite.writer.queue.wait")
+                .description("Tempo de uma operacao de escrita na fila")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("sqlite.writer.fallback")
+                .description("Operacoes refeitas em transacao propria apos o rollback do lote")
+                .register(meterRegistry);
+        this.rejeitadasCounter = Counter.builder("sqlite.writer.rejected")
+                .description("Operacoes recusadas com a fila da thread escritora cheia")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Enfileira a operacao, capturando o tenant e o usuario autenticado da thread atual.
+     * O resultado (ou a excecao) fica disponivel depois do commit do lote.
+     *
+     * @throws DatabaseBusyException se a fila estiver cheia
+     */
+    public <T> CompletableFuture<T> submeter(Callable<T> tarefa) {
+        Operacao<T> operacao = new Operacao<>(tarefa, TenantContext.get().orElse(null),
+                SecurityContextHolder.getContext());
+        if (!fila.offer(operacao)) {
+            rejeitadasCounter.increment();
+            log.warn("Fila da thread escritora cheia ({})", properties.getQueueCapacity());
+            throw new DatabaseBusyException(properties.getRetryAfterSeconds(), null);
+        }
+        // Parou entre a verificacao do chamador e o offer: o worker pode nao ver mais a fila
+        if (!running && fila.remove(operacao)) {
+            commitar(List.of(operacao));
+        }
+        return operacao.resultado;
+    }
+
+    /**
+     * Chamado pelo gerenciador de transacoes quando um metodo {@code @Transactional} participante
+     * falha dentro de uma operacao da thread escritora: marca apenas a operacao (o savepoint dela
+     * sera desfeito), e nao a transacao do lote.
+     *
+     * @return false fora de uma operacao da thread escritora
+     */
+    public static boolean marcarOperacaoParaRollback() {
+        Operacao<?> operacao = ATUAL.get();
+        if (operacao == null) {
+            return false;
+        }
+        operacao.rollbackOnly = true;
+        return true;
+    }
+
+    /**
+     * Quantidade de operacoes aguardando a thread escritora.
+     */
+    public int pendentes() {
+        return fila.size();
+    }
+
+    @Override
+    public void start() {
+        if (running || !properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("sqlite-writer")
+                .daemon(true)
+                .start(this::executar);
+        log.info("GroupCommitExecutor iniciado: maxBatchSize={}, linger={}, queueCapacity={}",
+                properties.getMaxBatchSize(), properties.getLinger(), properties.getQueueCapacity());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        // Acorda o worker para executar o lote parcial sem aguardar o linger
+        fila.offer(PARADA);
+        try {
+            worker.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Operacoes que chegaram depois da ultima iteracao do worker
+        List<Operacao<?>> restantes = new ArrayList<>();
+        fila.drainTo(restantes);
+        restantes.removeIf(operacao -> operacao == PARADA);
+        for (int i = 0; i < restantes.size(); i += loteMaximo()) {
+            processar(restantes.subList(i, Math.min(i + loteMaximo(), restantes.size())));
+        }
+        log.info("GroupCommitExecutor finalizado ({} operacoes executadas no shutdown)", restantes.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Para depois do servidor web (que para na fase DEFAULT_PHASE - 2048),
+     * garantindo que nenhuma escrita chegue com a fila ja esvaziada.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void executar() {
+        List<Operacao<?>> lote = new ArrayList<>(loteMaximo() + 1);
+        long lingerNanos = properties.getLinger().toNanos();
+        boolean parar = false;
+
+        while (!parar && (running || !fila.isEmpty())) {
+            try {
+                Operacao<?> primeira = fila.poll(ESPERA_FILA_MS, TimeUnit.MILLISECONDS);
+                if (primeira == null) {
+                    continue;
+                }
+                lote.add(primeira);
+
+                long limite = System.nanoTime() + lingerNanos;
+                while (lote.size() < loteMaximo() && primeira != PARADA) {
+                    fila.drainTo(lote, loteMaximo() - lote.size());
+                    long restante = limite - System.nanoTime();
+                    if (lote.size() >= loteMaximo() || restante <= 0 || contemParada(lote)) {
+                        break;
+                    }
+                    Operacao<?> proxima = fila.poll(restante, TimeUnit.NANOSECONDS);
+                    if (proxima == null) {
+                        break;
+                    }
+                    lote.add(proxima);
+                }
+
+                parar = lote.removeIf(operacao -> operacao == PARADA);
+                processar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                processar(lote);
+                return;
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private static boolean contemParada(List<Operacao<?>> lote) {
+        return lote.stream().anyMatch(operacao -> operacao == PARADA);
+    }
+
+    /**
+     * Separa o lote por organizacao quando cada uma tem o seu banco; senao, uma transacao.
+     */
+    private void processar(List<Operacao<?>> lote) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        if (!agruparPorOrganizacao) {
+            commitar(lote);
+            return;
+        }
+        Map<Long, List<Operacao<?>>> porOrganizacao = new LinkedHashMap<>();
+        for (Operacao<?> operacao : lote) {
+            Long organizationId = operacao.tenant == null ? null : operacao.tenant.organizationId();
+            porOrganizacao.computeIfAbsent(organizationId, id -> new ArrayList<>()).add(operacao);
+        }
+        porOrganizacao.values().forEach(this::commitar);
+    }
+
+    /**
+     * Executa as operacoes em uma transacao e conclui os futures depois do commit (ou do rollback).
+     */
+    private void commitar(List<Operacao<?>> lote) {
+        tamanhoLote.record(lote.size());
+        List<Operacao<?>> refazer = new ArrayList<>();
+        // No modo banco-por-organizacao o tenant escolhe o banco da transacao
+        TenantInfo tenantDoLote = agruparPorOrganizacao ? lote.get(0).tenant : null;
+        try {
+            commitTimer.record(() -> TenantContext.executar(tenantDoLote, () ->
+                    transactionTemplate.executeWithoutResult(status -> executarLote(lote, status, refazer))));
+        } catch (RuntimeException | Error e) {
+            log.error("Falha no commit de um lote de {} operacoes de escrita: {}", lote.size(), e.getMessage());
+            lote.forEach(operacao -> operacao.falhar(e));
+            return;
+        }
+
+        lote.stream().filter(operacao -> !refazer.contains(operacao)).forEach(Operacao::concluir);
+        if (!refazer.isEmpty()) {
+            fallbackCounter.increment(refazer.size());
+            log.warn("Lote de {} operacoes de escrita desfeito, refazendo {} individualmente",
+                    lote.size(), refazer.size());
+            refazer.forEach(operacao -> commitar(List.of(operacao)));
+        }
+    }
+
+    private void executarLote(List<Operacao<?>> lote, TransactionStatus status, List<Operacao<?>> refazer) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        for (int i = 0; i < lote.size(); i++) {
+            Operacao<?> operacao = lote.get(i);
+            Savepoint savepoint = savepoint(connection);
+            if (executarOperacao(operacao, status)) {
+                liberar(connection, savepoint);
+                continue;
+            }
+            desfazer(connection, savepoint);
+            descartar.run();
+            if (status.isRollbackOnly()) {
+                // A transacao do lote nao pode mais ser confirmada: as demais operacoes vao para outra
+                status.setRollbackOnly();
+                for (Operacao<?> outra : lote) {
+                    if (outra != operacao && outra.erro == null) {
+                        refazer.add(outra);
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Executa a operacao e sincroniza as alteracoes com o banco, ainda dentro do savepoint.
+     *
+     * @return false se a operacao falhou ou foi marcada para rollback
+     */
+    private boolean executarOperacao(Operacao<?> operacao, TransactionStatus status) {
+        if (operacao.tentativas++ == 0) {
+            esperaTimer.record(System.nanoTime() - operacao.enfileiradaEm, TimeUnit.NANOSECONDS);
+        }
+        operacao.rollbackOnly = false;
+        ATUAL.set(operacao);
+        try {
+            operacao.executar();
+            if (!operacao.rollbackOnly) {
+                status.flush();
+                return true;
+            }
+            operacao.erro = new UnexpectedRollbackException(
+                    "Transaction silently rolled back because it has been marked as rollback-only");
+        } catch (Throwable e) {
+            operacao.erro = e;
+        } finally {
+            ATUAL.remove();
+        }
+        return false;
+    }
+
+    private static Savepoint savepoint(Connection connection) {
+        try {
+            return connection.setSavepoint();
+        } catch (SQLException e) {
+            throw new TransactionSystemException("Could not create JDBC savepoint", e);
+        }
+    }
+
+    private static void liberar(Connection connection, Savepoint savepoint) {
+        try {
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLException e) {
+            throw new TransactionSystemException("Could not explicitly release JDBC savepoint", e);
+        }
+    }
+
+    private static void desfazer(Connection connection, Savepoint savepoint) {
+        try {
+            connection.rollback(savepoint);
+        } catch (SQLException e) {
+            throw new TransactionSystemException("Could not roll back to JDBC savepoint", e);
+        }
+    }
+
+    private int loteMaximo() {
+        return Math.max(properties.getMaxBatchSize(), 1);
+    }
+
+    /**
+     * Operacao enfileirada com o contexto do chamador. Os campos mutaveis so sao acessados pela
+     * thread que executa o lote; o chamador le apenas o future.
+     */
+    private static final class Operacao<T> {
+
+        private final Callable<T> tarefa;
+        private final TenantInfo tenant;
+        private final SecurityContext seguranca;
+        private final long enfileiradaEm;
+        private final CompletableFuture<T> resultado = new CompletableFuture<>();
+
+        private T valor;
+        private Throwable erro;
+        private boolean rollbackOnly;
+        private int tentativas;
+
+        private Operacao(Callable<T> tarefa, TenantInfo tenant, SecurityContext seguranca) {
+            this.tarefa = tarefa;
+            this.tenant = tenant;
+            this.seguranca = seguranca;
+            this.enfileiradaEm = System.nanoTime();
+        }
+
+        private void executar() throws Exception {
+            valor = null;
+            erro = null;
+            SecurityContextHolder.setContext(seguranca);
+            try {
+                valor = TenantContext.executar(tenant, tarefa);
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }
+
+        private void concluir() {
+            if (erro != null) {
+                resultado.completeExceptionally(erro);
+            } else {
+                resultado.complete(valor);
+            }
+        }
+
+        private void falhar(Throwable e) {
+            resultado.completeExceptionally(erro != null ? erro : e);
+        }
+    }
+}
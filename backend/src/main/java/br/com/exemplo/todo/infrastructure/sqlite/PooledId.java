@@ -0,0 +1,26 @@
+package br.com.exemplo.todo.infrastructure.sqlite;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Gera o ID da entidade em memoria, a partir de blocos reservados na tabela SEQUENCIA_ID
+ * ({@link PooledIdGenerator}), no lugar de {@code GenerationType.IDENTITY}. Com o ID conhecido
+ * antes do INSERT, o Hibernate agrupa os INSERTs em lotes JDBC ({@code hibernate.jdbc.batch_size}).
+ */
+@Documented
+@IdGeneratorType(PooledIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PooledId {
+
+    /**
+     * Quantidade de IDs reservados de uma vez.
+     */
+    int allocationSize() default 50;
+}
@@ -0,0 +1,210 @@
+package br.com.exemplo.todo.infrastructure.sqlite;
+
+import br.com.exemplo.todo.security.TenantContext;
+import br.com.exemplo.todo.security.TenantInfo;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.SimpleAuxiliaryDatabaseObject;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.id.IdentifierGenerationException;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.RootClass;
+
+import java.lang.reflect.Member;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de {@link PooledId}: entrega IDs de blocos em memoria e so vai ao banco para reservar
+ * o proximo bloco, uma vez a cada {@code allocationSize} entidades.
+ * <p>
+ * A tabela SEQUENCIA_ID guarda, por tabela de entidade, o maior ID ja reservado. A reserva usa a
+ * conexao da propria transacao: com um escritor por vez no SQLite, uma conexao separada
+ * esperaria o lock de escrita da transacao que pediu o bloco. Por isso o bloco e da transacao que
+ * o reservou ate o commit; so entao o restante passa a ser usado pelas demais (se a transacao for
+ * desfeita, o bloco e descartado). Antes do commit a reserva e gravada de novo, caso um savepoint
+ * (ex.: {@link GroupCommitExecutor}) a tenha desfeito.
+ * <p>
+ * Cada reserva comeca depois do maior ID existente na tabela, entao linhas gravadas antes da
+ * migracao (ou copiadas para o banco de uma organizacao) nunca colidem. Os blocos em memoria sao
+ * separados por organizacao, pois no modo banco-por-organizacao cada uma tem a sua SEQUENCIA_ID.
+ */
+public class PooledIdGenerator implements IdentifierGenerator {
+
+    private static final String CRIAR_TABELA = "CREATE TABLE IF NOT EXISTS SEQUENCIA_ID "
+            + "(SEQ_NOME TEXT PRIMARY KEY, SEQ_VALOR INTEGER NOT NULL)";
+
+    private static final String CONFIRMAR = "INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR) VALUES (?, ?) "
+            + "ON CONFLICT (SEQ_NOME) DO UPDATE SET SEQ_VALOR = MAX(SEQ_VALOR, excluded.SEQ_VALOR)";
+
+    private static final long SEM_ORGANIZACAO = 0L;
+
+    private final String sequencia;
+    private final int tamanhoBloco;
+    private final String reservar;
+
+    /**
+     * Blocos de transacoes ja confirmadas, compartilhados entre as sessoes.
+     */
+    private final Map<Long, Bloco> disponiveis = new ConcurrentHashMap<>();
+
+    /**
+     * Blocos reservados por transacoes ainda abertas.
+     */
+    private final Map<SharedSessionContractImplementor, Reservas> reservas =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+
+    public PooledIdGenerator(PooledId config, Member member, CustomIdGeneratorCreationContext context) {
+        RootClass entidade = context.getRootClass();
+        String tabela = entidade.getTable().getName();
+        String coluna = entidade.getIdentifier().getColumns().stream()
+                .map(Column::getName)
+                .findFirst()
+                .orElseThrow();
+        // A estrategia de nomes do Spring grava as tabelas em minusculas; SEQ_NOME segue as migrations
+        this.sequencia = tabela.toUpperCase(Locale.ROOT);
+        this.tamanhoBloco = Math.max(config.allocationSize(), 1);
+        this.reservar = "INSERT INTO SEQUENCIA_ID (SEQ_NOME, SEQ_VALOR) "
+                + "VALUES (?, (SELECT IFNULL(MAX(" + coluna + "), 0) FROM " + tabela + ") + ?) "
+                + "ON CONFLICT (SEQ_NOME) DO UPDATE SET SEQ_VALOR = MAX(SEQ_VALOR + ?, excluded.SEQ_VALOR) "
+                + "RETURNING SEQ_VALOR";
+    }
+
+    /**
+     * Cria a SEQUENCIA_ID junto com o schema gerado pelo Hibernate (perfil de testes);
+     * nos bancos com Flyway ela vem das migrations.
+     */
+    @Override
+    public void registerExportables(Database database) {
+        database.addAuxiliaryDatabaseObject(new SimpleAuxiliaryDatabaseObject(database.getDefaultNamespace(),
+                CRIAR_TABELA, "DROP TABLE IF EXISTS SEQUENCIA_ID", Set.of()));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        long organizacao = TenantContext.get().map(TenantInfo::organizationId).orElse(SEM_ORGANIZACAO);
+        Bloco disponivel = disponiveis.get(organizacao);
+        if (disponivel != null) {
+            long id = disponivel.proximo();
+            if (id > 0) {
+                return id;
+            }
+        }
+        return reservas.computeIfAbsent(session, this::registrar).proximo(session, organizacao);
+    }
+
+    private Reservas registrar(SharedSessionContractImplementor session) {
+        if (!(session instanceof EventSource eventSource)) {
+            throw new IdentifierGenerationException("PooledId requer uma Session (StatelessSession nao suportada)");
+        }
+        Reservas novas = new Reservas();
+        eventSource.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) novas);
+        eventSource.getActionQueue().registerProcess((AfterTransactionCompletionProcess) novas);
+        return novas;
+    }
+
+    /**
+     * Reserva o proximo bloco na conexao da transacao.
+     */
+    private Bloco reservarBloco(SharedSessionContractImplementor session) {
+        long limite = session.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(reservar)) {
+                statement.setString(1, sequencia);
+                statement.setLong(2, tamanhoBloco);
+                statement.setLong(3, tamanhoBloco);
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    return rs.getLong(1);
+                }
+            }
+        });
+        return new Bloco(limite - tamanhoBloco + 1, limite);
+    }
+
+    /**
+     * Intervalo de IDs [proximo, limite].
+     */
+    private static final class Bloco {
+
+        private final AtomicLong proximo;
+        private final long limite;
+
+        private Bloco(long inicio, long limite) {
+            this.proximo = new AtomicLong(inicio);
+            this.limite = limite;
+        }
+
+        /**
+         * @return o proximo ID ou 0 se o bloco acabou
+         */
+        private long proximo() {
+            long id = proximo.getAndIncrement();
+            return id <= limite ? id : 0;
+        }
+
+        private boolean esgotado() {
+            return proximo.get() > limite;
+        }
+    }
+
+    /**
+     * Blocos reservados por uma transacao, por organizacao.
+     */
+    private final class Reservas implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+
+        private final Map<Long, Bloco> blocos = new HashMap<>();
+        private boolean confirmadas;
+
+        private long proximo(SharedSessionContractImplementor session, long organizacao) {
+            Bloco bloco = blocos.get(organizacao);
+            long id = bloco == null ? 0 : bloco.proximo();
+            if (id > 0) {
+                return id;
+            }
+            bloco = reservarBloco(session);
+            blocos.put(organizacao, bloco);
+            return bloco.proximo();
+        }
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor session) {
+            session.doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(CONFIRMAR)) {
+                    for (Bloco bloco : blocos.values()) {
+                        statement.setString(1, sequencia);
+                        statement.setLong(2, bloco.limite);
+                        statement.executeUpdate();
+                    }
+                }
+            });
+            confirmadas = true;
+        }
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+            reservas.remove(session);
+            if (!success || !confirmadas) {
+                return;
+            }
+            blocos.forEach((organizacao, restante) -> {
+                if (!restante.esgotado()) {
+                    disponiveis.compute(organizacao,
+                            (chave, atual) -> atual == null || atual.esgotado() ? restante : atual);
+                }
+            });
+        }
+    }
+}
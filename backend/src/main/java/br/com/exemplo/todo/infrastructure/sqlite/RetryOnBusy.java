@@ -0,0 +1,22 @@
+package br.com.exemplo.todo.infrastructure.sqlite;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca metodos {@code @Transactional} (no metodo ou em todos os metodos transacionais da classe)
+ * que podem ser executados de novo quando a transacao falha com banco bloqueado: a transacao
+ * inteira e refeita pelo {@link SqliteBusyRetryAspect}. Metodos sem {@code @Transactional} nao
+ * sao refeitos.
+ * <p>
+ * Use apenas onde refazer e seguro: o metodo so altera o banco (nada de e-mail, arquivo ou
+ * chamada externa que ja teria acontecido na tentativa anterior).
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface RetryOnBusy {
+}
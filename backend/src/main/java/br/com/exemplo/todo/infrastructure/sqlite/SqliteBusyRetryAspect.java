@@ -0,0 +1,138 @@
+package br.com.exemplo.todo.infrastructure.sqlite;
+
+import br.com.exemplo.todo.config.SqliteProperties;
+import br.com.exemplo.todo.domain.exception.DatabaseBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.hibernate.exception.LockAcquisitionException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refaz a transacao de metodos {@link RetryOnBusy} que falham com SQLITE_BUSY/SQLITE_LOCKED
+ * ("database is locked"), com backoff exponencial e jitter ate {@code sqlite.retry.max-duration}.
+ * <p>
+ * Roda por fora do interceptor de transacao (ordem menor), entao cada tentativa e uma transacao
+ * nova, iniciada depois do rollback da anterior; e tambem por fora do {@link GroupCommitAspect},
+ * entao uma operacao cujo lote falhou com o banco bloqueado volta para a fila. Se o metodo foi chamado dentro de uma transacao
+ * ja aberta, nao ha o que refazer aqui: o erro sobe para quem abriu a transacao.
+ * Esgotado o prazo, lanca {@link DatabaseBusyException} (503 + Retry-After).
+ * <p>
+ * Metricas: {@code sqlite.busy.retries} (novas tentativas), {@code sqlite.busy.wait} (tempo em
+ * backoff) e {@code sqlite.busy.exhausted} (desistencias), com a tag {@code metodo}.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class SqliteBusyRetryAspect {
+
+    private static final int SQLITE_BUSY = 5;
+    private static final int SQLITE_LOCKED = 6;
+    private static final int MAX_CAUSAS = 16;
+
+    private final SqliteProperties.Retry properties;
+    private final MeterRegistry meterRegistry;
+
+    public SqliteBusyRetryAspect(SqliteProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties.getRetry();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("(@within(br.com.exemplo.todo.infrastructure.sqlite.RetryOnBusy)"
+            + " || @annotation(br.com.exemplo.todo.infrastructure.sqlite.RetryOnBusy))"
+            + " && (@within(org.springframework.transaction.annotation.Transactional)"
+            + " || @annotation(org.springframework.transaction.annotation.Transactional))")
+    public Object repetirSeOcupado(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!properties.isEnabled() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String metodo = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        long prazo = System.nanoTime() + properties.getMaxDuration().toNanos();
+        for (int tentativa = 0; ; tentativa++) {
+            try {
+                return joinPoint.proceed();
+            } catch (Throwable erro) {
+                if (!bancoOcupado(erro)) {
+                    throw erro;
+                }
+                long espera = backoff(tentativa);
+                if (System.nanoTime() + espera > prazo) {
+                    contador("sqlite.busy.exhausted", "Transacoes que desistiram com o banco bloqueado", metodo)
+                            .increment();
+                    log.warn("Banco bloqueado em {} apos {} tentativas", metodo, tentativa + 1);
+                    throw new DatabaseBusyException(properties.getRetryAfterSeconds(), erro);
+                }
+                contador("sqlite.busy.retries", "Transacoes refeitas por banco bloqueado", metodo).increment();
+                log.debug("Banco bloqueado em {}; nova tentativa em {} ms", metodo,
+                        TimeUnit.NANOSECONDS.toMillis(espera));
+                aguardar(espera, metodo, erro);
+            }
+        }
+    }
+
+    /**
+     * Erro de lock do SQLite em qualquer ponto da cadeia de causas: codigo SQLITE_BUSY/SQLITE_LOCKED
+     * (inclusive os estendidos, como SQLITE_BUSY_SNAPSHOT) ou a traducao do Hibernate/Spring.
+     */
+    public static boolean bancoOcupado(Throwable erro) {
+        Throwable atual = erro;
+        for (int i = 0; atual != null && i < MAX_CAUSAS; i++) {
+            if (atual instanceof PessimisticLockingFailureException || atual instanceof LockAcquisitionException) {
+                return true;
+            }
+            if (atual instanceof SQLException sql) {
+                int primario = sql.getErrorCode() & 0xFF;
+                if (primario == SQLITE_BUSY || primario == SQLITE_LOCKED) {
+                    return true;
+                }
+            }
+            atual = atual.getCause() == atual ? null : atual.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * Metade fixa + metade aleatoria do limite exponencial, para que transacoes que falharam
+     * juntas nao voltem juntas.
+     */
+    private long backoff(int tentativa) {
+        long inicial = properties.getInitialBackoff().toNanos();
+        long maximo = properties.getMaxBackoff().toNanos();
+        long limite = Math.min(maximo, inicial << Math.min(tentativa, 30));
+        return limite / 2 + ThreadLocalRandom.current().nextLong(limite / 2 + 1);
+    }
+
+    private void aguardar(long espera, String metodo, Throwable erro) {
+        Timer.Sample amostra = Timer.start(meterRegistry);
+        try {
+            TimeUnit.NANOSECONDS.sleep(espera);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseBusyException(properties.getRetryAfterSeconds(), erro);
+        } finally {
+            amostra.stop(Timer.builder("sqlite.busy.wait")
+                    .description("Tempo em backoff antes de refazer a transacao")
+                    .tag("metodo", metodo)
+                    .register(meterRegistry));
+        }
+    }
+
+    private Counter contador(String nome, String descricao, String metodo) {
+        return Counter.builder(nome).description(descricao).tag("metodo", metodo).register(meterRegistry);
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.exemplo.todo.infrastructure.sqlite;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Pools do SQLite em modo WAL: um escritor com uma unica conexao (o SQLite aceita um escritor
+ * por vez; com uma conexao os demais esperam na fila do Hikari, e nao em SQLITE_BUSY) e
+ * leitores somente leitura, que no WAL nao bloqueiam nem sao bloqueados pelo escritor.
+ */
+public final class SqliteDataSources {
+
+    /**
+     * Propriedade do sqlite-jdbc que permite marcar a conexao como somente leitura depois de
+     * aberta ({@code PRAGMA query_only}).
+     */
+    static final String EXPLICIT_READONLY = "jdbc.explicit_readonly";
+
+    private SqliteDataSources() {
+    }
+
+    /**
+     * Pool de escrita com uma conexao.
+     */
+    public static HikariDataSource escritor(String url, Map<String, String> pragmas, Duration connectionTimeout) {
+        HikariConfig config = base("sqlite-writer", url, pragmas);
+        config.setMaximumPoolSize(1);
+        config.setMinimumIdle(1);
+        config.setConnectionTimeout(connectionTimeout.toMillis());
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * Pool de leitura com conexoes somente leitura.
+     */
+    public static HikariDataSource leitor(String url, Map<String, String> pragmas, int tamanho,
+                                          Duration connectionTimeout) {
+        HikariConfig config = base("sqlite-reader", url, pragmas);
+        config.addDataSourceProperty(EXPLICIT_READONLY, "true");
+        config.setReadOnly(true);
+        config.setMaximumPoolSize(tamanho);
+        config.setMinimumIdle(0);
+        config.setConnectionTimeout(connectionTimeout.toMillis());
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * DataSource que so obtem a conexao fisica no primeiro comando: conexoes marcadas como
+     * read-only (transacoes {@code @Transactional(readOnly = true)}) vem do leitor, as demais
+     * do escritor.
+     */
+    public static DataSource rotearLeituras(DataSource escritor, DataSource leitor) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(escritor);
+        proxy.setReadOnlyDataSource(leitor);
+        return proxy;
+    }
+
+    /**
+     * Aplica os PRAGMAs como propriedades de conexao do sqlite-jdbc.
+     */
+    public static void aplicarPragmas(HikariConfig config, Map<String, String> pragmas) {
+        pragmas.forEach(config::addDataSourceProperty);
+    }
+
+    private static HikariConfig base(String nome, String url, Map<String, String> pragmas) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(nome);
+        config.setJdbcUrl(url);
+        aplicarPragmas(config, pragmas);
+        return config;
+    }
+}
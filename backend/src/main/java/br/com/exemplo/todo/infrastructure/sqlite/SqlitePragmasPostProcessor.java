@@ -0,0 +1,39 @@
+package br.com.exemplo.todo.infrastructure.sqlite;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Aplica sqlite.pragmas aos pools Hikari criados pelo Spring Boot (DataSource padrao e banco
+ * central do modo banco-por-organizacao) antes da primeira conexao.
+ * Pools ja iniciados, como os de {@link SqliteDataSources}, recebem os PRAGMAs na criacao.
+ */
+@Component
+public class SqlitePragmasPostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+    private Map<String, String> pragmas = Map.of();
+
+    @Override
+    public void setEnvironment(@NonNull Environment environment) {
+        // Binder em vez de SqliteProperties: um BeanPostProcessor nao deve depender de outros beans
+        this.pragmas = Binder.get(environment)
+                .bind("sqlite.pragmas", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (bean instanceof HikariDataSource dataSource && !dataSource.isRunning()) {
+            pragmas.forEach(dataSource::addDataSourceProperty);
+        }
+        return bean;
+    }
+}
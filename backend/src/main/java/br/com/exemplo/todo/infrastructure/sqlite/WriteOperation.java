@@ -0,0 +1,23 @@
+package br.com.exemplo.todo.infrastructure.sqlite;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca metodos {@code @Transactional} de escrita curtos que podem ser executados pelo
+ * {@link GroupCommitExecutor}: com {@code sqlite.group-commit.enabled} a chamada vai para a fila
+ * da thread escritora e divide a transacao (e o commit) com outras operacoes, isolada por um
+ * savepoint. A thread chamadora espera o commit do lote e recebe o retorno ou a excecao do metodo.
+ * <p>
+ * Use apenas em metodos que so alteram o banco e podem ser executados de novo (se o lote
+ * inteiro for desfeito, a operacao e refeita sozinha) e que nao dependem de estado da thread
+ * alem do tenant e do usuario autenticado, que sao propagados.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface WriteOperation {
+}
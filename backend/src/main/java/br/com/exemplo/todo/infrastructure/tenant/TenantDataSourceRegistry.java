@@ -0,0 +1,348 @@
+package br.com.exemplo.todo.infrastructure.tenant;
+
+import br.com.exemplo.todo.config.TenantDatabaseProperties;
+import br.com.exemplo.todo.infrastructure.sqlite.SqliteDataSources;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pools de conexao dos arquivos SQLite de cada organizacao ({@code org-{id}.db}).
+ * <p>
+ * O pool de uma organizacao e criado na primeira conexao pedida: o arquivo recebe as
+ * migrations de {@code tenant.database.migrations-location} e, se acabou de ser criado, as
+ * linhas da organizacao que ja estavam no banco central. Cada conexao anexa o banco central
+ * como {@code central}; como o SQLite resolve nomes sem schema primeiro no arquivo principal,
+ * as tabelas da organizacao vem do arquivo dela e as compartilhadas (USUARIO, ORGANIZATION,
+ * CULINARIA...) do central, sem alterar as entidades.
+ * <p>
+ * Pools sem uso por {@code idle-timeout} saem do cache e o proximo acesso reabre o arquivo.
+ * O pool retirado so e fechado quando nao tem conexoes emprestadas: uma transacao longa numa
+ * organizacao sem outros acessos termina na conexao que ja tem.
+ */
+@Slf4j
+public class TenantDataSourceRegistry implements MeterBinder, DisposableBean {
+
+    static final String CACHE_POOLS = "tenant.database.pools";
+
+    /**
+     * Tabelas copiadas do banco central, em ordem de dependencia, com o filtro por organizacao.
+     */
+    private static final List<String[]> TABELAS = List.of(
+            new String[]{"CATEGORIA", "CAT_ORG_ID = ?"},
+            new String[]{"CATEGORIA_OPCAO", "CATOP_CAT_ID IN (SELECT CAT_ID FROM central.CATEGORIA WHERE CAT_ORG_ID = ?)"},
+            new String[]{"PRODUTO", "PRD_ORG_ID = ?"},
+            new String[]{"PRODUTO_PRECO", "PRP_ORG_ID = ?"},
+            new String[]{"ADICIONAL", "ADC_ORG_ID = ?"},
+            new String[]{"ADICIONAL_ITEM", "AIT_ORG_ID = ?"},
+            new String[]{"CLIENTE", "CLI_ORG_ID = ?"},
+            new String[]{"CLIENTE_ENDERECO", "END_ORG_ID = ?"},
+            new String[]{"TODO", "TODO_ORG_ID = ?"});
+
+    private static final String CHAVE_DADOS_COPIADOS = "dados-centrais-copiados";
+
+    private final TenantDatabaseProperties properties;
+    private final Path diretorio;
+    private final String parametrosUrl;
+    private final String anexarCentral;
+    private final Map<String, String> pragmas;
+    private final ScheduledThreadPoolExecutor manutencao;
+    private final LoadingCache<Long, HikariDataSource> pools;
+    private final Set<HikariDataSource> retirados = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param centralUrl URL JDBC do banco central (precisa ser um arquivo, nao {@code :memory:})
+     * @param pragmas    PRAGMAs aplicados as conexoes de cada organizacao (sqlite.pragmas)
+     */
+    public TenantDataSourceRegistry(TenantDatabaseProperties properties, String centralUrl,
+                                    Map<String, String> pragmas) {
+        this.properties = properties;
+        this.pragmas = Map.copyOf(pragmas);
+        this.diretorio = Path.of(properties.getDirectory()).toAbsolutePath().normalize();
+
+        String semPrefixo = centralUrl.replaceFirst("^jdbc:sqlite:", "").replaceFirst("^file:", "");
+        int inicioParametros = semPrefixo.indexOf('?');
+        String arquivoCentral = inicioParametros < 0 ? semPrefixo : semPrefixo.substring(0, inicioParametros);
+        if (arquivoCentral.isBlank() || arquivoCentral.contains(":memory:") || arquivoCentral.contains("mode=memory")) {
+            throw new IllegalStateException("tenant.database.enabled exige spring.datasource.url em arquivo: " + centralUrl);
+        }
+        this.parametrosUrl = inicioParametros < 0 ? "" : semPrefixo.substring(inicioParametros);
+        this.anexarCentral = "ATTACH DATABASE '"
+                + Path.of(arquivoCentral).toAbsolutePath().normalize().toString().replace("'", "''")
+                + "' AS central";
+
+        // Uma thread de manutencao para todos os pools, em vez de uma por organizacao
+        this.manutencao = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "tenant-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.manutencao.setRemoveOnCancelPolicy(true);
+        this.manutencao.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+
+        // Sem maximumSize: um pool so sai do cache por ociosidade. O acesso conta apenas no
+        // pools.get, nao enquanto uma conexao esta emprestada, entao o fechamento espera as
+        // conexoes em uso voltarem (ver retirar e fecharRetirados)
+        this.pools = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getIdleTimeout())
+                .executor(manutencao)
+                .removalListener((Long organizationId, HikariDataSource pool, RemovalCause causa) -> {
+                    if (pool != null) {
+                        retirar(organizationId, pool, causa);
+                    }
+                })
+                .recordStats()
+                .build(this::abrir);
+    }
+
+    /**
+     * Conexao com o arquivo da organizacao (com o banco central anexado).
+     */
+    public Connection getConnection(Long organizationId) throws SQLException {
+        HikariDataSource pool = pools.get(organizationId);
+        Connection connection;
+        try {
+            connection = pool.getConnection();
+        } catch (SQLException e) {
+            // Pool fechado por ociosidade entre o get e o getConnection: reabre uma vez
+            if (!pool.isClosed()) {
+                throw e;
+            }
+            return pools.get(organizationId).getConnection();
+        }
+        if (retirados.contains(pool)) {
+            // Pool retirado entre o get e o getConnection: o fechamento pode nao ter visto esta
+            // conexao como emprestada, entao ela e devolvida e a conexao vem do pool novo
+            connection.close();
+            return pools.get(organizationId).getConnection();
+        }
+        return connection;
+    }
+
+    /**
+     * Arquivo SQLite da organizacao.
+     */
+    public Path arquivo(Long organizationId) {
+        return diretorio.resolve("org-" + organizationId + ".db");
+    }
+
+    /**
+     * Quantidade de pools abertos.
+     */
+    public long poolsAbertos() {
+        return pools.estimatedSize();
+    }
+
+    /**
+     * Quantidade de pools fora do cache esperando as conexoes emprestadas voltarem.
+     */
+    public int poolsAguardandoFechamento() {
+        return retirados.size();
+    }
+
+    @Scheduled(fixedDelayString = "${tenant.database.cleanup-interval:PT1M}",
+            initialDelayString = "${tenant.database.cleanup-interval:PT1M}")
+    public void limparAgendado() {
+        pools.cleanUp();
+        manutencao.execute(this::fecharRetirados);
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, pools, CACHE_POOLS);
+        Gauge.builder("tenant.database.pools.open", this, TenantDataSourceRegistry::poolsAbertos)
+                .description("Pools de conexao de organizacoes abertos")
+                .register(registry);
+        Gauge.builder("tenant.database.pools.closing", this, TenantDataSourceRegistry::poolsAguardandoFechamento)
+                .description("Pools retirados esperando conexoes emprestadas voltarem")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        List<HikariDataSource> abertos = List.copyOf(pools.asMap().values());
+        pools.invalidateAll();
+        // Deixa os listeners de remocao ja enfileirados terminarem antes de fechar o restante
+        manutencao.shutdown();
+        try {
+            manutencao.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        abertos.forEach(HikariDataSource::close);
+        retirados.forEach(HikariDataSource::close);
+        retirados.clear();
+    }
+
+    /**
+     * Pool que saiu do cache: fecha agora se nao ha conexao emprestada, senao fica para
+     * {@link #fecharRetirados()}. Entra em {@code retirados} antes da verificacao para que
+     * {@link #getConnection(Long)} descarte conexoes pegas dele depois disso.
+     */
+    private void retirar(Long organizationId, HikariDataSource pool, RemovalCause causa) {
+        retirados.add(pool);
+        if (fecharSeOcioso(pool)) {
+            log.debug("Pool da organizacao {} fechado ({})", organizationId, causa);
+        } else {
+            log.debug("Pool da organizacao {} retirado ({}) com conexoes em uso; fechamento adiado",
+                    organizationId, causa);
+        }
+    }
+
+    private void fecharRetirados() {
+        for (HikariDataSource pool : retirados) {
+            fecharSeOcioso(pool);
+        }
+    }
+
+    private boolean fecharSeOcioso(HikariDataSource pool) {
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        if (mxBean != null && mxBean.getActiveConnections() > 0) {
+            return false;
+        }
+        pool.close();
+        retirados.remove(pool);
+        return true;
+    }
+
+    private HikariDataSource abrir(Long organizationId) {
+        Path arquivo = arquivo(organizationId);
+        try {
+            Files.createDirectories(diretorio);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Nao foi possivel criar " + diretorio, e);
+        }
+        String url = "jdbc:sqlite:file:" + arquivo + parametrosUrl;
+
+        long inicio = System.nanoTime();
+        Flyway.configure()
+                .dataSource(url, null, null)
+                .locations(properties.getMigrationsLocation())
+                .load()
+                .migrate();
+
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("tenant-" + organizationId);
+        config.setJdbcUrl(url);
+        config.setMaximumPoolSize(properties.getMaximumPoolSize());
+        config.setMinimumIdle(0);
+        config.setIdleTimeout(properties.getIdleTimeout().toMillis());
+        config.setConnectionInitSql(anexarCentral);
+        SqliteDataSources.aplicarPragmas(config, pragmas);
+        config.setScheduledExecutor(manutencao);
+        HikariDataSource pool = new HikariDataSource(config);
+
+        if (properties.isCopyExistingData()) {
+            try {
+                copiarDadosCentrais(pool, organizationId);
+            } catch (SQLException | RuntimeException e) {
+                pool.close();
+                throw new IllegalStateException("Falha ao copiar dados da organizacao " + organizationId, e);
+            }
+        }
+        log.info("Banco da organizacao {} aberto em {} ms: {}", organizationId,
+                (System.nanoTime() - inicio) / 1_000_000, arquivo);
+        return pool;
+    }
+
+    /**
+     * Copia, uma unica vez por arquivo, as linhas da organizacao que estavam no banco central
+     * (instalacoes que ativam o modo com dados ja cadastrados). As linhas centrais permanecem.
+     */
+    private void copiarDadosCentrais(HikariDataSource pool, Long organizationId) throws SQLException {
+        try (Connection connection = pool.getConnection()) {
+            if (jaCopiado(connection)) {
+                return;
+            }
+            connection.setAutoCommit(false);
+            try {
+                int linhas = 0;
+                for (String[] tabela : TABELAS) {
+                    linhas += copiarTabela(connection, tabela[0], tabela[1], organizationId);
+                }
+                try (PreparedStatement marcar = connection.prepareStatement(
+                        "INSERT INTO main.TENANT_METADATA (CHAVE, VALOR) VALUES (?, datetime('now'))")) {
+                    marcar.setString(1, CHAVE_DADOS_COPIADOS);
+                    marcar.executeUpdate();
+                }
+                connection.commit();
+                if (linhas > 0) {
+                    log.info("Organizacao {}: {} linhas copiadas do banco central", organizationId, linhas);
+                }
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private static boolean jaCopiado(Connection connection) throws SQLException {
+        try (PreparedStatement consulta = connection.prepareStatement(
+                "SELECT 1 FROM main.TENANT_METADATA WHERE CHAVE = ?")) {
+            consulta.setString(1, CHAVE_DADOS_COPIADOS);
+            try (ResultSet rs = consulta.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    private static int copiarTabela(Connection connection, String tabela, String filtro, Long organizationId)
+            throws SQLException {
+        Set<String> colunas = colunas(connection, "main", tabela);
+        colunas.retainAll(colunas(connection, "central", tabela));
+        if (colunas.isEmpty()) {
+            return 0;
+        }
+        String lista = String.join(", ", colunas);
+        String sql = "INSERT INTO main." + tabela + " (" + lista + ") SELECT " + lista
+                + " FROM central." + tabela + " WHERE " + filtro;
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            insert.setLong(1, organizationId);
+            return insert.executeUpdate();
+        }
+    }
+
+    private static Set<String> colunas(Connection connection, String schema, String tabela) throws SQLException {
+        List<String> nomes = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("PRAGMA " + schema + ".table_info(" + tabela + ")")) {
+            while (rs.next()) {
+                nomes.add(rs.getString("name").toUpperCase(Locale.ROOT));
+            }
+        }
+        return new LinkedHashSet<>(nomes);
+    }
+}
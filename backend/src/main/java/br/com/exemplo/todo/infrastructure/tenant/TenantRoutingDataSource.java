@@ -0,0 +1,49 @@
+package br.com.exemplo.todo.infrastructure.tenant;
+
+import br.com.exemplo.todo.security.TenantContext;
+import br.com.exemplo.todo.security.TenantInfo;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * DataSource principal no modo banco-por-organizacao: com tenant no {@link TenantContext}
+ * a conexao vem do arquivo da organizacao; sem tenant (login, cadastro, Flyway, tarefas
+ * agendadas) vem do banco central.
+ * <p>
+ * A escolha acontece ao abrir a conexao, ou seja, no inicio da transacao; trocar de tenant
+ * dentro de uma transacao nao muda o arquivo usado por ela.
+ */
+public class TenantRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource central;
+    private final TenantDataSourceRegistry registry;
+
+    public TenantRoutingDataSource(DataSource central, TenantDataSourceRegistry registry) {
+        this.central = central;
+        this.registry = registry;
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection() throws SQLException {
+        Optional<TenantInfo> tenant = TenantContext.get();
+        if (tenant.isPresent()) {
+            return registry.getConnection(tenant.get().organizationId());
+        }
+        return central.getConnection();
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (TenantContext.isSet()) {
+            return getConnection();
+        }
+        return central.getConnection(username, password);
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.exemplo.todo.infrastructure.tenant;
+
+import br.com.exemplo.todo.infrastructure.sqlite.GroupCommitExecutor;
+import br.com.exemplo.todo.security.TenantConcurrencyLimiter;
+import br.com.exemplo.todo.security.TenantConcurrencyLimiter.Permissao;
+import br.com.exemplo.todo.security.TenantConcurrencyLimiter.Tipo;
+import br.com.exemplo.todo.security.TenantContext;
+import br.com.exemplo.todo.security.TenantInfo;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+
+/**
+ * JpaTransactionManager que obtem uma vaga de escrita da organizacao
+ * ({@link TenantConcurrencyLimiter}) ao iniciar cada transacao que nao e read-only e a devolve
+ * ao termino. Transacoes sem tenant (login, tarefas agendadas) e read-only nao sao limitadas.
+ * <p>
+ * Uma thread que ja tem vaga (ex.: REQUIRES_NEW dentro de outra transacao) nao pede outra,
+ * evitando que ela espere por si mesma quando o limite e 1.
+ * <p>
+ * Na thread do {@link GroupCommitExecutor}, a falha de um metodo participante marca apenas a
+ * operacao em execucao (desfeita pelo savepoint dela), e nao a transacao do lote.
+ */
+public class TenantWriteLimitingTransactionManager extends JpaTransactionManager {
+
+    private final transient TenantConcurrencyLimiter limiter;
+
+    /**
+     * Vagas das transacoes abertas na thread (inicio e fim sao pareados em ordem LIFO).
+     */
+    private final transient ThreadLocal<Deque<Optional<Permissao>>> vagas = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public TenantWriteLimitingTransactionManager(TenantConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        Deque<Optional<Permissao>> abertas = vagas.get();
+        Permissao permissao = null;
+        if (!definition.isReadOnly() && abertas.stream().noneMatch(Optional::isPresent)) {
+            Long organizationId = TenantContext.get().map(TenantInfo::organizationId).orElse(null);
+            if (organizationId != null) {
+                permissao = limiter.adquirir(Tipo.ESCRITA, organizationId);
+            }
+        }
+        try {
+            super.doBegin(transaction, definition);
+        } catch (RuntimeException | Error e) {
+            if (permissao != null) {
+                permissao.close();
+            }
+            throw e;
+        }
+        abertas.push(Optional.ofNullable(permissao));
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        try {
+            super.doCleanupAfterCompletion(transaction);
+        } finally {
+            Deque<Optional<Permissao>> abertas = vagas.get();
+            Optional<Permissao> permissao = abertas.poll();
+            if (abertas.isEmpty()) {
+                vagas.remove();
+            }
+            if (permissao != null) {
+                permissao.ifPresent(Permissao::close);
+            }
+        }
+    }
+
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        // Apenas a transacao do lote (a primeira da thread), nao uma REQUIRES_NEW aberta pela operacao
+        if (vagas.get().size() == 1 && GroupCommitExecutor.marcarOperacaoParaRollback()) {
+            return;
+        }
+        super.doSetRollbackOnly(status);
+    }
+}
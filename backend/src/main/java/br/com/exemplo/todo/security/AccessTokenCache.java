@@ -0,0 +1,123 @@
+package br.com.exemplo.todo.security;
+
+import br.com.exemplo.todo.config.JwtConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * Cache limitado de claims de access tokens ja verificados.
+ * A chave e o hash SHA-256 do token (o token em si nunca fica em memoria) e cada
+ * entrada expira exatamente no "exp" do proprio token.
+ * Apenas tokens validos sao armazenados; tokens invalidos sempre passam pelo parser.
+ */
+@Component
+public class AccessTokenCache implements MeterBinder {
+
+    static final String CACHE_NAME = "jwt.access-token";
+
+    private final boolean enabled;
+    private final Cache<String, Claims> cache;
+
+    public AccessTokenCache(JwtConfig jwtConfig) {
+        JwtConfig.AccessToken config = jwtConfig.getAccessToken();
+        this.enabled = config.isCacheEnabled() && config.getCacheMaxSize() > 0;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(config.getCacheMaxSize(), 0))
+                .expireAfter(new ExpiraComToken())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Indica se o cache esta habilitado.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Retorna as claims armazenadas para o hash do token, ou null se ausentes/expiradas.
+     */
+    public Claims get(String tokenDigest) {
+        return enabled ? cache.getIfPresent(tokenDigest) : null;
+    }
+
+    /**
+     * Armazena claims verificadas. Tokens sem "exp" ou ja expirados sao ignorados.
+     */
+    public void put(String tokenDigest, Claims claims) {
+        if (!enabled || claims.getExpiration() == null || tempoRestante(claims).isZero()) {
+            return;
+        }
+        cache.put(tokenDigest, claims);
+    }
+
+    /**
+     * Remove todas as entradas (ex.: troca de chave de assinatura).
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Quantidade aproximada de entradas no cache.
+     */
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Estatisticas de hit/miss do cache.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Expira cada entrada no "exp" do token; leituras e regravacoes nao alteram o prazo.
+     */
+    private static final class ExpiraComToken implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(@NonNull String digest, @NonNull Claims claims, long currentTime) {
+            return tempoRestante(claims).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(@NonNull String digest, @NonNull Claims claims,
+                                      long currentTime, long currentDuration) {
+            return tempoRestante(claims).toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(@NonNull String digest, @NonNull Claims claims,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private static Duration tempoRestante(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return Duration.ZERO;
+        }
+        long restanteMs = expiration.getTime() - System.currentTimeMillis();
+        return restanteMs > 0 ? Duration.ofMillis(restanteMs) : Duration.ZERO;
+    }
+}
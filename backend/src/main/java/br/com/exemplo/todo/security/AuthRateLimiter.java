@@ -0,0 +1,254 @@
+package br.com.exemplo.todo.security;
+
+import br.com.exemplo.todo.config.AuthProperties;
+import br.com.exemplo.todo.domain.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Limite de requisicoes dos endpoints de autenticacao (token bucket por IP e por email).
+ * Roda no controller, antes de qualquer consulta ao banco ou BCrypt.
+ * <p>
+ * As entradas ficam em mapas distribuidos por faixas, cada uma com seu proprio lock;
+ * uma requisicao de chave ja conhecida nao aloca objetos. Entradas ociosas (balde cheio)
+ * sao removidas periodicamente. Com a faixa cheia, a chave nova toma o lugar da entrada
+ * usada ha mais tempo: uma chave nova nunca passa sem limite.
+ */
+@Component
+@Slf4j
+public class AuthRateLimiter {
+
+    private final boolean enabled;
+    private final LongSupplier relogio;
+    private final Limitador porIp;
+    private final Limitador porEmail;
+    private final Counter rejeitadasIp;
+    private final Counter rejeitadasEmail;
+
+    @Autowired
+    public AuthRateLimiter(AuthProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    public AuthRateLimiter(AuthProperties properties, MeterRegistry meterRegistry, LongSupplier relogio) {
+        AuthProperties.RateLimit config = properties.getRateLimit();
+        this.enabled = config.isEnabled();
+        this.relogio = relogio;
+        this.porIp = new Limitador(config.getIp(), config);
+        this.porEmail = new Limitador(config.getEmail(), config);
+
+        this.rejeitadasIp = Counter.builder("auth.rate-limit.rejected")
+                .description("Requisicoes de autenticacao rejeitadas pelo limite")
+                .tag("chave", "ip")
+                .register(meterRegistry);
+        this.rejeitadasEmail = Counter.builder("auth.rate-limit.rejected")
+                .description("Requisicoes de autenticacao rejeitadas pelo limite")
+                .tag("chave", "email")
+                .register(meterRegistry);
+        Gauge.builder("auth.rate-limit.entries", porIp, Limitador::tamanho)
+                .description("Entradas rastreadas pelo limite")
+                .tag("chave", "ip")
+                .register(meterRegistry);
+        Gauge.builder("auth.rate-limit.entries", porEmail, Limitador::tamanho)
+                .description("Entradas rastreadas pelo limite")
+                .tag("chave", "email")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Consome um token do IP do cliente.
+     * @throws RateLimitExceededException se o limite foi excedido
+     */
+    public void verificar(HttpServletRequest request) {
+        verificar(request, null);
+    }
+
+    /**
+     * Consome um token do IP do cliente e, se informado, do email normalizado.
+     * @throws RateLimitExceededException se algum dos limites foi excedido
+     */
+    public void verificar(HttpServletRequest request, String email) {
+        if (!enabled) {
+            return;
+        }
+        long agora = relogio.getAsLong();
+
+        String ip = ClientIp.extrair(request);
+        if (ip != null) {
+            long esperaNanos = porIp.tentarConsumir(ip, agora);
+            if (esperaNanos > 0) {
+                rejeitadasIp.increment();
+                log.debug("Limite de autenticacao excedido por IP: {}", ip);
+                throw new RateLimitExceededException(segundos(esperaNanos));
+            }
+        }
+
+        if (StringUtils.hasText(email)) {
+            long esperaNanos = porEmail.tentarConsumir(email.trim().toLowerCase(Locale.ROOT), agora);
+            if (esperaNanos > 0) {
+                rejeitadasEmail.increment();
+                log.debug("Limite de autenticacao excedido por email: {}", email);
+                throw new RateLimitExceededException(segundos(esperaNanos));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.rate-limit.cleanup-interval:PT1M}",
+            initialDelayString = "${auth.rate-limit.cleanup-interval:PT1M}")
+    public void limparAgendado() {
+        int removidas = limparOciosos();
+        if (removidas > 0) {
+            log.debug("Limite de autenticacao: {} entradas ociosas removidas", removidas);
+        }
+    }
+
+    /**
+     * Remove entradas ociosas.
+     * @return quantidade de entradas removidas
+     */
+    public int limparOciosos() {
+        long agora = relogio.getAsLong();
+        return porIp.limpar(agora) + porEmail.limpar(agora);
+    }
+
+    private static long segundos(long nanos) {
+        return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Token bucket por chave, com as chaves distribuidas em faixas.
+     */
+    private static final class Limitador {
+
+        private final Faixa[] faixas;
+        private final double capacidade;
+        private final double tokensPorNano;
+        private final long ociosoNanos;
+        private final int maxPorFaixa;
+
+        Limitador(AuthProperties.Limite limite, AuthProperties.RateLimit config) {
+            int quantidade = Math.max(1, config.getStripes());
+            this.faixas = new Faixa[quantidade];
+            for (int i = 0; i < quantidade; i++) {
+                faixas[i] = new Faixa();
+            }
+            this.capacidade = Math.max(1, limite.getCapacity());
+            this.tokensPorNano = Math.max(1, limite.getRefillPerMinute()) / (double) TimeUnit.MINUTES.toNanos(1);
+            // Depois desse tempo o balde ja esta cheio: descartar equivale a recriar
+            long ateEncher = (long) Math.ceil(capacidade / tokensPorNano);
+            this.ociosoNanos = Math.max(config.getIdleTimeout().toNanos(), ateEncher);
+            this.maxPorFaixa = Math.max(1, config.getMaxEntries() / quantidade);
+        }
+
+        /**
+         * @return 0 se o token foi consumido; caso contrario, nanos ate o proximo token
+         */
+        long tentarConsumir(String chave, long agora) {
+            Faixa faixa = faixas[Math.floorMod(espalhar(chave.hashCode()), faixas.length)];
+            faixa.lock.lock();
+            try {
+                Balde balde = faixa.baldes.get(chave);
+                if (balde == null) {
+                    if (faixa.baldes.size() >= maxPorFaixa) {
+                        descartarMaisAntiga(faixa);
+                    }
+                    balde = new Balde(capacidade, agora);
+                    faixa.baldes.put(chave, balde);
+                }
+                balde.repor(agora, capacidade, tokensPorNano);
+                if (balde.tokens >= 1) {
+                    balde.tokens -= 1;
+                    return 0;
+                }
+                return Math.max(1, (long) Math.ceil((1 - balde.tokens) / tokensPorNano));
+            } finally {
+                faixa.lock.unlock();
+            }
+        }
+
+        /**
+         * Remove a entrada usada ha mais tempo (a primeira na ordem de acesso), que e a mais
+         * proxima de ter o balde cheio novamente.
+         */
+        private static void descartarMaisAntiga(Faixa faixa) {
+            Iterator<Balde> iterator = faixa.baldes.values().iterator();
+            iterator.next();
+            iterator.remove();
+        }
+
+        int limpar(long agora) {
+            int removidas = 0;
+            for (Faixa faixa : faixas) {
+                faixa.lock.lock();
+                try {
+                    Iterator<Balde> iterator = faixa.baldes.values().iterator();
+                    while (iterator.hasNext()) {
+                        if (agora - iterator.next().atualizadoEm >= ociosoNanos) {
+                            iterator.remove();
+                            removidas++;
+                        }
+                    }
+                } finally {
+                    faixa.lock.unlock();
+                }
+            }
+            return removidas;
+        }
+
+        double tamanho() {
+            long total = 0;
+            for (Faixa faixa : faixas) {
+                faixa.lock.lock();
+                try {
+                    total += faixa.baldes.size();
+                } finally {
+                    faixa.lock.unlock();
+                }
+            }
+            return total;
+        }
+
+        private static int espalhar(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    private static final class Faixa {
+        private final ReentrantLock lock = new ReentrantLock();
+        // Ordem de acesso: a primeira entrada e a usada ha mais tempo
+        private final Map<String, Balde> baldes = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    private static final class Balde {
+        private double tokens;
+        private long atualizadoEm;
+
+        Balde(double tokens, long agora) {
+            this.tokens = tokens;
+            this.atualizadoEm = agora;
+        }
+
+        void repor(long agora, double capacidade, double tokensPorNano) {
+            long decorrido = agora - atualizadoEm;
+            if (decorrido > 0) {
+                tokens = Math.min(capacidade, tokens + decorrido * tokensPorNano);
+                atualizadoEm = agora;
+            }
+        }
+    }
+}
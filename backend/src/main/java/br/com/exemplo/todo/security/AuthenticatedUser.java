@@ -17,10 +17,20 @@ public class AuthenticatedUser implements UserDetails {
     private final String email;
     private final String nome;
 
+    /**
+     * Memberships assinadas no access token (null para tokens emitidos sem elas).
+     */
+    private final MembershipClaims membershipClaims;
+
     public AuthenticatedUser(Long userId, String email, String nome) {
+        this(userId, email, nome, null);
+    }
+
+    public AuthenticatedUser(Long userId, String email, String nome, MembershipClaims membershipClaims) {
         this.userId = userId;
         this.email = email;
         this.nome = nome;
+        this.membershipClaims = membershipClaims;
     }
 
     @Override
@@ -0,0 +1,135 @@
+package br.com.exemplo.todo.security;
+
+import br.com.exemplo.todo.config.PasswordHashingProperties;
+import br.com.exemplo.todo.domain.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PasswordEncoder que executa o BCrypt num pool de threads limitado.
+ * <p>
+ * Com virtual threads habilitadas, uma rajada de logins iniciaria centenas de BCrypt
+ * simultaneos e tomaria a CPU dos demais endpoints. Aqui no maximo {@code threads}
+ * calculos rodam ao mesmo tempo, ate {@code queueCapacity} aguardam na fila e o
+ * excedente e rejeitado imediatamente com {@link PasswordHashingBusyException} (503 + Retry-After).
+ * <p>
+ * Metricas: timer {@code password.hashing} (tag operation=encode|matches, inclui espera na fila),
+ * contador {@code password.hashing.rejected} e as metricas do executor ({@code executor.*}).
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    static final String OPERACAO_ENCODE = "encode";
+    static final String OPERACAO_MATCHES = "matches";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int retryAfterSeconds;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter encodeRejeitados;
+    private final Counter matchesRejeitados;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.retryAfterSeconds = properties.getRetryAfterSeconds();
+
+        int threads = properties.threadsEfetivas();
+        AtomicInteger sequencia = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(properties.getQueueCapacity(), 1)),
+                runnable -> Thread.ofPlatform()
+                        .name("password-hashing-" + sequencia.incrementAndGet())
+                        .daemon(true)
+                        .unstarted(runnable),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.prestartAllCoreThreads();
+
+        new ExecutorServiceMetrics(executor, "password.hashing", Tags.empty()).bindTo(meterRegistry);
+        this.encodeTimer = criarTimer(meterRegistry, OPERACAO_ENCODE);
+        this.matchesTimer = criarTimer(meterRegistry, OPERACAO_MATCHES);
+        this.encodeRejeitados = criarContadorRejeitados(meterRegistry, OPERACAO_ENCODE);
+        this.matchesRejeitados = criarContadorRejeitados(meterRegistry, OPERACAO_MATCHES);
+
+        log.info("BCrypt executor: threads={}, queueCapacity={}", threads, properties.getQueueCapacity());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executar(() -> delegate.encode(rawPassword), encodeTimer, encodeRejeitados);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executar(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer, matchesRejeitados);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T executar(Callable<T> operacao, Timer timer, Counter rejeitados) {
+        long inicio = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(operacao);
+        } catch (RejectedExecutionException e) {
+            rejeitados.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando verificacao de senha", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            timer.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer criarTimer(MeterRegistry registry, String operacao) {
+        return Timer.builder("password.hashing")
+                .description("Latencia do BCrypt, incluindo espera na fila")
+                .tag("operation", operacao)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static Counter criarContadorRejeitados(MeterRegistry registry, String operacao) {
+        return Counter.builder("password.hashing.rejected")
+                .description("Operacoes de BCrypt rejeitadas por executor saturado")
+                .tag("operation", operacao)
+                .register(registry);
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.exemplo.todo.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Resolve o IP do cliente pelo endereco remoto da conexao. X-Forwarded-For e controlado pelo
+ * cliente e nao e lido aqui: atras de proxy reverso, configure {@code server.forward-headers-strategy}
+ * (e {@code server.tomcat.remoteip.internal-proxies}) para o container reescrever o endereco remoto
+ * apenas quando a requisicao vem de um proxy confiavel.
+ */
+public final class ClientIp {
+
+    private ClientIp() {
+    }
+
+    public static String extrair(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
@@ -48,8 +48,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     Long userId = jwtService.extractUserId(claims);
                     String email = jwtService.extractEmail(claims);
                     String nome = jwtService.extractNome(claims);
+                    MembershipClaims membershipClaims = jwtService.extractMembershipClaims(claims).orElse(null);
 
-                    AuthenticatedUser principal = new AuthenticatedUser(userId, email, nome);
+                    AuthenticatedUser principal = new AuthenticatedUser(userId, email, nome, membershipClaims);
 
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(principal, null, List.of());
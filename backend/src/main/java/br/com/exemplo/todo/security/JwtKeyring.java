@@ -0,0 +1,212 @@
+package br.com.exemplo.todo.security;
+
+import br.com.exemplo.todo.config.JwtConfig;
+import br.com.exemplo.todo.config.JwtConfig.Algoritmo;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.KeySpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import javax.crypto.SecretKey;
+
+/**
+ * Chaves de assinatura e verificacao de JWT.
+ * <p>
+ * Com HS256 assina com o segredo compartilhado (comportamento original). Com ES256/EdDSA
+ * assina com a chave privada ativa e coloca o "kid" no header; a verificacao escolhe a chave
+ * publica pelo "kid", de modo que chaves antigas continuam validando durante a rotacao.
+ * As chaves sao lidas uma unica vez na inicializacao e o JWKS e montado junto.
+ */
+@Component
+@Slf4j
+public class JwtKeyring {
+
+    private static final String[] TIPOS_CHAVE = {"EC", "Ed25519"};
+
+    private final Algoritmo algoritmo;
+    private final String kidAtivo;
+    private final Key chaveAssinatura;
+    private final SecureDigestAlgorithm<Key, ?> algoritmoAssinatura;
+    private final Map<String, PublicKey> chavesPublicas;
+    private final SecretKey segredo;
+    private final Locator<Key> locator;
+    private final Map<String, Object> jwks;
+
+    public JwtKeyring(JwtConfig jwtConfig) {
+        JwtConfig.Signing config = jwtConfig.getSigning();
+        this.algoritmo = config.getAlgorithm();
+
+        Map<String, PublicKey> publicas = new LinkedHashMap<>();
+        Map<String, PrivateKey> privadas = new LinkedHashMap<>();
+        for (JwtConfig.SigningKey chave : config.getKeys()) {
+            if (!StringUtils.hasText(chave.getId()) || !StringUtils.hasText(chave.getPublicKey())) {
+                throw new IllegalStateException("Chave JWT sem id ou public-key em security.jwt.signing.keys");
+            }
+            publicas.put(chave.getId(), lerChave(chave.getId(), chave.getPublicKey(), X509EncodedKeySpec::new,
+                    (fabrica, spec) -> fabrica.generatePublic(spec)));
+            if (StringUtils.hasText(chave.getPrivateKey())) {
+                privadas.put(chave.getId(), lerChave(chave.getId(), chave.getPrivateKey(), PKCS8EncodedKeySpec::new,
+                        (fabrica, spec) -> fabrica.generatePrivate(spec)));
+            }
+        }
+
+        if (algoritmo == Algoritmo.HS256) {
+            this.kidAtivo = null;
+            this.chaveAssinatura = jwtConfig.getSecretKey();
+        } else {
+            if (privadas.isEmpty()) {
+                String kid = "efemera-" + UUID.randomUUID();
+                KeyPair par = gerarPar(algoritmo);
+                publicas.put(kid, par.getPublic());
+                privadas.put(kid, par.getPrivate());
+                log.warn("Nenhuma chave {} configurada em security.jwt.signing.keys; usando par efemero {} "
+                        + "(tokens invalidos apos reinicio e em outros nos)", algoritmo, kid);
+            }
+            this.kidAtivo = StringUtils.hasText(config.getActiveKeyId())
+                    ? config.getActiveKeyId()
+                    : privadas.keySet().iterator().next();
+            if (!privadas.containsKey(kidAtivo)) {
+                throw new IllegalStateException("Chave JWT ativa sem private-key: " + kidAtivo);
+            }
+            this.chaveAssinatura = privadas.get(kidAtivo);
+        }
+        this.algoritmoAssinatura = algoritmoAssinatura(algoritmo);
+        this.chavesPublicas = Map.copyOf(publicas);
+        this.segredo = algoritmo == Algoritmo.HS256 || config.isAcceptLegacyHs256()
+                ? jwtConfig.getSecretKey()
+                : null;
+        this.locator = new PorKid();
+        this.jwks = montarJwks(publicas);
+    }
+
+    /**
+     * Define o "kid" (quando assimetrico) e assina o token com a chave ativa.
+     */
+    public JwtBuilder assinar(JwtBuilder builder) {
+        if (kidAtivo != null) {
+            builder.header().keyId(kidAtivo);
+        }
+        return builder.signWith(chaveAssinatura, algoritmoAssinatura);
+    }
+
+    /**
+     * Localiza a chave de verificacao pelo header do token (para o parser do JJWT).
+     */
+    public Locator<Key> locator() {
+        return locator;
+    }
+
+    /**
+     * JWK Set com as chaves publicas conhecidas (vazio com HS256 sem chaves configuradas).
+     */
+    public Map<String, Object> jwks() {
+        return jwks;
+    }
+
+    public Algoritmo getAlgoritmo() {
+        return algoritmo;
+    }
+
+    public String getKidAtivo() {
+        return kidAtivo;
+    }
+
+    /**
+     * Tokens com "kid" usam a chave publica correspondente; tokens sem "kid" usam o segredo HS256.
+     * Retornar null faz o parser rejeitar o token. O JJWT rejeita chave incompativel com o "alg".
+     */
+    private final class PorKid extends LocatorAdapter<Key> {
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            String kid = header.getKeyId();
+            return kid != null ? chavesPublicas.get(kid) : segredo;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SecureDigestAlgorithm<Key, ?> algoritmoAssinatura(Algoritmo algoritmo) {
+        SecureDigestAlgorithm<?, ?> resultado = switch (algoritmo) {
+            case HS256 -> Jwts.SIG.HS256;
+            case ES256 -> Jwts.SIG.ES256;
+            case EdDSA -> Jwts.SIG.EdDSA;
+        };
+        return (SecureDigestAlgorithm<Key, ?>) resultado;
+    }
+
+    private static KeyPair gerarPar(Algoritmo algoritmo) {
+        try {
+            if (algoritmo == Algoritmo.ES256) {
+                KeyPairGenerator gerador = KeyPairGenerator.getInstance("EC");
+                gerador.initialize(new ECGenParameterSpec("secp256r1"));
+                return gerador.generateKeyPair();
+            }
+            return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Falha ao gerar par de chaves " + algoritmo, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Gerador<T extends Key> {
+        T gerar(KeyFactory fabrica, KeySpec spec) throws GeneralSecurityException;
+    }
+
+    /**
+     * Le uma chave em PEM/Base64, tentando os tipos suportados (EC e Ed25519).
+     */
+    private static <T extends Key> T lerChave(String kid, String pem, Function<byte[], KeySpec> spec,
+                                              Gerador<T> gerador) {
+        byte[] der;
+        try {
+            der = Base64.getMimeDecoder().decode(pem.replaceAll("-----[A-Z ]+-----", ""));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Chave JWT " + kid + " nao esta em PEM/Base64", e);
+        }
+        for (String tipo : TIPOS_CHAVE) {
+            try {
+                return gerador.gerar(KeyFactory.getInstance(tipo), spec.apply(der));
+            } catch (GeneralSecurityException e) {
+                log.trace("Chave JWT {} nao e do tipo {}", kid, tipo);
+            }
+        }
+        throw new IllegalStateException("Chave JWT " + kid + " invalida (esperado EC P-256 ou Ed25519)");
+    }
+
+    private static Map<String, Object> montarJwks(Map<String, PublicKey> publicas) {
+        List<PublicJwk<?>> chaves = new ArrayList<>();
+        publicas.forEach((kid, chave) -> chaves.add(Jwks.builder()
+                .key(chave)
+                .id(kid)
+                .algorithm(chave instanceof ECPublicKey ? "ES256" : "EdDSA")
+                .publicKeyUse("sig")
+                .build()));
+        return Map.of("keys", List.copyOf(chaves));
+    }
+}
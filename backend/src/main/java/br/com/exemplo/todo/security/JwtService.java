@@ -1,13 +1,17 @@
 package br.com.exemplo.todo.security;
 
 import br.com.exemplo.todo.config.JwtConfig;
+import br.com.exemplo.todo.domain.model.entity.Membership;
 import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
@@ -18,26 +22,77 @@ import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Servico para geracao e validacao de tokens JWT.
+ * As chaves (ver {@link JwtKeyring}) e o parser sao construidos uma unica vez (sao thread-safe)
+ * e as claims de access tokens validos ficam em cache ate o "exp" do token.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class JwtService {
 
+    private static final char REFRESH_TOKEN_SEPARADOR = '.';
+    private static final String CLAIM_ORGANIZACOES = "orgs";
+    private static final String CLAIM_VERSAO_MEMBERSHIP = "mbv";
+    private static final char MEMBERSHIP_SEPARADOR = ':';
+
     private final JwtConfig jwtConfig;
+    private final AccessTokenCache accessTokenCache;
+    private final JwtKeyring keyring;
+    private final JwtParser parser;
+
+    public JwtService(JwtConfig jwtConfig, AccessTokenCache accessTokenCache) {
+        this(jwtConfig, accessTokenCache, new JwtKeyring(jwtConfig));
+    }
+
+    @Autowired
+    public JwtService(JwtConfig jwtConfig, AccessTokenCache accessTokenCache, JwtKeyring keyring) {
+        this.jwtConfig = jwtConfig;
+        this.accessTokenCache = accessTokenCache;
+        this.keyring = keyring;
+        this.parser = Jwts.parser()
+                .keyLocator(keyring.locator())
+                .build();
+    }
 
     /**
      * Gera access token JWT.
      */
     public String generateAccessToken(User user) {
+        return generateAccessToken(user, (Map<Long, MembershipRole>) null);
+    }
+
+    /**
+     * Gera access token JWT com as memberships ativas do usuario.
+     * @see #generateAccessToken(User, Map)
+     */
+    public String generateAccessToken(User user, List<Membership> memberships) {
+        if (memberships == null) {
+            return generateAccessToken(user);
+        }
+        Map<Long, MembershipRole> organizacoes = new LinkedHashMap<>();
+        for (Membership membership : memberships) {
+            if (Boolean.TRUE.equals(membership.getAtivo())) {
+                organizacoes.put(membership.getOrganization().getId(), membership.getPapel());
+            }
+        }
+        return generateAccessToken(user, organizacoes);
+    }
+
+    /**
+     * Gera access token JWT com as memberships do usuario ("orgs", no formato "orgId:PAPEL", na ordem do mapa)
+     * e a versao das memberships ("mbv"), quando habilitado em security.jwt.access-token.membership-claims.
+     */
+    public String generateAccessToken(User user, Map<Long, MembershipRole> organizacoes) {
         Instant now = Instant.now();
         Instant expiration = now.plusMillis(jwtConfig.getAccessToken().getExpirationMs());
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .header()
                     .type("JWT")
                     .and()
@@ -46,9 +101,17 @@ public class JwtService {
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiration))
                 .claim("email", user.getEmail())
-                .claim("nome", user.getNome())
-                .signWith(jwtConfig.getSecretKey(), Jwts.SIG.HS256)
-                .compact();
+                .claim("nome", user.getNome());
+
+        if (organizacoes != null && jwtConfig.getAccessToken().isMembershipClaims()) {
+            List<String> orgs = organizacoes.entrySet().stream()
+                    .map(entry -> entry.getKey() + String.valueOf(MEMBERSHIP_SEPARADOR) + entry.getValue().name())
+                    .toList();
+            builder.claim(CLAIM_ORGANIZACOES, orgs)
+                    .claim(CLAIM_VERSAO_MEMBERSHIP, user.getVersaoMembership() != null ? user.getVersaoMembership() : 0L);
+        }
+
+        return keyring.assinar(builder).compact();
     }
 
     /**
@@ -58,7 +121,7 @@ public class JwtService {
         Instant now = Instant.now();
         Instant expiration = now.plusSeconds(jwtConfig.getMagicLink().getExpirationMinutes() * 60);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .header()
                     .type("JWT")
                     .and()
@@ -67,9 +130,9 @@ public class JwtService {
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiration))
                 .claim("email", user.getEmail())
-                .claim("tipo", "MAGIC_LOGIN")
-                .signWith(jwtConfig.getSecretKey(), Jwts.SIG.HS256)
-                .compact();
+                .claim("tipo", "MAGIC_LOGIN");
+
+        return keyring.assinar(builder).compact();
     }
 
     /**
@@ -81,6 +144,30 @@ public class JwtService {
         return Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
     }
 
+    /**
+     * Gera refresh token prefixado com o id da familia ("familiaId.aleatorio").
+     * O prefixo permite rejeitar familias revogadas sem consultar o banco;
+     * o hash armazenado cobre o token completo.
+     */
+    public String generateRefreshToken(String familiaId) {
+        return familiaId + REFRESH_TOKEN_SEPARADOR + generateRefreshToken();
+    }
+
+    /**
+     * Extrai o id da familia de um refresh token gerado por {@link #generateRefreshToken(String)}.
+     * Tokens antigos (sem prefixo) retornam Optional vazio.
+     */
+    public Optional<String> extractRefreshTokenFamily(String refreshToken) {
+        if (refreshToken == null) {
+            return Optional.empty();
+        }
+        int separador = refreshToken.indexOf(REFRESH_TOKEN_SEPARADOR);
+        if (separador <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(refreshToken.substring(0, separador));
+    }
+
     /**
      * Gera hash SHA-256 do token para armazenamento seguro.
      */
@@ -96,16 +183,25 @@ public class JwtService {
 
     /**
      * Valida e extrai claims do access token.
+     * Claims de tokens ja verificados sao servidas do cache ate a expiracao do token.
      * @return Optional vazio se token invalido
      * @throws ExpiredJwtException se token expirado (para tratamento especifico)
      */
     public Optional<Claims> validateAccessToken(String token) {
+        String digest = null;
+        if (accessTokenCache.isEnabled()) {
+            digest = hashToken(token);
+            Claims cached = accessTokenCache.get(digest);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(jwtConfig.getSecretKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (digest != null) {
+                accessTokenCache.put(digest, claims);
+            }
             return Optional.of(claims);
         } catch (ExpiredJwtException e) {
             log.debug("Token JWT expirado: {}", e.getMessage());
@@ -121,11 +217,7 @@ public class JwtService {
      */
     public Optional<Claims> validateMagicLoginToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(jwtConfig.getSecretKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
 
             String tipo = claims.get("tipo", String.class);
             if (!"MAGIC_LOGIN".equals(tipo)) {
@@ -163,6 +255,35 @@ public class JwtService {
         return claims.get("nome", String.class);
     }
 
+    /**
+     * Extrai as memberships assinadas no token.
+     * Tokens emitidos sem memberships (ou com claims malformadas) retornam Optional vazio.
+     */
+    public Optional<MembershipClaims> extractMembershipClaims(Claims claims) {
+        Object organizacoes = claims.get(CLAIM_ORGANIZACOES);
+        Object versao = claims.get(CLAIM_VERSAO_MEMBERSHIP);
+        if (!(organizacoes instanceof List<?> lista) || !(versao instanceof Number numero)) {
+            return Optional.empty();
+        }
+
+        Map<Long, MembershipRole> papeis = new LinkedHashMap<>();
+        for (Object item : lista) {
+            String valor = String.valueOf(item);
+            int separador = valor.indexOf(MEMBERSHIP_SEPARADOR);
+            if (separador <= 0) {
+                return Optional.empty();
+            }
+            try {
+                papeis.put(Long.parseLong(valor.substring(0, separador)),
+                        MembershipRole.valueOf(valor.substring(separador + 1)));
+            } catch (IllegalArgumentException e) {
+                log.warn("Claim de membership invalida no token: {}", valor);
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new MembershipClaims(numero.longValue(), papeis));
+    }
+
     /**
      * Retorna tempo de expiracao do access token em segundos.
      */
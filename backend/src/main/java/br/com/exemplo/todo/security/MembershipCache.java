@@ -0,0 +1,138 @@
+package br.com.exemplo.todo.security;
+
+import br.com.exemplo.todo.config.TenantCacheProperties;
+import br.com.exemplo.todo.domain.model.entity.Membership;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Cache das memberships resolvidas pelo TenantFilter a cada requisicao autenticada.
+ * <p>
+ * Mantem dois caches limitados: (userId, orgId) -> (papel, ativo) e userId -> organizacao padrao.
+ * Ausencias tambem sao armazenadas, para que tentativas repetidas de acesso a uma organizacao
+ * alheia nao voltem ao banco. Os services que alteram memberships invalidam as entradas
+ * afetadas imediatamente e de novo ao fim da transacao, evitando que uma leitura concorrente
+ * recoloque no cache o valor anterior ao commit.
+ */
+@Component
+public class MembershipCache implements MeterBinder {
+
+    static final String CACHE_ORGANIZACAO = "tenant.membership";
+    static final String CACHE_PADRAO = "tenant.default-membership";
+
+    /**
+     * Dados da membership necessarios para montar o TenantContext.
+     */
+    public record MembershipResolvida(Long organizationId, MembershipRole papel, boolean ativo) {
+
+        private static final MembershipResolvida AUSENTE = new MembershipResolvida(null, null, false);
+
+        public static MembershipResolvida from(Membership membership) {
+            return new MembershipResolvida(membership.getOrganization().getId(), membership.getPapel(),
+                    Boolean.TRUE.equals(membership.getAtivo()));
+        }
+    }
+
+    private record Chave(Long userId, Long organizationId) {
+    }
+
+    private final boolean enabled;
+    private final Cache<Chave, MembershipResolvida> porOrganizacao;
+    private final Cache<Long, MembershipResolvida> padrao;
+
+    public MembershipCache(TenantCacheProperties properties) {
+        this.enabled = properties.isEnabled() && properties.getMaximumSize() > 0;
+        this.porOrganizacao = Caffeine.newBuilder()
+                .maximumSize(Math.max(properties.getMaximumSize(), 0))
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        this.padrao = Caffeine.newBuilder()
+                .maximumSize(Math.max(properties.getMaximumSize(), 0))
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Membership ativa do usuario na organizacao; o loader so e chamado em cache miss.
+     */
+    public Optional<MembershipResolvida> buscar(Long userId, Long organizationId,
+                                                Supplier<Optional<MembershipResolvida>> loader) {
+        if (!enabled) {
+            return loader.get().filter(MembershipResolvida::ativo);
+        }
+        MembershipResolvida resolvida = porOrganizacao.get(new Chave(userId, organizationId),
+                chave -> loader.get().orElse(MembershipResolvida.AUSENTE));
+        return Optional.of(resolvida).filter(MembershipResolvida::ativo);
+    }
+
+    /**
+     * Membership padrao (mais antiga ativa) do usuario; o loader so e chamado em cache miss.
+     */
+    public Optional<MembershipResolvida> buscarPadrao(Long userId, Supplier<Optional<MembershipResolvida>> loader) {
+        if (!enabled) {
+            return loader.get().filter(MembershipResolvida::ativo);
+        }
+        MembershipResolvida resolvida = padrao.get(userId,
+                chave -> loader.get().orElse(MembershipResolvida.AUSENTE));
+        return Optional.of(resolvida).filter(MembershipResolvida::ativo);
+    }
+
+    /**
+     * Invalida a membership do usuario na organizacao e a organizacao padrao dele.
+     */
+    public void invalidar(Long userId, Long organizationId) {
+        agoraEAposCommit(() -> {
+            porOrganizacao.invalidate(new Chave(userId, organizationId));
+            padrao.invalidate(userId);
+        });
+    }
+
+    /**
+     * Invalida todas as entradas do usuario (ex.: ativacao/desativacao, novo usuario).
+     */
+    public void invalidarUsuario(Long userId) {
+        agoraEAposCommit(() -> {
+            porOrganizacao.asMap().keySet().removeIf(chave -> chave.userId().equals(userId));
+            padrao.invalidate(userId);
+        });
+    }
+
+    /**
+     * Remove todas as entradas.
+     */
+    public void invalidateAll() {
+        porOrganizacao.invalidateAll();
+        padrao.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, porOrganizacao, CACHE_ORGANIZACAO);
+        CaffeineCacheMetrics.monitor(registry, padrao, CACHE_PADRAO);
+    }
+
+    private static void agoraEAposCommit(Runnable invalidacao) {
+        invalidacao.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidacao.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.exemplo.todo.security;
+
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Memberships ativas assinadas no access token, na ordem de ingresso,
+ * junto com a versao das memberships do usuario no momento da emissao.
+ */
+public record MembershipClaims(long versao, Map<Long, MembershipRole> organizacoes) {
+
+    public MembershipClaims {
+        organizacoes = Collections.unmodifiableMap(new LinkedHashMap<>(organizacoes));
+    }
+
+    /**
+     * Papel do usuario na organizacao, se ela constar no token.
+     */
+    public Optional<MembershipRole> papel(Long organizationId) {
+        return Optional.ofNullable(organizacoes.get(organizationId));
+    }
+
+    /**
+     * Primeira organizacao do usuario (a mesma que o TenantFilter usa sem header).
+     */
+    public Optional<Map.Entry<Long, MembershipRole>> padrao() {
+        return organizacoes.entrySet().stream().findFirst();
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.exemplo.todo.security;
+
+import br.com.exemplo.todo.config.JwtConfig;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.domain.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Tabela em memoria com a versao das memberships de cada usuario.
+ * O TenantFilter so confia nas memberships do access token quando a versao do token
+ * e a versao atual; assim alteracoes de papel ou status valem antes do token expirar.
+ * Cada entrada e relida do banco apos {@code security.jwt.access-token.membership-version-ttl},
+ * o que faz as demais instancias convergirem.
+ */
+@Component
+public class MembershipVersions implements MeterBinder {
+
+    static final String CACHE_NAME = "tenant.membership-version";
+
+    private final LoadingCache<Long, Long> versoes;
+
+    public MembershipVersions(JwtConfig jwtConfig, UserRepository userRepository) {
+        JwtConfig.AccessToken config = jwtConfig.getAccessToken();
+        this.versoes = Caffeine.newBuilder()
+                .maximumSize(Math.max(config.getMembershipVersionMaxSize(), 0))
+                .expireAfterWrite(config.getMembershipVersionTtl())
+                .recordStats()
+                .build(userId -> userRepository.buscarVersaoMembership(userId).orElse(null));
+    }
+
+    /**
+     * Indica se a versao carregada no token ainda e a versao atual do usuario.
+     */
+    public boolean isAtual(Long userId, long versaoToken) {
+        if (userId == null) {
+            return false;
+        }
+        Long atual = versoes.get(userId);
+        return atual != null && atual == versaoToken;
+    }
+
+    /**
+     * Incrementa a versao das memberships do usuario (a entidade deve ser salva pelo chamador).
+     * Dentro de transacao, a tabela local so e atualizada apos o commit; em rollback a entrada e descartada.
+     */
+    public void incrementar(User user) {
+        long novaVersao = (user.getVersaoMembership() != null ? user.getVersaoMembership() : 0L) + 1;
+        user.setVersaoMembership(novaVersao);
+        Long userId = user.getId();
+        if (userId == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        versoes.put(userId, novaVersao);
+                    } else {
+                        versoes.invalidate(userId);
+                    }
+                }
+            });
+        } else {
+            versoes.put(userId, novaVersao);
+        }
+    }
+
+    public void invalidateAll() {
+        versoes.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, versoes, CACHE_NAME);
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.exemplo.todo.security;
+
+import br.com.exemplo.todo.config.JwtConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Conjunto em memoria de familias de refresh token revogadas recentemente.
+ * Permite que o refresh rejeite tokens reutilizados (logout, roubo detectado) sem ir ao banco.
+ * Cada entrada vive pelo tempo de vida de um refresh token; se for removida por tamanho,
+ * o banco continua sendo a fonte da verdade.
+ */
+@Component
+public class RevokedTokenFamilies implements MeterBinder {
+
+    static final String CACHE_NAME = "jwt.revoked-families";
+
+    private final Cache<String, Boolean> familias;
+
+    public RevokedTokenFamilies(JwtConfig jwtConfig) {
+        JwtConfig.RefreshToken config = jwtConfig.getRefreshToken();
+        this.familias = Caffeine.newBuilder()
+                .maximumSize(Math.max(config.getRevokedFamiliesMaxSize(), 0))
+                .expireAfterWrite(Duration.ofDays(config.getExpirationDays()))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Registra a familia como revogada.
+     */
+    public void revogar(String familiaId) {
+        if (familiaId != null) {
+            familias.put(familiaId, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Indica se a familia foi revogada recentemente.
+     */
+    public boolean isRevogada(String familiaId) {
+        return familiaId != null && familias.getIfPresent(familiaId) != null;
+    }
+
+    /**
+     * Quantidade aproximada de familias no conjunto.
+     */
+    public long estimatedSize() {
+        return familias.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, familias, CACHE_NAME);
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.exemplo.todo.security;
+
+import br.com.exemplo.todo.domain.exception.TenantBusyException;
+import br.com.exemplo.todo.security.TenantConcurrencyLimiter.Permissao;
+import br.com.exemplo.todo.security.TenantConcurrencyLimiter.Tipo;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filtro executado apos o {@link TenantFilter} que limita as requisicoes em andamento de cada
+ * organizacao ({@link TenantConcurrencyLimiter}). Requisicoes sem tenant nao sao limitadas.
+ * Sem vaga dentro do prazo, responde 429 com Retry-After.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantConcurrencyFilter extends OncePerRequestFilter {
+
+    private final TenantConcurrencyLimiter limiter;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        Long organizationId = TenantContext.get().map(TenantInfo::organizationId).orElse(null);
+        Permissao permissao;
+        try {
+            permissao = limiter.adquirir(Tipo.REQUISICAO, organizationId);
+        } catch (TenantBusyException e) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+            response.setContentType("application/json");
+            response.getWriter().write(
+                    "{\"type\":\"/api/errors/organizacao-ocupada\"," +
+                    "\"title\":\"Organizacao ocupada\"," +
+                    "\"status\":429," +
+                    "\"detail\":\"" + e.getMessage() + "\"}");
+            return;
+        }
+
+        try (permissao) {
+            filterChain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package br.com.exemplo.todo.security;
+
+import br.com.exemplo.todo.config.TenantConcurrencyProperties;
+import br.com.exemplo.todo.domain.exception.TenantBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Limite de concorrencia por organizacao, para que uma loja com muito trabalho (ex.: um job
+ * regravando centenas de produtos) nao ocupe todas as threads e o lock de escrita do SQLite.
+ * <p>
+ * Cada organizacao cai em uma faixa (hash do id) com dois semaforos justos: requisicoes em
+ * andamento ({@link TenantConcurrencyFilter}) e transacoes de escrita
+ * ({@code TenantWriteLimitingTransactionManager}). Sem vaga, a operacao espera no maximo
+ * {@code queue-timeout} em uma fila de ate {@code queue-capacity} posicoes; fora disso recebe
+ * {@link TenantBusyException} (429 + Retry-After).
+ * <p>
+ * A espera e exportada em {@code tenant.concurrency.wait}; so as organizacoes com maior espera
+ * na ultima janela ganham serie propria, limitando a cardinalidade no Prometheus.
+ */
+@Component
+@Slf4j
+public class TenantConcurrencyLimiter {
+
+    /**
+     * Recurso limitado.
+     */
+    public enum Tipo {
+        REQUISICAO("requisicao"),
+        ESCRITA("escrita");
+
+        private final String tag;
+
+        Tipo(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * Vaga obtida; {@link #close()} a devolve e deve ser chamado uma unica vez.
+     */
+    @FunctionalInterface
+    public interface Permissao extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    static final String ORGANIZACAO_OUTRAS = "outras";
+    private static final Permissao SEM_LIMITE = () -> { };
+    private static final int MAX_ORGANIZACOES_JANELA = 10000;
+
+    private record ChaveMetrica(Tipo tipo, Long organizationId) {
+    }
+
+    private final boolean enabled;
+    private final Faixa[] faixas;
+    private final int queueCapacity;
+    private final long timeoutNanos;
+    private final int retryAfterSeconds;
+    private final int topTenants;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Tipo, Timer> esperaOutras = new EnumMap<>(Tipo.class);
+    private final Map<Tipo, Counter> rejeitadas = new EnumMap<>(Tipo.class);
+    private final Map<ChaveMetrica, Timer> esperaDestaques = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> esperaNaJanela = new ConcurrentHashMap<>();
+    private volatile Set<Long> destaques = Set.of();
+
+    public TenantConcurrencyLimiter(TenantConcurrencyProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.queueCapacity = properties.getQueueCapacity();
+        this.timeoutNanos = properties.getQueueTimeout().toNanos();
+        this.retryAfterSeconds = properties.getRetryAfterSeconds();
+        this.topTenants = properties.getMetricsTopTenants();
+        this.meterRegistry = meterRegistry;
+
+        int quantidade = Integer.highestOneBit(Math.max(1, properties.getStripes()));
+        this.faixas = new Faixa[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            faixas[i] = new Faixa(properties.getMaxRequests(), properties.getMaxWrites());
+        }
+
+        for (Tipo tipo : Tipo.values()) {
+            esperaOutras.put(tipo, timer(tipo, ORGANIZACAO_OUTRAS));
+            rejeitadas.put(tipo, Counter.builder("tenant.concurrency.rejected")
+                    .description("Operacoes rejeitadas pelo limite por organizacao")
+                    .tag("tipo", tipo.tag)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("tenant.concurrency.tracked", esperaDestaques, Map::size)
+                .description("Series de espera com organizacao propria")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Obtem uma vaga da organizacao, esperando se necessario.
+     * @param organizationId organizacao; null nao e limitado
+     * @throws TenantBusyException se a fila esta cheia ou o prazo de espera acabou
+     */
+    public Permissao adquirir(Tipo tipo, Long organizationId) {
+        if (!enabled || organizationId == null) {
+            return SEM_LIMITE;
+        }
+        Semaphore semaforo = faixa(organizationId).semaforo(tipo);
+        // Com prazo zero em vez de tryAcquire(): a versao sem argumentos ignora a justica e
+        // passaria na frente de quem ja esta na fila
+        if (tentarAdquirir(semaforo, 0, tipo, organizationId)) {
+            esperaDe(tipo, organizationId).record(0, TimeUnit.NANOSECONDS);
+            return semaforo::release;
+        }
+
+        long inicio = System.nanoTime();
+        if (semaforo.getQueueLength() >= queueCapacity) {
+            throw rejeitar(tipo, organizationId, "fila cheia");
+        }
+        boolean obtida = tentarAdquirir(semaforo, timeoutNanos, tipo, organizationId);
+        long espera = System.nanoTime() - inicio;
+        registrarEspera(tipo, organizationId, espera);
+        if (!obtida) {
+            throw rejeitar(tipo, organizationId, "prazo de espera esgotado");
+        }
+        return semaforo::release;
+    }
+
+    @Scheduled(fixedDelayString = "${tenant.concurrency.metrics-window:PT1M}",
+            initialDelayString = "${tenant.concurrency.metrics-window:PT1M}")
+    public void atualizarDestaquesAgendado() {
+        atualizarDestaques();
+    }
+
+    /**
+     * Escolhe as organizacoes com maior espera na janela encerrada e remove as series das demais.
+     * @return organizacoes com serie propria
+     */
+    public Set<Long> atualizarDestaques() {
+        Map<Long, Long> janela = new HashMap<>();
+        esperaNaJanela.forEach((organizationId, espera) -> janela.put(organizationId, espera.sum()));
+        esperaNaJanela.clear();
+
+        Set<Long> novos = janela.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(Math.max(topTenants, 0))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toUnmodifiableSet());
+        destaques = novos;
+
+        esperaDestaques.entrySet().removeIf(entrada -> {
+            if (novos.contains(entrada.getKey().organizationId())) {
+                return false;
+            }
+            meterRegistry.remove(entrada.getValue());
+            return true;
+        });
+        return novos;
+    }
+
+    private boolean tentarAdquirir(Semaphore semaforo, long prazoNanos, Tipo tipo, Long organizationId) {
+        try {
+            return semaforo.tryAcquire(prazoNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw rejeitar(tipo, organizationId, "interrompida");
+        }
+    }
+
+    private void registrarEspera(Tipo tipo, Long organizationId, long esperaNanos) {
+        esperaDe(tipo, organizationId).record(esperaNanos, TimeUnit.NANOSECONDS);
+        LongAdder total = esperaNaJanela.get(organizationId);
+        if (total == null && esperaNaJanela.size() < MAX_ORGANIZACOES_JANELA) {
+            total = esperaNaJanela.computeIfAbsent(organizationId, id -> new LongAdder());
+        }
+        if (total != null) {
+            total.add(esperaNanos);
+        }
+    }
+
+    private Timer esperaDe(Tipo tipo, Long organizationId) {
+        if (!destaques.contains(organizationId)) {
+            return esperaOutras.get(tipo);
+        }
+        return esperaDestaques.computeIfAbsent(new ChaveMetrica(tipo, organizationId),
+                chave -> timer(tipo, organizationId.toString()));
+    }
+
+    private Timer timer(Tipo tipo, String organizacao) {
+        return Timer.builder("tenant.concurrency.wait")
+                .description("Espera por vaga no limite por organizacao")
+                .tag("tipo", tipo.tag)
+                .tag("organizacao", organizacao)
+                .register(meterRegistry);
+    }
+
+    private TenantBusyException rejeitar(Tipo tipo, Long organizationId, String motivo) {
+        rejeitadas.get(tipo).increment();
+        log.debug("Limite de {} da organizacao {} atingido: {}", tipo.tag, organizationId, motivo);
+        return new TenantBusyException(retryAfterSeconds);
+    }
+
+    private Faixa faixa(Long organizationId) {
+        long h = organizationId * 0x9E3779B97F4A7C15L;
+        return faixas[(int) (h ^ (h >>> 32)) & (faixas.length - 1)];
+    }
+
+    private static final class Faixa {
+
+        private final Semaphore requisicoes;
+        private final Semaphore escritas;
+
+        Faixa(int maxRequests, int maxWrites) {
+            this.requisicoes = new Semaphore(maxRequests, true);
+            this.escritas = new Semaphore(maxWrites, true);
+        }
+
+        Semaphore semaforo(Tipo tipo) {
+            return tipo == Tipo.REQUISICAO ? requisicoes : escritas;
+        }
+    }
+}
@@ -3,10 +3,15 @@ package br.com.exemplo.todo.security;
 import br.com.exemplo.todo.domain.model.enums.MembershipRole;
 
 import java.util.Optional;
+import java.util.concurrent.Callable;
 
 /**
  * Contexto de tenant (organizacao) usando ThreadLocal.
  * Armazena informacoes da organizacao ativa para a requisicao atual.
+ * <p>
+ * O contexto nao passa sozinho para outras threads. Para trabalho paralelo use
+ * {@link TenantTaskScope}, o executor {@code applicationTaskExecutor} (decorado por
+ * {@link TenantTaskDecorator}) ou {@link #propagar(Runnable)}.
  */
 public final class TenantContext {
 
@@ -93,4 +98,56 @@ public final class TenantContext {
     public static void clear() {
         CONTEXT.remove();
     }
+
+    /**
+     * Executa a tarefa com o tenant informado (null = sem tenant) e restaura o contexto anterior ao final.
+     */
+    public static <T> T executar(TenantInfo tenantInfo, Callable<T> tarefa) throws Exception {
+        TenantInfo anterior = CONTEXT.get();
+        definir(tenantInfo);
+        try {
+            return tarefa.call();
+        } finally {
+            definir(anterior);
+        }
+    }
+
+    /**
+     * Executa a tarefa com o tenant informado (null = sem tenant) e restaura o contexto anterior ao final.
+     */
+    public static void executar(TenantInfo tenantInfo, Runnable tarefa) {
+        TenantInfo anterior = CONTEXT.get();
+        definir(tenantInfo);
+        try {
+            tarefa.run();
+        } finally {
+            definir(anterior);
+        }
+    }
+
+    /**
+     * Captura o tenant atual e retorna uma tarefa que roda com ele em qualquer thread.
+     * Sem tenant no momento da captura, a tarefa roda sem tenant (nunca herda o da thread executora).
+     */
+    public static Runnable propagar(Runnable tarefa) {
+        TenantInfo capturado = CONTEXT.get();
+        return () -> executar(capturado, tarefa);
+    }
+
+    /**
+     * Captura o tenant atual e retorna uma tarefa que roda com ele em qualquer thread.
+     * @see #propagar(Runnable)
+     */
+    public static <T> Callable<T> propagar(Callable<T> tarefa) {
+        TenantInfo capturado = CONTEXT.get();
+        return () -> executar(capturado, tarefa);
+    }
+
+    private static void definir(TenantInfo tenantInfo) {
+        if (tenantInfo != null) {
+            CONTEXT.set(tenantInfo);
+        } else {
+            CONTEXT.remove();
+        }
+    }
 }
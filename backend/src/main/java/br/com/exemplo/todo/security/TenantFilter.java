@@ -1,7 +1,8 @@
 package br.com.exemplo.todo.security;
 
-import br.com.exemplo.todo.domain.model.entity.Membership;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
 import br.com.exemplo.todo.domain.repository.MembershipRepository;
+import br.com.exemplo.todo.security.MembershipCache.MembershipResolvida;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,11 +18,16 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Filtro que resolve o contexto de tenant (organizacao) para cada requisicao.
  * Extrai X-Organization-Id do header e valida membership do usuario.
+ * Quando o access token traz as memberships ({@link MembershipClaims}) e a versao delas ainda e a atual
+ * ({@link MembershipVersions}), o tenant e resolvido apenas com o token. Caso contrario (token antigo,
+ * versao desatualizada ou organizacao ausente no token, ex.: criada apos a emissao), as memberships
+ * sao resolvidas pelo {@link MembershipCache}; o banco so e consultado em cache miss.
  */
 @Component
 @RequiredArgsConstructor
@@ -29,6 +35,8 @@ import java.util.Optional;
 public class TenantFilter extends OncePerRequestFilter {
 
     private final MembershipRepository membershipRepository;
+    private final MembershipCache membershipCache;
+    private final MembershipVersions membershipVersions;
 
     private static final String ORG_HEADER = "X-Organization-Id";
 
@@ -58,21 +66,34 @@ public class TenantFilter extends OncePerRequestFilter {
         }
 
         String orgHeader = request.getHeader(ORG_HEADER);
+        MembershipClaims tokenMemberships = membershipsAtuais(user);
 
         // Se nao ha header de organizacao, tenta obter a primeira membership
         if (!StringUtils.hasText(orgHeader)) {
-            Optional<Membership> defaultMembership = membershipRepository
-                    .findFirstByUserIdAndAtivoTrueOrderByDataIngressoAsc(user.getUserId());
+            Optional<Map.Entry<Long, MembershipRole>> padraoToken = tokenMemberships != null
+                    ? tokenMemberships.padrao()
+                    : Optional.empty();
+            if (padraoToken.isPresent()) {
+                TenantContext.set(padraoToken.get().getKey(), user.getUserId(), padraoToken.get().getValue());
+                log.debug("TenantContext definido pelo token (default): orgId={}, userId={}, papel={}",
+                        padraoToken.get().getKey(), user.getUserId(), padraoToken.get().getValue());
+                return;
+            }
+
+            Optional<MembershipResolvida> defaultMembership = membershipCache.buscarPadrao(user.getUserId(),
+                    () -> membershipRepository
+                            .findFirstByUserIdAndAtivoTrueOrderByDataIngressoAsc(user.getUserId())
+                            .map(MembershipResolvida::from));
 
             if (defaultMembership.isPresent()) {
-                Membership membership = defaultMembership.get();
+                MembershipResolvida membership = defaultMembership.get();
                 TenantContext.set(
-                        membership.getOrganization().getId(),
+                        membership.organizationId(),
                         user.getUserId(),
-                        membership.getPapel()
+                        membership.papel()
                 );
                 log.debug("TenantContext definido (default): orgId={}, userId={}, papel={}",
-                        membership.getOrganization().getId(), user.getUserId(), membership.getPapel());
+                        membership.organizationId(), user.getUserId(), membership.papel());
             }
             return;
         }
@@ -81,8 +102,20 @@ public class TenantFilter extends OncePerRequestFilter {
         try {
             Long organizationId = Long.parseLong(orgHeader);
 
-            Optional<Membership> membership = membershipRepository
-                    .findByUserIdAndOrganizationIdAndAtivoTrue(user.getUserId(), organizationId);
+            Optional<MembershipRole> papelToken = tokenMemberships != null
+                    ? tokenMemberships.papel(organizationId)
+                    : Optional.empty();
+            if (papelToken.isPresent()) {
+                TenantContext.set(organizationId, user.getUserId(), papelToken.get());
+                log.debug("TenantContext definido pelo token: orgId={}, userId={}, papel={}",
+                        organizationId, user.getUserId(), papelToken.get());
+                return;
+            }
+
+            Optional<MembershipResolvida> membership = membershipCache.buscar(user.getUserId(), organizationId,
+                    () -> membershipRepository
+                            .findByUserIdAndOrganizationIdAndAtivoTrue(user.getUserId(), organizationId)
+                            .map(MembershipResolvida::from));
 
             if (membership.isEmpty()) {
                 log.warn("Usuario {} tentou acessar organizacao {} sem membership",
@@ -100,11 +133,11 @@ public class TenantFilter extends OncePerRequestFilter {
             TenantContext.set(
                     organizationId,
                     user.getUserId(),
-                    membership.get().getPapel()
+                    membership.get().papel()
             );
 
             log.debug("TenantContext definido: orgId={}, userId={}, papel={}",
-                    organizationId, user.getUserId(), membership.get().getPapel());
+                    organizationId, user.getUserId(), membership.get().papel());
 
         } catch (NumberFormatException e) {
             log.warn("Header X-Organization-Id invalido: {}", orgHeader);
@@ -118,6 +151,17 @@ public class TenantFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * Memberships do token, se presentes e emitidas na versao atual do usuario.
+     */
+    private MembershipClaims membershipsAtuais(AuthenticatedUser user) {
+        MembershipClaims claims = user.getMembershipClaims();
+        if (claims == null || !membershipVersions.isAtual(user.getUserId(), claims.versao())) {
+            return null;
+        }
+        return claims;
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getServletPath();
@@ -0,0 +1,20 @@
+package br.com.exemplo.todo.security;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propaga o {@link TenantContext} de quem submete a tarefa para a thread que a executa.
+ * O Spring Boot aplica este decorator ao executor {@code applicationTaskExecutor}
+ * (threads virtuais com spring.threads.virtual.enabled) e aos metodos {@code @Async}.
+ */
+@Component
+public class TenantTaskDecorator implements TaskDecorator {
+
+    @Override
+    @NonNull
+    public Runnable decorate(@NonNull Runnable runnable) {
+        return TenantContext.propagar(runnable);
+    }
+}
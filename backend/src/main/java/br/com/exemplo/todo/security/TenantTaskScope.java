@@ -0,0 +1,153 @@
+package br.com.exemplo.todo.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Escopo estruturado para dividir o trabalho de uma requisicao em subtarefas paralelas
+ * (uma thread virtual cada) que rodam com o tenant de quem abriu o escopo.
+ * <p>
+ * Segue o modelo do {@code StructuredTaskScope.ShutdownOnFailure}: a primeira falha cancela
+ * as demais subtarefas, {@link #join()} relanca essa falha e nenhuma subtarefa sobrevive ao
+ * {@link #close()}. Apenas a thread que abriu o escopo pode usa-lo.
+ * <pre>
+ * try (TenantTaskScope escopo = TenantTaskScope.abrir()) {
+ *     Supplier&lt;List&lt;ProdutoOutput&gt;&gt; produtos = escopo.fork(() -&gt; produtoService.listar(null));
+ *     Supplier&lt;List&lt;Categoria&gt;&gt; categorias = escopo.fork(() -&gt; categoriaService.listar());
+ *     escopo.join();
+ *     return new Cardapio(produtos.get(), categorias.get());
+ * }
+ * </pre>
+ */
+public final class TenantTaskScope implements AutoCloseable {
+
+    private final TenantInfo tenant;
+    private final Thread dono;
+    private static final ThreadFactory THREADS = Thread.ofVirtual().name("tenant-task-", 0).factory();
+
+    private record Subtarefa(Future<?> future, Thread thread) {
+    }
+
+    private final List<Subtarefa> subtarefas = new ArrayList<>();
+    private boolean fechado;
+    private final AtomicReference<Throwable> falha = new AtomicReference<>();
+    private boolean aguardado;
+
+    private TenantTaskScope(TenantInfo tenant) {
+        this.tenant = tenant;
+        this.dono = Thread.currentThread();
+    }
+
+    /**
+     * Abre um escopo com o tenant atual (ou sem tenant, se nao definido).
+     */
+    public static TenantTaskScope abrir() {
+        return new TenantTaskScope(TenantContext.get().orElse(null));
+    }
+
+    /**
+     * Inicia uma subtarefa. O resultado fica disponivel no Supplier apos {@link #join()}.
+     */
+    public <T> Supplier<T> fork(Callable<T> tarefa) {
+        verificarDono();
+        if (fechado) {
+            throw new IllegalStateException("Escopo ja encerrado");
+        }
+        aguardado = false;
+        FutureTask<T> future = new FutureTask<>(() -> {
+            try {
+                return TenantContext.executar(tenant, tarefa);
+            } catch (Exception | Error e) {
+                if (falha.compareAndSet(null, e)) {
+                    cancelarSubtarefas();
+                }
+                throw e;
+            }
+        });
+        Thread thread = THREADS.newThread(future);
+        synchronized (subtarefas) {
+            subtarefas.add(new Subtarefa(future, thread));
+        }
+        thread.start();
+        if (falha.get() != null) {
+            future.cancel(true);
+        }
+        return () -> {
+            if (!aguardado) {
+                throw new IllegalStateException("Resultado disponivel apenas apos join()");
+            }
+            return future.resultNow();
+        };
+    }
+
+    /**
+     * Aguarda todas as subtarefas.
+     * @throws ExecutionException com a primeira falha, se alguma subtarefa falhou
+     */
+    public void join() throws InterruptedException, ExecutionException {
+        verificarDono();
+        for (Subtarefa subtarefa : copiarSubtarefas()) {
+            try {
+                subtarefa.future().get();
+            } catch (ExecutionException | CancellationException e) {
+                // A primeira falha e relancada abaixo; as demais subtarefas foram canceladas por ela
+            }
+        }
+        Throwable primeira = falha.get();
+        if (primeira != null) {
+            throw new ExecutionException(primeira);
+        }
+        aguardado = true;
+    }
+
+    /**
+     * Cancela subtarefas ainda em execucao e aguarda o termino de todas.
+     * Aguarda as threads, e nao os Futures: um Future cancelado conclui antes de a subtarefa
+     * terminar de tratar a interrupcao.
+     */
+    @Override
+    public void close() {
+        verificarDono();
+        fechado = true;
+        cancelarSubtarefas();
+        boolean interrompida = false;
+        for (Subtarefa subtarefa : copiarSubtarefas()) {
+            while (subtarefa.thread().isAlive()) {
+                try {
+                    subtarefa.thread().join();
+                } catch (InterruptedException e) {
+                    interrompida = true;
+                }
+            }
+        }
+        if (interrompida) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void cancelarSubtarefas() {
+        for (Subtarefa subtarefa : copiarSubtarefas()) {
+            subtarefa.future().cancel(true);
+        }
+    }
+
+    private List<Subtarefa> copiarSubtarefas() {
+        synchronized (subtarefas) {
+            return List.copyOf(subtarefas);
+        }
+    }
+
+    private void verificarDono() {
+        if (Thread.currentThread() != dono) {
+            throw new IllegalStateException("TenantTaskScope usado fora da thread que o abriu");
+        }
+    }
+}
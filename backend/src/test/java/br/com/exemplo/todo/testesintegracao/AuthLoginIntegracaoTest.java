@@ -0,0 +1,124 @@
+package br.com.exemplo.todo.testesintegracao;
+
+import br.com.exemplo.todo.api.dto.auth.AuthResponse;
+import br.com.exemplo.todo.api.dto.auth.LoginInput;
+import br.com.exemplo.todo.api.dto.auth.RegisterInput;
+import br.com.exemplo.todo.domain.model.entity.Account;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.domain.repository.AccountRepository;
+import br.com.exemplo.todo.domain.repository.LoginAttemptRepository;
+import br.com.exemplo.todo.domain.repository.MembershipRepository;
+import br.com.exemplo.todo.domain.repository.OrganizationRepository;
+import br.com.exemplo.todo.domain.repository.RefreshTokenRepository;
+import br.com.exemplo.todo.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("testes")
+@DisplayName("POST /api/auth/login - caminho de escrita do login")
+class AuthLoginIntegracaoTest {
+
+    private static final String EMAIL = "login@teste.com";
+    private static final String SENHA = "senha123";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private LoginAttemptRepository loginAttemptRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.deleteAll();
+        loginAttemptRepository.deleteAll();
+        accountRepository.deleteAll();
+        membershipRepository.deleteAll();
+        organizationRepository.deleteAll();
+        userRepository.deleteAll();
+
+        RegisterInput input = new RegisterInput("Usuario Login", EMAIL, SENHA, "Loja Login");
+        assertThat(restTemplate.postForEntity("/api/auth/register", input, AuthResponse.class).getStatusCode())
+                .isEqualTo(HttpStatus.CREATED);
+    }
+
+    private ResponseEntity<AuthResponse> login(String senha) {
+        return restTemplate.postForEntity("/api/auth/login", new LoginInput(EMAIL, senha), AuthResponse.class);
+    }
+
+    private Account conta() {
+        return accountRepository.findLocalAccountByEmail(EMAIL).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("deve autenticar, atualizar ultimo acesso e retornar memberships")
+    void deveAutenticar() {
+        long tokensAntes = refreshTokenRepository.count();
+
+        ResponseEntity<AuthResponse> response = login(SENHA);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        AuthResponse body = response.getBody();
+        assertThat(body.user().email()).isEqualTo(EMAIL);
+        assertThat(body.organizations()).singleElement()
+                .satisfies(membership -> assertThat(membership.organization().nome()).isEqualTo("Loja Login"));
+        assertThat(refreshTokenRepository.count()).isEqualTo(tokensAntes + 1);
+        User user = userRepository.findByEmail(EMAIL).orElseThrow();
+        assertThat(user.getUltimoAcesso()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("deve manter o contador de falhas apos senha incorreta")
+    void deveManterContadorDeFalhas() {
+        assertThat(login("errada").getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(login("errada").getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+
+        assertThat(conta().getTentativasFalha()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("deve zerar o contador de falhas no login com sucesso")
+    void deveZerarContadorNoSucesso() {
+        login("errada");
+
+        assertThat(login(SENHA).getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(conta().getTentativasFalha()).isZero();
+    }
+
+    @Test
+    @DisplayName("deve bloquear a conta ao atingir o limite de falhas")
+    void deveBloquearNoLimite() {
+        for (int i = 0; i < Account.LIMITE_TENTATIVAS_FALHA; i++) {
+            login("errada");
+        }
+
+        Account account = conta();
+        assertThat(account.getBloqueado()).isTrue();
+        assertThat(account.getDataBloqueio()).isNotNull();
+        assertThat(login(SENHA).getStatusCode()).isNotEqualTo(HttpStatus.OK);
+    }
+}
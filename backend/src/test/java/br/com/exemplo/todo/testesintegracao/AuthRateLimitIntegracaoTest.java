@@ -0,0 +1,45 @@
+package br.com.exemplo.todo.testesintegracao;
+
+import br.com.exemplo.todo.api.dto.auth.LoginInput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "auth.rate-limit.enabled=true",
+        "auth.rate-limit.ip.capacity=100",
+        "auth.rate-limit.email.capacity=2",
+        "auth.rate-limit.email.refill-per-minute=1"
+})
+@ActiveProfiles("testes")
+@DisplayName("POST /api/auth/login - limite de requisicoes")
+class AuthRateLimitIntegracaoTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private ResponseEntity<String> login(String email) {
+        return restTemplate.postForEntity("/api/auth/login", new LoginInput(email, "senha123"), String.class);
+    }
+
+    @Test
+    @DisplayName("deve retornar 429 com Retry-After ao exceder o limite por email")
+    void deveRetornar429AoExcederLimite() {
+        assertThat(login("limite@teste.com").getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(login("Limite@Teste.com").getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+
+        ResponseEntity<String> response = login("limite@teste.com");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+        assertThat(response.getBody()).contains("muitas-requisicoes");
+    }
+}
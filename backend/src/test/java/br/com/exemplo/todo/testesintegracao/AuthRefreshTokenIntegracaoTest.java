@@ -0,0 +1,170 @@
+package br.com.exemplo.todo.testesintegracao;
+
+import br.com.exemplo.todo.api.dto.auth.AuthResponse;
+import br.com.exemplo.todo.api.dto.auth.RefreshTokenInput;
+import br.com.exemplo.todo.api.dto.auth.RegisterInput;
+import br.com.exemplo.todo.domain.model.entity.RefreshToken;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.domain.repository.AccountRepository;
+import br.com.exemplo.todo.domain.repository.MembershipRepository;
+import br.com.exemplo.todo.domain.repository.OrganizationRepository;
+import br.com.exemplo.todo.domain.repository.RefreshTokenRepository;
+import br.com.exemplo.todo.domain.repository.UserRepository;
+import br.com.exemplo.todo.domain.service.RefreshTokenCleanupService;
+import br.com.exemplo.todo.security.RevokedTokenFamilies;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("testes")
+@DisplayName("Refresh token - rotacao, reutilizacao e limpeza")
+class AuthRefreshTokenIntegracaoTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RevokedTokenFamilies revokedTokenFamilies;
+
+    @Autowired
+    private RefreshTokenCleanupService cleanupService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.deleteAll();
+        accountRepository.deleteAll();
+        membershipRepository.deleteAll();
+        organizationRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private AuthResponse registrar() {
+        RegisterInput input = new RegisterInput("Usuario Refresh", "refresh@teste.com", "senha123", null);
+        ResponseEntity<AuthResponse> response = restTemplate.postForEntity("/api/auth/register", input, AuthResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        return response.getBody();
+    }
+
+    private ResponseEntity<AuthResponse> refresh(String refreshToken) {
+        return restTemplate.postForEntity("/api/auth/refresh", new RefreshTokenInput(refreshToken), AuthResponse.class);
+    }
+
+    @Nested
+    @DisplayName("POST /api/auth/refresh")
+    class Refresh {
+
+        @Test
+        @DisplayName("deve rotacionar o token mantendo a familia")
+        void deveRotacionarMantendoFamilia() {
+            AuthResponse registro = registrar();
+
+            ResponseEntity<AuthResponse> response = refresh(registro.refreshToken());
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            String familia = registro.refreshToken().substring(0, registro.refreshToken().indexOf('.'));
+            assertThat(response.getBody().refreshToken()).startsWith(familia + ".");
+            assertThat(response.getBody().refreshToken()).isNotEqualTo(registro.refreshToken());
+        }
+
+        @Test
+        @DisplayName("deve revogar a familia quando um token rotacionado e reutilizado")
+        void deveRevogarFamiliaNaReutilizacao() {
+            AuthResponse registro = registrar();
+            AuthResponse rotacionado = refresh(registro.refreshToken()).getBody();
+            String familia = registro.refreshToken().substring(0, registro.refreshToken().indexOf('.'));
+
+            ResponseEntity<AuthResponse> reutilizado = refresh(registro.refreshToken());
+
+            assertThat(reutilizado.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+            assertThat(revokedTokenFamilies.isRevogada(familia)).isTrue();
+            assertThat(refreshTokenRepository.findAll())
+                    .allMatch(token -> Boolean.TRUE.equals(token.getRevogado()));
+
+            // Token legitimo da mesma familia tambem passa a ser rejeitado
+            assertThat(refresh(rotacionado.refreshToken()).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+
+        @Test
+        @DisplayName("deve rejeitar refresh apos logout")
+        void deveRejeitarAposLogout() {
+            AuthResponse registro = registrar();
+
+            restTemplate.postForEntity("/api/auth/logout", new RefreshTokenInput(registro.refreshToken()), Void.class);
+
+            assertThat(refresh(registro.refreshToken()).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+    }
+
+    @Nested
+    @DisplayName("Limpeza de refresh tokens")
+    class Limpeza {
+
+        @Test
+        @DisplayName("deve remover expirados e revogados antigos em lotes, mantendo os validos")
+        void deveRemoverEmLotes() {
+            registrar();
+            User user = userRepository.findAll().getFirst();
+            LocalDateTime agora = LocalDateTime.now();
+            for (int i = 0; i < 1203; i++) {
+                criarToken(user, agora.minusDays(10), false, null);
+            }
+            for (int i = 0; i < 5; i++) {
+                criarToken(user, agora.plusDays(10), true, agora.minusDays(60));
+            }
+            criarToken(user, agora.plusDays(10), true, agora.minusDays(1));
+            long execucoesAntes = meterRegistry.get("auth.refresh-token.cleanup.purged").summary().count();
+
+            int removidos = cleanupService.limpar();
+
+            assertThat(removidos).isEqualTo(1208);
+            // Token do registro e o revogado recentemente permanecem
+            assertThat(refreshTokenRepository.count()).isEqualTo(2);
+            assertThat(meterRegistry.get("auth.refresh-token.cleanup.purged").summary().count())
+                    .isEqualTo(execucoesAntes + 1);
+        }
+
+        private void criarToken(User user, LocalDateTime expiracao, boolean revogado, LocalDateTime dataRevogacao) {
+            RefreshToken token = new RefreshToken();
+            token.setUser(user);
+            token.setTokenHash(UUID.randomUUID().toString().replace("-", ""));
+            token.setFamiliaId(UUID.randomUUID().toString());
+            token.setDataCriacao(expiracao.minusDays(30));
+            token.setDataExpiracao(expiracao);
+            token.setRevogado(revogado);
+            token.setDataRevogacao(dataRevogacao);
+            refreshTokenRepository.save(token);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package br.com.exemplo.todo.testesintegracao;
+
+import br.com.exemplo.todo.api.dto.produto.ProdutoInput;
+import br.com.exemplo.todo.api.dto.produto.ProdutoOpcaoInput;
+import br.com.exemplo.todo.api.dto.produto.ProdutoOutput;
+import br.com.exemplo.todo.domain.model.entity.Categoria;
+import br.com.exemplo.todo.domain.model.entity.CategoriaOpcao;
+import br.com.exemplo.todo.domain.model.entity.Membership;
+import br.com.exemplo.todo.domain.model.entity.Organization;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.repository.CategoriaOpcaoRepository;
+import br.com.exemplo.todo.domain.repository.CategoriaRepository;
+import br.com.exemplo.todo.domain.repository.MembershipRepository;
+import br.com.exemplo.todo.domain.repository.OrganizationRepository;
+import br.com.exemplo.todo.domain.repository.ProdutoRepository;
+import br.com.exemplo.todo.domain.repository.UserRepository;
+import br.com.exemplo.todo.domain.service.CardapioService;
+import br.com.exemplo.todo.security.JwtService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("testes")
+@DisplayName("CardapioController - Testes de Integracao")
+class CardapioIntegracaoTest {
+
+    private static final String SLUG = "loja-cardapio";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private CategoriaOpcaoRepository categoriaOpcaoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private CardapioService cardapioService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private HttpHeaders authHeaders;
+    private Long categoriaId;
+    private Long opcaoId;
+    private Long produtoId;
+
+    @BeforeEach
+    void setUp() {
+        produtoRepository.deleteAll();
+        membershipRepository.deleteAll();
+        organizationRepository.deleteAll();
+        userRepository.deleteAll();
+        categoriaOpcaoRepository.deleteAll();
+        categoriaRepository.deleteAll();
+        // Os ids mudam a cada teste, mas o slug nao
+        cardapioService.invalidateAll();
+
+        User user = new User();
+        user.setNome("Tester");
+        user.setEmail("tester@exemplo.com");
+        user.setAtivo(true);
+        user.setDataCriacao(LocalDateTime.now());
+        user.setDataAtualizacao(LocalDateTime.now());
+        user = userRepository.save(user);
+
+        Organization org = new Organization();
+        org.setNome("Loja Cardapio");
+        org.setSlug(SLUG);
+        org.setAtiva(true);
+        org.setDataCriacao(LocalDateTime.now());
+        org.setDataAtualizacao(LocalDateTime.now());
+        org = organizationRepository.save(org);
+
+        Membership membership = new Membership();
+        membership.setUser(user);
+        membership.setOrganization(org);
+        membership.setPapel(MembershipRole.OWNER);
+        membership.setAtivo(true);
+        membership.setDataIngresso(LocalDateTime.now());
+        membershipRepository.save(membership);
+
+        Categoria categoria = new Categoria();
+        categoria.setOrganizationId(org.getId());
+        categoria.setNome("Açaís");
+        categoria.setAtivo(true);
+        categoria.setCulinariaId(4);
+        categoria.setDataCriacao(LocalDateTime.now());
+        categoria = categoriaRepository.save(categoria);
+        categoriaId = categoria.getId();
+
+        CategoriaOpcao opcao = new CategoriaOpcao();
+        opcao.setCategoria(categoria);
+        opcao.setNome("500ml");
+        opcao.setAtivo(true);
+        opcaoId = categoriaOpcaoRepository.save(opcao).getId();
+
+        authHeaders = new HttpHeaders();
+        authHeaders.setBearerAuth(jwtService.generateAccessToken(user));
+        authHeaders.set("X-Organization-Id", org.getId().toString());
+
+        ResponseEntity<ProdutoOutput> criado = restTemplate.postForEntity("/api/produtos",
+                new HttpEntity<>(produtoInput(new BigDecimal("20.00")), authHeaders), ProdutoOutput.class);
+        assertThat(criado.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        produtoId = criado.getBody().getId_produto();
+    }
+
+    @Nested
+    @DisplayName("GET /api/cardapio/{slug}")
+    class Buscar {
+
+        @Test
+        @DisplayName("deve retornar cardapio comprimido sem autenticacao")
+        void deveRetornarCardapioGzip() throws IOException {
+            ResponseEntity<byte[]> response = buscar("gzip", null);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+            assertThat(response.getHeaders().getETag()).endsWith("-gzip\"");
+            assertThat(response.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+
+            JsonNode cardapio = objectMapper.readTree(descomprimir(response.getBody()));
+            assertThat(cardapio.get("slug").asText()).isEqualTo(SLUG);
+            assertThat(precoDoProduto(cardapio)).isEqualByComparingTo("20.00");
+        }
+
+        @Test
+        @DisplayName("deve retornar JSON sem compressao quando o cliente nao aceita gzip")
+        void deveRetornarSemCompressao() throws IOException {
+            ResponseEntity<byte[]> gzip = buscar("gzip", null);
+            ResponseEntity<byte[]> response = buscar(null, null);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+            assertThat(response.getHeaders().getETag())
+                    .isEqualTo(gzip.getHeaders().getETag().replace("-gzip", ""));
+            assertThat(response.getBody()).isEqualTo(descomprimir(gzip.getBody()));
+        }
+
+        @Test
+        @DisplayName("deve retornar 304 quando If-None-Match corresponde ao ETag")
+        void deveRetornar304() {
+            String etag = buscar("gzip", null).getHeaders().getETag();
+
+            ResponseEntity<byte[]> response = buscar("gzip", etag);
+            ResponseEntity<byte[]> semGzip = buscar(null, etag);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(response.getBody()).isNull();
+            assertThat(semGzip.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        }
+
+        @Test
+        @DisplayName("deve retornar 404 para slug inexistente")
+        void deveRetornar404() {
+            ResponseEntity<String> response = restTemplate.getForEntity("/api/cardapio/nao-existe", String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("deve refletir alteracao de preco e trocar o ETag")
+        void deveRefletirAlteracao() throws IOException {
+            String etagAnterior = buscar("gzip", null).getHeaders().getETag();
+
+            ResponseEntity<ProdutoOutput> atualizado = restTemplate.exchange("/api/produtos/" + produtoId,
+                    HttpMethod.PUT, new HttpEntity<>(produtoInput(new BigDecimal("25.50")), authHeaders),
+                    ProdutoOutput.class);
+            assertThat(atualizado.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+            ResponseEntity<byte[]> response = buscar("gzip", etagAnterior);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getETag()).isNotEqualTo(etagAnterior);
+            JsonNode cardapio = objectMapper.readTree(descomprimir(response.getBody()));
+            assertThat(precoDoProduto(cardapio)).isEqualByComparingTo("25.50");
+        }
+
+        @Test
+        @DisplayName("deve remover produto excluido")
+        void deveRemoverProdutoExcluido() throws IOException {
+            buscar("gzip", null);
+
+            restTemplate.exchange("/api/produtos/" + produtoId, HttpMethod.DELETE,
+                    new HttpEntity<>(authHeaders), Void.class);
+
+            JsonNode cardapio = objectMapper.readTree(descomprimir(buscar("gzip", null).getBody()));
+            assertThat(cardapio.get("categorias").get(0).get("produtos")).isEmpty();
+        }
+    }
+
+    private ResponseEntity<byte[]> buscar(String acceptEncoding, String ifNoneMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        if (acceptEncoding != null) {
+            headers.set(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            headers.setIfNoneMatch(ifNoneMatch);
+        }
+        return restTemplate.exchange("/api/cardapio/" + SLUG, HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+    }
+
+    private BigDecimal precoDoProduto(JsonNode cardapio) {
+        JsonNode produto = cardapio.get("categorias").get(0).get("produtos").get(0);
+        assertThat(produto.get("id_produto").asLong()).isEqualTo(produtoId);
+        return produto.get("precos").get(0).get("valor").decimalValue();
+    }
+
+    private ProdutoInput produtoInput(BigDecimal valor) {
+        ProdutoOpcaoInput preco = new ProdutoOpcaoInput();
+        preco.setId_opcao(opcaoId);
+        preco.setValor(valor);
+
+        ProdutoInput input = new ProdutoInput();
+        input.setId_categoria(categoriaId);
+        input.setNome("Açaí Copo");
+        input.setDescricao("Teste");
+        input.setOpcoes(List.of(preco));
+        return input;
+    }
+
+    private static byte[] descomprimir(byte[] gzip) throws IOException {
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return entrada.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package br.com.exemplo.todo.testesintegracao;
+
+import br.com.exemplo.todo.domain.model.entity.Adicional;
+import br.com.exemplo.todo.domain.model.entity.AdicionalItem;
+import br.com.exemplo.todo.domain.model.entity.Categoria;
+import br.com.exemplo.todo.domain.model.entity.CategoriaOpcao;
+import br.com.exemplo.todo.domain.model.entity.Cliente;
+import br.com.exemplo.todo.domain.model.entity.ClienteEndereco;
+import br.com.exemplo.todo.domain.model.entity.Membership;
+import br.com.exemplo.todo.domain.model.entity.Municipio;
+import br.com.exemplo.todo.domain.model.entity.Organization;
+import br.com.exemplo.todo.domain.model.entity.Produto;
+import br.com.exemplo.todo.domain.model.entity.ProdutoPreco;
+import br.com.exemplo.todo.domain.model.entity.Todo;
+import br.com.exemplo.todo.domain.model.entity.Uf;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.model.enums.SelecaoAdicional;
+import br.com.exemplo.todo.domain.repository.AdicionalRepository;
+import br.com.exemplo.todo.domain.repository.CategoriaRepository;
+import br.com.exemplo.todo.domain.repository.ClienteRepository;
+import br.com.exemplo.todo.domain.repository.MembershipRepository;
+import br.com.exemplo.todo.domain.repository.MunicipioRepository;
+import br.com.exemplo.todo.domain.repository.OrganizationRepository;
+import br.com.exemplo.todo.domain.repository.ProdutoRepository;
+import br.com.exemplo.todo.domain.repository.TodoRepository;
+import br.com.exemplo.todo.domain.repository.UfRepository;
+import br.com.exemplo.todo.domain.repository.UserRepository;
+import br.com.exemplo.todo.security.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Linha de base de instrucoes SQL por endpoint de listagem: o numero de consultas nao pode
+ * crescer com a quantidade de registros. Cada teste mede o endpoint com 1 registro e com
+ * {@value #MUITOS} registros (com colecoes filhas); uma consulta por linha faz o teste falhar.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("testes")
+@ExtendWith(ContagemSqlExtension.class)
+@DisplayName("Instrucoes SQL por endpoint - Testes de Integracao")
+class ConsultasSqlPorEndpointIntegracaoTest {
+
+    private static final int MUITOS = 30;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private AdicionalRepository adicionalRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UfRepository ufRepository;
+
+    @Autowired
+    private MunicipioRepository municipioRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private HttpHeaders headers;
+    private Long orgId;
+    private Long userId;
+    private Categoria categoria;
+    private Municipio municipio;
+
+    @BeforeEach
+    void setUp() {
+        produtoRepository.deleteAll();
+        adicionalRepository.deleteAll();
+        categoriaRepository.deleteAll();
+        clienteRepository.deleteAll();
+        todoRepository.deleteAll();
+        membershipRepository.deleteAll();
+        organizationRepository.deleteAll();
+        userRepository.deleteAll();
+
+        Organization org = new Organization();
+        org.setNome("Org Consultas");
+        org.setSlug("org-consultas");
+        org.setAtiva(true);
+        org.setDataCriacao(LocalDateTime.now());
+        org.setDataAtualizacao(LocalDateTime.now());
+        orgId = organizationRepository.save(org).getId();
+
+        User owner = salvarMembro("owner@exemplo.com", MembershipRole.OWNER);
+        userId = owner.getId();
+
+        categoria = salvarCategoria("Pizzas");
+
+        Uf uf = new Uf();
+        uf.setCodigo(35L);
+        uf.setSigla("SP");
+        uf.setNome("Sao Paulo");
+        ufRepository.save(uf);
+        Municipio sp = new Municipio();
+        sp.setCodigo(3550308L);
+        sp.setNome("Sao Paulo");
+        sp.setUf(uf);
+        municipio = municipioRepository.save(sp);
+
+        headers = new HttpHeaders();
+        headers.setBearerAuth(jwtService.generateAccessToken(owner));
+        headers.set("X-Organization-Id", orgId.toString());
+    }
+
+    /**
+     * Mede o endpoint com 1 e com {@link #MUITOS} registros (apos uma chamada de aquecimento dos
+     * caches de autenticacao) e exige o mesmo numero de instrucoes.
+     */
+    private void assertConstante(ContagemSql sql, String uri, IntConsumer semear) {
+        semear.accept(1);
+        get(uri);
+        int comUm = sql.medir(() -> get(uri));
+        semear.accept(MUITOS - 1);
+        int comMuitos = sql.medir(() -> get(uri));
+
+        assertThat(comMuitos)
+                .as("instrucoes SQL de GET %s com 1 e com %d registros", uri, MUITOS)
+                .isEqualTo(comUm);
+    }
+
+    private void get(String uri) {
+        ResponseEntity<String> response = restTemplate.exchange(uri, HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+        assertThat(response.getStatusCode()).as("GET %s", uri).isEqualTo(HttpStatus.OK);
+    }
+
+    @Nested
+    @DisplayName("Cardapio")
+    class Cardapio {
+
+        @Test
+        @LimiteSql(2)
+        @DisplayName("GET /api/produtos nao deve consultar por produto ou preco")
+        void listarProdutos(ContagemSql sql) {
+            assertConstante(sql, "/api/produtos", quantidade -> salvarProdutos(categoria, quantidade));
+        }
+
+        @Test
+        @LimiteSql(2)
+        @DisplayName("GET /api/produtos?id_categoria nao deve consultar por produto ou preco")
+        void listarProdutosPorCategoria(ContagemSql sql) {
+            assertConstante(sql, "/api/produtos?id_categoria=" + categoria.getId(),
+                    quantidade -> salvarProdutos(categoria, quantidade));
+        }
+
+        @Test
+        @LimiteSql(3)
+        @DisplayName("GET /api/categorias nao deve consultar por categoria ou opcao")
+        void listarCategorias(ContagemSql sql) {
+            assertConstante(sql, "/api/categorias", quantidade -> {
+                for (int i = 0; i < quantidade; i++) {
+                    salvarCategoria("Categoria " + i);
+                }
+            });
+        }
+
+        @Test
+        @LimiteSql(3)
+        @DisplayName("GET /api/adicionais nao deve consultar por adicional ou item")
+        void listarAdicionais(ContagemSql sql) {
+            assertConstante(sql, "/api/adicionais", quantidade -> {
+                List<Adicional> adicionais = new ArrayList<>();
+                for (int i = 0; i < quantidade; i++) {
+                    adicionais.add(adicional("Adicional " + i));
+                }
+                adicionalRepository.saveAll(adicionais);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Clientes, tarefas e usuarios")
+    class Cadastros {
+
+        @Test
+        @LimiteSql(3)
+        @DisplayName("GET /api/clientes nao deve consultar por cliente, endereco ou municipio")
+        void listarClientes(ContagemSql sql) {
+            assertConstante(sql, "/api/clientes", quantidade -> {
+                List<Cliente> clientes = new ArrayList<>();
+                for (int i = 0; i < quantidade; i++) {
+                    clientes.add(cliente("Cliente " + i));
+                }
+                clienteRepository.saveAll(clientes);
+            });
+        }
+
+        @Test
+        @LimiteSql(3)
+        @DisplayName("GET /api/todos nao deve consultar por tarefa")
+        void listarTodos(ContagemSql sql) {
+            assertConstante(sql, "/api/todos", this::salvarTodos);
+        }
+
+        @Test
+        @LimiteSql(3)
+        @DisplayName("GET /api/todos?concluido nao deve consultar por tarefa")
+        void listarTodosPorStatus(ContagemSql sql) {
+            assertConstante(sql, "/api/todos?concluido=false", this::salvarTodos);
+        }
+
+        @Test
+        @LimiteSql(5)
+        @DisplayName("GET /api/admin/users nao deve consultar por usuario ou conta")
+        void listarUsuarios(ContagemSql sql) {
+            assertConstante(sql, "/api/admin/users?size=50", quantidade -> {
+                for (int i = 0; i < quantidade; i++) {
+                    salvarMembro("membro" + i + "-" + System.nanoTime() + "@exemplo.com", MembershipRole.MEMBER);
+                }
+            });
+        }
+
+        private void salvarTodos(int quantidade) {
+            List<Todo> todos = new ArrayList<>();
+            for (int i = 0; i < quantidade; i++) {
+                Todo todo = new Todo();
+                todo.setTitulo("Tarefa " + i);
+                todo.setConcluido(false);
+                todo.setDataCriacao(LocalDateTime.now());
+                todo.setOrganizationId(orgId);
+                todo.setCriadoPor(userId);
+                todos.add(todo);
+            }
+            todoRepository.saveAll(todos);
+        }
+    }
+
+    private User salvarMembro(String email, MembershipRole papel) {
+        User user = new User();
+        user.setNome("Usuario " + email);
+        user.setEmail(email);
+        user.setAtivo(true);
+        user.setDataCriacao(LocalDateTime.now());
+        user.setDataAtualizacao(LocalDateTime.now());
+        user = userRepository.save(user);
+
+        Membership membership = new Membership();
+        membership.setUser(user);
+        membership.setOrganization(organizationRepository.getReferenceById(orgId));
+        membership.setPapel(papel);
+        membership.setAtivo(true);
+        membership.setDataIngresso(LocalDateTime.now());
+        membershipRepository.save(membership);
+        return user;
+    }
+
+    private Categoria salvarCategoria(String nome) {
+        Categoria nova = new Categoria();
+        nova.setOrganizationId(orgId);
+        nova.setNome(nome);
+        nova.setCulinariaId(4);
+        nova.setDataCriacao(LocalDateTime.now());
+        for (String tamanho : new String[]{"Broto", "Media", "Grande"}) {
+            CategoriaOpcao opcao = new CategoriaOpcao();
+            opcao.setCategoria(nova);
+            opcao.setNome(tamanho);
+            nova.getOpcoes().add(opcao);
+        }
+        return categoriaRepository.save(nova);
+    }
+
+    private void salvarProdutos(Categoria categoria, int quantidade) {
+        List<Produto> produtos = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            Produto produto = new Produto();
+            produto.setOrganizationId(orgId);
+            produto.setCategoriaId(categoria.getId());
+            produto.setNome("Produto " + i);
+            produto.setAtivo(true);
+            produto.setDataCriacao(LocalDateTime.now());
+            for (CategoriaOpcao opcao : categoria.getOpcoes()) {
+                ProdutoPreco preco = new ProdutoPreco();
+                preco.setOrganizationId(orgId);
+                preco.setProduto(produto);
+                preco.setCategoriaOpcaoId(opcao.getId());
+                preco.setValor(new BigDecimal("40.00"));
+                preco.setAtivo(true);
+                preco.setDataCriacao(LocalDateTime.now());
+                produto.getPrecos().add(preco);
+            }
+            produtos.add(produto);
+        }
+        produtoRepository.saveAll(produtos);
+    }
+
+    private Adicional adicional(String nome) {
+        Adicional adicional = new Adicional();
+        adicional.setOrganizationId(orgId);
+        adicional.setCategoriaId(categoria.getId());
+        adicional.setNome(nome);
+        adicional.setSelecao(SelecaoAdicional.M);
+        adicional.setAtivo(true);
+        adicional.setDataCriacao(LocalDateTime.now());
+        for (String item : new String[]{"Bacon", "Catupiry", "Cheddar"}) {
+            AdicionalItem novo = new AdicionalItem();
+            novo.setOrganizationId(orgId);
+            novo.setAdicional(adicional);
+            novo.setNome(item);
+            novo.setValor(new BigDecimal("5.00"));
+            novo.setAtivo(true);
+            novo.setDataCriacao(LocalDateTime.now());
+            adicional.getItens().add(novo);
+        }
+        return adicional;
+    }
+
+    private Cliente cliente(String nome) {
+        Cliente cliente = new Cliente();
+        cliente.setOrganizationId(orgId);
+        cliente.setNome(nome);
+        cliente.setDataCriacao(LocalDateTime.now());
+        for (String rua : new String[]{"Rua A", "Rua B"}) {
+            ClienteEndereco endereco = new ClienteEndereco();
+            endereco.setCliente(cliente);
+            endereco.setOrganizationId(orgId);
+            endereco.setMunicipio(municipio);
+            endereco.setRua(rua);
+            endereco.setDataCriacao(LocalDateTime.now());
+            cliente.getEnderecos().add(endereco);
+        }
+        return cliente;
+    }
+}
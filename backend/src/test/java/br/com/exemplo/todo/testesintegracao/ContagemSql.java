@@ -0,0 +1,45 @@
+package br.com.exemplo.todo.testesintegracao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Instrucoes SQL das requisicoes feitas pelo TestRestTemplate durante um teste, lidas do header
+ * Server-Timing publicado pelo SqlMonitorFilter.
+ */
+public class ContagemSql {
+
+    private static final Pattern SERVER_TIMING = Pattern.compile("desc=\"(\\d+) SQL\"");
+
+    private final List<Medicao> medicoes = new ArrayList<>();
+
+    public record Medicao(String requisicao, int instrucoes) {
+    }
+
+    void registrar(String requisicao, String serverTiming) {
+        Matcher matcher = serverTiming == null ? null : SERVER_TIMING.matcher(serverTiming);
+        if (matcher == null || !matcher.find()) {
+            throw new IllegalStateException("Resposta sem Server-Timing para " + requisicao
+                    + " (sql.monitor.enabled, sample-rate=1.0 e server-timing sao necessarios)");
+        }
+        medicoes.add(new Medicao(requisicao, Integer.parseInt(matcher.group(1))));
+    }
+
+    /**
+     * Executa a chamada e retorna as instrucoes SQL da ultima requisicao feita por ela.
+     */
+    public int medir(Runnable chamada) {
+        int antes = medicoes.size();
+        chamada.run();
+        if (medicoes.size() == antes) {
+            throw new IllegalStateException("Nenhuma requisicao feita pelo TestRestTemplate");
+        }
+        return medicoes.getLast().instrucoes();
+    }
+
+    public List<Medicao> medicoes() {
+        return List.copyOf(medicoes);
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.exemplo.todo.testesintegracao;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Conta as instrucoes SQL de cada requisicao feita pelo TestRestTemplate do contexto
+ * (@SpringBootTest com RANDOM_PORT). O teste recebe a {@link ContagemSql} como parametro e, se
+ * anotado com {@link LimiteSql}, falha quando alguma requisicao passa do limite.
+ */
+public class ContagemSqlExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(ContagemSqlExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        RestTemplate restTemplate = SpringExtension.getApplicationContext(context)
+                .getBean(TestRestTemplate.class).getRestTemplate();
+        List<ClientHttpRequestInterceptor> originais = new ArrayList<>(restTemplate.getInterceptors());
+        ContagemSql contagem = new ContagemSql();
+
+        List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>(originais);
+        interceptors.add((request, body, execution) -> {
+            ClientHttpResponse response = execution.execute(request, body);
+            contagem.registrar(request.getMethod() + " " + request.getURI().getPath()
+                            + (request.getURI().getQuery() != null ? "?" + request.getURI().getQuery() : ""),
+                    response.getHeaders().getFirst("Server-Timing"));
+            return response;
+        });
+        restTemplate.setInterceptors(interceptors);
+
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        store.put(ContagemSql.class, contagem);
+        store.put(RestTemplate.class, restTemplate);
+        store.put(List.class, originais);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterEach(ExtensionContext context) {
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        store.get(RestTemplate.class, RestTemplate.class).setInterceptors(store.get(List.class, List.class));
+
+        LimiteSql limite = context.getRequiredTestMethod().getAnnotation(LimiteSql.class);
+        if (limite != null && context.getExecutionException().isEmpty()) {
+            assertThat(store.get(ContagemSql.class, ContagemSql.class).medicoes())
+                    .as("requisicoes acima de %d instrucoes SQL", limite.value())
+                    .allSatisfy(medicao -> assertThat(medicao.instrucoes())
+                            .as(medicao.requisicao())
+                            .isLessThanOrEqualTo(limite.value()));
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == ContagemSql.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return extensionContext.getStore(NAMESPACE).get(ContagemSql.class, ContagemSql.class);
+    }
+}
@@ -0,0 +1,264 @@
+package br.com.exemplo.todo.testesintegracao;
+
+import br.com.exemplo.todo.api.dto.todo.TodoInput;
+import br.com.exemplo.todo.domain.model.entity.Membership;
+import br.com.exemplo.todo.domain.model.entity.Organization;
+import br.com.exemplo.todo.domain.model.entity.Todo;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.repository.MembershipRepository;
+import br.com.exemplo.todo.domain.repository.OrganizationRepository;
+import br.com.exemplo.todo.domain.repository.TodoRepository;
+import br.com.exemplo.todo.domain.repository.UserRepository;
+import br.com.exemplo.todo.domain.service.TodoService;
+import br.com.exemplo.todo.infrastructure.sqlite.GroupCommitExecutor;
+import br.com.exemplo.todo.security.JwtService;
+import br.com.exemplo.todo.security.TenantContext;
+import br.com.exemplo.todo.security.TenantInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "sqlite.group-commit.enabled=true"
+})
+@ActiveProfiles("testes")
+@DisplayName("Escritor unico com group commit - Testes de Integracao")
+class GroupCommitIntegracaoTest {
+
+    private static final Path ARQUIVO = criarArquivo();
+
+    @DynamicPropertySource
+    static void propriedades(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:file:" + ARQUIVO
+                + "?date_class=TEXT&date_string_format=yyyy-MM-dd HH:mm:ss");
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private GroupCommitExecutor executor;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private HttpHeaders headers;
+    private TenantInfo tenant;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository.deleteAll();
+        membershipRepository.deleteAll();
+        organizationRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = new User();
+        user.setNome("Usuario Teste");
+        user.setEmail("group-commit@exemplo.com");
+        user.setAtivo(true);
+        user.setDataCriacao(LocalDateTime.now());
+        user.setDataAtualizacao(LocalDateTime.now());
+        user = userRepository.save(user);
+
+        Organization org = new Organization();
+        org.setNome("Org group commit");
+        org.setSlug("org-group-commit");
+        org.setAtiva(true);
+        org.setDataCriacao(LocalDateTime.now());
+        org.setDataAtualizacao(LocalDateTime.now());
+        org = organizationRepository.save(org);
+
+        Membership membership = new Membership();
+        membership.setUser(user);
+        membership.setOrganization(org);
+        membership.setPapel(MembershipRole.OWNER);
+        membership.setAtivo(true);
+        membership.setDataIngresso(LocalDateTime.now());
+        membershipRepository.save(membership);
+
+        headers = new HttpHeaders();
+        headers.setBearerAuth(jwtService.generateAccessToken(user));
+        headers.set("X-Organization-Id", org.getId().toString());
+        tenant = new TenantInfo(org.getId(), user.getId(), MembershipRole.OWNER);
+    }
+
+    @Test
+    @DisplayName("deve gravar requisicoes concorrentes em uma unica transacao")
+    void deveAgruparRequisicoesConcorrentes() throws Exception {
+        long transacoesAntes = transacoes();
+        List<CompletableFuture<ResponseEntity<String>>> requisicoes = new ArrayList<>();
+
+        CountDownLatch liberar = new CountDownLatch(1);
+        CompletableFuture<Boolean> bloqueio = bloquearEscritor(liberar);
+        for (int i = 0; i < 8; i++) {
+            String titulo = "Tarefa " + i;
+            requisicoes.add(CompletableFuture.supplyAsync(() -> criarTodo(titulo)));
+        }
+        aguardarFila(8);
+        liberar.countDown();
+
+        assertThat(bloqueio.get(10, TimeUnit.SECONDS)).isTrue();
+        for (CompletableFuture<ResponseEntity<String>> requisicao : requisicoes) {
+            assertThat(requisicao.get(10, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        }
+        assertThat(todoRepository.count()).isEqualTo(8);
+        // Um lote com o bloqueio e um lote com as 8 requisicoes
+        assertThat(transacoes() - transacoesAntes).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("deve concluir a tarefa e isolar a requisicao que falhou no mesmo lote")
+    void deveIsolarFalhaDoMetodoParticipante() throws Exception {
+        Todo todo = salvarTodo();
+        double refeitasAntes = refeitas();
+
+        CountDownLatch liberar = new CountDownLatch(1);
+        CompletableFuture<Boolean> bloqueio = bloquearEscritor(liberar);
+        CompletableFuture<ResponseEntity<String>> inexistente = CompletableFuture.supplyAsync(() -> concluir(999_999L));
+        aguardarFila(1);
+        CompletableFuture<ResponseEntity<String>> concluida = CompletableFuture.supplyAsync(() -> concluir(todo.getId()));
+        aguardarFila(2);
+        liberar.countDown();
+
+        bloqueio.get(10, TimeUnit.SECONDS);
+        assertThat(inexistente.get(10, TimeUnit.SECONDS).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        ResponseEntity<String> response = concluida.get(10, TimeUnit.SECONDS);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(todoRepository.findById(todo.getId())).get().extracting(Todo::getConcluido).isEqualTo(true);
+        // A TodoNaoEncontradoException desfez apenas o savepoint da operacao, sem condenar o lote
+        assertThat(refeitas()).isEqualTo(refeitasAntes);
+    }
+
+    @Test
+    @DisplayName("deve refazer as demais operacoes quando um erro de persistencia condena o lote")
+    void deveRefazerOperacoesDeLoteCondenado() throws Exception {
+        double refeitasAntes = refeitas();
+
+        CountDownLatch liberar = new CountDownLatch(1);
+        CompletableFuture<Boolean> bloqueio = bloquearEscritor(liberar);
+        CompletableFuture<Todo> valida = criarNoServico("Valida");
+        aguardarFila(1);
+        CompletableFuture<Todo> semTitulo = criarNoServico(null);
+        aguardarFila(2);
+        liberar.countDown();
+
+        bloqueio.get(10, TimeUnit.SECONDS);
+        assertThat(valida.get(10, TimeUnit.SECONDS).getId()).isNotNull();
+        assertThat(semTitulo).failsWithin(Duration.ofSeconds(10));
+        assertThat(todoRepository.findAll()).extracting(Todo::getTitulo).containsExactly("Valida");
+        assertThat(refeitas()).isEqualTo(refeitasAntes + 1);
+    }
+
+    private CompletableFuture<Boolean> bloquearEscritor(CountDownLatch liberar) throws InterruptedException {
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CompletableFuture<Boolean> bloqueio = executor.submeter(() -> {
+            iniciou.countDown();
+            return liberar.await(10, TimeUnit.SECONDS);
+        });
+        assertThat(iniciou.await(5, TimeUnit.SECONDS)).isTrue();
+        return bloqueio;
+    }
+
+    private void aguardarFila(int operacoes) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (executor.pendentes() < operacoes && System.nanoTime() < limite) {
+            Thread.sleep(5);
+        }
+        assertThat(executor.pendentes()).isEqualTo(operacoes);
+    }
+
+    private CompletableFuture<Todo> criarNoServico(String titulo) {
+        TodoInput input = new TodoInput();
+        input.setTitulo(titulo);
+        return CompletableFuture.supplyAsync(() -> {
+            TenantContext.set(tenant);
+            try {
+                return todoService.criar(input);
+            } finally {
+                TenantContext.clear();
+            }
+        });
+    }
+
+    private ResponseEntity<String> criarTodo(String titulo) {
+        TodoInput input = new TodoInput();
+        input.setTitulo(titulo);
+        return restTemplate.exchange("/api/todos", HttpMethod.POST, new HttpEntity<>(input, headers), String.class);
+    }
+
+    private ResponseEntity<String> concluir(Long id) {
+        return restTemplate.exchange("/api/todos/" + id + "/concluir", HttpMethod.PATCH,
+                new HttpEntity<>(headers), String.class);
+    }
+
+    private Todo salvarTodo() {
+        Todo todo = new Todo();
+        todo.setTitulo("Pendente");
+        todo.setConcluido(false);
+        todo.setDataCriacao(LocalDateTime.now());
+        todo.setOrganizationId(tenant.organizationId());
+        todo.setCriadoPor(tenant.userId());
+        return todoRepository.save(todo);
+    }
+
+    private long transacoes() {
+        return meterRegistry.get("sqlite.writer.batch.size").summary().count();
+    }
+
+    private double refeitas() {
+        return meterRegistry.get("sqlite.writer.fallback").counter().count();
+    }
+
+    private static Path criarArquivo() {
+        try {
+            return Files.createTempDirectory("linve-group-commit").resolve("group-commit.db");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package br.com.exemplo.todo.testesintegracao;
+
+import br.com.exemplo.todo.api.dto.adicional.AdicionalOutput;
+import br.com.exemplo.todo.api.dto.categoria.CategoriaOutput;
+import br.com.exemplo.todo.api.dto.importacao.ImportacaoErroOutput;
+import br.com.exemplo.todo.api.dto.importacao.ImportacaoOutput;
+import br.com.exemplo.todo.api.dto.produto.ProdutoOutput;
+import br.com.exemplo.todo.api.dto.produto.ProdutoPrecoOutput;
+import br.com.exemplo.todo.domain.model.entity.Categoria;
+import br.com.exemplo.todo.domain.model.entity.CategoriaOpcao;
+import br.com.exemplo.todo.domain.model.entity.Culinaria;
+import br.com.exemplo.todo.domain.model.entity.Membership;
+import br.com.exemplo.todo.domain.model.entity.Organization;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.repository.AdicionalItemRepository;
+import br.com.exemplo.todo.domain.repository.AdicionalRepository;
+import br.com.exemplo.todo.domain.repository.CategoriaOpcaoRepository;
+import br.com.exemplo.todo.domain.repository.CategoriaRepository;
+import br.com.exemplo.todo.domain.repository.CulinariaRepository;
+import br.com.exemplo.todo.domain.repository.MembershipRepository;
+import br.com.exemplo.todo.domain.repository.OrganizationRepository;
+import br.com.exemplo.todo.domain.repository.ProdutoRepository;
+import br.com.exemplo.todo.domain.repository.UserRepository;
+import br.com.exemplo.todo.security.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("testes")
+@DisplayName("Importacao em lote do catalogo - Testes de Integracao")
+class ImportacaoIntegracaoTest {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    // O processamento roda em outra thread, que no SQLite em memoria receberia um banco sem as tabelas
+    private static final Path ARQUIVO = criarArquivo();
+
+    @DynamicPropertySource
+    static void propriedades(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:file:" + ARQUIVO
+                + "?date_class=TEXT&date_string_format=yyyy-MM-dd HH:mm:ss");
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private AdicionalItemRepository adicionalItemRepository;
+
+    @Autowired
+    private AdicionalRepository adicionalRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private CategoriaOpcaoRepository categoriaOpcaoRepository;
+
+    @Autowired
+    private CulinariaRepository culinariaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private HttpHeaders authHeaders;
+    private Long orgId;
+    private Categoria existente;
+
+    @BeforeEach
+    void setUp() {
+        produtoRepository.deleteAll();
+        adicionalItemRepository.deleteAll();
+        adicionalRepository.deleteAll();
+        membershipRepository.deleteAll();
+        organizationRepository.deleteAll();
+        userRepository.deleteAll();
+        categoriaOpcaoRepository.deleteAll();
+        categoriaRepository.deleteAll();
+        culinariaRepository.deleteAll();
+
+        Culinaria culinaria = new Culinaria();
+        culinaria.setId(4);
+        culinaria.setNome("Açaís");
+        culinaria.setMeioMeio(false);
+        culinariaRepository.save(culinaria);
+
+        User user = new User();
+        user.setNome("Importador");
+        user.setEmail("importador@exemplo.com");
+        user.setAtivo(true);
+        user.setDataCriacao(LocalDateTime.now());
+        user.setDataAtualizacao(LocalDateTime.now());
+        user = userRepository.save(user);
+
+        Organization org = new Organization();
+        org.setNome("Loja Importada");
+        org.setSlug("loja-importada");
+        org.setAtiva(true);
+        org.setDataCriacao(LocalDateTime.now());
+        org.setDataAtualizacao(LocalDateTime.now());
+        org = organizationRepository.save(org);
+        orgId = org.getId();
+
+        Membership membership = new Membership();
+        membership.setUser(user);
+        membership.setOrganization(org);
+        membership.setPapel(MembershipRole.OWNER);
+        membership.setAtivo(true);
+        membership.setDataIngresso(LocalDateTime.now());
+        membershipRepository.save(membership);
+
+        existente = new Categoria();
+        existente.setOrganizationId(orgId);
+        existente.setCulinariaId(4);
+        existente.setNome("Bebidas");
+        existente.setOrdem(1);
+        existente.setAtivo(true);
+        existente.setDataCriacao(LocalDateTime.now());
+        CategoriaOpcao lata = new CategoriaOpcao();
+        lata.setCategoria(existente);
+        lata.setNome("Lata");
+        existente.getOpcoes().add(lata);
+        existente = categoriaRepository.save(existente);
+
+        authHeaders = new HttpHeaders();
+        authHeaders.setBearerAuth(jwtService.generateAccessToken(user));
+        authHeaders.set("X-Organization-Id", orgId.toString());
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("resolve refs de categoria e nomes de opcao e grava produtos e adicionais")
+        void importaCatalogo() {
+            String corpo = String.join("\n",
+                    "{\"tipo\":\"categoria\",\"ref\":\"acai\",\"id_culinaria\":4,\"nome\":\"Açaís\",\"ordem\":2,"
+                            + "\"opcoes\":[\"300ml\",\"500ml\"]}",
+                    "{\"tipo\":\"produto\",\"categoria\":\"acai\",\"nome\":\"No copo\","
+                            + "\"opcoes\":[{\"opcao\":\"300ml\",\"valor\":12.00},{\"opcao\":\"500ML\",\"valor\":16.5}]}",
+                    "",
+                    "{\"tipo\":\"produto\",\"id_categoria\":" + existente.getId() + ",\"nome\":\"Refrigerante\","
+                            + "\"opcoes\":[{\"id_opcao\":" + existente.getOpcoes().get(0).getId() + ",\"valor\":6}]}",
+                    "{\"tipo\":\"adicional\",\"categoria\":\"acai\",\"nome\":\"Coberturas\",\"selecao\":\"M\","
+                            + "\"limite\":2,\"opcoes\":[{\"nome\":\"Granola\",\"valor\":1.5},{\"nome\":\"Mel\",\"valor\":2}]}");
+
+            ImportacaoOutput resultado = importarEAguardar(corpo, NDJSON);
+
+            assertThat(resultado.getStatus()).isEqualTo("CONCLUIDA");
+            assertThat(resultado.getLinhasProcessadas()).isEqualTo(4);
+            assertThat(resultado.getLinhasComErro()).isZero();
+            assertThat(resultado.getCategoriasCriadas()).isEqualTo(1);
+            assertThat(resultado.getProdutosCriados()).isEqualTo(2);
+            assertThat(resultado.getAdicionaisCriados()).isEqualTo(1);
+
+            CategoriaOutput acai = List.of(get("/api/categorias", CategoriaOutput[].class)).stream()
+                    .filter(c -> c.getNome().equals("Açaís"))
+                    .findFirst().orElseThrow();
+            ProdutoOutput copo = List.of(get("/api/produtos", ProdutoOutput[].class)).stream()
+                    .filter(p -> p.getNome().equals("No copo"))
+                    .findFirst().orElseThrow();
+            assertThat(copo.getId_categoria()).isEqualTo(acai.getIdCategoria());
+            Map<String, BigDecimal> precos = copo.getOpcoes().stream()
+                    .collect(Collectors.toMap(ProdutoPrecoOutput::getNome, ProdutoPrecoOutput::getValor));
+            assertThat(precos).containsOnlyKeys("300ml", "500ml");
+            assertThat(precos.get("500ml")).isEqualByComparingTo("16.5");
+
+            AdicionalOutput[] adicionais = get("/api/adicionais", AdicionalOutput[].class);
+            assertThat(adicionais).singleElement().satisfies(adicional -> {
+                assertThat(adicional.getIdCategoria()).isEqualTo(acai.getIdCategoria());
+                assertThat(adicional.getLimite()).isEqualTo(2);
+                assertThat(adicional.getOpcoes()).hasSize(2);
+            });
+        }
+
+        @Test
+        @DisplayName("rejeita linhas invalidas com o motivo e grava as demais")
+        void relataErrosPorLinha() {
+            String corpo = String.join("\n",
+                    "{\"tipo\":\"categoria\",\"ref\":\"acai\",\"id_culinaria\":4,\"nome\":\"Açaís\",\"opcoes\":[\"300ml\"]}",
+                    "{\"tipo\":\"produto\",\"categoria\":\"acai\",\"nome\":\"Ok\",\"opcoes\":[{\"opcao\":\"300ml\",\"valor\":10}]}",
+                    "{\"tipo\":\"produto\",\"categoria\":\"acai\",\"nome\":\"Opcao errada\",\"opcoes\":[{\"opcao\":\"700ml\",\"valor\":10}]}",
+                    "{\"tipo\":\"produto\",\"categoria\":\"sorvete\",\"nome\":\"Sem categoria\",\"opcoes\":[{\"opcao\":\"300ml\",\"valor\":10}]}",
+                    "{\"tipo\":\"produto\",\"categoria\":\"acai\",\"nome\":\"Gratis\",\"opcoes\":[{\"opcao\":\"300ml\",\"valor\":0}]}",
+                    "{\"tipo\":\"categoria\",\"ref\":\"repetida\",\"id_culinaria\":4,\"nome\":\"Ordem\",\"ordem\":1,\"opcoes\":[\"U\"]}",
+                    "{\"tipo\":\"categoria\",\"ref\":\"culinaria\",\"id_culinaria\":99,\"nome\":\"Outra\",\"opcoes\":[\"U\"]}",
+                    "{\"tipo\":\"adicional\",\"categoria\":\"acai\",\"nome\":\"Extras\",\"selecao\":\"X\",\"opcoes\":[{\"nome\":\"A\",\"valor\":1}]}",
+                    "{nao e json",
+                    "{\"tipo\":\"bebida\",\"nome\":\"?\"}");
+
+            ImportacaoOutput resultado = importarEAguardar(corpo, NDJSON);
+
+            assertThat(resultado.getStatus()).isEqualTo("CONCLUIDA");
+            assertThat(resultado.getLinhasProcessadas()).isEqualTo(10);
+            assertThat(resultado.getCategoriasCriadas()).isEqualTo(1);
+            assertThat(resultado.getProdutosCriados()).isEqualTo(1);
+            assertThat(resultado.getLinhasComErro()).isEqualTo(8);
+            Map<Long, String> erros = resultado.getErros().stream()
+                    .collect(Collectors.toMap(ImportacaoErroOutput::getLinha, ImportacaoErroOutput::getMensagem));
+            assertThat(erros).containsOnlyKeys(3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+            assertThat(erros.get(3L)).contains("700ml");
+            assertThat(erros.get(4L)).contains("sorvete");
+            assertThat(erros.get(5L)).contains("valor");
+            assertThat(erros.get(6L)).contains("ordem");
+            assertThat(erros.get(7L)).contains("99");
+            assertThat(erros.get(8L)).contains("selecao");
+            assertThat(erros.get(9L)).startsWith("JSON invalido");
+            assertThat(erros.get(10L)).contains("tipo");
+            assertThat(produtoRepository.count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("le CSV com ponto e virgula, aspas e listas separadas por barra")
+        void importaCsv() {
+            String corpo = "tipo;ref;categoria;id_culinaria;nome;descricao;opcoes;disponivel\r\n"
+                    + "categoria;pizza;;4;Pizzas;;Broto|Grande;sexta|sabado\r\n"
+                    + "produto;;pizza;;\"Calabresa; com \"\"borda\"\"\";\"Linha 1\nLinha 2\";Broto=30.00|Grande=55.90;\r\n"
+                    + "produto;;pizza;;Sem preco;;Broto;\r\n";
+
+            ImportacaoOutput resultado = importarEAguardar(corpo, MediaType.parseMediaType("text/csv"));
+
+            assertThat(resultado.getStatus()).isEqualTo("CONCLUIDA");
+            assertThat(resultado.getCategoriasCriadas()).isEqualTo(1);
+            assertThat(resultado.getProdutosCriados()).isEqualTo(1);
+            assertThat(resultado.getErros()).singleElement().satisfies(erro -> {
+                assertThat(erro.getLinha()).isEqualTo(5L);
+                assertThat(erro.getMensagem()).contains("nome=valor");
+            });
+
+            CategoriaOutput pizzas = List.of(get("/api/categorias", CategoriaOutput[].class)).stream()
+                    .filter(c -> c.getNome().equals("Pizzas"))
+                    .findFirst().orElseThrow();
+            assertThat(pizzas.getDisponivel().getSexta()).isTrue();
+            assertThat(pizzas.getDisponivel().getSegunda()).isFalse();
+            ProdutoOutput calabresa = List.of(get("/api/produtos", ProdutoOutput[].class)).stream()
+                    .filter(p -> p.getId_categoria().equals(pizzas.getIdCategoria()))
+                    .findFirst().orElseThrow();
+            assertThat(calabresa.getNome()).isEqualTo("Calabresa; com \"borda\"");
+            assertThat(calabresa.getDescricao()).isEqualTo("Linha 1\nLinha 2");
+            assertThat(calabresa.getOpcoes()).extracting(ProdutoPrecoOutput::getValor)
+                    .usingElementComparator(BigDecimal::compareTo)
+                    .containsExactlyInAnyOrder(new BigDecimal("30.00"), new BigDecimal("55.90"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Requisicao")
+    class Requisicao {
+
+        @Test
+        @DisplayName("rejeita corpo vazio com 400")
+        void rejeitaVazio() {
+            HttpHeaders headers = new HttpHeaders(authHeaders);
+            headers.setContentType(NDJSON);
+
+            ResponseEntity<String> response = restTemplate.exchange("/api/importacoes", HttpMethod.POST,
+                    new HttpEntity<>("", headers), String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        @Test
+        @DisplayName("retorna 404 para importacao desconhecida")
+        void desconhecida() {
+            ResponseEntity<String> response = restTemplate.exchange("/api/importacoes/nao-existe", HttpMethod.GET,
+                    new HttpEntity<>(authHeaders), String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    private ImportacaoOutput importarEAguardar(String corpo, MediaType tipo) {
+        HttpHeaders headers = new HttpHeaders(authHeaders);
+        headers.setContentType(tipo);
+        ResponseEntity<ImportacaoOutput> aceito = restTemplate.exchange("/api/importacoes", HttpMethod.POST,
+                new HttpEntity<>(corpo, headers), ImportacaoOutput.class);
+        assertThat(aceito.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        URI location = aceito.getHeaders().getLocation();
+        assertThat(location).isNotNull();
+
+        long prazo = System.currentTimeMillis() + 10_000;
+        while (true) {
+            ImportacaoOutput atual = restTemplate.exchange(location, HttpMethod.GET,
+                    new HttpEntity<>(authHeaders), ImportacaoOutput.class).getBody();
+            assertThat(atual).isNotNull();
+            if (!"PROCESSANDO".equals(atual.getStatus()) || System.currentTimeMillis() > prazo) {
+                return atual;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static Path criarArquivo() {
+        try {
+            return Files.createTempDirectory("linve-importacao").resolve("importacao.db");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> T get(String url, Class<T> tipo) {
+        ResponseEntity<T> response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(authHeaders), tipo);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+}
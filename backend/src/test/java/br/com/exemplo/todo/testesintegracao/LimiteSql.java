@@ -0,0 +1,17 @@
+package br.com.exemplo.todo.testesintegracao;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximo de instrucoes SQL que cada requisicao feita pelo teste pode executar. Verificado pela
+ * {@link ContagemSqlExtension} ao final do teste.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LimiteSql {
+
+    int value();
+}
@@ -0,0 +1,335 @@
+package br.com.exemplo.todo.testesintegracao;
+
+import br.com.exemplo.todo.api.dto.categoria.CategoriaOutput;
+import br.com.exemplo.todo.api.dto.cliente.ClienteOutput;
+import br.com.exemplo.todo.api.dto.produto.ProdutoOutput;
+import br.com.exemplo.todo.api.dto.todo.TodoOutput;
+import br.com.exemplo.todo.domain.model.entity.Categoria;
+import br.com.exemplo.todo.domain.model.entity.Cliente;
+import br.com.exemplo.todo.domain.model.entity.Membership;
+import br.com.exemplo.todo.domain.model.entity.Organization;
+import br.com.exemplo.todo.domain.model.entity.Produto;
+import br.com.exemplo.todo.domain.model.entity.Todo;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.repository.CategoriaOpcaoRepository;
+import br.com.exemplo.todo.domain.repository.CategoriaRepository;
+import br.com.exemplo.todo.domain.repository.ClienteRepository;
+import br.com.exemplo.todo.domain.repository.MembershipRepository;
+import br.com.exemplo.todo.domain.repository.OrganizationRepository;
+import br.com.exemplo.todo.domain.repository.ProdutoRepository;
+import br.com.exemplo.todo.domain.repository.TodoRepository;
+import br.com.exemplo.todo.domain.repository.UserRepository;
+import br.com.exemplo.todo.security.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("testes")
+@DisplayName("Paginacao por cursor - Testes de Integracao")
+class PaginacaoIntegracaoTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private CategoriaOpcaoRepository categoriaOpcaoRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private HttpHeaders authHeaders;
+    private Long orgId;
+    private Long categoriaId;
+
+    @BeforeEach
+    void setUp() {
+        produtoRepository.deleteAll();
+        todoRepository.deleteAll();
+        clienteRepository.deleteAll();
+        membershipRepository.deleteAll();
+        organizationRepository.deleteAll();
+        userRepository.deleteAll();
+        categoriaOpcaoRepository.deleteAll();
+        categoriaRepository.deleteAll();
+
+        User user = new User();
+        user.setNome("Tester");
+        user.setEmail("tester@exemplo.com");
+        user.setAtivo(true);
+        user.setDataCriacao(LocalDateTime.now());
+        user.setDataAtualizacao(LocalDateTime.now());
+        user = userRepository.save(user);
+
+        Organization org = new Organization();
+        org.setNome("Loja Paginada");
+        org.setSlug("loja-paginada");
+        org.setAtiva(true);
+        org.setDataCriacao(LocalDateTime.now());
+        org.setDataAtualizacao(LocalDateTime.now());
+        org = organizationRepository.save(org);
+        orgId = org.getId();
+
+        Membership membership = new Membership();
+        membership.setUser(user);
+        membership.setOrganization(org);
+        membership.setPapel(MembershipRole.OWNER);
+        membership.setAtivo(true);
+        membership.setDataIngresso(LocalDateTime.now());
+        membershipRepository.save(membership);
+
+        categoriaId = criarCategoria("Lanches", 1).getId();
+
+        authHeaders = new HttpHeaders();
+        authHeaders.setBearerAuth(jwtService.generateAccessToken(user));
+        authHeaders.set("X-Organization-Id", orgId.toString());
+    }
+
+    @Nested
+    @DisplayName("GET /api/produtos")
+    class Produtos {
+
+        @Test
+        @DisplayName("percorre todas as paginas em ordem de nome e id, sem repetir produtos")
+        void percorreTodasAsPaginas() {
+            // Nomes repetidos: o id desempata e nenhum produto pode cair entre duas paginas
+            for (String nome : List.of("Misto", "Bauru", "X-Salada", "Bauru", "Americano")) {
+                criarProduto(nome);
+            }
+
+            List<ProdutoOutput> todos = percorrer("/api/produtos?limite=2", ProdutoOutput[].class, 3);
+
+            assertThat(todos).extracting(ProdutoOutput::getNome)
+                    .containsExactly("Americano", "Bauru", "Bauru", "Misto", "X-Salada");
+            assertThat(todos).extracting(ProdutoOutput::getId_produto).doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("informa o total e o link da proxima pagina quando pedido")
+        void informaTotalELink() {
+            for (String nome : List.of("A", "B", "C")) {
+                criarProduto(nome);
+            }
+
+            ResponseEntity<ProdutoOutput[]> response = get("/api/produtos?limite=2&total=true", ProdutoOutput[].class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).hasSize(2);
+            assertThat(response.getHeaders().getFirst("X-Total-Count")).isEqualTo("3");
+            String cursor = response.getHeaders().getFirst("X-Next-Cursor");
+            assertThat(response.getHeaders().getFirst(HttpHeaders.LINK))
+                    .contains("cursor=" + cursor)
+                    .contains("limite=2")
+                    .endsWith("rel=\"next\"");
+        }
+
+        @Test
+        @DisplayName("sem limite e sem cursor devolve a lista completa (compatibilidade)")
+        void semParametrosDevolveListaCompleta() {
+            for (int i = 0; i < 60; i++) {
+                criarProduto(String.format("Produto %02d", i));
+            }
+
+            ResponseEntity<ProdutoOutput[]> response = get("/api/produtos", ProdutoOutput[].class);
+
+            assertThat(response.getBody()).hasSize(60);
+            assertThat(response.getHeaders().containsKey("X-Next-Cursor")).isFalse();
+        }
+
+        @Test
+        @DisplayName("cursor invalido retorna 400")
+        void cursorInvalido() {
+            ResponseEntity<String> response = get("/api/produtos?cursor=nao-e-um-cursor", String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(response.getBody()).contains("cursor-invalido");
+        }
+
+        @Test
+        @DisplayName("cursor de outra listagem retorna 400")
+        void cursorDeOutraListagem() {
+            criarCliente("Ana");
+            criarCliente("Bia");
+            String cursorCliente = get("/api/clientes?limite=1", ClienteOutput[].class)
+                    .getHeaders().getFirst("X-Next-Cursor");
+
+            ResponseEntity<String> response = get("/api/produtos?cursor=" + cursorCliente, String.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/categorias")
+    class Categorias {
+
+        @Test
+        @DisplayName("pagina categorias sem ordem antes das ordenadas, como a listagem completa")
+        void ordemNulaPrimeiro() {
+            criarCategoria("Bebidas", null);
+            criarCategoria("Acai", null);
+            criarCategoria("Sobremesas", 3);
+            criarCategoria("Porcoes", 2);
+
+            List<CategoriaOutput> paginada = percorrer("/api/categorias?limite=2", CategoriaOutput[].class, 3);
+            CategoriaOutput[] completa = get("/api/categorias", CategoriaOutput[].class).getBody();
+
+            assertThat(paginada).extracting(CategoriaOutput::getNome)
+                    .containsExactly("Acai", "Bebidas", "Lanches", "Porcoes", "Sobremesas");
+            assertThat(paginada).extracting(CategoriaOutput::getNome)
+                    .containsExactlyElementsOf(Arrays.stream(completa).map(CategoriaOutput::getNome).toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/clientes")
+    class Clientes {
+
+        @Test
+        @DisplayName("percorre clientes em ordem de nome")
+        void percorreClientes() {
+            for (String nome : List.of("Carla", "Ana", "Bruno")) {
+                criarCliente(nome);
+            }
+
+            List<ClienteOutput> todos = percorrer("/api/clientes?limite=2", ClienteOutput[].class, 2);
+
+            assertThat(todos).extracting(ClienteOutput::getNome).containsExactly("Ana", "Bruno", "Carla");
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/todos")
+    class Todos {
+
+        @Test
+        @DisplayName("percorre tarefas da mais recente para a mais antiga, com datas repetidas")
+        void percorreTarefasDecrescente() {
+            LocalDateTime base = LocalDateTime.of(2026, 1, 10, 12, 0);
+            criarTodo("t1", base.minusDays(2), false);
+            criarTodo("t2", base, false);
+            criarTodo("t3", base, true);
+            criarTodo("t4", base.minusDays(1), true);
+
+            List<TodoOutput> todos = percorrer("/api/todos?limite=3", TodoOutput[].class, 2);
+
+            assertThat(todos).extracting(TodoOutput::getTitulo).containsExactly("t3", "t2", "t4", "t1");
+        }
+
+        @Test
+        @DisplayName("filtra por status e conta o total do filtro")
+        void filtraPorStatus() {
+            LocalDateTime base = LocalDateTime.of(2026, 1, 10, 12, 0);
+            criarTodo("t1", base.minusDays(2), false);
+            criarTodo("t2", base, true);
+            criarTodo("t3", base.minusDays(1), true);
+
+            ResponseEntity<TodoOutput[]> response = get("/api/todos?concluido=true&limite=1&total=true", TodoOutput[].class);
+
+            assertThat(response.getBody()).extracting(TodoOutput::getTitulo).containsExactly("t2");
+            assertThat(response.getHeaders().getFirst("X-Total-Count")).isEqualTo("2");
+            assertThat(response.getHeaders().getFirst("X-Next-Cursor")).isNotNull();
+        }
+    }
+
+    /**
+     * Segue o X-Next-Cursor ate a ultima pagina, conferindo a quantidade de paginas.
+     */
+    private <T> List<T> percorrer(String url, Class<T[]> tipo, int paginasEsperadas) {
+        List<T> itens = new ArrayList<>();
+        String cursor = null;
+        int paginas = 0;
+        do {
+            String pagina = cursor == null ? url : url + "&cursor=" + cursor;
+            ResponseEntity<T[]> response = get(pagina, tipo);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            itens.addAll(Arrays.asList(response.getBody()));
+            cursor = response.getHeaders().getFirst("X-Next-Cursor");
+            paginas++;
+        } while (cursor != null && paginas < 20);
+        assertThat(paginas).isEqualTo(paginasEsperadas);
+        return itens;
+    }
+
+    private <T> ResponseEntity<T> get(String url, Class<T> tipo) {
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(authHeaders), tipo);
+    }
+
+    private Categoria criarCategoria(String nome, Integer ordem) {
+        Categoria categoria = new Categoria();
+        categoria.setOrganizationId(orgId);
+        categoria.setNome(nome);
+        categoria.setOrdem(ordem);
+        categoria.setAtivo(true);
+        categoria.setCulinariaId(4);
+        categoria.setDataCriacao(LocalDateTime.now());
+        return categoriaRepository.save(categoria);
+    }
+
+    private void criarProduto(String nome) {
+        Produto produto = new Produto();
+        produto.setOrganizationId(orgId);
+        produto.setCategoriaId(categoriaId);
+        produto.setNome(nome);
+        produto.setAtivo(true);
+        produto.setDataCriacao(LocalDateTime.now());
+        produtoRepository.save(produto);
+    }
+
+    private void criarCliente(String nome) {
+        Cliente cliente = new Cliente();
+        cliente.setOrganizationId(orgId);
+        cliente.setNome(nome);
+        cliente.setAtivo(true);
+        cliente.setDataCriacao(LocalDateTime.now());
+        clienteRepository.save(cliente);
+    }
+
+    private void criarTodo(String titulo, LocalDateTime dataCriacao, boolean concluido) {
+        Todo todo = new Todo();
+        todo.setTitulo(titulo);
+        todo.setDataCriacao(dataCriacao);
+        todo.setConcluido(concluido);
+        todo.setOrganizationId(orgId);
+        todoRepository.save(todo);
+    }
+}
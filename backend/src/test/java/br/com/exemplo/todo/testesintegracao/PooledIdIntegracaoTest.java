@@ -0,0 +1,171 @@
+package br.com.exemplo.todo.testesintegracao;
+
+import br.com.exemplo.todo.api.dto.produto.ProdutoInput;
+import br.com.exemplo.todo.api.dto.produto.ProdutoOpcaoInput;
+import br.com.exemplo.todo.domain.model.entity.Categoria;
+import br.com.exemplo.todo.domain.model.entity.CategoriaOpcao;
+import br.com.exemplo.todo.domain.model.entity.Cliente;
+import br.com.exemplo.todo.domain.model.entity.Produto;
+import br.com.exemplo.todo.domain.model.entity.ProdutoPreco;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.repository.CategoriaRepository;
+import br.com.exemplo.todo.domain.repository.ClienteRepository;
+import br.com.exemplo.todo.domain.service.ProdutoService;
+import br.com.exemplo.todo.security.TenantContext;
+import br.com.exemplo.todo.security.TenantInfo;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles({"testes", "sqlite-wal"})
+@DisplayName("IDs em blocos (@PooledId) - Testes de Integracao")
+class PooledIdIntegracaoTest {
+
+    private static final Path ARQUIVO = criarArquivo();
+    private static final long ORGANIZACAO = 1L;
+
+    @DynamicPropertySource
+    static void propriedades(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:file:" + ARQUIVO
+                + "?date_class=TEXT&date_string_format=yyyy-MM-dd HH:mm:ss");
+    }
+
+    @Autowired
+    private ProdutoService produtoService;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("deve gravar os precos do produto em um unico INSERT em lote")
+    void deveAgruparInsertsDosPrecos() throws Exception {
+        Categoria categoria = salvarCategoria(5);
+        TenantInfo tenant = new TenantInfo(ORGANIZACAO, 1L, MembershipRole.OWNER);
+        // O primeiro produto reserva os blocos de PRODUTO e PRODUTO_PRECO
+        TenantContext.executar(tenant, () -> produtoService.criar(produto(categoria, "Reserva")));
+
+        long preparadosAntes = statistics.getPrepareStatementCount();
+        long insercoesAntes = statistics.getEntityInsertCount();
+        Produto produto = TenantContext.executar(tenant, () -> produtoService.criar(produto(categoria, "No copo")));
+
+        assertThat(produto.getPrecos()).hasSize(5).extracting(ProdutoPreco::getId).doesNotContainNull();
+        assertThat(statistics.getEntityInsertCount() - insercoesAntes).isEqualTo(6);
+        // SELECT da categoria com as opcoes, INSERT do produto e um INSERT em lote para os 5 precos
+        // (com IDENTITY seriam 6 INSERTs, cada um seguido do SELECT last_insert_rowid())
+        assertThat(statistics.getPrepareStatementCount() - preparadosAntes).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("deve continuar a partir do maior ID ja gravado na tabela")
+    void deveContinuarDepoisDoMaiorId() {
+        jdbcTemplate.update("INSERT INTO CLIENTE (CLI_ID, CLI_ORG_ID, CLI_NOME, CLI_ATIVO, CLI_DATA_CRIACAO) "
+                + "VALUES (1000, ?, 'Gravado fora do Hibernate', 1, '2026-10-18 10:00:00')", ORGANIZACAO);
+
+        Cliente cliente = new Cliente();
+        cliente.setOrganizationId(ORGANIZACAO);
+        cliente.setNome("Novo cliente");
+        cliente.setDataCriacao(LocalDateTime.now());
+
+        assertThat(clienteRepository.save(cliente).getId()).isEqualTo(1001L);
+    }
+
+    @Test
+    @DisplayName("deve gerar IDs unicos em transacoes concorrentes")
+    void deveGerarIdsUnicosEmTransacoesConcorrentes() {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        List<CompletableFuture<List<Long>>> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(CompletableFuture.supplyAsync(() -> IntStream.range(0, 5)
+                    .mapToObj(i -> transacao.execute(status -> salvarCategoria(3).getId()))
+                    .toList()));
+        }
+
+        List<Long> ids = threads.stream().flatMap(thread -> thread.join().stream()).toList();
+
+        assertThat(ids).hasSize(40).doesNotHaveDuplicates();
+        assertThat(categoriaRepository.findAllById(ids)).hasSize(40);
+        Long reservado = jdbcTemplate.queryForObject(
+                "SELECT SEQ_VALOR FROM SEQUENCIA_ID WHERE SEQ_NOME = 'CATEGORIA'", Long.class);
+        assertThat(ids).allSatisfy(id -> assertThat(id).isLessThanOrEqualTo(reservado));
+    }
+
+    private Categoria salvarCategoria(int opcoes) {
+        Categoria categoria = new Categoria();
+        categoria.setOrganizationId(ORGANIZACAO);
+        categoria.setNome("Acais");
+        categoria.setCulinariaId(4);
+        categoria.setDataCriacao(LocalDateTime.now());
+        for (int i = 0; i < opcoes; i++) {
+            CategoriaOpcao opcao = new CategoriaOpcao();
+            opcao.setCategoria(categoria);
+            opcao.setNome((i + 1) * 100 + "ml");
+            categoria.getOpcoes().add(opcao);
+        }
+        return categoriaRepository.save(categoria);
+    }
+
+    private ProdutoInput produto(Categoria categoria, String nome) {
+        ProdutoInput input = new ProdutoInput();
+        input.setId_categoria(categoria.getId());
+        input.setNome(nome);
+        input.setOpcoes(categoria.getOpcoes().stream().map(opcao -> {
+            ProdutoOpcaoInput preco = new ProdutoOpcaoInput();
+            preco.setId_opcao(opcao.getId());
+            preco.setValor(new BigDecimal("12.50"));
+            return preco;
+        }).toList());
+        return input;
+    }
+
+    private static Path criarArquivo() {
+        try {
+            return Files.createTempDirectory("linve-pooled-id").resolve("pooled-id.db");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,18 +1,25 @@
 package br.com.exemplo.todo.testesintegracao;
 
+import br.com.exemplo.todo.api.dto.produto.ArredondamentoPrecoInput;
 import br.com.exemplo.todo.api.dto.produto.ProdutoInput;
 import br.com.exemplo.todo.api.dto.produto.ProdutoOpcaoInput;
 import br.com.exemplo.todo.api.dto.produto.ProdutoOutput;
+import br.com.exemplo.todo.api.dto.produto.ReajustePrecoAlteracaoOutput;
+import br.com.exemplo.todo.api.dto.produto.ReajustePrecoInput;
+import br.com.exemplo.todo.api.dto.produto.ReajustePrecoOutput;
 import br.com.exemplo.todo.domain.model.entity.Categoria;
 import br.com.exemplo.todo.domain.model.entity.CategoriaOpcao;
 import br.com.exemplo.todo.domain.model.entity.Membership;
 import br.com.exemplo.todo.domain.model.entity.Organization;
+import br.com.exemplo.todo.domain.model.entity.ProdutoPreco;
 import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.domain.model.enums.DirecaoArredondamento;
 import br.com.exemplo.todo.domain.model.enums.MembershipRole;
 import br.com.exemplo.todo.domain.repository.CategoriaOpcaoRepository;
 import br.com.exemplo.todo.domain.repository.CategoriaRepository;
 import br.com.exemplo.todo.domain.repository.MembershipRepository;
 import br.com.exemplo.todo.domain.repository.OrganizationRepository;
+import br.com.exemplo.todo.domain.repository.ProdutoPrecoRepository;
 import br.com.exemplo.todo.domain.repository.ProdutoRepository;
 import br.com.exemplo.todo.domain.repository.UserRepository;
 import br.com.exemplo.todo.security.JwtService;
@@ -34,6 +41,9 @@ import org.springframework.test.context.ActiveProfiles;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -48,6 +58,9 @@ class ProdutoControllerIntegracaoTest {
     @Autowired
     private ProdutoRepository produtoRepository;
 
+    @Autowired
+    private ProdutoPrecoRepository produtoPrecoRepository;
+
     @Autowired
     private CategoriaRepository categoriaRepository;
 
@@ -173,6 +186,141 @@ class ProdutoControllerIntegracaoTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /produtos/reajuste-precos")
+    class ReajustarPrecos {
+
+        @Test
+        @DisplayName("deve simular percentual com arredondamento para ,90 sem gravar")
+        void deveSimularSemGravar() {
+            Long produtoId = criarProduto("Copo", 20, 30);
+            ReajustePrecoInput input = reajuste(8, null);
+            input.setId_categoria(categoriaId);
+            input.setArredondamento(arredondamento("1.00", "0.90"));
+            input.setSimular(true);
+
+            ReajustePrecoOutput output = reajustar(input, ReajustePrecoOutput.class).getBody();
+
+            assertThat(output.getSimulacao()).isTrue();
+            assertThat(output.getPrecos_alterados()).isEqualTo(2);
+            assertThat(output.getProdutos_afetados()).isEqualTo(1);
+            assertThat(output.getAlteracoes()).extracting(ReajustePrecoAlteracaoOutput::getId_produto)
+                    .containsOnly(produtoId);
+            assertThat(output.getAlteracoes()).extracting(ReajustePrecoAlteracaoOutput::getValor_novo)
+                    .usingElementComparator(BigDecimal::compareTo)
+                    .containsExactlyInAnyOrder(new BigDecimal("21.90"), new BigDecimal("32.90"));
+            assertThat(precosPorOpcao(produtoId).get(opcao1Id).getValor()).isEqualByComparingTo("20");
+            assertThat(precosPorOpcao(produtoId).get(opcao1Id).getDataAtualizacao()).isNull();
+        }
+
+        @Test
+        @DisplayName("deve arredondar para baixo ou para o mais proximo conforme a direcao")
+        void deveRespeitarDirecao() {
+            criarProduto("Copo", 20, 30);
+            ReajustePrecoInput input = reajuste(3, null);
+            input.setId_categoria(categoriaId);
+            input.setArredondamento(arredondamento("0.50", "0.00"));
+            input.setSimular(true);
+
+            input.getArredondamento().setDirecao(DirecaoArredondamento.ABAIXO);
+            List<ReajustePrecoAlteracaoOutput> abaixo = reajustar(input, ReajustePrecoOutput.class).getBody()
+                    .getAlteracoes();
+            input.getArredondamento().setDirecao(DirecaoArredondamento.PROXIMO);
+            List<ReajustePrecoAlteracaoOutput> proximo = reajustar(input, ReajustePrecoOutput.class).getBody()
+                    .getAlteracoes();
+
+            // 20 * 1.03 = 20.60 e 30 * 1.03 = 30.90
+            assertThat(abaixo).extracting(ReajustePrecoAlteracaoOutput::getValor_novo)
+                    .usingElementComparator(BigDecimal::compareTo)
+                    .containsExactlyInAnyOrder(new BigDecimal("20.50"), new BigDecimal("30.50"));
+            assertThat(proximo).extracting(ReajustePrecoAlteracaoOutput::getValor_novo)
+                    .usingElementComparator(BigDecimal::compareTo)
+                    .containsExactlyInAnyOrder(new BigDecimal("20.50"), new BigDecimal("31.00"));
+        }
+
+        @Test
+        @DisplayName("deve aplicar somente na opcao e nos produtos informados e datar so o que mudou")
+        void deveAplicarNoEscopo() {
+            Long copo = criarProduto("Copo", 20, 30);
+            Long tigela = criarProduto("Tigela", 25, 35);
+            Long garrafa = criarProduto("Garrafa", 10, 15);
+            ReajustePrecoInput input = reajuste(10, "0.50");
+            input.setId_opcao(opcao1Id);
+            input.setIds_produto(List.of(copo, tigela));
+
+            ResponseEntity<ReajustePrecoOutput> response = reajustar(input, ReajustePrecoOutput.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody().getSimulacao()).isFalse();
+            assertThat(response.getBody().getPrecos_alterados()).isEqualTo(2);
+            assertThat(response.getBody().getAlteracoes()).isNull();
+            assertThat(precosPorOpcao(copo).get(opcao1Id).getValor()).isEqualByComparingTo("22.50");
+            assertThat(precosPorOpcao(copo).get(opcao1Id).getDataAtualizacao()).isNotNull();
+            assertThat(precosPorOpcao(tigela).get(opcao1Id).getValor()).isEqualByComparingTo("28.00");
+            assertThat(precosPorOpcao(copo).get(opcao2Id).getValor()).isEqualByComparingTo("30");
+            assertThat(precosPorOpcao(copo).get(opcao2Id).getDataAtualizacao()).isNull();
+            assertThat(precosPorOpcao(garrafa).get(opcao1Id).getValor()).isEqualByComparingTo("10");
+        }
+
+        @Test
+        @DisplayName("deve recusar o lote inteiro quando algum preco ficaria zerado ou negativo")
+        void deveRecusarPrecoNaoPositivo() {
+            Long produtoId = criarProduto("Copo", 20, 30);
+            ReajustePrecoInput input = reajuste(null, "-25.00");
+            input.setId_categoria(categoriaId);
+
+            ResponseEntity<ProblemDetail> response = reajustar(input, ProblemDetail.class);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(response.getBody().getDetail()).contains("1 preco(s)");
+            assertThat(precosPorOpcao(produtoId).get(opcao2Id).getValor()).isEqualByComparingTo("30");
+        }
+
+        @Test
+        @DisplayName("deve retornar 400 sem escopo ou sem regra")
+        void deveExigirEscopoERegra() {
+            ReajustePrecoInput semEscopo = reajuste(8, null);
+            ReajustePrecoInput semRegra = new ReajustePrecoInput();
+            semRegra.setId_categoria(categoriaId);
+
+            assertThat(reajustar(semEscopo, ProblemDetail.class).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(reajustar(semRegra, ProblemDetail.class).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        private ReajustePrecoInput reajuste(Integer percentual, String valor) {
+            ReajustePrecoInput input = new ReajustePrecoInput();
+            input.setPercentual(percentual == null ? null : BigDecimal.valueOf(percentual));
+            input.setValor(valor == null ? null : new BigDecimal(valor));
+            return input;
+        }
+
+        private ArredondamentoPrecoInput arredondamento(String passo, String terminacao) {
+            ArredondamentoPrecoInput arredondamento = new ArredondamentoPrecoInput();
+            arredondamento.setPasso(new BigDecimal(passo));
+            arredondamento.setTerminacao(new BigDecimal(terminacao));
+            return arredondamento;
+        }
+
+        private <T> ResponseEntity<T> reajustar(ReajustePrecoInput input, Class<T> tipo) {
+            return restTemplate.postForEntity("/api/produtos/reajuste-precos",
+                    new HttpEntity<>(input, authHeaders), tipo);
+        }
+
+        private Long criarProduto(String nome, int valor1, int valor2) {
+            ProdutoInput input = novoInputValido();
+            input.setNome(nome);
+            input.getOpcoes().get(0).setValor(BigDecimal.valueOf(valor1));
+            input.getOpcoes().get(1).setValor(BigDecimal.valueOf(valor2));
+            return restTemplate.postForEntity("/api/produtos", new HttpEntity<>(input, authHeaders),
+                    ProdutoOutput.class).getBody().getId_produto();
+        }
+
+        private Map<Long, ProdutoPreco> precosPorOpcao(Long produtoId) {
+            return produtoPrecoRepository.findByProdutoIdAndAtivoTrueOrderByValorAsc(produtoId).stream()
+                    .collect(Collectors.toMap(ProdutoPreco::getCategoriaOpcaoId, Function.identity()));
+        }
+    }
+
     private ProdutoInput novoInputValido() {
         ProdutoOpcaoInput p1 = new ProdutoOpcaoInput();
         p1.setId_opcao(opcao1Id);
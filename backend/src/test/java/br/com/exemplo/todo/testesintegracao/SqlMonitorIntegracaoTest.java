@@ -0,0 +1,154 @@
+package br.com.exemplo.todo.testesintegracao;
+
+import br.com.exemplo.todo.domain.model.entity.Categoria;
+import br.com.exemplo.todo.domain.model.entity.CategoriaOpcao;
+import br.com.exemplo.todo.domain.model.entity.Membership;
+import br.com.exemplo.todo.domain.model.entity.Organization;
+import br.com.exemplo.todo.domain.model.entity.Produto;
+import br.com.exemplo.todo.domain.model.entity.ProdutoPreco;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.repository.CategoriaRepository;
+import br.com.exemplo.todo.domain.repository.MembershipRepository;
+import br.com.exemplo.todo.domain.repository.OrganizationRepository;
+import br.com.exemplo.todo.domain.repository.ProdutoRepository;
+import br.com.exemplo.todo.domain.repository.UserRepository;
+import br.com.exemplo.todo.security.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "sql.monitor.repeated-threshold=2"
+})
+@ActiveProfiles("testes")
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("Instrucoes SQL por requisicao - Testes de Integracao")
+class SqlMonitorIntegracaoTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private HttpHeaders headers;
+
+    @BeforeEach
+    void setUp() {
+        produtoRepository.deleteAll();
+        categoriaRepository.deleteAll();
+        membershipRepository.deleteAll();
+        organizationRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = new User();
+        user.setNome("Tester");
+        user.setEmail("sql-monitor@exemplo.com");
+        user.setAtivo(true);
+        user.setDataCriacao(LocalDateTime.now());
+        user.setDataAtualizacao(LocalDateTime.now());
+        user = userRepository.save(user);
+
+        Organization org = new Organization();
+        org.setNome("Org SQL");
+        org.setSlug("org-sql");
+        org.setAtiva(true);
+        org.setDataCriacao(LocalDateTime.now());
+        org.setDataAtualizacao(LocalDateTime.now());
+        org = organizationRepository.save(org);
+
+        Membership membership = new Membership();
+        membership.setUser(user);
+        membership.setOrganization(org);
+        membership.setPapel(MembershipRole.OWNER);
+        membership.setAtivo(true);
+        membership.setDataIngresso(LocalDateTime.now());
+        membershipRepository.save(membership);
+
+        Categoria categoria = new Categoria();
+        categoria.setOrganizationId(org.getId());
+        categoria.setNome("Acais");
+        categoria.setCulinariaId(4);
+        categoria.setDataCriacao(LocalDateTime.now());
+        for (String nome : new String[]{"300ml", "500ml", "700ml"}) {
+            CategoriaOpcao opcao = new CategoriaOpcao();
+            opcao.setCategoria(categoria);
+            opcao.setNome(nome);
+            categoria.getOpcoes().add(opcao);
+        }
+        categoria = categoriaRepository.save(categoria);
+
+        Produto produto = new Produto();
+        produto.setOrganizationId(org.getId());
+        produto.setCategoriaId(categoria.getId());
+        produto.setNome("No copo");
+        produto.setAtivo(true);
+        produto.setDataCriacao(LocalDateTime.now());
+        for (CategoriaOpcao opcao : categoria.getOpcoes()) {
+            ProdutoPreco preco = new ProdutoPreco();
+            preco.setOrganizationId(org.getId());
+            preco.setProduto(produto);
+            preco.setCategoriaOpcaoId(opcao.getId());
+            preco.setValor(new BigDecimal("15.00"));
+            preco.setAtivo(true);
+            preco.setDataCriacao(LocalDateTime.now());
+            produto.getPrecos().add(preco);
+        }
+        produtoRepository.save(produto);
+
+        headers = new HttpHeaders();
+        headers.setBearerAuth(jwtService.generateAccessToken(user));
+        headers.set("X-Organization-Id", org.getId().toString());
+    }
+
+    @Test
+    @DisplayName("deve responder com Server-Timing sem acusar N+1 na listagem de produtos")
+    void deveMedirListagemSemNMaisUm(CapturedOutput output) {
+        ResponseEntity<String> response = restTemplate.exchange("/api/produtos", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst("Server-Timing")).matches("db;dur=[0-9.]+;desc=\"\\d+ SQL\"");
+        // Os nomes das opcoes dos 3 precos vem de uma unica consulta, sem o N+1 do findById por preco
+        assertThat(output).doesNotContain("Possivel N+1");
+        assertThat(meterRegistry.find("http.server.requests.sql.repeated")
+                .tag("handler", "ProdutoController.listar").counter()).isNull();
+    }
+}
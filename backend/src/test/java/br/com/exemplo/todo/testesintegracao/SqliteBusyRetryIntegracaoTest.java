@@ -0,0 +1,186 @@
+package br.com.exemplo.todo.testesintegracao;
+
+import br.com.exemplo.todo.api.dto.todo.TodoInput;
+import br.com.exemplo.todo.domain.model.entity.Membership;
+import br.com.exemplo.todo.domain.model.entity.Organization;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.repository.MembershipRepository;
+import br.com.exemplo.todo.domain.repository.OrganizationRepository;
+import br.com.exemplo.todo.domain.repository.TodoRepository;
+import br.com.exemplo.todo.domain.repository.UserRepository;
+import br.com.exemplo.todo.security.JwtService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "sqlite.pragmas.busy_timeout=20",
+        "sqlite.retry.max-duration=1500ms",
+        "sqlite.retry.retry-after-seconds=2"
+})
+@ActiveProfiles("testes")
+@DisplayName("Novas tentativas com SQLite bloqueado - Testes de Integracao")
+class SqliteBusyRetryIntegracaoTest {
+
+    private static final Path ARQUIVO = criarArquivo();
+
+    @DynamicPropertySource
+    static void propriedades(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:file:" + ARQUIVO
+                + "?date_class=TEXT&date_string_format=yyyy-MM-dd HH:mm:ss");
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private HttpHeaders headers;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository.deleteAll();
+        membershipRepository.deleteAll();
+        organizationRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = new User();
+        user.setNome("Usuario Teste");
+        user.setEmail("sqlite-busy@exemplo.com");
+        user.setAtivo(true);
+        user.setDataCriacao(LocalDateTime.now());
+        user.setDataAtualizacao(LocalDateTime.now());
+        user = userRepository.save(user);
+
+        Organization org = new Organization();
+        org.setNome("Org bloqueada");
+        org.setSlug("org-bloqueada");
+        org.setAtiva(true);
+        org.setDataCriacao(LocalDateTime.now());
+        org.setDataAtualizacao(LocalDateTime.now());
+        org = organizationRepository.save(org);
+
+        Membership membership = new Membership();
+        membership.setUser(user);
+        membership.setOrganization(org);
+        membership.setPapel(MembershipRole.OWNER);
+        membership.setAtivo(true);
+        membership.setDataIngresso(LocalDateTime.now());
+        membershipRepository.save(membership);
+
+        headers = new HttpHeaders();
+        headers.setBearerAuth(jwtService.generateAccessToken(user));
+        headers.set("X-Organization-Id", org.getId().toString());
+    }
+
+    @Test
+    @DisplayName("deve refazer a transacao e gravar quando o lock e liberado dentro do prazo")
+    void deveGravarAposLiberarLock() throws Exception {
+        double antes = tentativas();
+
+        ResponseEntity<String> response;
+        try (Connection bloqueio = bloquearEscrita()) {
+            CompletableFuture<ResponseEntity<String>> requisicao = CompletableFuture.supplyAsync(this::criarTodo);
+            // Libera o lock assim que a primeira tentativa falhou
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (tentativas() == antes && System.nanoTime() < limite) {
+                Thread.sleep(10);
+            }
+            bloqueio.rollback();
+            response = requisicao.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(tentativas()).isGreaterThan(antes);
+        assertThat(todoRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("deve responder 503 com Retry-After quando o banco continua bloqueado")
+    void deveResponder503AposPrazo() throws Exception {
+        ResponseEntity<String> response;
+        try (Connection bloqueio = bloquearEscrita()) {
+            response = criarTodo();
+            bloqueio.rollback();
+        }
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getBody()).contains("banco-ocupado");
+        assertThat(todoRepository.count()).isZero();
+    }
+
+    private ResponseEntity<String> criarTodo() {
+        TodoInput input = new TodoInput();
+        input.setTitulo("Gravada com o banco disputado");
+        return restTemplate.exchange("/api/todos", HttpMethod.POST, new HttpEntity<>(input, headers), String.class);
+    }
+
+    /**
+     * Outra conexao com o lock de escrita (RESERVED): leituras continuam, escritas recebem SQLITE_BUSY.
+     */
+    private static Connection bloquearEscrita() throws SQLException {
+        Connection connection = DriverManager.getConnection("jdbc:sqlite:" + ARQUIVO);
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM TODO WHERE 1 = 0");
+        }
+        return connection;
+    }
+
+    private double tentativas() {
+        return meterRegistry.find("sqlite.busy.retries").counters().stream().mapToDouble(Counter::count).sum();
+    }
+
+    private static Path criarArquivo() {
+        try {
+            return Files.createTempDirectory("linve-sqlite-busy").resolve("busy.db");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package br.com.exemplo.todo.testesintegracao;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"testes", "sqlite-wal"})
+@DisplayName("SQLite em WAL com pools de leitura e escrita - Testes de Integracao")
+class SqliteWalIntegracaoTest {
+
+    private static final Path DIRETORIO = criarDiretorio();
+
+    @DynamicPropertySource
+    static void propriedades(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:file:" + DIRETORIO.resolve("wal.db")
+                + "?date_class=TEXT&date_string_format=yyyy-MM-dd HH:mm:ss");
+        registry.add("sqlite.pools.reader-size", () -> "2");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("readerDataSource")
+    private HikariDataSource readerDataSource;
+
+    @Autowired
+    @Qualifier("writerDataSource")
+    private HikariDataSource writerDataSource;
+
+    private TransactionTemplate leitura;
+    private TransactionTemplate escrita;
+
+    @BeforeEach
+    void setUp() {
+        leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+        escrita = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("deve abrir o banco em WAL com os PRAGMAs do profile")
+    void deveAplicarPragmas() {
+        assertThat(jdbcTemplate.queryForObject("PRAGMA journal_mode", String.class)).isEqualToIgnoringCase("wal");
+        assertThat(jdbcTemplate.queryForObject("PRAGMA synchronous", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("PRAGMA busy_timeout", Integer.class)).isEqualTo(5000);
+        assertThat(writerDataSource.getMaximumPoolSize()).isEqualTo(1);
+        assertThat(readerDataSource.getMaximumPoolSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("deve usar o pool de leitura em transacoes readOnly e o de escrita nas demais")
+    void deveRotearPorTipoDeTransacao() {
+        Integer somenteLeitura = leitura.execute(status ->
+                jdbcTemplate.queryForObject("PRAGMA query_only", Integer.class));
+        Integer naEscrita = escrita.execute(status ->
+                jdbcTemplate.queryForObject("PRAGMA query_only", Integer.class));
+
+        assertThat(somenteLeitura).isEqualTo(1);
+        assertThat(naEscrita).isZero();
+        // A conexao de escrita continua gravando depois de uma transacao readOnly
+        escrita.executeWithoutResult(status -> jdbcTemplate.update("CREATE TABLE IF NOT EXISTS WAL_TESTE (ID INTEGER)"));
+    }
+
+    @Test
+    @DisplayName("nao deve bloquear leituras enquanto uma transacao de escrita esta aberta")
+    void naoDeveBloquearLeituras() throws Exception {
+        escrita.executeWithoutResult(status -> jdbcTemplate.update("CREATE TABLE IF NOT EXISTS WAL_LEITURA (ID INTEGER)"));
+        CountDownLatch gravou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+
+        CompletableFuture<Void> escritor = CompletableFuture.runAsync(() -> escrita.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO WAL_LEITURA (ID) VALUES (1)");
+            gravou.countDown();
+            try {
+                liberar.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        try {
+            assertThat(gravou.await(10, TimeUnit.SECONDS)).isTrue();
+            // A leitura ve o ultimo commit, sem esperar o escritor terminar
+            Integer linhas = CompletableFuture.supplyAsync(() -> leitura.execute(status ->
+                    jdbcTemplate.queryForObject("SELECT COUNT(*) FROM WAL_LEITURA", Integer.class)))
+                    .get(2, TimeUnit.SECONDS);
+            assertThat(linhas).isZero();
+        } finally {
+            liberar.countDown();
+            escritor.get(10, TimeUnit.SECONDS);
+        }
+
+        Integer aposCommit = leitura.execute(status ->
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM WAL_LEITURA", Integer.class));
+        assertThat(aposCommit).isEqualTo(1);
+    }
+
+    private static Path criarDiretorio() {
+        try {
+            return Files.createTempDirectory("linve-sqlite-wal");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package br.com.exemplo.todo.testesintegracao;
+
+import br.com.exemplo.todo.api.dto.todo.TodoInput;
+import br.com.exemplo.todo.domain.model.entity.Membership;
+import br.com.exemplo.todo.domain.model.entity.Organization;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.repository.MembershipRepository;
+import br.com.exemplo.todo.domain.repository.OrganizationRepository;
+import br.com.exemplo.todo.domain.repository.TodoRepository;
+import br.com.exemplo.todo.domain.repository.UserRepository;
+import br.com.exemplo.todo.security.JwtService;
+import br.com.exemplo.todo.security.TenantConcurrencyLimiter;
+import br.com.exemplo.todo.security.TenantConcurrencyLimiter.Permissao;
+import br.com.exemplo.todo.security.TenantConcurrencyLimiter.Tipo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "tenant.concurrency.max-requests=1",
+        "tenant.concurrency.max-writes=1",
+        "tenant.concurrency.queue-timeout=50ms",
+        "tenant.concurrency.retry-after-seconds=3"
+})
+@ActiveProfiles("testes")
+@DisplayName("Limite de concorrencia por organizacao - Testes de Integracao")
+class TenantConcurrencyIntegracaoTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TenantConcurrencyLimiter limiter;
+
+    private Long organizationId;
+    private HttpHeaders headers;
+    private HttpHeaders headersOutraOrganizacao;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository.deleteAll();
+        membershipRepository.deleteAll();
+        organizationRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = new User();
+        user.setNome("Usuario Teste");
+        user.setEmail("concorrencia@exemplo.com");
+        user.setAtivo(true);
+        user.setDataCriacao(LocalDateTime.now());
+        user.setDataAtualizacao(LocalDateTime.now());
+        user = userRepository.save(user);
+
+        Organization org = criarOrganizacao(user, "loja-ocupada");
+        Organization outra = criarOrganizacao(user, "loja-livre");
+        organizationId = org.getId();
+
+        String token = jwtService.generateAccessToken(user);
+        headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.set("X-Organization-Id", org.getId().toString());
+        headersOutraOrganizacao = new HttpHeaders();
+        headersOutraOrganizacao.setBearerAuth(token);
+        headersOutraOrganizacao.set("X-Organization-Id", outra.getId().toString());
+    }
+
+    @Test
+    @DisplayName("deve responder 429 com Retry-After quando a organizacao esta no limite de requisicoes")
+    void deveResponder429NoLimiteDeRequisicoes() {
+        try (Permissao ocupada = limiter.adquirir(Tipo.REQUISICAO, organizationId)) {
+            ResponseEntity<String> response = listarTodos(headers);
+            ResponseEntity<String> outraOrganizacao = listarTodos(headersOutraOrganizacao);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+            assertThat(response.getBody()).contains("organizacao-ocupada");
+            assertThat(outraOrganizacao.getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+
+        assertThat(listarTodos(headers).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("deve limitar transacoes de escrita sem bloquear leituras")
+    void deveLimitarEscritas() {
+        TodoInput input = new TodoInput();
+        input.setTitulo("Nova tarefa");
+
+        try (Permissao ocupada = limiter.adquirir(Tipo.ESCRITA, organizationId)) {
+            ResponseEntity<String> escrita = restTemplate.exchange("/api/todos", HttpMethod.POST,
+                    new HttpEntity<>(input, headers), String.class);
+
+            assertThat(escrita.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+            assertThat(escrita.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+            assertThat(escrita.getBody()).contains("organizacao-ocupada");
+            assertThat(listarTodos(headers).getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+
+        ResponseEntity<String> aposLiberar = restTemplate.exchange("/api/todos", HttpMethod.POST,
+                new HttpEntity<>(input, headers), String.class);
+        assertThat(aposLiberar.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    private ResponseEntity<String> listarTodos(HttpHeaders headers) {
+        return restTemplate.exchange("/api/todos", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    private Organization criarOrganizacao(User user, String slug) {
+        Organization org = new Organization();
+        org.setNome("Org " + slug);
+        org.setSlug(slug);
+        org.setAtiva(true);
+        org.setDataCriacao(LocalDateTime.now());
+        org.setDataAtualizacao(LocalDateTime.now());
+        org = organizationRepository.save(org);
+
+        Membership membership = new Membership();
+        membership.setUser(user);
+        membership.setOrganization(org);
+        membership.setPapel(MembershipRole.OWNER);
+        membership.setAtivo(true);
+        membership.setDataIngresso(LocalDateTime.now());
+        membershipRepository.save(membership);
+        return org;
+    }
+}
@@ -0,0 +1,197 @@
+package br.com.exemplo.todo.testesintegracao;
+
+import br.com.exemplo.todo.api.dto.todo.TodoInput;
+import br.com.exemplo.todo.api.dto.todo.TodoOutput;
+import br.com.exemplo.todo.domain.model.entity.Membership;
+import br.com.exemplo.todo.domain.model.entity.Organization;
+import br.com.exemplo.todo.domain.model.entity.Todo;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.repository.MembershipRepository;
+import br.com.exemplo.todo.domain.repository.OrganizationRepository;
+import br.com.exemplo.todo.domain.repository.TodoRepository;
+import br.com.exemplo.todo.domain.repository.UserRepository;
+import br.com.exemplo.todo.infrastructure.tenant.TenantDataSourceRegistry;
+import br.com.exemplo.todo.security.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("testes")
+@DisplayName("Banco por organizacao - Testes de Integracao")
+class TenantDatabaseIntegracaoTest {
+
+    private static final Path DIRETORIO = criarDiretorio();
+    private static final AtomicInteger SEQUENCIA = new AtomicInteger();
+
+    @DynamicPropertySource
+    static void propriedades(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:file:" + DIRETORIO.resolve("central.db")
+                + "?date_class=TEXT&date_string_format=yyyy-MM-dd HH:mm:ss");
+        registry.add("tenant.database.enabled", () -> "true");
+        registry.add("tenant.database.directory", () -> DIRETORIO.resolve("tenants").toString());
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TenantDataSourceRegistry registry;
+
+    @Test
+    @DisplayName("deve gravar as tarefas de cada organizacao no arquivo dela")
+    void deveGravarNoArquivoDaOrganizacao() throws Exception {
+        Loja lojaA = criarLoja();
+        Loja lojaB = criarLoja();
+        long noCentral = todoRepository.count();
+
+        assertThat(criarTodo(lojaA, "Tarefa A").getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(criarTodo(lojaB, "Tarefa B1").getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(criarTodo(lojaB, "Tarefa B2").getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        assertThat(contarTodos(registry.arquivo(lojaA.organizationId()))).isEqualTo(1);
+        assertThat(contarTodos(registry.arquivo(lojaB.organizationId()))).isEqualTo(2);
+        // Sem tenant a conexao vai para o banco central, que nao recebe as tarefas
+        assertThat(todoRepository.count()).isEqualTo(noCentral);
+    }
+
+    @Test
+    @DisplayName("nao deve mostrar tarefas de outra organizacao")
+    void naoDeveMostrarTarefasDeOutraOrganizacao() {
+        Loja lojaA = criarLoja();
+        Loja lojaB = criarLoja();
+        criarTodo(lojaA, "Somente A");
+
+        ResponseEntity<TodoOutput[]> daA = listarTodos(lojaA);
+        ResponseEntity<TodoOutput[]> daB = listarTodos(lojaB);
+
+        assertThat(daA.getBody()).extracting(TodoOutput::getTitulo).containsExactly("Somente A");
+        assertThat(daB.getBody()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deve copiar para o arquivo novo as tarefas que ja estavam no banco central")
+    void deveCopiarDadosCentrais() {
+        Loja loja = criarLoja();
+        Todo antigo = new Todo();
+        antigo.setTitulo("Cadastrada antes do modo por organizacao");
+        antigo.setConcluido(false);
+        antigo.setDataCriacao(LocalDateTime.now());
+        antigo.setOrganizationId(loja.organizationId());
+        antigo.setCriadoPor(loja.userId());
+        todoRepository.save(antigo);
+
+        ResponseEntity<TodoOutput[]> resposta = listarTodos(loja);
+        criarTodo(loja, "Nova");
+
+        assertThat(resposta.getBody()).extracting(TodoOutput::getTitulo)
+                .containsExactly("Cadastrada antes do modo por organizacao");
+        assertThat(listarTodos(loja).getBody()).hasSize(2);
+    }
+
+    private record Loja(Long organizationId, Long userId, HttpHeaders headers) {
+    }
+
+    private Loja criarLoja() {
+        int n = SEQUENCIA.incrementAndGet();
+
+        User user = new User();
+        user.setNome("Usuario " + n);
+        user.setEmail("tenant-db-" + n + "@exemplo.com");
+        user.setAtivo(true);
+        user.setDataCriacao(LocalDateTime.now());
+        user.setDataAtualizacao(LocalDateTime.now());
+        user = userRepository.save(user);
+
+        Organization org = new Organization();
+        org.setNome("Loja " + n);
+        org.setSlug("loja-tenant-db-" + n);
+        org.setAtiva(true);
+        org.setDataCriacao(LocalDateTime.now());
+        org.setDataAtualizacao(LocalDateTime.now());
+        org = organizationRepository.save(org);
+
+        Membership membership = new Membership();
+        membership.setUser(user);
+        membership.setOrganization(org);
+        membership.setPapel(MembershipRole.OWNER);
+        membership.setAtivo(true);
+        membership.setDataIngresso(LocalDateTime.now());
+        membershipRepository.save(membership);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtService.generateAccessToken(user));
+        headers.set("X-Organization-Id", org.getId().toString());
+        return new Loja(org.getId(), user.getId(), headers);
+    }
+
+    private ResponseEntity<TodoOutput> criarTodo(Loja loja, String titulo) {
+        TodoInput input = new TodoInput();
+        input.setTitulo(titulo);
+        return restTemplate.exchange("/api/todos", HttpMethod.POST, new HttpEntity<>(input, loja.headers()),
+                TodoOutput.class);
+    }
+
+    private ResponseEntity<TodoOutput[]> listarTodos(Loja loja) {
+        return restTemplate.exchange("/api/todos", HttpMethod.GET, new HttpEntity<>(loja.headers()),
+                TodoOutput[].class);
+    }
+
+    private static int contarTodos(Path arquivo) throws SQLException {
+        assertThat(arquivo).exists();
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + arquivo);
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM TODO")) {
+            return rs.getInt(1);
+        }
+    }
+
+    private static Path criarDiretorio() {
+        try {
+            Path diretorio = Files.createTempDirectory("linve-tenant-db");
+            return diretorio;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
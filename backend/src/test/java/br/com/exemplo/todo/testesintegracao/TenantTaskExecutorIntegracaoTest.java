@@ -0,0 +1,48 @@
+package br.com.exemplo.todo.testesintegracao;
+
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.security.TenantContext;
+import br.com.exemplo.todo.security.TenantInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("testes")
+@DisplayName("applicationTaskExecutor - propagacao do TenantContext")
+class TenantTaskExecutorIntegracaoTest {
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    @DisplayName("deve executar tarefas com o tenant de quem submeteu")
+    void deveExecutarComTenantDeQuemSubmeteu() throws Exception {
+        TenantInfo tenant = new TenantInfo(7L, 70L, MembershipRole.ADMIN);
+        TenantContext.set(tenant);
+
+        Future<Optional<TenantInfo>> comTenant = applicationTaskExecutor.submit(TenantContext::get);
+        TenantContext.clear();
+        Future<Optional<TenantInfo>> semTenant = applicationTaskExecutor.submit(TenantContext::get);
+
+        assertThat(comTenant.get(5, TimeUnit.SECONDS)).contains(tenant);
+        assertThat(semTenant.get(5, TimeUnit.SECONDS)).isEmpty();
+    }
+}
@@ -9,6 +9,7 @@ import br.com.exemplo.todo.domain.model.enums.MembershipRole;
 import br.com.exemplo.todo.domain.repository.AdicionalItemRepository;
 import br.com.exemplo.todo.domain.repository.AdicionalRepository;
 import br.com.exemplo.todo.domain.repository.CategoriaRepository;
+import br.com.exemplo.todo.domain.service.CardapioService;
 import br.com.exemplo.todo.domain.service.AdicionalService;
 import br.com.exemplo.todo.domain.service.exception.AdicionalSelecaoInvalidaException;
 import br.com.exemplo.todo.security.TenantContext;
@@ -50,6 +51,9 @@ class AdicionalServiceTest {
     @Mock
     private CategoriaRepository categoriaRepository;
 
+    @Mock
+    private CardapioService cardapioService;
+
     @InjectMocks
     private AdicionalService service;
 
@@ -198,6 +202,7 @@ class AdicionalServiceTest {
             assertThat(adicional.getAtivo()).isFalse();
             assertThat(item.getAtivo()).isFalse();
             verify(adicionalRepository).save(adicional);
+            verify(cardapioService).adicionalAlterado(ORG_ID, 1L);
         }
     }
 
@@ -0,0 +1,186 @@
+package br.com.exemplo.todo.testesunitarios;
+
+import br.com.exemplo.todo.config.AuthProperties;
+import br.com.exemplo.todo.domain.exception.RateLimitExceededException;
+import br.com.exemplo.todo.security.AuthRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AuthRateLimiter - limite de requisicoes da autenticacao")
+class AuthRateLimiterTest {
+
+    private AuthProperties properties;
+    private SimpleMeterRegistry registry;
+    private AtomicLong relogio;
+    private AuthRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuthProperties();
+        properties.getRateLimit().setIp(new AuthProperties.Limite(3, 60));
+        properties.getRateLimit().setEmail(new AuthProperties.Limite(2, 1));
+        properties.getRateLimit().setIdleTimeout(Duration.ofMinutes(10));
+        registry = new SimpleMeterRegistry();
+        relogio = new AtomicLong();
+        limiter = new AuthRateLimiter(properties, registry, relogio::get);
+    }
+
+    private MockHttpServletRequest request(String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(ip);
+        return request;
+    }
+
+    private void avancar(Duration duracao) {
+        relogio.addAndGet(duracao.toNanos());
+    }
+
+    private double rejeitadas(String chave) {
+        return registry.get("auth.rate-limit.rejected").tag("chave", chave).counter().count();
+    }
+
+    @Nested
+    @DisplayName("por IP")
+    class PorIp {
+
+        @Test
+        @DisplayName("deve permitir a rajada e rejeitar o excedente com Retry-After")
+        void deveRejeitarAposRajada() {
+            for (int i = 0; i < 3; i++) {
+                limiter.verificar(request("10.0.0.1"));
+            }
+
+            assertThatThrownBy(() -> limiter.verificar(request("10.0.0.1")))
+                    .isInstanceOf(RateLimitExceededException.class)
+                    .extracting(ex -> ((RateLimitExceededException) ex).getRetryAfterSeconds())
+                    .isEqualTo(1L);
+            assertThat(rejeitadas("ip")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("deve repor tokens com o tempo")
+        void deveReporTokens() {
+            for (int i = 0; i < 3; i++) {
+                limiter.verificar(request("10.0.0.1"));
+            }
+
+            avancar(Duration.ofSeconds(1));
+
+            assertThatCode(() -> limiter.verificar(request("10.0.0.1"))).doesNotThrowAnyException();
+            assertThatThrownBy(() -> limiter.verificar(request("10.0.0.1")))
+                    .isInstanceOf(RateLimitExceededException.class);
+        }
+
+        @Test
+        @DisplayName("deve limitar cada IP separadamente")
+        void deveSepararIps() {
+            for (int i = 0; i < 3; i++) {
+                limiter.verificar(request("10.0.0.1"));
+            }
+
+            assertThatCode(() -> limiter.verificar(request("10.0.0.2"))).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("deve ignorar X-Forwarded-For e limitar pelo endereco remoto")
+        void deveIgnorarXForwardedFor() {
+            for (int i = 0; i < 3; i++) {
+                MockHttpServletRequest request = request("200.1.1.1");
+                request.addHeader("X-Forwarded-For", "10.9.0." + i);
+                limiter.verificar(request);
+            }
+
+            MockHttpServletRequest request = request("200.1.1.1");
+            request.addHeader("X-Forwarded-For", "10.9.0.99");
+            assertThatThrownBy(() -> limiter.verificar(request)).isInstanceOf(RateLimitExceededException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("por email")
+    class PorEmail {
+
+        @Test
+        @DisplayName("deve normalizar o email antes de limitar")
+        void deveNormalizarEmail() {
+            limiter.verificar(request("10.0.0.1"), "Usuario@Teste.com");
+            limiter.verificar(request("10.0.0.2"), " usuario@teste.com ");
+
+            assertThatThrownBy(() -> limiter.verificar(request("10.0.0.3"), "USUARIO@TESTE.COM"))
+                    .isInstanceOf(RateLimitExceededException.class)
+                    .extracting(ex -> ((RateLimitExceededException) ex).getRetryAfterSeconds())
+                    .isEqualTo(60L);
+            assertThat(rejeitadas("email")).isEqualTo(1.0);
+            assertThat(rejeitadas("ip")).isZero();
+        }
+
+        @Test
+        @DisplayName("deve ignorar email vazio")
+        void deveIgnorarEmailVazio() {
+            for (int i = 0; i < 3; i++) {
+                limiter.verificar(request("10.0.0." + i), " ");
+            }
+
+            assertThat(registry.get("auth.rate-limit.entries").tag("chave", "email").gauge().value()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("deve remover entradas ociosas")
+    void deveRemoverEntradasOciosas() {
+        limiter.verificar(request("10.0.0.1"), "usuario@teste.com");
+        limiter.verificar(request("10.0.0.2"));
+        avancar(Duration.ofMinutes(5));
+        limiter.verificar(request("10.0.0.2"));
+
+        assertThat(limiter.limparOciosos()).isZero();
+
+        avancar(Duration.ofMinutes(6));
+        assertThat(limiter.limparOciosos()).isEqualTo(2);
+        assertThat(registry.get("auth.rate-limit.entries").tag("chave", "ip").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("nao deve limitar quando desabilitado")
+    void naoDeveLimitarQuandoDesabilitado() {
+        properties.getRateLimit().setEnabled(false);
+        AuthRateLimiter desabilitado = new AuthRateLimiter(properties, new SimpleMeterRegistry(), relogio::get);
+
+        assertThatCode(() -> {
+            for (int i = 0; i < 10; i++) {
+                desabilitado.verificar(request("10.0.0.1"), "usuario@teste.com");
+            }
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("deve continuar limitando chaves novas quando a faixa esta cheia")
+    void deveLimitarQuandoCheio() {
+        properties.getRateLimit().setStripes(1);
+        properties.getRateLimit().setMaxEntries(100);
+        SimpleMeterRegistry registroLimitado = new SimpleMeterRegistry();
+        AuthRateLimiter limitado = new AuthRateLimiter(properties, registroLimitado, relogio::get);
+        for (int i = 0; i < 500; i++) {
+            limitado.verificar(request("10.1." + (i / 250) + "." + (i % 250)), "spam" + i + "@teste.com");
+        }
+
+        limitado.verificar(request("10.0.0.1"), "vitima@teste.com");
+        limitado.verificar(request("10.0.0.2"), "vitima@teste.com");
+
+        assertThatThrownBy(() -> limitado.verificar(request("10.0.0.3"), "vitima@teste.com"))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(registroLimitado.get("auth.rate-limit.entries").tag("chave", "email").gauge().value())
+                .isEqualTo(100.0);
+    }
+}
@@ -0,0 +1,171 @@
+package br.com.exemplo.todo.testesunitarios;
+
+import br.com.exemplo.todo.api.exceptionhandler.ApiExceptionHandler;
+import br.com.exemplo.todo.config.PasswordHashingProperties;
+import br.com.exemplo.todo.domain.exception.PasswordHashingBusyException;
+import br.com.exemplo.todo.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedPasswordEncoder - BCrypt em executor limitado")
+class BoundedPasswordEncoderTest {
+
+    private PasswordHashingProperties properties;
+    private SimpleMeterRegistry registry;
+    private BoundedPasswordEncoder encoder;
+    private BloqueavelEncoder delegate;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PasswordHashingProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        properties.setRetryAfterSeconds(3);
+        registry = new SimpleMeterRegistry();
+        delegate = new BloqueavelEncoder();
+        encoder = new BoundedPasswordEncoder(delegate, properties, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        delegate.liberar.countDown();
+        encoder.destroy();
+    }
+
+    @Nested
+    @DisplayName("Com o executor livre")
+    class ExecutorLivre {
+
+        @Test
+        @DisplayName("deve delegar encode e matches em threads do pool")
+        void deveDelegarNoPool() {
+            delegate.liberar.countDown();
+
+            assertThat(encoder.encode("senha")).isEqualTo("hash:senha");
+            assertThat(encoder.matches("senha", "hash:senha")).isTrue();
+            assertThat(encoder.matches("outra", "hash:senha")).isFalse();
+            assertThat(delegate.ultimaThread).startsWith("password-hashing-");
+        }
+
+        @Test
+        @DisplayName("deve registrar latencia por operacao")
+        void deveRegistrarLatenciaPorOperacao() {
+            delegate.liberar.countDown();
+
+            encoder.encode("senha");
+            encoder.matches("senha", "hash:senha");
+            encoder.matches("senha", "hash:senha");
+
+            assertThat(registry.get("password.hashing").tag("operation", "encode").timer().count()).isEqualTo(1);
+            assertThat(registry.get("password.hashing").tag("operation", "matches").timer().count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("deve propagar excecoes do encoder original")
+        void devePropagarExcecoes() {
+            delegate.liberar.countDown();
+
+            assertThatThrownBy(() -> encoder.encode(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Com o executor saturado")
+    class ExecutorSaturado {
+
+        @Test
+        @DisplayName("deve rejeitar imediatamente quando thread e fila estao ocupadas")
+        void deveRejeitarQuandoSaturado() {
+            CompletableFuture<Boolean> emExecucao = CompletableFuture.supplyAsync(() -> encoder.matches("a", "hash:a"));
+            aguardarAte(() -> delegate.emAndamento.getCount() == 0);
+            CompletableFuture<Boolean> naFila = CompletableFuture.supplyAsync(() -> encoder.matches("b", "hash:b"));
+            aguardarAte(() ->
+                    registry.get("executor.queued").tag("name", "password.hashing").gauge().value() == 1.0);
+
+            assertThatThrownBy(() -> encoder.matches("c", "hash:c"))
+                    .isInstanceOf(PasswordHashingBusyException.class)
+                    .extracting("retryAfterSeconds").isEqualTo(3);
+            assertThat(registry.get("password.hashing.rejected").tag("operation", "matches").counter().count())
+                    .isEqualTo(1.0);
+
+            delegate.liberar.countDown();
+            assertThat(emExecucao.join()).isTrue();
+            assertThat(naFila.join()).isTrue();
+        }
+
+        @Test
+        @DisplayName("deve responder 503 com Retry-After")
+        void deveResponder503ComRetryAfter() {
+            ResponseEntity<Object> response = new ApiExceptionHandler().handlePasswordHashingBusyException(
+                    new PasswordHashingBusyException(3), new ServletWebRequest(new MockHttpServletRequest()));
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+            assertThat(response.getBody()).isInstanceOfSatisfying(ProblemDetail.class, problem ->
+                    assertThat(problem.getType().toString()).isEqualTo("/api/errors/servico-sobrecarregado"));
+        }
+    }
+
+    private static void aguardarAte(BooleanSupplier condicao) {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!condicao.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condicao nao atingida em 2s").isLessThan(limite);
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Encoder trivial que pode ser bloqueado para simular BCrypt lento.
+     */
+    private static class BloqueavelEncoder implements PasswordEncoder {
+
+        private final CountDownLatch liberar = new CountDownLatch(1);
+        private final CountDownLatch emAndamento = new CountDownLatch(1);
+        private volatile String ultimaThread;
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (rawPassword == null) {
+                throw new IllegalArgumentException("rawPassword cannot be null");
+            }
+            aguardar();
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            aguardar();
+            return ("hash:" + rawPassword).equals(encodedPassword);
+        }
+
+        private void aguardar() {
+            ultimaThread = Thread.currentThread().getName();
+            emAndamento.countDown();
+            try {
+                liberar.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import br.com.exemplo.todo.domain.model.entity.Categoria;
 import br.com.exemplo.todo.domain.model.entity.CategoriaOpcao;
 import br.com.exemplo.todo.domain.model.enums.MembershipRole;
 import br.com.exemplo.todo.domain.repository.CategoriaRepository;
+import br.com.exemplo.todo.domain.service.CardapioService;
 import br.com.exemplo.todo.domain.service.CategoriaService;
 import br.com.exemplo.todo.domain.service.exception.CategoriaNaoEncontradaException;
 import br.com.exemplo.todo.security.TenantContext;
@@ -43,6 +44,9 @@ class CategoriaServiceTest {
     @Mock
     private br.com.exemplo.todo.domain.service.CulinariaService culinariaService;
 
+    @Mock
+    private CardapioService cardapioService;
+
     @InjectMocks
     private CategoriaService service;
 
@@ -222,6 +226,7 @@ class CategoriaServiceTest {
             assertThat(categoria.getAtivo()).isFalse();
             assertThat(categoria.getOpcoes()).allMatch(o -> Boolean.FALSE.equals(o.getAtivo()));
             verify(categoriaRepository).save(categoria);
+            verify(cardapioService).categoriaAlterada(ORG_ID);
         }
     }
 
@@ -0,0 +1,230 @@
+package br.com.exemplo.todo.testesunitarios;
+
+import br.com.exemplo.todo.config.SqliteProperties;
+import br.com.exemplo.todo.domain.exception.DatabaseBusyException;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.infrastructure.sqlite.GroupCommitExecutor;
+import br.com.exemplo.todo.infrastructure.sqlite.SqliteDataSources;
+import br.com.exemplo.todo.security.TenantContext;
+import br.com.exemplo.todo.security.TenantInfo;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GroupCommitExecutor - escritor unico com group commit")
+class GroupCommitExecutorTest {
+
+    @TempDir
+    Path diretorio;
+
+    private HikariDataSource dataSource;
+    private DataSourceTransactionManager transactionManager;
+    private JdbcTemplate jdbcTemplate;
+    private SqliteProperties.GroupCommit properties;
+    private SimpleMeterRegistry registry;
+    private GroupCommitExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = SqliteDataSources.escritor("jdbc:sqlite:file:" + diretorio.resolve("group-commit.db"),
+                Map.of("journal_mode", "WAL"), Duration.ofSeconds(5));
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE NOTA (ID INTEGER PRIMARY KEY, TEXTO TEXT NOT NULL UNIQUE)");
+
+        properties = new SqliteProperties.GroupCommit();
+        properties.setEnabled(true);
+        properties.setMaxBatchSize(16);
+        properties.setQueueCapacity(32);
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.stop();
+        }
+        dataSource.close();
+    }
+
+    private GroupCommitExecutor iniciar() {
+        executor = new GroupCommitExecutor(transactionManager, dataSource, () -> { }, properties, false, registry);
+        executor.start();
+        return executor;
+    }
+
+    private CompletableFuture<Integer> inserir(String texto) {
+        return executor.submeter(() -> jdbcTemplate.update("INSERT INTO NOTA (TEXTO) VALUES (?)", texto));
+    }
+
+    private List<String> gravadas() {
+        return jdbcTemplate.queryForList("SELECT TEXTO FROM NOTA ORDER BY ID", String.class);
+    }
+
+    /**
+     * Ocupa a thread escritora ate o latch ser liberado, para que as proximas operacoes formem um lote.
+     */
+    private CompletableFuture<Boolean> bloquearEscritor(CountDownLatch liberar) throws InterruptedException {
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CompletableFuture<Boolean> bloqueio = executor.submeter(() -> {
+            iniciou.countDown();
+            return liberar.await(10, TimeUnit.SECONDS);
+        });
+        assertThat(iniciou.await(5, TimeUnit.SECONDS)).isTrue();
+        return bloqueio;
+    }
+
+    private long transacoes() {
+        return registry.get("sqlite.writer.batch.size").summary().count();
+    }
+
+    @Nested
+    @DisplayName("Lotes")
+    class Lotes {
+
+        @Test
+        @DisplayName("deve executar as operacoes enfileiradas na mesma transacao")
+        void deveAgruparOperacoes() throws Exception {
+            iniciar();
+            CountDownLatch liberar = new CountDownLatch(1);
+            CompletableFuture<Boolean> bloqueio = bloquearEscritor(liberar);
+            List<CompletableFuture<Integer>> futuros = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futuros.add(inserir("nota " + i));
+            }
+            liberar.countDown();
+
+            assertThat(bloqueio.join()).isTrue();
+            assertThat(futuros).allSatisfy(futuro -> assertThat(futuro.join()).isEqualTo(1));
+            assertThat(gravadas()).hasSize(10);
+            assertThat(transacoes()).isEqualTo(2);
+            assertThat(registry.get("sqlite.writer.batch.size").summary().max()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("deve desfazer apenas a operacao que falhou")
+        void deveIsolarFalhaComSavepoint() throws Exception {
+            iniciar();
+            CountDownLatch liberar = new CountDownLatch(1);
+            bloquearEscritor(liberar);
+            CompletableFuture<Integer> primeira = inserir("primeira");
+            CompletableFuture<Integer> falha = executor.submeter(() -> {
+                jdbcTemplate.update("INSERT INTO NOTA (TEXTO) VALUES ('desfeita')");
+                throw new IllegalStateException("regra de negocio");
+            });
+            CompletableFuture<Integer> duplicada = inserir("primeira");
+            CompletableFuture<Integer> ultima = inserir("ultima");
+            liberar.countDown();
+
+            assertThat(ultima.join()).isEqualTo(1);
+            assertThat(primeira.join()).isEqualTo(1);
+            assertThat(falha).failsWithin(Duration.ofSeconds(5)).withThrowableThat()
+                    .havingRootCause().isInstanceOf(IllegalStateException.class);
+            assertThat(duplicada).failsWithin(Duration.ofSeconds(5)).withThrowableThat()
+                    .withMessageContaining("UNIQUE");
+            assertThat(gravadas()).containsExactly("primeira", "ultima");
+            assertThat(registry.get("sqlite.writer.fallback").counter().count()).isZero();
+        }
+
+        @Test
+        @DisplayName("deve refazer as demais operacoes quando a transacao do lote fica condenada")
+        void deveRefazerQuandoLoteCondenado() throws Exception {
+            iniciar();
+            TransactionTemplate participante = new TransactionTemplate(transactionManager);
+            CountDownLatch liberar = new CountDownLatch(1);
+            bloquearEscritor(liberar);
+            CompletableFuture<Integer> antes = inserir("antes");
+            // Falha em transacao participante: marca a transacao inteira como rollback-only
+            CompletableFuture<Integer> condenada = executor.submeter(() -> participante.execute(status -> {
+                throw new IllegalStateException("falha participante");
+            }));
+            CompletableFuture<Integer> depois = inserir("depois");
+            liberar.countDown();
+
+            assertThat(antes.join()).isEqualTo(1);
+            assertThat(depois.join()).isEqualTo(1);
+            assertThat(condenada).failsWithin(Duration.ofSeconds(5)).withThrowableThat()
+                    .havingRootCause().isInstanceOf(IllegalStateException.class);
+            assertThat(gravadas()).containsExactlyInAnyOrder("antes", "depois");
+            assertThat(registry.get("sqlite.writer.fallback").counter().count()).isEqualTo(2.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Contexto e fila")
+    class ContextoEFila {
+
+        @Test
+        @DisplayName("deve executar a operacao com o tenant de quem enfileirou")
+        void devePropagarTenant() throws Exception {
+            iniciar();
+            TenantInfo tenant = new TenantInfo(42L, 7L, MembershipRole.ADMIN);
+
+            CompletableFuture<Long> organizacao = TenantContext.executar(tenant,
+                    () -> executor.submeter(TenantContext::getOrganizationId));
+
+            assertThat(organizacao.get(5, TimeUnit.SECONDS)).isEqualTo(42L);
+            assertThat(TenantContext.isSet()).isFalse();
+        }
+
+        @Test
+        @DisplayName("deve recusar com DatabaseBusyException quando a fila esta cheia")
+        void deveRecusarComFilaCheia() throws Exception {
+            properties.setQueueCapacity(2);
+            properties.setRetryAfterSeconds(4);
+            iniciar();
+            CountDownLatch liberar = new CountDownLatch(1);
+            CompletableFuture<Boolean> bloqueio = bloquearEscritor(liberar);
+            inserir("a");
+            inserir("b");
+
+            try {
+                assertThatThrownBy(() -> inserir("c"))
+                        .isInstanceOf(DatabaseBusyException.class)
+                        .extracting(ex -> ((DatabaseBusyException) ex).getRetryAfterSeconds())
+                        .isEqualTo(4);
+            } finally {
+                liberar.countDown();
+            }
+            bloqueio.join();
+            assertThat(registry.get("sqlite.writer.rejected").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("deve executar as operacoes pendentes no shutdown")
+        void deveEsvaziarFilaNoShutdown() throws Exception {
+            iniciar();
+            CountDownLatch liberar = new CountDownLatch(1);
+            bloquearEscritor(liberar);
+            CompletableFuture<Integer> pendente = inserir("pendente");
+
+            CompletableFuture<Void> parada = CompletableFuture.runAsync(executor::stop);
+            liberar.countDown();
+            parada.join();
+
+            assertThat(pendente).isCompletedWithValue(1);
+            assertThat(gravadas()).containsExactly("pendente");
+            assertThat(executor.isRunning()).isFalse();
+        }
+    }
+}
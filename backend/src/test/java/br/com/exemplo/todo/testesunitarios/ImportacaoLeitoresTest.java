@@ -0,0 +1,134 @@
+package br.com.exemplo.todo.testesunitarios;
+
+import br.com.exemplo.todo.domain.service.exception.ImportacaoInvalidaException;
+import br.com.exemplo.todo.domain.service.importacao.FormatoImportacao;
+import br.com.exemplo.todo.domain.service.importacao.LeitorCsv;
+import br.com.exemplo.todo.domain.service.importacao.LeitorNdjson;
+import br.com.exemplo.todo.domain.service.importacao.LeitorRegistros;
+import br.com.exemplo.todo.domain.service.importacao.Registro;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Importacao em lote - leitores NDJSON e CSV")
+class ImportacaoLeitoresTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("deve ignorar linhas em branco e manter o numero da linha original")
+        void deveManterNumeroDaLinha() throws IOException {
+            List<Registro> registros = ler(new LeitorNdjson(reader("\uFEFF{\"tipo\":\"categoria\"}\n\n  \n{\"tipo\":\"produto\"}\n"),
+                    objectMapper));
+
+            assertThat(registros).extracting(Registro::linha).containsExactly(1L, 4L);
+            assertThat(registros.get(0).dados().get("tipo").asText()).isEqualTo("categoria");
+        }
+
+        @Test
+        @DisplayName("deve transformar JSON invalido ou que nao e objeto em registro com erro")
+        void deveRelatarLinhaInvalida() throws IOException {
+            List<Registro> registros = ler(new LeitorNdjson(reader("{quebrado\n[1,2]\n{\"ok\":true}"), objectMapper));
+
+            assertThat(registros).extracting(Registro::isValido).containsExactly(false, false, true);
+            assertThat(registros.get(0).erro()).startsWith("JSON invalido");
+            assertThat(registros.get(1).erro()).contains("objeto");
+        }
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @DisplayName("deve detectar ponto e virgula e tratar aspas, aspas duplicadas e quebras de linha")
+        void deveTratarAspas() throws IOException {
+            String csv = "tipo;nome;descricao\r\n"
+                    + "produto;\"A;B\";\"diz \"\"oi\"\"\nsegunda linha\"\r\n"
+                    + "produto;C;\r\n";
+
+            List<Registro> registros = ler(new LeitorCsv(reader(csv), objectMapper));
+
+            assertThat(registros).extracting(Registro::linha).containsExactly(2L, 4L);
+            assertThat(registros.get(0).dados().get("nome").asText()).isEqualTo("A;B");
+            assertThat(registros.get(0).dados().get("descricao").asText()).isEqualTo("diz \"oi\"\nsegunda linha");
+            assertThat(registros.get(1).dados().has("descricao")).isFalse();
+        }
+
+        @Test
+        @DisplayName("deve converter a coluna opcoes conforme o tipo da linha")
+        void deveConverterOpcoes() throws IOException {
+            String csv = "tipo,nome,opcoes,disponivel\n"
+                    + "categoria,Pizzas,Broto|Grande,sexta|SABADO\n"
+                    + "produto,Calabresa,Broto=30.00|Grande=55.90,\n"
+                    + "adicional,Bordas,Catupiry=8.00,\n";
+
+            List<Registro> registros = ler(new LeitorCsv(reader(csv), objectMapper));
+
+            assertThat(registros.get(0).dados().get("opcoes").toString()).isEqualTo("[\"Broto\",\"Grande\"]");
+            assertThat(registros.get(0).dados().get("disponivel").get("sabado").asBoolean()).isTrue();
+            assertThat(registros.get(0).dados().get("disponivel").get("segunda").asBoolean()).isFalse();
+            assertThat(registros.get(1).dados().get("opcoes").toString())
+                    .isEqualTo("[{\"opcao\":\"Broto\",\"valor\":\"30.00\"},{\"opcao\":\"Grande\",\"valor\":\"55.90\"}]");
+            assertThat(registros.get(2).dados().get("opcoes").get(0).get("nome").asText()).isEqualTo("Catupiry");
+        }
+
+        @Test
+        @DisplayName("deve rejeitar linha com colunas a mais ou opcao sem valor")
+        void deveRejeitarLinhaMalFormada() throws IOException {
+            String csv = "tipo,nome,opcoes\n"
+                    + "produto,A,B,C\n"
+                    + "produto,Sem valor,Broto\n"
+                    + "produto,Ok,Broto=1\n";
+
+            List<Registro> registros = ler(new LeitorCsv(reader(csv), objectMapper));
+
+            assertThat(registros).extracting(Registro::isValido).containsExactly(false, false, true);
+            assertThat(registros.get(0).erro()).contains("4 colunas");
+            assertThat(registros.get(1).erro()).contains("nome=valor");
+        }
+    }
+
+    @Nested
+    @DisplayName("FormatoImportacao")
+    class Formato {
+
+        @Test
+        @DisplayName("deve reconhecer o Content-Type ignorando parametros e rejeitar os demais")
+        void deveReconhecerContentType() {
+            assertThat(FormatoImportacao.de("text/csv; charset=UTF-8")).isEqualTo(FormatoImportacao.CSV);
+            assertThat(FormatoImportacao.de("application/x-ndjson")).isEqualTo(FormatoImportacao.NDJSON);
+            assertThatThrownBy(() -> FormatoImportacao.de("application/json"))
+                    .isInstanceOf(ImportacaoInvalidaException.class);
+        }
+    }
+
+    private static BufferedReader reader(String conteudo) {
+        return new BufferedReader(new StringReader(conteudo));
+    }
+
+    private static List<Registro> ler(LeitorRegistros leitor) throws IOException {
+        List<Registro> registros = new ArrayList<>();
+        try (leitor) {
+            Registro registro;
+            while ((registro = leitor.proximo()) != null) {
+                registros.add(registro);
+            }
+        }
+        return registros;
+    }
+}
@@ -0,0 +1,249 @@
+package br.com.exemplo.todo.testesunitarios;
+
+import br.com.exemplo.todo.config.JwtConfig;
+import br.com.exemplo.todo.config.JwtConfig.Algoritmo;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.security.AccessTokenCache;
+import br.com.exemplo.todo.security.JwtKeyring;
+import br.com.exemplo.todo.security.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtKeyring - assinatura assimetrica e rotacao de chaves")
+class JwtKeyringTest {
+
+    private static final String SEGREDO = "minha-chave-secreta-muito-longa-para-256-bits-minimo-32-chars";
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(7L);
+        user.setNome("Usuario");
+        user.setEmail("usuario@teste.com");
+        user.setDataCriacao(LocalDateTime.now());
+    }
+
+    private static KeyPair gerarEc() throws Exception {
+        KeyPairGenerator gerador = KeyPairGenerator.getInstance("EC");
+        gerador.initialize(new ECGenParameterSpec("secp256r1"));
+        return gerador.generateKeyPair();
+    }
+
+    private static KeyPair gerarEd25519() throws Exception {
+        return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    }
+
+    private static String pem(String tipo, byte[] der) {
+        return "-----BEGIN " + tipo + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(der)
+                + "\n-----END " + tipo + "-----\n";
+    }
+
+    private static JwtConfig.SigningKey chave(String id, KeyPair par, boolean comPrivada) {
+        JwtConfig.SigningKey chave = new JwtConfig.SigningKey();
+        chave.setId(id);
+        chave.setPublicKey(pem("PUBLIC KEY", par.getPublic().getEncoded()));
+        if (comPrivada) {
+            chave.setPrivateKey(pem("PRIVATE KEY", par.getPrivate().getEncoded()));
+        }
+        return chave;
+    }
+
+    private static JwtConfig config(Algoritmo algoritmo, JwtConfig.SigningKey... chaves) {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setSecret(SEGREDO);
+        jwtConfig.getAccessToken().setCacheEnabled(false);
+        jwtConfig.getSigning().setAlgorithm(algoritmo);
+        jwtConfig.getSigning().setKeys(List.of(chaves));
+        return jwtConfig;
+    }
+
+    private static JwtService service(JwtConfig jwtConfig) {
+        return new JwtService(jwtConfig, new AccessTokenCache(jwtConfig));
+    }
+
+    private static Map<String, Object> header(String token) throws Exception {
+        String json = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+        return new ObjectMapper().readValue(json, Map.class);
+    }
+
+    @Nested
+    @DisplayName("assinatura")
+    class Assinatura {
+
+        @Test
+        @DisplayName("deve assinar com ES256 e informar o kid no header")
+        void deveAssinarComEs256() throws Exception {
+            JwtService service = service(config(Algoritmo.ES256, chave("k1", gerarEc(), true)));
+
+            String token = service.generateAccessToken(user);
+
+            assertThat(header(token)).containsEntry("alg", "ES256").containsEntry("kid", "k1");
+            assertThat(service.validateAccessToken(token)).get()
+                    .satisfies(claims -> assertThat(service.extractUserId(claims)).isEqualTo(7L));
+        }
+
+        @Test
+        @DisplayName("deve assinar com EdDSA, inclusive o magic link")
+        void deveAssinarComEdDsa() throws Exception {
+            JwtService service = service(config(Algoritmo.EdDSA, chave("ed1", gerarEd25519(), true)));
+
+            String token = service.generateAccessToken(user);
+            String magicLink = service.generateMagicLoginToken(user);
+
+            assertThat(header(token)).containsEntry("alg", "EdDSA").containsEntry("kid", "ed1");
+            assertThat(service.validateAccessToken(token)).isPresent();
+            assertThat(service.validateMagicLoginToken(magicLink)).isPresent();
+        }
+
+        @Test
+        @DisplayName("deve manter HS256 sem kid por padrao")
+        void deveManterHs256PorPadrao() throws Exception {
+            JwtService service = service(config(Algoritmo.HS256));
+
+            String token = service.generateAccessToken(user);
+
+            assertThat(header(token)).containsEntry("alg", "HS256").doesNotContainKey("kid");
+            assertThat(service.validateAccessToken(token)).isPresent();
+        }
+
+        @Test
+        @DisplayName("deve gerar par efemero quando nao ha chaves configuradas")
+        void deveGerarParEfemero() {
+            JwtConfig jwtConfig = config(Algoritmo.ES256);
+            JwtKeyring keyring = new JwtKeyring(jwtConfig);
+            JwtService service = new JwtService(jwtConfig, new AccessTokenCache(jwtConfig), keyring);
+
+            assertThat(keyring.getKidAtivo()).startsWith("efemera-");
+            assertThat(service.validateAccessToken(service.generateAccessToken(user))).isPresent();
+        }
+
+        @Test
+        @DisplayName("deve falhar quando a chave ativa nao tem chave privada")
+        void deveFalharSemChavePrivadaAtiva() throws Exception {
+            JwtConfig jwtConfig = config(Algoritmo.ES256, chave("k1", gerarEc(), true), chave("k2", gerarEc(), false));
+            jwtConfig.getSigning().setActiveKeyId("k2");
+
+            assertThatThrownBy(() -> new JwtKeyring(jwtConfig))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("k2");
+        }
+    }
+
+    @Nested
+    @DisplayName("rotacao")
+    class Rotacao {
+
+        @Test
+        @DisplayName("deve aceitar tokens da chave anterior mantida apenas para verificacao")
+        void deveAceitarChaveAnterior() throws Exception {
+            KeyPair antiga = gerarEc();
+            KeyPair nova = gerarEc();
+            String tokenAntigo = service(config(Algoritmo.ES256, chave("k1", antiga, true))).generateAccessToken(user);
+
+            JwtConfig rotacionada = config(Algoritmo.ES256, chave("k2", nova, true), chave("k1", antiga, false));
+            JwtService service = service(rotacionada);
+
+            assertThat(header(service.generateAccessToken(user))).containsEntry("kid", "k2");
+            assertThat(service.validateAccessToken(tokenAntigo)).isPresent();
+        }
+
+        @Test
+        @DisplayName("deve rejeitar tokens de chave removida ou desconhecida")
+        void deveRejeitarChaveRemovida() throws Exception {
+            String tokenAntigo = service(config(Algoritmo.ES256, chave("k1", gerarEc(), true))).generateAccessToken(user);
+
+            JwtService service = service(config(Algoritmo.ES256, chave("k2", gerarEc(), true)));
+
+            assertThat(service.validateAccessToken(tokenAntigo)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("deve rejeitar token assinado com outra chave sob o mesmo kid")
+        void deveRejeitarAssinaturaDeOutraChave() throws Exception {
+            String forjado = service(config(Algoritmo.ES256, chave("k1", gerarEc(), true))).generateAccessToken(user);
+
+            JwtService service = service(config(Algoritmo.ES256, chave("k1", gerarEc(), true)));
+
+            assertThat(service.validateAccessToken(forjado)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("deve aceitar HS256 legado apenas quando habilitado")
+        void deveAceitarHs256LegadoQuandoHabilitado() throws Exception {
+            String tokenHs256 = service(config(Algoritmo.HS256)).generateAccessToken(user);
+            KeyPair par = gerarEc();
+
+            JwtService aceita = service(config(Algoritmo.ES256, chave("k1", par, true)));
+            JwtConfig semLegado = config(Algoritmo.ES256, chave("k1", par, true));
+            semLegado.getSigning().setAcceptLegacyHs256(false);
+            JwtService rejeita = service(semLegado);
+
+            assertThat(aceita.validateAccessToken(tokenHs256)).isPresent();
+            assertThat(rejeita.validateAccessToken(tokenHs256)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("deve rejeitar token HS256 que aponta para uma chave publica")
+        void deveRejeitarConfusaoDeAlgoritmo() throws Exception {
+            KeyPair par = gerarEc();
+            JwtService service = service(config(Algoritmo.ES256, chave("k1", par, true)));
+            String forjado = Jwts.builder()
+                    .header().keyId("k1").and()
+                    .subject("7")
+                    .signWith(Jwts.SIG.HS256.key().build(), Jwts.SIG.HS256)
+                    .compact();
+
+            assertThat(service.validateAccessToken(forjado)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("JWKS")
+    class Jwks {
+
+        @Test
+        @DisplayName("deve publicar apenas as chaves publicas com kid e alg")
+        @SuppressWarnings("unchecked")
+        void devePublicarChavesPublicas() throws Exception {
+            JwtKeyring keyring = new JwtKeyring(config(Algoritmo.ES256,
+                    chave("k2", gerarEc(), true), chave("ed1", gerarEd25519(), false)));
+
+            String json = new ObjectMapper().writeValueAsString(keyring.jwks());
+            List<Map<String, Object>> chaves = (List<Map<String, Object>>) new ObjectMapper()
+                    .readValue(json, Map.class).get("keys");
+
+            assertThat(chaves).hasSize(2);
+            assertThat(chaves.get(0)).containsEntry("kid", "k2").containsEntry("kty", "EC")
+                    .containsEntry("alg", "ES256").containsEntry("use", "sig")
+                    .containsKeys("x", "y").doesNotContainKey("d");
+            assertThat(chaves.get(1)).containsEntry("kid", "ed1").containsEntry("kty", "OKP")
+                    .containsEntry("crv", "Ed25519").containsEntry("alg", "EdDSA");
+        }
+
+        @Test
+        @DisplayName("deve ficar vazio com HS256")
+        void deveFicarVazioComHs256() {
+            JwtKeyring keyring = new JwtKeyring(config(Algoritmo.HS256));
+
+            assertThat((List<?>) keyring.jwks().get("keys")).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.exemplo.todo.testesunitarios;
+
+import br.com.exemplo.todo.config.JwtConfig;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.security.AccessTokenCache;
+import br.com.exemplo.todo.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtService - cache de claims do access token")
+class JwtServiceAccessTokenCacheTest {
+
+    private JwtConfig jwtConfig;
+    private AccessTokenCache cache;
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtConfig = new JwtConfig();
+        jwtConfig.setSecret("minha-chave-secreta-muito-longa-para-256-bits-minimo-32-chars");
+        jwtConfig.getAccessToken().setExpirationMs(900000L);
+
+        cache = new AccessTokenCache(jwtConfig);
+        jwtService = new JwtService(jwtConfig, cache);
+    }
+
+    @Test
+    @DisplayName("deve servir claims do cache na segunda validacao do mesmo token")
+    void deveServirDoCacheNaSegundaValidacao() {
+        String token = jwtService.generateAccessToken(criarUser(7L));
+
+        Optional<Claims> primeira = jwtService.validateAccessToken(token);
+        Optional<Claims> segunda = jwtService.validateAccessToken(token);
+
+        assertThat(primeira).isPresent();
+        assertThat(segunda).containsSame(primeira.get());
+        assertThat(jwtService.extractUserId(segunda.get())).isEqualTo(7L);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("nao deve armazenar tokens invalidos")
+    void naoDeveArmazenarTokensInvalidos() {
+        assertThat(jwtService.validateAccessToken("abc.def.ghi")).isEmpty();
+        assertThat(jwtService.validateAccessToken("abc.def.ghi")).isEmpty();
+
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("deve continuar lancando ExpiredJwtException para token expirado")
+    void deveLancarExpiredParaTokenExpirado() {
+        jwtConfig.getAccessToken().setExpirationMs(-1000L);
+        String token = jwtService.generateAccessToken(criarUser(1L));
+
+        assertThatThrownBy(() -> jwtService.validateAccessToken(token))
+                .isInstanceOf(ExpiredJwtException.class);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("deve validar normalmente com cache desabilitado")
+    void deveValidarComCacheDesabilitado() {
+        jwtConfig.getAccessToken().setCacheEnabled(false);
+        AccessTokenCache desabilitado = new AccessTokenCache(jwtConfig);
+        JwtService service = new JwtService(jwtConfig, desabilitado);
+        String token = service.generateAccessToken(criarUser(3L));
+
+        assertThat(service.validateAccessToken(token)).isPresent();
+        assertThat(service.validateAccessToken(token)).isPresent();
+        assertThat(desabilitado.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("deve expor metricas de hit/miss no registry")
+    void deveExporMetricas() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        String token = jwtService.generateAccessToken(criarUser(1L));
+        jwtService.validateAccessToken(token);
+        jwtService.validateAccessToken(token);
+
+        assertThat(registry.get("cache.gets").tag("cache", "jwt.access-token").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    private User criarUser(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setNome("Usuario Teste");
+        user.setEmail("teste@mail.com");
+        user.setAtivo(true);
+        user.setDataCriacao(LocalDateTime.now());
+        return user;
+    }
+}
@@ -2,6 +2,7 @@ package br.com.exemplo.todo.testesunitarios;
 
 import br.com.exemplo.todo.config.JwtConfig;
 import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.security.AccessTokenCache;
 import br.com.exemplo.todo.security.JwtService;
 import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,7 +36,7 @@ class JwtServiceMagicLinkTest {
         magicLink.setExpirationMinutes(15);
         jwtConfig.setMagicLink(magicLink);
 
-        jwtService = new JwtService(jwtConfig);
+        jwtService = new JwtService(jwtConfig, new AccessTokenCache(jwtConfig));
     }
 
     @Nested
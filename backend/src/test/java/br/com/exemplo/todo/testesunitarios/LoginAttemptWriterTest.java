@@ -0,0 +1,181 @@
+package br.com.exemplo.todo.testesunitarios;
+
+import br.com.exemplo.todo.config.LoginAttemptProperties;
+import br.com.exemplo.todo.domain.model.entity.LoginAttempt;
+import br.com.exemplo.todo.domain.repository.LoginAttemptRepository;
+import br.com.exemplo.todo.infrastructure.audit.LoginAttemptWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("LoginAttemptWriter - gravacao em lotes do historico de login")
+class LoginAttemptWriterTest {
+
+    private LoginAttemptRepository repository;
+    private PlatformTransactionManager transactionManager;
+    private LoginAttemptProperties properties;
+    private SimpleMeterRegistry registry;
+    private LoginAttemptWriter writer;
+    private List<Integer> tamanhosLotes;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(LoginAttemptRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        given(transactionManager.getTransaction(any())).willReturn(mock(TransactionStatus.class));
+
+        tamanhosLotes = new CopyOnWriteArrayList<>();
+        given(repository.saveAll(anyList())).willAnswer(inv -> {
+            List<?> lote = inv.getArgument(0);
+            tamanhosLotes.add(lote.size());
+            return lote;
+        });
+
+        properties = new LoginAttemptProperties();
+        properties.setBatchSize(5);
+        properties.setFlushIntervalMs(50);
+        properties.setQueueCapacity(100);
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    private LoginAttemptWriter criarWriter() {
+        writer = new LoginAttemptWriter(repository, transactionManager, properties, registry);
+        return writer;
+    }
+
+    private LoginAttempt tentativa() {
+        return new LoginAttempt(null, false, "127.0.0.1", "JUnit", "Senha incorreta");
+    }
+
+    @Nested
+    @DisplayName("Com o writer em execucao")
+    class EmExecucao {
+
+        @Test
+        @DisplayName("deve agrupar tentativas em lotes de no maximo batchSize")
+        void deveAgruparEmLotes() {
+            criarWriter().start();
+
+            for (int i = 0; i < 12; i++) {
+                writer.registrar(tentativa());
+            }
+            writer.stop();
+
+            assertThat(tamanhosLotes).allMatch(tamanho -> tamanho <= 5);
+            assertThat(tamanhosLotes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(12);
+            verify(repository, never()).save(any());
+            assertThat(registry.get("login.attempt.writer.rows").counter().count()).isEqualTo(12.0);
+            assertThat(registry.get("login.attempt.writer.flush").timer().count())
+                    .isEqualTo(tamanhosLotes.size());
+        }
+
+        @Test
+        @DisplayName("deve gravar lote incompleto apos o flushInterval")
+        void deveGravarAposIntervalo() throws InterruptedException {
+            criarWriter().start();
+
+            writer.registrar(tentativa());
+            writer.registrar(tentativa());
+
+            verify(repository, timeout(2000)).saveAll(anyList());
+            assertThat(tamanhosLotes).containsExactly(2);
+            assertThat(writer.pendentes()).isZero();
+        }
+
+        @Test
+        @DisplayName("deve gravar de forma sincrona quando a fila esta cheia")
+        void deveGravarSincronoQuandoFilaCheia() {
+            properties.setQueueCapacity(1);
+            properties.setFlushIntervalMs(2000);
+            // Bloqueia o worker no primeiro lote para a fila encher
+            given(repository.saveAll(anyList())).willAnswer(inv -> {
+                Thread.sleep(300);
+                return inv.getArgument(0);
+            });
+            criarWriter().start();
+
+            for (int i = 0; i < 10; i++) {
+                writer.registrar(tentativa());
+            }
+
+            verify(repository, atLeastOnce()).save(any(LoginAttempt.class));
+            assertThat(registry.get("login.attempt.writer.overflow").counter().count()).isPositive();
+        }
+
+        @Test
+        @DisplayName("deve gravar individualmente quando o lote falha")
+        void deveGravarIndividualmenteQuandoLoteFalha() {
+            given(repository.saveAll(anyList())).willThrow(new IllegalStateException("falha"));
+            criarWriter().start();
+
+            writer.registrar(tentativa());
+            writer.registrar(tentativa());
+            writer.stop();
+
+            verify(repository, times(2)).save(any(LoginAttempt.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Com o writer parado")
+    class Parado {
+
+        @Test
+        @DisplayName("deve gravar de forma sincrona quando async esta desabilitado")
+        void deveGravarSincronoQuandoDesabilitado() {
+            properties.setAsyncEnabled(false);
+            criarWriter().start();
+
+            writer.registrar(tentativa());
+
+            assertThat(writer.isRunning()).isFalse();
+            verify(repository).save(any(LoginAttempt.class));
+            verify(repository, never()).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("deve esvaziar a fila no shutdown")
+        void deveEsvaziarFilaNoShutdown() {
+            properties.setFlushIntervalMs(60000);
+            properties.setBatchSize(1000);
+            criarWriter().start();
+
+            for (int i = 0; i < 7; i++) {
+                writer.registrar(tentativa());
+            }
+            writer.stop();
+
+            assertThat(writer.pendentes()).isZero();
+            assertThat(tamanhosLotes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("deve expor a profundidade da fila como gauge")
+        void deveExporGauge() {
+            criarWriter();
+
+            assertThat(registry.get("login.attempt.writer.queue.depth").gauge().value()).isZero();
+        }
+    }
+}
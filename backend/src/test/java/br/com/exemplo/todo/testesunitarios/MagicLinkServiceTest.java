@@ -10,8 +10,12 @@ import br.com.exemplo.todo.domain.model.entity.User;
 import br.com.exemplo.todo.domain.repository.*;
 import br.com.exemplo.todo.domain.service.AuthService;
 import br.com.exemplo.todo.domain.service.EmailService;
+import br.com.exemplo.todo.domain.service.LoginPersistenceService;
+import br.com.exemplo.todo.infrastructure.audit.LoginAttemptWriter;
 import br.com.exemplo.todo.infrastructure.email.EmailTemplateService;
 import br.com.exemplo.todo.security.JwtService;
+import br.com.exemplo.todo.security.MembershipCache;
+import br.com.exemplo.todo.security.RevokedTokenFamilies;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,13 +46,16 @@ class MagicLinkServiceTest {
     private OrganizationRepository organizationRepository;
     private MembershipRepository membershipRepository;
     private RefreshTokenRepository refreshTokenRepository;
-    private LoginAttemptRepository loginAttemptRepository;
+    private LoginAttemptWriter loginAttemptWriter;
     private PasswordEncoder passwordEncoder;
     private JwtService jwtService;
     private JwtConfig jwtConfig;
     private EmailService emailService;
     private EmailTemplateService emailTemplateService;
     private AuthProperties authProperties;
+    private RevokedTokenFamilies revokedTokenFamilies;
+    private MembershipCache membershipCache;
+    private LoginPersistenceService loginPersistenceService;
     private AuthService authService;
     private MockHttpServletRequest request;
 
@@ -59,14 +66,17 @@ class MagicLinkServiceTest {
         organizationRepository = mock(OrganizationRepository.class);
         membershipRepository = mock(MembershipRepository.class);
         refreshTokenRepository = mock(RefreshTokenRepository.class);
-        loginAttemptRepository = mock(LoginAttemptRepository.class);
+        loginAttemptWriter = mock(LoginAttemptWriter.class);
         passwordEncoder = mock(PasswordEncoder.class);
         jwtService = mock(JwtService.class);
         jwtConfig = mock(JwtConfig.class);
         emailService = mock(EmailService.class);
         emailTemplateService = mock(EmailTemplateService.class);
         authProperties = new AuthProperties();
-        authProperties.setBaseUrl("http://localhost:4200/auth/magic-link");
+        authProperties.getMagicLink().setBaseUrl("http://localhost:4200/auth/magic-link");
+        revokedTokenFamilies = mock(RevokedTokenFamilies.class);
+        membershipCache = mock(MembershipCache.class);
+        loginPersistenceService = mock(LoginPersistenceService.class);
 
         // Configuração do JwtConfig
         JwtConfig.AccessToken accessToken = new JwtConfig.AccessToken();
@@ -88,13 +98,16 @@ class MagicLinkServiceTest {
                 organizationRepository,
                 membershipRepository,
                 refreshTokenRepository,
-                loginAttemptRepository,
+                loginAttemptWriter,
                 passwordEncoder,
                 jwtService,
                 jwtConfig,
                 emailService,
                 emailTemplateService,
-                authProperties
+                authProperties,
+                revokedTokenFamilies,
+                membershipCache,
+                loginPersistenceService
         );
 
         request = new MockHttpServletRequest();
@@ -162,9 +175,9 @@ class MagicLinkServiceTest {
             given(jwtService.extractUserId(claims)).willReturn(1L);
             given(userRepository.findById(1L)).willReturn(Optional.of(user));
             given(accountRepository.findByUserIdAndProvider(1L, "local")).willReturn(Optional.empty());
-            given(membershipRepository.findByUserIdAndAtivoTrueOrderByDataIngressoAsc(1L)).willReturn(Collections.emptyList());
-            given(jwtService.generateAccessToken(user)).willReturn("access-token");
-            given(jwtService.generateRefreshToken()).willReturn("refresh-token");
+            given(membershipRepository.buscarResumosAtivos(1L)).willReturn(Collections.emptyList());
+            given(jwtService.generateAccessToken(eq(user), anyMap())).willReturn("access-token");
+            given(jwtService.generateRefreshToken(anyString())).willReturn("refresh-token");
             given(jwtService.hashToken("refresh-token")).willReturn("hashed-refresh-token");
 
             AuthResponse response = authService.loginViaMagicLink("token-valido", request);
@@ -172,7 +185,7 @@ class MagicLinkServiceTest {
             assertThat(response.accessToken()).isEqualTo("access-token");
             assertThat(response.refreshToken()).isEqualTo("refresh-token");
             assertThat(response.user().email()).isEqualTo("usuario@teste.com");
-            verify(loginAttemptRepository).save(argThat(attempt ->
+            verify(loginAttemptWriter).registrar(argThat(attempt ->
                     attempt.getSucesso() && "MAGIC_LINK".equals(attempt.getMotivoFalha())
             ));
         }
@@ -241,9 +254,9 @@ class MagicLinkServiceTest {
             given(jwtService.extractUserId(claims)).willReturn(1L);
             given(userRepository.findById(1L)).willReturn(Optional.of(user));
             given(accountRepository.findByUserIdAndProvider(1L, "local")).willReturn(Optional.of(account));
-            given(membershipRepository.findByUserIdAndAtivoTrueOrderByDataIngressoAsc(1L)).willReturn(Collections.emptyList());
-            given(jwtService.generateAccessToken(user)).willReturn("access-token");
-            given(jwtService.generateRefreshToken()).willReturn("refresh-token");
+            given(membershipRepository.buscarResumosAtivos(1L)).willReturn(Collections.emptyList());
+            given(jwtService.generateAccessToken(eq(user), anyMap())).willReturn("access-token");
+            given(jwtService.generateRefreshToken(anyString())).willReturn("refresh-token");
             given(jwtService.hashToken("refresh-token")).willReturn("hashed-refresh-token");
 
             AuthResponse response = authService.loginViaMagicLink("token-senha-expirada", request);
@@ -0,0 +1,169 @@
+package br.com.exemplo.todo.testesunitarios;
+
+import br.com.exemplo.todo.config.TenantCacheProperties;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.security.MembershipCache;
+import br.com.exemplo.todo.security.MembershipCache.MembershipResolvida;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MembershipCache - cache de memberships do TenantFilter")
+class MembershipCacheTest {
+
+    private static final Long USER_ID = 10L;
+    private static final Long ORG_ID = 1L;
+
+    private TenantCacheProperties properties;
+    private MembershipCache cache;
+    private AtomicInteger consultas;
+    private AtomicReference<Optional<MembershipResolvida>> banco;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TenantCacheProperties();
+        cache = new MembershipCache(properties);
+        consultas = new AtomicInteger();
+        banco = new AtomicReference<>(Optional.of(new MembershipResolvida(ORG_ID, MembershipRole.MEMBER, true)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Supplier<Optional<MembershipResolvida>> loader() {
+        return () -> {
+            consultas.incrementAndGet();
+            return banco.get();
+        };
+    }
+
+    @Nested
+    @DisplayName("buscar")
+    class Buscar {
+
+        @Test
+        @DisplayName("deve consultar o banco apenas no primeiro acesso")
+        void deveConsultarBancoApenasUmaVez() {
+            Optional<MembershipResolvida> primeira = cache.buscar(USER_ID, ORG_ID, loader());
+            Optional<MembershipResolvida> segunda = cache.buscar(USER_ID, ORG_ID, loader());
+
+            assertThat(primeira).contains(segunda.orElseThrow());
+            assertThat(segunda.get().papel()).isEqualTo(MembershipRole.MEMBER);
+            assertThat(consultas).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("deve armazenar ausencia de membership")
+        void deveArmazenarAusencia() {
+            banco.set(Optional.empty());
+
+            assertThat(cache.buscar(USER_ID, 99L, loader())).isEmpty();
+            assertThat(cache.buscar(USER_ID, 99L, loader())).isEmpty();
+            assertThat(consultas).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("deve separar organizacao padrao das organizacoes explicitas")
+        void deveSepararPadrao() {
+            cache.buscar(USER_ID, ORG_ID, loader());
+            cache.buscarPadrao(USER_ID, loader());
+            cache.buscarPadrao(USER_ID, loader());
+
+            assertThat(consultas).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("deve sempre consultar o banco quando desabilitado")
+        void deveConsultarSempreQuandoDesabilitado() {
+            properties.setEnabled(false);
+            MembershipCache desabilitado = new MembershipCache(properties);
+
+            desabilitado.buscar(USER_ID, ORG_ID, loader());
+            desabilitado.buscar(USER_ID, ORG_ID, loader());
+
+            assertThat(consultas).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidacao")
+    class Invalidacao {
+
+        @Test
+        @DisplayName("deve recarregar papel apos invalidar usuario e organizacao")
+        void deveRecarregarAposInvalidar() {
+            cache.buscar(USER_ID, ORG_ID, loader());
+            cache.buscarPadrao(USER_ID, loader());
+            banco.set(Optional.of(new MembershipResolvida(ORG_ID, MembershipRole.ADMIN, true)));
+
+            cache.invalidar(USER_ID, ORG_ID);
+
+            assertThat(cache.buscar(USER_ID, ORG_ID, loader())).get()
+                    .extracting(MembershipResolvida::papel).isEqualTo(MembershipRole.ADMIN);
+            assertThat(cache.buscarPadrao(USER_ID, loader())).get()
+                    .extracting(MembershipResolvida::papel).isEqualTo(MembershipRole.ADMIN);
+            assertThat(consultas).hasValue(4);
+        }
+
+        @Test
+        @DisplayName("deve invalidar todas as organizacoes do usuario sem afetar outros usuarios")
+        void deveInvalidarTodasOrganizacoesDoUsuario() {
+            cache.buscar(USER_ID, ORG_ID, loader());
+            cache.buscar(USER_ID, 2L, loader());
+            cache.buscar(20L, ORG_ID, loader());
+
+            cache.invalidarUsuario(USER_ID);
+            cache.buscar(USER_ID, ORG_ID, loader());
+            cache.buscar(USER_ID, 2L, loader());
+            cache.buscar(20L, ORG_ID, loader());
+
+            assertThat(consultas).hasValue(5);
+        }
+
+        @Test
+        @DisplayName("deve invalidar novamente ao fim da transacao")
+        void deveInvalidarAoFimDaTransacao() {
+            TransactionSynchronizationManager.initSynchronization();
+            cache.buscar(USER_ID, ORG_ID, loader());
+
+            cache.invalidar(USER_ID, ORG_ID);
+            // Leitura concorrente antes do commit recoloca o valor antigo
+            cache.buscar(USER_ID, ORG_ID, loader());
+            banco.set(Optional.empty());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            assertThat(cache.buscar(USER_ID, ORG_ID, loader())).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("deve expor estatisticas no registry")
+    void deveExporMetricas() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.buscar(USER_ID, ORG_ID, loader());
+        cache.buscar(USER_ID, ORG_ID, loader());
+
+        assertThat(registry.get("cache.gets").tag("cache", "tenant.membership").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.size").tag("cache", "tenant.default-membership").gauge()).isNotNull();
+    }
+}
@@ -12,6 +12,7 @@ import br.com.exemplo.todo.domain.repository.OrganizationRepository;
 import br.com.exemplo.todo.domain.repository.UserRepository;
 import br.com.exemplo.todo.domain.service.OrganizationService;
 import br.com.exemplo.todo.security.AuthenticatedUser;
+import br.com.exemplo.todo.security.MembershipCache;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -50,6 +51,9 @@ class OrganizationServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private MembershipCache membershipCache;
+
     @Mock
     private SecurityContext securityContext;
 
@@ -117,6 +121,7 @@ class OrganizationServiceTest {
 
             verify(organizationRepository).save(any(Organization.class));
             verify(membershipRepository).save(any(Membership.class));
+            verify(membershipCache).invalidar(USER_ID, ORG_ID);
         }
 
         @Test
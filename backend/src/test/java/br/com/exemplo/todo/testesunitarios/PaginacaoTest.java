@@ -0,0 +1,100 @@
+package br.com.exemplo.todo.testesunitarios;
+
+import br.com.exemplo.todo.domain.model.paginacao.Cursor;
+import br.com.exemplo.todo.domain.model.paginacao.Pagina;
+import br.com.exemplo.todo.domain.service.exception.CursorInvalidoException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Paginacao por cursor - Cursor e Pagina")
+class PaginacaoTest {
+
+    @Nested
+    @DisplayName("Cursor")
+    class CursorTests {
+
+        @Test
+        @DisplayName("deve ida e volta preservando texto com caracteres especiais, nulos e datas")
+        void deveFazerIdaEVolta() {
+            LocalDateTime data = LocalDateTime.of(2026, 3, 1, 10, 15, 30, 123_000_000);
+            String codificado = Cursor.codificar("teste", null, "Açaí \"especial\" | 500ml", 42L, data);
+
+            Cursor cursor = Cursor.decodificar(codificado, "teste", 4);
+
+            assertThat(codificado).matches("[A-Za-z0-9_-]+");
+            assertThat(cursor.inteiroOuNulo(0)).isNull();
+            assertThat(cursor.texto(1)).isEqualTo("Açaí \"especial\" | 500ml");
+            assertThat(cursor.longo(2)).isEqualTo(42L);
+            assertThat(cursor.dataHora(3)).isEqualTo(data);
+        }
+
+        @Test
+        @DisplayName("deve rejeitar cursor de outra listagem")
+        void deveRejeitarOutroTipo() {
+            String codificado = Cursor.codificar("cliente", "Ana", 1L);
+
+            assertThatThrownBy(() -> Cursor.decodificar(codificado, "produto", 2))
+                    .isInstanceOf(CursorInvalidoException.class);
+        }
+
+        @Test
+        @DisplayName("deve rejeitar cursor que nao e base64 ou JSON")
+        void deveRejeitarLixo() {
+            String naoJson = Base64.getUrlEncoder().encodeToString("nao e json".getBytes());
+
+            assertThatThrownBy(() -> Cursor.decodificar("***", "produto", 2))
+                    .isInstanceOf(CursorInvalidoException.class);
+            assertThatThrownBy(() -> Cursor.decodificar(naoJson, "produto", 2))
+                    .isInstanceOf(CursorInvalidoException.class);
+        }
+
+        @Test
+        @DisplayName("deve rejeitar valor adulterado")
+        void deveRejeitarValorAdulterado() {
+            Cursor cursor = Cursor.decodificar(Cursor.codificar("produto", "Ana", "x"), "produto", 2);
+
+            assertThatThrownBy(() -> cursor.longo(1)).isInstanceOf(CursorInvalidoException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Pagina")
+    class PaginaTests {
+
+        @Test
+        @DisplayName("deve descartar a linha extra e apontar o cursor para a ultima devolvida")
+        void deveDescartarLinhaExtra() {
+            Pagina<Integer> pagina = Pagina.de(List.of(1, 2, 3), 2, String::valueOf, 10L);
+
+            assertThat(pagina.itens()).containsExactly(1, 2);
+            assertThat(pagina.proximoCursor()).isEqualTo("2");
+            assertThat(pagina.total()).isEqualTo(10L);
+        }
+
+        @Test
+        @DisplayName("deve encerrar sem cursor quando nao ha linha extra")
+        void deveEncerrarSemCursor() {
+            Pagina<Integer> pagina = Pagina.de(List.of(1, 2), 2, String::valueOf, null);
+
+            assertThat(pagina.proximoCursor()).isNull();
+            assertThat(pagina.map(i -> i * 10).itens()).containsExactly(10, 20);
+        }
+
+        @Test
+        @DisplayName("deve reordenar entidades na ordem dos ids da pagina")
+        void deveReordenarPelosIds() {
+            List<Long> ordenados = Pagina.naOrdemDosIds(List.of(3L, 1L, 2L), List.of(1L, 2L, 3L), Function.identity());
+
+            assertThat(ordenados).containsExactly(3L, 1L, 2L);
+        }
+    }
+}
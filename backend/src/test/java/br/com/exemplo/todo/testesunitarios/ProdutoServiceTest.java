@@ -2,15 +2,19 @@ package br.com.exemplo.todo.testesunitarios;
 
 import br.com.exemplo.todo.api.dto.produto.ProdutoInput;
 import br.com.exemplo.todo.api.dto.produto.ProdutoOpcaoInput;
+import br.com.exemplo.todo.api.dto.produto.ProdutoOutput;
+import br.com.exemplo.todo.api.dto.produto.ProdutoPrecoOutput;
 import br.com.exemplo.todo.domain.model.entity.Categoria;
 import br.com.exemplo.todo.domain.model.entity.CategoriaOpcao;
 import br.com.exemplo.todo.domain.model.entity.Produto;
 import br.com.exemplo.todo.domain.model.entity.ProdutoPreco;
 import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.model.projection.ProdutoPrecoLinha;
 import br.com.exemplo.todo.domain.repository.CategoriaOpcaoRepository;
 import br.com.exemplo.todo.domain.repository.CategoriaRepository;
 import br.com.exemplo.todo.domain.repository.ProdutoPrecoRepository;
 import br.com.exemplo.todo.domain.repository.ProdutoRepository;
+import br.com.exemplo.todo.domain.service.CardapioService;
 import br.com.exemplo.todo.domain.service.ProdutoService;
 import br.com.exemplo.todo.domain.service.exception.ProdutoPrecoCategoriaInvalidaException;
 import br.com.exemplo.todo.security.TenantContext;
@@ -28,9 +32,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -54,6 +60,9 @@ class ProdutoServiceTest {
     @Mock
     private CategoriaOpcaoRepository categoriaOpcaoRepository;
 
+    @Mock
+    private CardapioService cardapioService;
+
     @InjectMocks
     private ProdutoService service;
 
@@ -90,6 +99,36 @@ class ProdutoServiceTest {
         TenantContext.clear();
     }
 
+    @Nested
+    @DisplayName("listar")
+    class Listar {
+        @Test
+        @DisplayName("deve agrupar as linhas da projecao por produto")
+        void deveAgruparLinhas() {
+            when(produtoRepository.streamListagem(ORG_ID)).thenReturn(Stream.of(
+                    new ProdutoPrecoLinha(1L, 100L, "Acai", "Copo", 11L, 201L, "P", new BigDecimal("10.00")),
+                    new ProdutoPrecoLinha(1L, 100L, "Acai", "Copo", 12L, 202L, "G", new BigDecimal("12.00")),
+                    new ProdutoPrecoLinha(2L, 100L, "Bowl", null, null, null, null, null)));
+
+            List<ProdutoOutput> produtos = service.listar(null);
+
+            assertThat(produtos).extracting(ProdutoOutput::getId_produto).containsExactly(1L, 2L);
+            assertThat(produtos.get(0).getOpcoes())
+                    .extracting(ProdutoPrecoOutput::getId_preco, ProdutoPrecoOutput::getNome)
+                    .containsExactly(tuple(11L, "P"), tuple(12L, "G"));
+            assertThat(produtos.get(1).getOpcoes()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("deve filtrar por categoria quando informada")
+        void deveFiltrarPorCategoria() {
+            when(produtoRepository.streamListagemPorCategoria(ORG_ID, 100L)).thenReturn(Stream.empty());
+
+            assertThat(service.listar(100L)).isEmpty();
+            verify(produtoRepository).streamListagemPorCategoria(ORG_ID, 100L);
+        }
+    }
+
     @Nested
     @DisplayName("criar")
     class Criar {
@@ -218,6 +257,7 @@ class ProdutoServiceTest {
             assertThat(produto.getAtivo()).isFalse();
             assertThat(preco.getAtivo()).isFalse();
             verify(produtoRepository).save(produto);
+            verify(cardapioService).produtoAlterado(ORG_ID, produto.getId());
         }
     }
 
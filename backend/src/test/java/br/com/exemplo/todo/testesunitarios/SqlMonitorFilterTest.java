@@ -0,0 +1,133 @@
+package br.com.exemplo.todo.testesunitarios;
+
+import br.com.exemplo.todo.config.SqlMonitorProperties;
+import br.com.exemplo.todo.infrastructure.sql.SqlMonitorFilter;
+import br.com.exemplo.todo.infrastructure.sql.SqlRequestStats;
+import br.com.exemplo.todo.infrastructure.sql.SqlStatementInspector;
+import br.com.exemplo.todo.infrastructure.sql.SqlTimingListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlMonitorFilter - instrucoes SQL por requisicao")
+class SqlMonitorFilterTest {
+
+    private final SqlStatementInspector inspector = new SqlStatementInspector();
+    private final SqlTimingListener listener = new SqlTimingListener();
+
+    private SqlMonitorProperties properties;
+    private SimpleMeterRegistry registry;
+    private SqlMonitorFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        properties = new SqlMonitorProperties();
+        properties.setRepeatedThreshold(2);
+        registry = new SimpleMeterRegistry();
+        filter = new SqlMonitorFilter(properties, registry);
+        request = new MockHttpServletRequest("GET", "/api/produtos");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new Object(), Object.class.getMethod("toString")));
+        response = new MockHttpServletResponse();
+    }
+
+    private void executar(String... instrucoes) {
+        for (String sql : instrucoes) {
+            listener.jdbcExecuteStatementStart();
+            inspector.inspect(sql);
+            listener.jdbcExecuteStatementEnd();
+        }
+    }
+
+    private double instrucoesRegistradas() {
+        return registry.get("http.server.requests.sql.statements").tag("handler", "Object.toString")
+                .summary().totalAmount();
+    }
+
+    @Nested
+    @DisplayName("Contagem")
+    class Contagem {
+
+        @Test
+        @DisplayName("deve publicar o total de instrucoes no Server-Timing e no histograma do handler")
+        void devePublicarContagem() throws Exception {
+            FilterChain chain = (req, res) -> {
+                executar("select * from produto where prd_org_id=?", "select * from categoria where cat_id=?");
+                res.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+                res.flushBuffer();
+            };
+
+            filter.doFilter(request, response, chain);
+
+            assertThat(response.getHeader("Server-Timing")).startsWith("db;dur=").endsWith(";desc=\"2 SQL\"");
+            assertThat(instrucoesRegistradas()).isEqualTo(2.0);
+            assertThat(registry.get("http.server.requests.sql.time").tag("handler", "Object.toString")
+                    .timer().count()).isEqualTo(1);
+            assertThat(SqlRequestStats.atual()).isNull();
+        }
+
+        @Test
+        @DisplayName("deve incluir o Server-Timing em respostas sem corpo")
+        void deveEscreverHeaderSemCorpo() throws Exception {
+            filter.doFilter(request, response, (req, res) -> executar("delete from produto where prd_id=?"));
+
+            assertThat(response.getHeader("Server-Timing")).endsWith(";desc=\"1 SQL\"");
+        }
+
+        @Test
+        @DisplayName("nao deve medir requisicoes fora da amostra")
+        void deveIgnorarRequisicaoNaoAmostrada() throws Exception {
+            properties.setSampleRate(0.0);
+
+            filter.doFilter(request, response, (req, res) -> {
+                assertThat(SqlRequestStats.atual()).isNull();
+                executar("select 1");
+            });
+
+            assertThat(response.getHeader("Server-Timing")).isNull();
+            assertThat(registry.find("http.server.requests.sql.statements").summary()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("N+1")
+    class NMaisUm {
+
+        @Test
+        @DisplayName("deve agrupar a mesma forma de SQL com literais diferentes")
+        void deveDetectarFormaRepetida() throws Exception {
+            filter.doFilter(request, response, (req, res) -> executar(
+                    "select * from produto where prd_org_id=?",
+                    "select * from categoria_opcao where catop_id = 10",
+                    "select * from categoria_opcao where catop_id = 11",
+                    "select  *  from categoria_opcao where catop_id = 12"));
+
+            assertThat(registry.get("http.server.requests.sql.repeated").tag("handler", "Object.toString")
+                    .counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("nao deve acusar N+1 ate o limite configurado")
+        void deveRespeitarLimite() throws Exception {
+            filter.doFilter(request, response, (req, res) -> executar(
+                    "select * from categoria_opcao where catop_id in (?, ?)",
+                    "select * from categoria_opcao where catop_id in (?,?,?)"));
+
+            assertThat(registry.find("http.server.requests.sql.repeated").counter()).isNull();
+            assertThat(instrucoesRegistradas()).isEqualTo(2.0);
+        }
+    }
+}
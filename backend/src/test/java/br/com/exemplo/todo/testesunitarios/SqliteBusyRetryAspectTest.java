@@ -0,0 +1,175 @@
+package br.com.exemplo.todo.testesunitarios;
+
+import br.com.exemplo.todo.config.SqliteProperties;
+import br.com.exemplo.todo.domain.exception.DatabaseBusyException;
+import br.com.exemplo.todo.domain.service.TodoService;
+import br.com.exemplo.todo.infrastructure.sqlite.SqliteBusyRetryAspect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.sqlite.SQLiteErrorCode;
+import org.sqlite.SQLiteException;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SqliteBusyRetryAspect - novas tentativas com banco bloqueado")
+class SqliteBusyRetryAspectTest {
+
+    private static final String METODO = "TodoService.criar";
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private SqliteProperties properties;
+    private SimpleMeterRegistry registry;
+    private SqliteBusyRetryAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SqliteProperties();
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(1));
+        properties.getRetry().setMaxBackoff(Duration.ofMillis(4));
+        properties.getRetry().setMaxDuration(Duration.ofSeconds(2));
+        properties.getRetry().setRetryAfterSeconds(3);
+        registry = new SimpleMeterRegistry();
+        aspect = new SqliteBusyRetryAspect(properties, registry);
+    }
+
+    private static SQLiteException ocupado() {
+        return new SQLiteException("[SQLITE_BUSY] The database file is locked (database is locked)",
+                SQLiteErrorCode.SQLITE_BUSY);
+    }
+
+    private double contador(String nome) {
+        var counter = registry.find(nome).tag("metodo", METODO).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Nested
+    @DisplayName("novas tentativas")
+    class NovasTentativas {
+
+        @BeforeEach
+        void setUp() {
+            when(joinPoint.getSignature()).thenReturn(signature);
+            doReturn(TodoService.class).when(signature).getDeclaringType();
+            when(signature.getName()).thenReturn("criar");
+        }
+
+        @Test
+        @DisplayName("deve refazer a transacao ate ela passar")
+        void deveRefazerAtePassar() throws Throwable {
+            when(joinPoint.proceed())
+                    .thenThrow(new CannotAcquireLockException("could not execute statement", ocupado()))
+                    .thenThrow(ocupado())
+                    .thenReturn("ok");
+
+            assertThat(aspect.repetirSeOcupado(joinPoint)).isEqualTo("ok");
+
+            verify(joinPoint, times(3)).proceed();
+            assertThat(contador("sqlite.busy.retries")).isEqualTo(2.0);
+            assertThat(registry.get("sqlite.busy.wait").tag("metodo", METODO).timer().count()).isEqualTo(2);
+            assertThat(contador("sqlite.busy.exhausted")).isZero();
+        }
+
+        @Test
+        @DisplayName("deve lancar DatabaseBusyException quando o prazo acaba")
+        void deveDesistirAposPrazo() throws Throwable {
+            properties.getRetry().setMaxDuration(Duration.ofMillis(20));
+            when(joinPoint.proceed()).thenThrow(ocupado());
+
+            assertThatThrownBy(() -> aspect.repetirSeOcupado(joinPoint))
+                    .isInstanceOf(DatabaseBusyException.class)
+                    .hasCauseInstanceOf(SQLiteException.class)
+                    .extracting(ex -> ((DatabaseBusyException) ex).getRetryAfterSeconds())
+                    .isEqualTo(3);
+            assertThat(contador("sqlite.busy.exhausted")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("nao deve refazer erros que nao sao de lock")
+        void naoDeveRefazerOutrosErros() throws Throwable {
+            when(joinPoint.proceed()).thenThrow(new DataIntegrityViolationException("unique"));
+
+            assertThatThrownBy(() -> aspect.repetirSeOcupado(joinPoint))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+            verify(joinPoint, times(1)).proceed();
+            assertThat(contador("sqlite.busy.retries")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("sem novas tentativas")
+    class SemNovasTentativas {
+
+        @Test
+        @DisplayName("nao deve refazer quando ja existe uma transacao aberta")
+        void naoDeveRefazerDentroDeTransacao() throws Throwable {
+            when(joinPoint.proceed()).thenThrow(ocupado());
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            try {
+                assertThatThrownBy(() -> aspect.repetirSeOcupado(joinPoint)).isInstanceOf(SQLiteException.class);
+            } finally {
+                TransactionSynchronizationManager.setActualTransactionActive(false);
+            }
+            verify(joinPoint, times(1)).proceed();
+        }
+
+        @Test
+        @DisplayName("nao deve refazer quando desabilitado")
+        void naoDeveRefazerDesabilitado() throws Throwable {
+            properties.getRetry().setEnabled(false);
+            when(joinPoint.proceed()).thenThrow(ocupado());
+
+            assertThatThrownBy(() -> aspect.repetirSeOcupado(joinPoint)).isInstanceOf(SQLiteException.class);
+            verify(joinPoint, times(1)).proceed();
+        }
+    }
+
+    @Nested
+    @DisplayName("deteccao de banco bloqueado")
+    class Deteccao {
+
+        @Test
+        @DisplayName("deve reconhecer SQLITE_BUSY, SQLITE_LOCKED e codigos estendidos na cadeia de causas")
+        void deveReconhecerCodigos() {
+            assertThat(SqliteBusyRetryAspect.bancoOcupado(ocupado())).isTrue();
+            assertThat(SqliteBusyRetryAspect.bancoOcupado(new RuntimeException(
+                    new SQLiteException("snapshot", SQLiteErrorCode.SQLITE_BUSY_SNAPSHOT)))).isTrue();
+            assertThat(SqliteBusyRetryAspect.bancoOcupado(
+                    new SQLiteException("locked", SQLiteErrorCode.SQLITE_LOCKED_SHAREDCACHE))).isTrue();
+            assertThat(SqliteBusyRetryAspect.bancoOcupado(new CannotAcquireLockException("lock"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("nao deve reconhecer outros erros do banco")
+        void naoDeveReconhecerOutrosErros() {
+            assertThat(SqliteBusyRetryAspect.bancoOcupado(
+                    new SQLiteException("constraint", SQLiteErrorCode.SQLITE_CONSTRAINT_UNIQUE))).isFalse();
+            assertThat(SqliteBusyRetryAspect.bancoOcupado(new SQLException("timeout", "08000", 0))).isFalse();
+            assertThat(SqliteBusyRetryAspect.bancoOcupado(new IllegalStateException())).isFalse();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package br.com.exemplo.todo.testesunitarios;
+
+import br.com.exemplo.todo.config.TenantConcurrencyProperties;
+import br.com.exemplo.todo.domain.exception.TenantBusyException;
+import br.com.exemplo.todo.security.TenantConcurrencyLimiter;
+import br.com.exemplo.todo.security.TenantConcurrencyLimiter.Permissao;
+import br.com.exemplo.todo.security.TenantConcurrencyLimiter.Tipo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TenantConcurrencyLimiter - limite de concorrencia por organizacao")
+class TenantConcurrencyLimiterTest {
+
+    private TenantConcurrencyProperties properties;
+    private SimpleMeterRegistry registry;
+    private TenantConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TenantConcurrencyProperties();
+        properties.setMaxRequests(2);
+        properties.setMaxWrites(1);
+        properties.setQueueCapacity(4);
+        properties.setQueueTimeout(Duration.ofMillis(50));
+        properties.setRetryAfterSeconds(2);
+        properties.setMetricsTopTenants(1);
+        registry = new SimpleMeterRegistry();
+        limiter = new TenantConcurrencyLimiter(properties, registry);
+    }
+
+    private double rejeitadas(String tipo) {
+        return registry.get("tenant.concurrency.rejected").tag("tipo", tipo).counter().count();
+    }
+
+    @Nested
+    @DisplayName("vagas")
+    class Vagas {
+
+        @Test
+        @DisplayName("deve rejeitar com Retry-After quando o prazo de espera acaba")
+        void deveRejeitarAposPrazo() {
+            limiter.adquirir(Tipo.REQUISICAO, 1L);
+            limiter.adquirir(Tipo.REQUISICAO, 1L);
+
+            assertThatThrownBy(() -> limiter.adquirir(Tipo.REQUISICAO, 1L))
+                    .isInstanceOf(TenantBusyException.class)
+                    .extracting(ex -> ((TenantBusyException) ex).getRetryAfterSeconds())
+                    .isEqualTo(2);
+            assertThat(rejeitadas("requisicao")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("deve devolver a vaga ao fechar a permissao")
+        void deveDevolverVaga() {
+            Permissao escrita = limiter.adquirir(Tipo.ESCRITA, 1L);
+            escrita.close();
+
+            assertThatCode(() -> limiter.adquirir(Tipo.ESCRITA, 1L)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("deve entregar a vaga a quem esta na fila quando ela e devolvida")
+        void deveAtenderFila() throws Exception {
+            properties.setQueueTimeout(Duration.ofSeconds(5));
+            limiter = new TenantConcurrencyLimiter(properties, registry);
+            Permissao escrita = limiter.adquirir(Tipo.ESCRITA, 1L);
+
+            CompletableFuture<Permissao> naFila = CompletableFuture.supplyAsync(() -> limiter.adquirir(Tipo.ESCRITA, 1L));
+            Thread.sleep(50);
+            escrita.close();
+
+            assertThat(naFila.get(5, TimeUnit.SECONDS)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("nao deve deixar quem chega depois passar na frente da fila")
+        void naoDevePassarNaFrenteDaFila() throws Exception {
+            properties.setQueueTimeout(Duration.ofMillis(500));
+            limiter = new TenantConcurrencyLimiter(properties, registry);
+            Permissao escrita = limiter.adquirir(Tipo.ESCRITA, 1L);
+
+            CompletableFuture<Permissao> naFila = CompletableFuture.supplyAsync(() -> limiter.adquirir(Tipo.ESCRITA, 1L));
+            Thread.sleep(50);
+            escrita.close();
+
+            assertThatThrownBy(() -> limiter.adquirir(Tipo.ESCRITA, 1L)).isInstanceOf(TenantBusyException.class);
+            assertThat(naFila.get(5, TimeUnit.SECONDS)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("deve rejeitar imediatamente quando a fila esta cheia")
+        void deveRejeitarComFilaCheia() {
+            properties.setQueueCapacity(0);
+            properties.setQueueTimeout(Duration.ofSeconds(30));
+            limiter = new TenantConcurrencyLimiter(properties, registry);
+            limiter.adquirir(Tipo.ESCRITA, 1L);
+
+            long inicio = System.nanoTime();
+            assertThatThrownBy(() -> limiter.adquirir(Tipo.ESCRITA, 1L)).isInstanceOf(TenantBusyException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - inicio)).isLessThan(Duration.ofSeconds(5));
+        }
+
+        @Test
+        @DisplayName("deve limitar requisicoes e escritas separadamente")
+        void deveLimitarSeparadamente() {
+            limiter.adquirir(Tipo.ESCRITA, 1L);
+
+            assertThatCode(() -> limiter.adquirir(Tipo.REQUISICAO, 1L)).doesNotThrowAnyException();
+            assertThatThrownBy(() -> limiter.adquirir(Tipo.ESCRITA, 1L)).isInstanceOf(TenantBusyException.class);
+            assertThat(rejeitadas("escrita")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("nao deve afetar outras organizacoes")
+        void naoDeveAfetarOutrasOrganizacoes() {
+            limiter.adquirir(Tipo.ESCRITA, 1L);
+
+            assertThatCode(() -> limiter.adquirir(Tipo.ESCRITA, 2L)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("nao deve limitar quando desabilitado ou sem organizacao")
+        void naoDeveLimitarDesabilitado() {
+            properties.setEnabled(false);
+            TenantConcurrencyLimiter desabilitado = new TenantConcurrencyLimiter(properties, new SimpleMeterRegistry());
+
+            assertThatCode(() -> {
+                for (int i = 0; i < 10; i++) {
+                    desabilitado.adquirir(Tipo.ESCRITA, 1L);
+                    limiter.adquirir(Tipo.ESCRITA, null);
+                }
+            }).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("metricas")
+    class Metricas {
+
+        @Test
+        @DisplayName("deve dar serie propria apenas as organizacoes com maior espera")
+        void deveLimitarCardinalidade() {
+            limiter.adquirir(Tipo.ESCRITA, 1L);
+            limiter.adquirir(Tipo.ESCRITA, 2L);
+            for (int i = 0; i < 3; i++) {
+                assertThatThrownBy(() -> limiter.adquirir(Tipo.ESCRITA, 1L)).isInstanceOf(TenantBusyException.class);
+            }
+            assertThatThrownBy(() -> limiter.adquirir(Tipo.ESCRITA, 2L)).isInstanceOf(TenantBusyException.class);
+
+            assertThat(limiter.atualizarDestaques()).containsExactly(1L);
+
+            assertThatThrownBy(() -> limiter.adquirir(Tipo.ESCRITA, 1L)).isInstanceOf(TenantBusyException.class);
+            assertThatThrownBy(() -> limiter.adquirir(Tipo.ESCRITA, 2L)).isInstanceOf(TenantBusyException.class);
+            assertThat(registry.get("tenant.concurrency.wait").tag("organizacao", "1").timer().count()).isEqualTo(1);
+            assertThat(registry.find("tenant.concurrency.wait").tag("organizacao", "2").timer()).isNull();
+            assertThat(registry.get("tenant.concurrency.wait").tags("tipo", "escrita", "organizacao", "outras")
+                    .timer().count()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("deve remover a serie da organizacao que deixou de esperar")
+        void deveRemoverSerie() {
+            limiter.adquirir(Tipo.ESCRITA, 1L);
+            assertThatThrownBy(() -> limiter.adquirir(Tipo.ESCRITA, 1L)).isInstanceOf(TenantBusyException.class);
+            limiter.atualizarDestaques();
+            assertThatThrownBy(() -> limiter.adquirir(Tipo.ESCRITA, 1L)).isInstanceOf(TenantBusyException.class);
+            assertThat(registry.find("tenant.concurrency.wait").tag("organizacao", "1").timer()).isNotNull();
+
+            assertThat(limiter.atualizarDestaques()).containsExactly(1L);
+            assertThat(limiter.atualizarDestaques()).isEmpty();
+
+            assertThat(registry.find("tenant.concurrency.wait").tag("organizacao", "1").timer()).isNull();
+        }
+    }
+}
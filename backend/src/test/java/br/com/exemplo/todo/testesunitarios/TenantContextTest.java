@@ -0,0 +1,233 @@
+package br.com.exemplo.todo.testesunitarios;
+
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.security.TenantContext;
+import br.com.exemplo.todo.security.TenantInfo;
+import br.com.exemplo.todo.security.TenantTaskDecorator;
+import br.com.exemplo.todo.security.TenantTaskScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TenantContext - propagacao do tenant para outras threads")
+class TenantContextTest {
+
+    private static final TenantInfo LOJA_A = new TenantInfo(1L, 10L, MembershipRole.OWNER);
+    private static final TenantInfo LOJA_B = new TenantInfo(2L, 20L, MembershipRole.MEMBER);
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Nested
+    @DisplayName("executar e propagar")
+    class ExecutarEPropagar {
+
+        @Test
+        @DisplayName("deve restaurar o tenant anterior apos executar")
+        void deveRestaurarTenantAnterior() throws Exception {
+            TenantContext.set(LOJA_A);
+
+            Long dentro = TenantContext.executar(LOJA_B, TenantContext::getOrganizationId);
+
+            assertThat(dentro).isEqualTo(2L);
+            assertThat(TenantContext.get()).contains(LOJA_A);
+        }
+
+        @Test
+        @DisplayName("deve limpar o contexto apos executar quando nao havia tenant")
+        void deveLimparAposExecutarSemTenantAnterior() {
+            TenantContext.executar(LOJA_A, () -> {
+                assertThat(TenantContext.isSet()).isTrue();
+            });
+
+            assertThat(TenantContext.isSet()).isFalse();
+        }
+
+        @Test
+        @DisplayName("deve rodar tarefa propagada com o tenant capturado na submissao")
+        void deveRodarComTenantCapturado() throws Exception {
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                TenantContext.set(LOJA_A);
+                Future<Optional<TenantInfo>> resultado = executor.submit(TenantContext.propagar(TenantContext::get));
+                TenantContext.set(LOJA_B);
+
+                assertThat(resultado.get()).contains(LOJA_A);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("nao deve vazar o tenant de uma tarefa para a proxima na mesma thread")
+        void naoDeveVazarEntreTarefasDaMesmaThread() throws Exception {
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                TenantContext.set(LOJA_A);
+                executor.submit(TenantContext.propagar(() -> { })).get();
+                TenantContext.clear();
+
+                Future<Boolean> semTenant = executor.submit(TenantContext.propagar(TenantContext::isSet));
+                Future<Boolean> naoPropagada = executor.submit(TenantContext::isSet);
+
+                assertThat(semTenant.get()).isFalse();
+                assertThat(naoPropagada.get()).isFalse();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("deve propagar pelo TaskDecorator do Spring")
+        void devePropagarPeloTaskDecorator() throws Exception {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(new TenantTaskDecorator());
+            TenantContext.set(LOJA_B);
+
+            Future<Optional<TenantInfo>> resultado = executor.submit(TenantContext::get);
+
+            assertThat(resultado.get(5, TimeUnit.SECONDS)).contains(LOJA_B);
+        }
+    }
+
+    @Nested
+    @DisplayName("TenantTaskScope")
+    class Escopo {
+
+        @Test
+        @DisplayName("deve executar subtarefas com o tenant de quem abriu o escopo")
+        void deveExecutarComTenantDoEscopo() throws Exception {
+            TenantContext.set(LOJA_A);
+
+            try (TenantTaskScope escopo = TenantTaskScope.abrir()) {
+                Supplier<Long> org = escopo.fork(TenantContext::getOrganizationId);
+                Supplier<Long> usuario = escopo.fork(TenantContext::getUserId);
+                escopo.join();
+
+                assertThat(org.get()).isEqualTo(1L);
+                assertThat(usuario.get()).isEqualTo(10L);
+            }
+            assertThat(TenantContext.get()).contains(LOJA_A);
+        }
+
+        @Test
+        @DisplayName("nao deve misturar tenants de escopos concorrentes")
+        void naoDeveMisturarTenantsConcorrentes() throws Exception {
+            int requisicoes = 50;
+            int subtarefas = 20;
+            CountDownLatch largada = new CountDownLatch(1);
+            List<CompletableFuture<Boolean>> resultados = new ArrayList<>();
+
+            try (ExecutorService requisicoesExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < requisicoes; i++) {
+                    TenantInfo tenant = new TenantInfo((long) i, 100L + i, MembershipRole.MEMBER);
+                    resultados.add(CompletableFuture.supplyAsync(() -> {
+                        TenantContext.set(tenant);
+                        try (TenantTaskScope escopo = TenantTaskScope.abrir()) {
+                            largada.await();
+                            List<Supplier<TenantInfo>> vistos = new ArrayList<>();
+                            for (int j = 0; j < subtarefas; j++) {
+                                vistos.add(escopo.fork(() -> {
+                                    Thread.yield();
+                                    return TenantContext.require();
+                                }));
+                            }
+                            escopo.join();
+                            return vistos.stream().allMatch(visto -> visto.get().equals(tenant))
+                                    && TenantContext.require().equals(tenant);
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        } finally {
+                            TenantContext.clear();
+                        }
+                    }, requisicoesExecutor));
+                }
+                largada.countDown();
+
+                for (CompletableFuture<Boolean> resultado : resultados) {
+                    assertThat(resultado.get(30, TimeUnit.SECONDS)).isTrue();
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("deve cancelar as demais subtarefas e relancar a primeira falha")
+        void deveCancelarAposFalha() throws Exception {
+            AtomicBoolean interrompida = new AtomicBoolean();
+            CountDownLatch iniciada = new CountDownLatch(1);
+
+            try (TenantTaskScope escopo = TenantTaskScope.abrir()) {
+                escopo.fork(() -> {
+                    iniciada.countDown();
+                    try {
+                        Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                    } catch (InterruptedException e) {
+                        interrompida.set(true);
+                    }
+                    return null;
+                });
+                escopo.fork(() -> {
+                    iniciada.await();
+                    throw new IllegalArgumentException("falha");
+                });
+
+                assertThatThrownBy(escopo::join)
+                        .isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(IllegalArgumentException.class);
+            }
+            assertThat(interrompida).isTrue();
+        }
+
+        @Test
+        @DisplayName("deve rodar subtarefas sem tenant quando o escopo foi aberto sem tenant")
+        void deveRodarSemTenant() throws Exception {
+            try (TenantTaskScope escopo = TenantTaskScope.abrir()) {
+                Supplier<Boolean> definido = escopo.fork(TenantContext::isSet);
+                escopo.join();
+
+                assertThat(definido.get()).isFalse();
+            }
+        }
+
+        @Test
+        @DisplayName("deve exigir join antes de ler o resultado")
+        void deveExigirJoin() {
+            try (TenantTaskScope escopo = TenantTaskScope.abrir()) {
+                Supplier<String> resultado = escopo.fork(() -> "ok");
+
+                assertThatThrownBy(resultado::get).isInstanceOf(IllegalStateException.class);
+            }
+        }
+
+        @Test
+        @DisplayName("deve rejeitar uso fora da thread que abriu o escopo")
+        void deveRejeitarOutraThread() throws Exception {
+            try (TenantTaskScope escopo = TenantTaskScope.abrir()) {
+                CompletableFuture<Void> outraThread = CompletableFuture.runAsync(() -> escopo.fork(() -> "x"));
+
+                assertThatThrownBy(outraThread::get).hasCauseInstanceOf(IllegalStateException.class);
+            }
+        }
+    }
+}
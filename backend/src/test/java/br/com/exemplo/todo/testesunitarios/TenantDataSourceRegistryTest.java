@@ -0,0 +1,96 @@
+package br.com.exemplo.todo.testesunitarios;
+
+import br.com.exemplo.todo.config.TenantDatabaseProperties;
+import br.com.exemplo.todo.infrastructure.tenant.TenantDataSourceRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TenantDataSourceRegistry - fechamento de pools ociosos")
+class TenantDataSourceRegistryTest {
+
+    private static final Long ORGANIZACAO = 1L;
+
+    @TempDir
+    Path diretorio;
+
+    private TenantDataSourceRegistry registry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String centralUrl = "jdbc:sqlite:file:" + diretorio.resolve("central.db");
+        try (Connection central = DriverManager.getConnection(centralUrl);
+             Statement statement = central.createStatement()) {
+            statement.execute("CREATE TABLE ORGANIZATION (ID INTEGER PRIMARY KEY)");
+        }
+
+        TenantDatabaseProperties properties = new TenantDatabaseProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(diretorio.resolve("tenants").toString());
+        properties.setCopyExistingData(false);
+        properties.setIdleTimeout(Duration.ofMillis(200));
+        registry = new TenantDataSourceRegistry(properties, centralUrl, Map.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.destroy();
+    }
+
+    @Test
+    @DisplayName("Deve manter aberta a conexao emprestada quando o pool expira")
+    void deveManterConexaoEmprestadaAposExpirar() throws Exception {
+        try (Connection emUso = registry.getConnection(ORGANIZACAO)) {
+            emUso.setAutoCommit(false);
+            inserir(emUso, "antes");
+
+            Thread.sleep(400);
+            registry.limparAgendado();
+            aguardar(() -> registry.poolsAbertos() == 0 && registry.poolsAguardandoFechamento() == 1);
+
+            // Transacao segue na conexao do pool retirado
+            inserir(emUso, "depois");
+            emUso.commit();
+        }
+
+        registry.limparAgendado();
+        aguardar(() -> registry.poolsAguardandoFechamento() == 0);
+
+        try (Connection nova = registry.getConnection(ORGANIZACAO);
+             Statement statement = nova.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM TENANT_METADATA")) {
+            rs.next();
+            assertThat(rs.getInt(1)).isEqualTo(2);
+        }
+    }
+
+    private void inserir(Connection connection, String chave) throws Exception {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO TENANT_METADATA (CHAVE, VALOR) VALUES (?, 'x')")) {
+            ps.setString(1, chave);
+            ps.executeUpdate();
+        }
+    }
+
+    private void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condicao.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condicao nao atingida em 5s").isLessThan(limite);
+            Thread.sleep(20);
+        }
+    }
+}
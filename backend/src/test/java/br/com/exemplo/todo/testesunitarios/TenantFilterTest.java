@@ -0,0 +1,204 @@
+package br.com.exemplo.todo.testesunitarios;
+
+import br.com.exemplo.todo.config.JwtConfig;
+import br.com.exemplo.todo.config.TenantCacheProperties;
+import br.com.exemplo.todo.domain.model.entity.Membership;
+import br.com.exemplo.todo.domain.model.entity.Organization;
+import br.com.exemplo.todo.domain.model.entity.User;
+import br.com.exemplo.todo.domain.model.enums.MembershipRole;
+import br.com.exemplo.todo.domain.repository.MembershipRepository;
+import br.com.exemplo.todo.domain.repository.UserRepository;
+import br.com.exemplo.todo.security.AccessTokenCache;
+import br.com.exemplo.todo.security.AuthenticatedUser;
+import br.com.exemplo.todo.security.JwtService;
+import br.com.exemplo.todo.security.MembershipCache;
+import br.com.exemplo.todo.security.MembershipClaims;
+import br.com.exemplo.todo.security.MembershipVersions;
+import br.com.exemplo.todo.security.TenantContext;
+import br.com.exemplo.todo.security.TenantFilter;
+import br.com.exemplo.todo.security.TenantInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TenantFilter - resolucao do tenant pelas memberships do token")
+class TenantFilterTest {
+
+    private static final Long USER_ID = 10L;
+    private static final Long ORG_ID = 1L;
+    private static final Long OUTRA_ORG_ID = 2L;
+
+    @Mock
+    private MembershipRepository membershipRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private JwtService jwtService;
+    private MembershipVersions membershipVersions;
+    private TenantFilter filter;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setSecret("minha-chave-secreta-muito-longa-para-256-bits-minimo-32-chars");
+        jwtService = new JwtService(jwtConfig, new AccessTokenCache(jwtConfig));
+        membershipVersions = new MembershipVersions(jwtConfig, userRepository);
+
+        TenantCacheProperties cacheProperties = new TenantCacheProperties();
+        cacheProperties.setEnabled(false);
+        filter = new TenantFilter(membershipRepository, new MembershipCache(cacheProperties), membershipVersions);
+
+        user = new User();
+        user.setId(USER_ID);
+        user.setNome("Usuario");
+        user.setEmail("usuario@teste.com");
+        user.setDataCriacao(LocalDateTime.now());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        TenantContext.clear();
+    }
+
+    private Membership criarMembership(Long orgId, MembershipRole papel) {
+        Organization organization = new Organization();
+        organization.setId(orgId);
+        Membership membership = new Membership();
+        membership.setUser(user);
+        membership.setOrganization(organization);
+        membership.setPapel(papel);
+        membership.setAtivo(true);
+        membership.setDataIngresso(LocalDateTime.now());
+        return membership;
+    }
+
+    private void autenticarComToken(List<Membership> memberships) {
+        String token = jwtService.generateAccessToken(user, memberships);
+        MembershipClaims claims = jwtService.validateAccessToken(token)
+                .flatMap(jwtService::extractMembershipClaims)
+                .orElse(null);
+        AuthenticatedUser principal = new AuthenticatedUser(USER_ID, user.getEmail(), user.getNome(), claims);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    private Optional<TenantInfo> executar(String orgHeader, MockHttpServletResponse response) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/produtos");
+        if (orgHeader != null) {
+            request.addHeader("X-Organization-Id", orgHeader);
+        }
+        AtomicReference<Optional<TenantInfo>> tenant = new AtomicReference<>(Optional.empty());
+        filter.doFilter(request, response, (req, res) -> tenant.set(TenantContext.get()));
+        return tenant.get();
+    }
+
+    @Nested
+    @DisplayName("com versao atual")
+    class VersaoAtual {
+
+        @BeforeEach
+        void setUpVersao() {
+            when(userRepository.buscarVersaoMembership(USER_ID)).thenReturn(Optional.of(0L));
+            autenticarComToken(List.of(
+                    criarMembership(ORG_ID, MembershipRole.OWNER),
+                    criarMembership(OUTRA_ORG_ID, MembershipRole.MEMBER)));
+        }
+
+        @Test
+        @DisplayName("deve resolver a organizacao do header sem consultar memberships")
+        void deveResolverOrganizacaoDoHeaderPeloToken() throws Exception {
+            Optional<TenantInfo> tenant = executar(OUTRA_ORG_ID.toString(), new MockHttpServletResponse());
+
+            assertThat(tenant).get().extracting(TenantInfo::organizationId).isEqualTo(OUTRA_ORG_ID);
+            assertThat(tenant.get().role()).isEqualTo(MembershipRole.MEMBER);
+            verifyNoInteractions(membershipRepository);
+        }
+
+        @Test
+        @DisplayName("deve usar a primeira organizacao do token quando nao ha header")
+        void deveUsarPrimeiraOrganizacaoSemHeader() throws Exception {
+            Optional<TenantInfo> tenant = executar(null, new MockHttpServletResponse());
+
+            assertThat(tenant).get().extracting(TenantInfo::organizationId).isEqualTo(ORG_ID);
+            assertThat(tenant.get().role()).isEqualTo(MembershipRole.OWNER);
+            verifyNoInteractions(membershipRepository);
+        }
+
+        @Test
+        @DisplayName("deve consultar memberships quando a organizacao nao consta no token")
+        void deveConsultarQuandoOrganizacaoAusenteNoToken() throws Exception {
+            when(membershipRepository.findByUserIdAndOrganizationIdAndAtivoTrue(USER_ID, 3L))
+                    .thenReturn(Optional.empty());
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            Optional<TenantInfo> tenant = executar("3", response);
+
+            assertThat(tenant).isEmpty();
+            assertThat(response.getStatus()).isEqualTo(403);
+        }
+
+        @Test
+        @DisplayName("deve consultar a versao no banco apenas uma vez")
+        void deveConsultarVersaoUmaVez() throws Exception {
+            executar(ORG_ID.toString(), new MockHttpServletResponse());
+            executar(ORG_ID.toString(), new MockHttpServletResponse());
+
+            verify(userRepository).buscarVersaoMembership(USER_ID);
+        }
+    }
+
+    @Test
+    @DisplayName("deve ignorar as memberships do token apos incrementar a versao")
+    void deveIgnorarTokenAposIncrementarVersao() throws Exception {
+        when(userRepository.buscarVersaoMembership(USER_ID)).thenReturn(Optional.of(0L));
+        autenticarComToken(List.of(criarMembership(ORG_ID, MembershipRole.ADMIN)));
+        Membership rebaixada = criarMembership(ORG_ID, MembershipRole.MEMBER);
+        when(membershipRepository.findByUserIdAndOrganizationIdAndAtivoTrue(USER_ID, ORG_ID))
+                .thenReturn(Optional.of(rebaixada));
+        Optional<TenantInfo> antes = executar(ORG_ID.toString(), new MockHttpServletResponse());
+
+        membershipVersions.incrementar(user);
+        Optional<TenantInfo> depois = executar(ORG_ID.toString(), new MockHttpServletResponse());
+
+        assertThat(user.getVersaoMembership()).isEqualTo(1L);
+        assertThat(antes).get().extracting(TenantInfo::role).isEqualTo(MembershipRole.ADMIN);
+        assertThat(depois).get().extracting(TenantInfo::role).isEqualTo(MembershipRole.MEMBER);
+    }
+
+    @Test
+    @DisplayName("deve consultar memberships para tokens emitidos sem elas")
+    void deveConsultarParaTokenSemMemberships() throws Exception {
+        autenticarComToken(null);
+        when(membershipRepository.findFirstByUserIdAndAtivoTrueOrderByDataIngressoAsc(anyLong()))
+                .thenReturn(Optional.of(criarMembership(ORG_ID, MembershipRole.MEMBER)));
+
+        Optional<TenantInfo> tenant = executar(null, new MockHttpServletResponse());
+
+        assertThat(tenant).get().extracting(TenantInfo::organizationId).isEqualTo(ORG_ID);
+        verifyNoInteractions(userRepository);
+    }
+}
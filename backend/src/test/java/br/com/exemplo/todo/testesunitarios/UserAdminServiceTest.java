@@ -6,6 +6,8 @@ import br.com.exemplo.todo.domain.model.entity.*;
 import br.com.exemplo.todo.domain.model.enums.MembershipRole;
 import br.com.exemplo.todo.domain.repository.*;
 import br.com.exemplo.todo.domain.service.UserAdminService;
+import br.com.exemplo.todo.security.MembershipCache;
+import br.com.exemplo.todo.security.MembershipVersions;
 import br.com.exemplo.todo.security.TenantContext;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -56,6 +58,12 @@ class UserAdminServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private MembershipCache membershipCache;
+
+    @Mock
+    private MembershipVersions membershipVersions;
+
     @InjectMocks
     private UserAdminService service;
 
@@ -267,6 +275,7 @@ class UserAdminServiceTest {
 
             assertThat(resultado).isNotNull();
             verify(userRepository).save(any(User.class));
+            verify(membershipVersions).incrementar(targetUser);
         }
 
         @Test
@@ -339,6 +348,8 @@ class UserAdminServiceTest {
 
             assertThat(resultado).isNotNull();
             verify(membershipRepository).save(any(Membership.class));
+            verify(membershipCache).invalidar(TARGET_USER_ID, ORG_ID);
+            verify(membershipVersions).incrementar(targetUser);
         }
 
         @Test